@@ -76,6 +76,8 @@ public class Constants {
 
     public static final String PROPERTY_MESSAGE_QUEUE_OFFSET = "queueoffset";
 
+    public static final String PROPERTY_MESSAGE_PARTITION_KEY = "partitionkey";
+
     public static final String PROPERTY_MESSAGE_DESTINATION = "destination";
 
     public static final String PROPERTY_MESSAGE_MESSAGE_ID = "messageid";
@@ -170,4 +172,14 @@ public class Constants {
      * application/cloudevents+json Content-type
      */
     public static final String CONTENT_TYPE_CLOUDEVENTS_JSON = "application/cloudevents+json";
+
+    /**
+     * application/cloudevents+eventmesh-binary Content-type, the compact binary event format
+     */
+    public static final String CONTENT_TYPE_CLOUDEVENTS_BINARY = "application/cloudevents+eventmesh-binary";
+
+    /**
+     * protocol header property carrying the event format of the message body
+     */
+    public static final String CONTENT_TYPE = "contenttype";
 }
@@ -50,6 +50,27 @@ public abstract class ThreadPoolFactory {
         return new ThreadPoolExecutor(core, max, 10 * 1000, TimeUnit.MILLISECONDS, blockingQueue, threadFactory);
     }
 
+    /**
+     * Resize a pool in place, growing the maximum before the core size and shrinking the core size before the maximum
+     * so that core never exceeds max in between.
+     *
+     * @return true if the pool size changed
+     */
+    public static boolean resizeThreadPoolExecutor(ThreadPoolExecutor executor, int core, int max) {
+        if (executor == null || core <= 0 || max < core
+            || (executor.getCorePoolSize() == core && executor.getMaximumPoolSize() == max)) {
+            return false;
+        }
+        if (max >= executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(max);
+            executor.setCorePoolSize(core);
+        } else {
+            executor.setCorePoolSize(core);
+            executor.setMaximumPoolSize(max);
+        }
+        return true;
+    }
+
     public static ScheduledExecutorService createSingleScheduledExecutor(final String threadName) {
         return Executors.newSingleThreadScheduledExecutor(new EventMeshThreadFactory(threadName, true));
     }
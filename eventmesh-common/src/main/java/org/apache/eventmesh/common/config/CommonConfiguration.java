@@ -88,6 +88,27 @@ public class CommonConfiguration {
     @ConfigFiled(field = "server.trace.enabled")
     private boolean eventMeshServerTraceEnable = false;
 
+    /**
+     * Message audit records are written to the "audit" logger by a dedicated thread
+     */
+    @ConfigFiled(field = "server.audit.enabled")
+    private boolean eventMeshServerAuditEnable = false;
+
+    @ConfigFiled(field = "server.audit.bufferSize")
+    private int eventMeshServerAuditBufferSize = 8192;
+
+    /**
+     * Audit one of every sampleRate messages of a topic
+     */
+    @ConfigFiled(field = "server.audit.sampleRate")
+    private int eventMeshServerAuditSampleRate = 1;
+
+    /**
+     * Records per second cap of a topic, 0 means no cap
+     */
+    @ConfigFiled(field = "server.audit.maxRecordsPerSecond")
+    private int eventMeshServerAuditMaxRecordsPerSecond = 0;
+
     @ConfigFiled(field = "server.security.enabled")
     private boolean eventMeshServerSecurityEnable = false;
 
@@ -95,6 +116,194 @@ public class CommonConfiguration {
     private boolean eventMeshServerRegistryEnable = false;
 
 
+    /**
+     * Adaptive concurrency limiter of the publish path, one of none/aimd/gradient
+     */
+    @ConfigFiled(field = "server.limiter.type")
+    private String eventMeshServerLimiterType = "none";
+
+    @ConfigFiled(field = "server.limiter.initialLimit")
+    private int eventMeshServerLimiterInitialLimit = 100;
+
+    @ConfigFiled(field = "server.limiter.minLimit")
+    private int eventMeshServerLimiterMinLimit = 10;
+
+    @ConfigFiled(field = "server.limiter.maxLimit")
+    private int eventMeshServerLimiterMaxLimit = 2000;
+
+    /**
+     * Publish latency above this value is treated as a drop by the limiter
+     */
+    @ConfigFiled(field = "server.limiter.timeoutInMills")
+    private int eventMeshServerLimiterTimeoutInMills = 1000;
+
+    /**
+     * A publish whose connector callback did not arrive within this time releases its slot as a drop, 0 to never
+     */
+    @ConfigFiled(field = "server.limiter.tokenExpiredInMills")
+    private int eventMeshServerLimiterTokenExpiredInMills = 10000;
+
+    /**
+     * Correlate request-reply in the runtime on top of publish and subscribe instead of the connector's own request-reply,
+     * for connectors which do not support it
+     */
+    @ConfigFiled(field = "server.requestReply.enabled")
+    private boolean eventMeshServerRequestReplyEnable = false;
+
+    @ConfigFiled(field = "server.requestReply.shards")
+    private int eventMeshServerRequestReplyShards = 16;
+
+    /**
+     * Tick of the timer wheel expiring pending requests, the timeout precision of a request
+     */
+    @ConfigFiled(field = "server.requestReply.tickInMills")
+    private int eventMeshServerRequestReplyTickInMills = 10;
+
+    /**
+     * Keep events that exhausted their retries or overflowed a retry queue instead of dropping them
+     */
+    @ConfigFiled(field = "server.deadLetter.enabled")
+    private boolean eventMeshServerDeadLetterEnable = false;
+
+    /**
+     * Dead-letter store, one of file/topic, topic can be queried but not replayed from and is not supported by the rocketmq connector
+     */
+    @ConfigFiled(field = "server.deadLetter.store")
+    private String eventMeshServerDeadLetterStore = "file";
+
+    /**
+     * Directory of the append-only file of the file store
+     */
+    @ConfigFiled(field = "server.deadLetter.path")
+    private String eventMeshServerDeadLetterPath = "deadletter";
+
+    /**
+     * Connector topic of the topic store
+     */
+    @ConfigFiled(field = "server.deadLetter.topic")
+    private String eventMeshServerDeadLetterTopic = "eventmesh-deadletter";
+
+    /**
+     * Replayed events per second, so that a replay does not flood the consumers which failed them in the first place
+     */
+    @ConfigFiled(field = "server.deadLetter.replayPerSecond")
+    private int eventMeshServerDeadLetterReplayPerSecond = 100;
+
+    /**
+     * Suppress events a consumer group already received within the window before they are pushed
+     */
+    @ConfigFiled(field = "server.dedup.enabled")
+    private boolean eventMeshServerDedupEnable = false;
+
+    /**
+     * Consumer groups to dedup, empty means every group
+     */
+    @ConfigFiled(field = "server.dedup.groups")
+    private List<String> eventMeshServerDedupGroups;
+
+    /**
+     * Identity of an event, "id" for the CloudEvent id, otherwise the name of an extension such as bizseqno or uniqueid
+     */
+    @ConfigFiled(field = "server.dedup.key")
+    private String eventMeshServerDedupKey = "id";
+
+    @ConfigFiled(field = "server.dedup.windowInMills")
+    private int eventMeshServerDedupWindowInMills = 60 * 1000;
+
+    /**
+     * Keys remembered exactly per group, older keys of the window are remembered by a Bloom filter
+     */
+    @ConfigFiled(field = "server.dedup.capacity")
+    private int eventMeshServerDedupCapacity = 100000;
+
+    @ConfigFiled(field = "server.dedup.shards")
+    private int eventMeshServerDedupShards = 16;
+
+    /**
+     * Expected keys per group and window, sizes the Bloom filters
+     */
+    @ConfigFiled(field = "server.dedup.bloomExpectedInsertions")
+    private int eventMeshServerDedupBloomExpectedInsertions = 1000000;
+
+    @ConfigFiled(field = "server.dedup.bloomFpp")
+    private double eventMeshServerDedupBloomFpp = 0.001d;
+
+    /**
+     * Hold events carrying a deliverat or delayms extension in the runtime until they are due
+     */
+    @ConfigFiled(field = "server.delay.enabled")
+    private boolean eventMeshServerDelayEnable = false;
+
+    /**
+     * Directory of the segment files keeping pending delayed events across restarts
+     */
+    @ConfigFiled(field = "server.delay.path")
+    private String eventMeshServerDelayPath = "delay";
+
+    /**
+     * Tick of the timer wheel, the deliver time precision of a delayed event
+     */
+    @ConfigFiled(field = "server.delay.tickInMills")
+    private int eventMeshServerDelayTickInMills = 100;
+
+    /**
+     * Deliver time span covered by one segment file
+     */
+    @ConfigFiled(field = "server.delay.segmentInMills")
+    private int eventMeshServerDelaySegmentInMills = 60 * 1000;
+
+    /**
+     * Events due within the horizon are on the timer wheel, later ones stay on disk only, not less than a segment
+     */
+    @ConfigFiled(field = "server.delay.memoryHorizonInMills")
+    private int eventMeshServerDelayMemoryHorizonInMills = 5 * 60 * 1000;
+
+    @ConfigFiled(field = "server.delay.deliverThreads")
+    private int eventMeshServerDelayDeliverThreads = 4;
+
+    /**
+     * Attempts to publish a due event, with a doubling backoff, before it goes to dead-letter
+     */
+    @ConfigFiled(field = "server.delay.maxDeliverAttempts")
+    private int eventMeshServerDelayMaxDeliverAttempts = 10;
+
+    /**
+     * Segment files open at a time, the least recently used one is closed beyond it
+     */
+    @ConfigFiled(field = "server.delay.maxOpenSegments")
+    private int eventMeshServerDelayMaxOpenSegments = 64;
+
+    /**
+     * Ack a delayed event once its segment is forced to the disk by the flush thread, false acks once it is written
+     */
+    @ConfigFiled(field = "server.delay.fsync")
+    private boolean eventMeshServerDelayFsync = true;
+
+    /**
+     * Push the events of a partition key one at a time and to the same session or url, events of different keys in parallel
+     */
+    @ConfigFiled(field = "server.keyOrdered.enabled")
+    private boolean eventMeshServerKeyOrderedEnable = false;
+
+    /**
+     * Events of a partition key waiting behind the one in flight, the ones beyond are sent back to the broker
+     */
+    @ConfigFiled(field = "server.keyOrdered.laneCapacity")
+    private int eventMeshServerKeyOrderedLaneCapacity = 1000;
+
+    /**
+     * Accept MQTT style wildcard topics in tcp subscriptions, consumers subscribe the topics of the connector matching them.
+     * Needs a connector with an admin plugin to list its topics, i.e. rocketmq or standalone
+     */
+    @ConfigFiled(field = "server.wildcardTopic.enabled")
+    private boolean eventMeshServerWildcardTopicEnable = false;
+
+    /**
+     * Interval of listing the topics of the connector, a new topic matching a wildcard subscription is consumed from then on
+     */
+    @ConfigFiled(field = "server.wildcardTopic.refreshInMills")
+    private int eventMeshServerWildcardTopicRefreshInMills = 30 * 1000;
+
     @ConfigFiled(field = "server.provide.protocols", reload = true)
     private List<String> eventMeshProvideServerProtocols;
 
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.config;
+
+/**
+ * Typed listener notified when the root configuration file changes on disk.
+ * Register it with {@link ConfigService#addConfigChangeListener(Class, Object, ConfigChangeListener)};
+ * the configuration class is rebuilt from the reloaded properties and handed over together with the previous instance,
+ * so implementations can compare the fields they care about and resize pools, limiters or buffers in place.
+ *
+ * @param <T> configuration class
+ */
+@FunctionalInterface
+public interface ConfigChangeListener<T> {
+
+    /**
+     * triggered on the config loader thread after the root configuration has been reloaded
+     *
+     * @param oldConfig configuration before the change
+     * @param newConfig configuration rebuilt from the changed file
+     */
+    void onChange(T oldConfig, T newConfig);
+}
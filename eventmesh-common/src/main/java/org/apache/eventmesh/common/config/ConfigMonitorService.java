@@ -18,12 +18,21 @@
 package org.apache.eventmesh.common.config;
 
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.file.FileChangeContext;
+import org.apache.eventmesh.common.file.FileChangeListener;
+import org.apache.eventmesh.common.file.WatchFileManager;
 
+import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,8 +41,19 @@ public class ConfigMonitorService {
 
     private static final long TIME_INTERVAL = 30 * 1000L;
 
+    /**
+     * Editors usually emit several modify events per save, reload once they have settled
+     */
+    private static final long RELOAD_DELAY = 200L;
+
     private final List<ConfigInfo> configInfoList = new ArrayList<>();
 
+    private final List<ChangeListenerHolder<?>> changeListeners = new CopyOnWriteArrayList<>();
+
+    private final Set<String> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    private final AtomicReference<ScheduledFuture<?>> pendingReload = new AtomicReference<>();
+
     private final ScheduledExecutorService configLoader = ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-configLoader");
 
     {
@@ -44,6 +64,68 @@ public class ConfigMonitorService {
         configInfoList.add(configInfo);
     }
 
+    public <T> void addChangeListener(Class<T> clazz, T current, ConfigChangeListener<T> listener) {
+        changeListeners.add(new ChangeListenerHolder<>(clazz, current, listener));
+        watchRootConfig();
+    }
+
+    public void removeChangeListener(ConfigChangeListener<?> listener) {
+        changeListeners.removeIf(holder -> holder.listener == listener);
+    }
+
+    /**
+     * Watch the directory of the current root configuration file once at least one change listener is registered.
+     */
+    void watchRootConfig() {
+        String rootFilePath = ConfigService.getInstance().getRootFilePath();
+        if (rootFilePath == null || changeListeners.isEmpty()) {
+            return;
+        }
+
+        String directoryPath = new File(rootFilePath).getParent();
+        if (!watchedDirectories.add(directoryPath)) {
+            return;
+        }
+        WatchFileManager.registerFileChangeListener(directoryPath, new FileChangeListener() {
+            @Override
+            public void onChanged(FileChangeContext changeContext) {
+                scheduleReload();
+            }
+
+            @Override
+            public boolean support(FileChangeContext changeContext) {
+                String currentFilePath = ConfigService.getInstance().getRootFilePath();
+                return currentFilePath != null
+                    && new File(currentFilePath).equals(new File(changeContext.getDirectoryPath(), changeContext.getFileName()));
+            }
+        });
+        log.info("watching root config file for changes: {}", rootFilePath);
+    }
+
+    private void scheduleReload() {
+        ScheduledFuture<?> previous = pendingReload.getAndSet(configLoader.schedule(this::reload, RELOAD_DELAY, TimeUnit.MILLISECONDS));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    /**
+     * Reload the root configuration and notify monitored fields and change listeners.
+     */
+    public void reload() {
+        try {
+            ConfigService.getInstance().reloadRootConfig();
+        } catch (Exception e) {
+            log.error("root config reload failed, keep the previous config", e);
+            return;
+        }
+
+        load();
+        for (ChangeListenerHolder<?> holder : changeListeners) {
+            holder.fire();
+        }
+    }
+
     public void load() {
         for (ConfigInfo configInfo : configInfoList) {
             try {
@@ -69,4 +151,29 @@ public class ConfigMonitorService {
         }
     }
 
+    private static class ChangeListenerHolder<T> {
+
+        private final Class<T> clazz;
+
+        private final ConfigChangeListener<T> listener;
+
+        private T current;
+
+        ChangeListenerHolder(Class<T> clazz, T current, ConfigChangeListener<T> listener) {
+            this.clazz = clazz;
+            this.current = current;
+            this.listener = listener;
+        }
+
+        void fire() {
+            try {
+                T newConfig = ConfigService.getInstance().buildConfigInstance(clazz);
+                T oldConfig = current;
+                current = newConfig;
+                listener.onChange(oldConfig, newConfig);
+            } catch (Exception e) {
+                log.error("config change listener failed, config class: {}", clazz.getName(), e);
+            }
+        }
+    }
 }
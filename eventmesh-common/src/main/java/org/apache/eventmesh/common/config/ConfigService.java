@@ -40,7 +40,7 @@ public class ConfigService {
     /**
      * Unified configuration Properties corresponding to eventmesh.properties
      */
-    private Properties properties = new Properties();
+    private volatile Properties properties = new Properties();
 
     @Getter
     private String rootPath;
@@ -49,6 +49,12 @@ public class ConfigService {
 
     private String configPath;
 
+    /**
+     * Resolved location of the root configuration file, null when it is packaged in a jar
+     */
+    @Getter
+    private String rootFilePath;
+
     public static ConfigService getInstance() {
         return INSTANCE;
     }
@@ -66,6 +72,36 @@ public class ConfigService {
         rootPath = path;
         configInfo.setPath(rootPath);
         properties = this.getConfig(configInfo);
+        rootFilePath = configInfo.getFilePath().contains(".jar") ? null : configInfo.getFilePath();
+        configMonitorService.watchRootConfig();
+    }
+
+    /**
+     * Re-read the root configuration file, called when the file watcher reports a change.
+     */
+    public void reloadRootConfig() throws Exception {
+        if (StringUtils.isBlank(rootPath)) {
+            return;
+        }
+        ConfigInfo configInfo = new ConfigInfo();
+        configInfo.setPath(rootPath);
+        properties = this.getConfig(configInfo);
+    }
+
+    /**
+     * Register a listener that is called with the rebuilt configuration whenever the root configuration file changes.
+     * The first registration starts watching the directory of the root configuration file.
+     *
+     * @param clazz    configuration class, rebuilt with {@link #buildConfigInstance(Class)} on every change
+     * @param current  configuration instance currently in use, passed as old config on the first change
+     * @param listener listener to notify
+     */
+    public <T> void addConfigChangeListener(Class<T> clazz, T current, ConfigChangeListener<T> listener) {
+        configMonitorService.addChangeListener(clazz, current, listener);
+    }
+
+    public <T> void removeConfigChangeListener(ConfigChangeListener<T> listener) {
+        configMonitorService.removeChangeListener(listener);
     }
 
     public Properties getRootConfig() {
@@ -38,7 +38,7 @@ public class WatchFileManager {
         }));
     }
 
-    public static void registerFileChangeListener(String directoryPath,
+    public static synchronized void registerFileChangeListener(String directoryPath,
                                                   FileChangeListener listener) {
         WatchFileTask task = WATCH_FILE_TASK_MAP.get(directoryPath);
         if (task == null) {
@@ -49,7 +49,7 @@ public class WatchFileManager {
         task.addFileChangeListener(listener);
     }
 
-    public static void deregisterFileChangeListener(String directoryPath) {
+    public static synchronized void deregisterFileChangeListener(String directoryPath) {
         WatchFileTask task = WATCH_FILE_TASK_MAP.get(directoryPath);
         if (task != null) {
             task.shutdown();
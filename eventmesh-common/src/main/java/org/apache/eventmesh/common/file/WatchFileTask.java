@@ -17,6 +17,8 @@
 
 package org.apache.eventmesh.common.file;
 
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
@@ -25,8 +27,8 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +40,7 @@ public class WatchFileTask extends Thread {
 
     private final transient WatchService watchService;
 
-    private final transient List<FileChangeListener> fileChangeListeners = new ArrayList<>();
+    private final transient List<FileChangeListener> fileChangeListeners = new CopyOnWriteArrayList<>();
 
     private transient volatile boolean watch = true;
 
@@ -54,13 +56,16 @@ public class WatchFileTask extends Thread {
             throw new IllegalArgumentException("must be a file directory : " + directoryPath);
         }
 
-        try (WatchService watchService = FILE_SYSTEM.newWatchService()) {
-            this.watchService = watchService;
+        // the watch service must stay open for the lifetime of the task, it is closed in shutdown()
+        try {
+            this.watchService = FILE_SYSTEM.newWatchService();
             path.register(this.watchService, StandardWatchEventKinds.OVERFLOW, StandardWatchEventKinds.ENTRY_MODIFY,
                     StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
         } catch (Exception ex) {
             throw new UnsupportedOperationException("WatchService registry fail", ex);
         }
+        setName("eventMesh-watchFile-" + path.getFileName());
+        setDaemon(true);
     }
 
     public void addFileChangeListener(FileChangeListener fileChangeListener) {
@@ -71,6 +76,11 @@ public class WatchFileTask extends Thread {
 
     public void shutdown() {
         watch = false;
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            log.warn("[WatchFileTask] close watch service error : ", ex);
+        }
     }
 
     @Override
@@ -95,6 +105,8 @@ public class WatchFileTask extends Thread {
                     }
                     precessWatchEvent(event);
                 }
+            } catch (ClosedWatchServiceException ex) {
+                break;
             } catch (InterruptedException ex) {
                 boolean interrupted = Thread.interrupted();
                 if (interrupted) {
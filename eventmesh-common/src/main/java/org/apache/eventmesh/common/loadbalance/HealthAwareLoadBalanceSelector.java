@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.loadbalance;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This selector wraps another selector and steers traffic away from unhealthy or slow targets.
+ * <ul>
+ *     <li>A target failing {@code failureThreshold} times in a row is ejected for {@code ejectionMillis},
+ *     doubled for each following ejection up to {@code maxEjectionMillis}. A failure right after an ejection
+ *     expires ejects it again, a success resets it.</li>
+ *     <li>Two targets are picked with the wrapped strategy and the one with the lower average latency wins,
+ *     so weights are still honoured while slow targets get less traffic.</li>
+ *     <li>If every picked target is ejected the wrapped strategy is used as is, a degraded target is better than none.</li>
+ * </ul>
+ * Callers report the outcome of each call with {@link #onSuccess(Object, long)} and {@link #onFailure(Object)}.
+ *
+ * @param <T> Target type
+ */
+@Slf4j
+public class HealthAwareLoadBalanceSelector<T> implements LoadBalanceSelector<T> {
+
+    private static final int MAX_SELECT_ATTEMPTS = 8;
+
+    private static final double LATENCY_DECAY = 0.2;
+
+    private final transient LoadBalanceSelector<T> delegate;
+
+    private final transient int failureThreshold;
+
+    private final transient long ejectionMillis;
+
+    private final transient long maxEjectionMillis;
+
+    private final transient LongSupplier clock;
+
+    private final transient ConcurrentHashMap<T, TargetHealth> targetHealth = new ConcurrentHashMap<>();
+
+    public HealthAwareLoadBalanceSelector(LoadBalanceSelector<T> delegate, int failureThreshold, long ejectionMillis,
+                                          long maxEjectionMillis) {
+        this(delegate, failureThreshold, ejectionMillis, maxEjectionMillis, System::currentTimeMillis);
+    }
+
+    HealthAwareLoadBalanceSelector(LoadBalanceSelector<T> delegate, int failureThreshold, long ejectionMillis,
+                                   long maxEjectionMillis, LongSupplier clock) {
+        this.delegate = delegate;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.ejectionMillis = ejectionMillis;
+        this.maxEjectionMillis = Math.max(ejectionMillis, maxEjectionMillis);
+        this.clock = clock;
+    }
+
+    @Override
+    public T select() {
+        long now = clock.getAsLong();
+        T first = selectAvailable(now);
+        if (first == null) {
+            return delegate.select();
+        }
+        T second = selectAvailable(now);
+        if (second == null || second.equals(first)) {
+            return first;
+        }
+        return averageLatency(second) < averageLatency(first) ? second : first;
+    }
+
+    @Override
+    public LoadBalanceType getType() {
+        return delegate.getType();
+    }
+
+    public void onSuccess(T target, long latencyMillis) {
+        if (target != null) {
+            health(target).onSuccess(latencyMillis);
+        }
+    }
+
+    public void onFailure(T target) {
+        if (target != null && health(target).onFailure(clock.getAsLong())) {
+            log.warn("Eject target: {} after consecutive failures", target);
+        }
+    }
+
+    public boolean isEjected(T target) {
+        TargetHealth health = targetHealth.get(target);
+        return health != null && health.isEjected(clock.getAsLong());
+    }
+
+    private T selectAvailable(long now) {
+        for (int i = 0; i < MAX_SELECT_ATTEMPTS; i++) {
+            T target = delegate.select();
+            if (target == null) {
+                return null;
+            }
+            TargetHealth health = targetHealth.get(target);
+            if (health == null || !health.isEjected(now)) {
+                return target;
+            }
+        }
+        return null;
+    }
+
+    private double averageLatency(T target) {
+        TargetHealth health = targetHealth.get(target);
+        return health == null ? 0 : health.averageLatency;
+    }
+
+    private TargetHealth health(T target) {
+        return targetHealth.computeIfAbsent(target, k -> new TargetHealth());
+    }
+
+    private class TargetHealth {
+
+        private int consecutiveFailures;
+
+        private int ejections;
+
+        private volatile long ejectedUntil;
+
+        private volatile double averageLatency;
+
+        boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+
+        synchronized void onSuccess(long latencyMillis) {
+            consecutiveFailures = 0;
+            ejections = 0;
+            averageLatency = averageLatency == 0 ? latencyMillis : averageLatency + LATENCY_DECAY * (latencyMillis - averageLatency);
+        }
+
+        /**
+         * @return true if the target gets ejected by this failure
+         */
+        synchronized boolean onFailure(long now) {
+            if (isEjected(now)) {
+                return false;
+            }
+            consecutiveFailures++;
+            if (consecutiveFailures < failureThreshold && ejections == 0) {
+                return false;
+            }
+            long duration = ejectionMillis << Math.min(ejections, 16);
+            ejectedUntil = now + Math.min(duration, maxEjectionMillis);
+            ejections++;
+            consecutiveFailures = 0;
+            return true;
+        }
+    }
+}
@@ -34,6 +34,11 @@ public class SubscriptionItem implements Serializable {
     @JsonDeserialize(converter = SubscriptionTypeConverter.class)
     private SubscriptionType type;
 
+    /**
+     * content filter over the attributes and extensions of an event, in JSON, null to receive every event of the topic
+     */
+    private String filter;
+
     public SubscriptionItem() {
     }
 
@@ -67,12 +72,21 @@ public class SubscriptionItem implements Serializable {
         this.mode = mode;
     }
 
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
     @Override
     public String toString() {
         return "SubscriptionItem{"
                 + "topic=" + topic
                 + ", mode=" + mode
                 + ", type=" + type
+                + ", filter=" + filter
                 + '}';
     }
 
@@ -85,12 +99,13 @@ public class SubscriptionItem implements Serializable {
             return false;
         }
         SubscriptionItem that = (SubscriptionItem) o;
-        return Objects.equal(topic, that.topic) && mode == that.mode && type == that.type;
+        return Objects.equal(topic, that.topic) && mode == that.mode && type == that.type
+            && Objects.equal(filter, that.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(topic, mode, type);
+        return Objects.hashCode(topic, mode, type, filter);
     }
 }
 
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.cloudevents;
+
+import org.apache.eventmesh.common.Constants;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+/**
+ * Compact binary structured format for CloudEvents, content type {@link Constants#CONTENT_TYPE_CLOUDEVENTS_BINARY}.
+ *
+ * <p>Attributes are written in a fixed order without names, strings are length prefixed UTF-8, numbers are varints and the data
+ * is copied as raw bytes, so small events are a fraction of their JSON size and need no text parsing or base64 step.
+ * The format is registered with {@link io.cloudevents.core.provider.EventFormatProvider} through the service loader.
+ *
+ * <pre>
+ * byte     format version
+ * byte     spec version, 0 = 0.3, 1 = 1.0
+ * string   id, source, type
+ * byte     flags of the optional attributes below
+ * string   datacontenttype, dataschema, subject   (when flagged)
+ * time     time                                    (when flagged)
+ * varint   extension count, then name, type tag and value of each extension
+ * bytes    data                                    (when flagged)
+ * </pre>
+ */
+public class EventMeshBinaryFormat implements EventFormat {
+
+    public static final String CONTENT_TYPE = Constants.CONTENT_TYPE_CLOUDEVENTS_BINARY;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte SPEC_V03 = 0;
+    private static final byte SPEC_V1 = 1;
+
+    private static final int FLAG_DATA_CONTENT_TYPE = 1;
+    private static final int FLAG_DATA_SCHEMA = 1 << 1;
+    private static final int FLAG_SUBJECT = 1 << 2;
+    private static final int FLAG_TIME = 1 << 3;
+    private static final int FLAG_DATA = 1 << 4;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_INTEGER = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_URI = 3;
+    private static final byte TYPE_TIME = 4;
+    private static final byte TYPE_BYTES = 5;
+
+    @Override
+    public byte[] serialize(CloudEvent event) throws EventSerializationException {
+        try {
+            Writer writer = new Writer(256);
+            writer.writeByte(FORMAT_VERSION);
+            writer.writeByte(event.getSpecVersion() == SpecVersion.V03 ? SPEC_V03 : SPEC_V1);
+            writer.writeString(event.getId());
+            writer.writeString(event.getSource().toString());
+            writer.writeString(event.getType());
+
+            CloudEventData data = event.getData();
+            int flags = (event.getDataContentType() != null ? FLAG_DATA_CONTENT_TYPE : 0)
+                | (event.getDataSchema() != null ? FLAG_DATA_SCHEMA : 0)
+                | (event.getSubject() != null ? FLAG_SUBJECT : 0)
+                | (event.getTime() != null ? FLAG_TIME : 0)
+                | (data != null ? FLAG_DATA : 0);
+            writer.writeByte(flags);
+            if (event.getDataContentType() != null) {
+                writer.writeString(event.getDataContentType());
+            }
+            if (event.getDataSchema() != null) {
+                writer.writeString(event.getDataSchema().toString());
+            }
+            if (event.getSubject() != null) {
+                writer.writeString(event.getSubject());
+            }
+            if (event.getTime() != null) {
+                writer.writeTime(event.getTime());
+            }
+
+            writer.writeVarInt(event.getExtensionNames().size());
+            for (String name : event.getExtensionNames()) {
+                writer.writeString(name);
+                writer.writeExtension(name, event.getExtension(name));
+            }
+
+            if (data != null) {
+                writer.writeBytes(data.toBytes());
+            }
+            return writer.toByteArray();
+        } catch (RuntimeException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+        try {
+            Reader reader = new Reader(bytes);
+            CloudEventBuilder builder = readBuilder(reader);
+            if (reader.data != null) {
+                builder.withData(mapper.map(BytesCloudEventData.wrap(reader.data)));
+            }
+            return builder.build();
+        } catch (RuntimeException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public Set<String> deserializableContentTypes() {
+        return Collections.singleton(CONTENT_TYPE);
+    }
+
+    @Override
+    public String serializedContentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * Decode an event into a builder, so callers can add their protocol extensions before building it once.
+     */
+    public static CloudEventBuilder decode(byte[] bytes) throws EventDeserializationException {
+        try {
+            Reader reader = new Reader(bytes);
+            CloudEventBuilder builder = readBuilder(reader);
+            if (reader.data != null) {
+                builder.withData(BytesCloudEventData.wrap(reader.data));
+            }
+            return builder;
+        } catch (RuntimeException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    private static CloudEventBuilder readBuilder(Reader reader) {
+        byte formatVersion = reader.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("unsupported binary format version: " + formatVersion);
+        }
+        byte specVersion = reader.readByte();
+        CloudEventBuilder builder;
+        if (specVersion == SPEC_V03) {
+            builder = CloudEventBuilder.v03();
+        } else if (specVersion == SPEC_V1) {
+            builder = CloudEventBuilder.v1();
+        } else {
+            throw new IllegalArgumentException("unknown spec version: " + specVersion);
+        }
+        builder.withId(reader.readString())
+            .withSource(URI.create(reader.readString()))
+            .withType(reader.readString());
+
+        int flags = reader.readByte();
+        if ((flags & FLAG_DATA_CONTENT_TYPE) != 0) {
+            builder.withDataContentType(reader.readString());
+        }
+        if ((flags & FLAG_DATA_SCHEMA) != 0) {
+            builder.withDataSchema(URI.create(reader.readString()));
+        }
+        if ((flags & FLAG_SUBJECT) != 0) {
+            builder.withSubject(reader.readString());
+        }
+        if ((flags & FLAG_TIME) != 0) {
+            builder.withTime(reader.readTime());
+        }
+
+        int extensionCount = reader.readVarInt();
+        for (int i = 0; i < extensionCount; i++) {
+            reader.readExtension(builder, reader.readString());
+        }
+
+        if ((flags & FLAG_DATA) != 0) {
+            reader.data = reader.readBytes();
+        }
+        if (reader.remaining() != 0) {
+            throw new IllegalArgumentException("unexpected trailing bytes: " + reader.remaining());
+        }
+        return builder;
+    }
+
+    private static final class Writer {
+
+        private byte[] buf;
+
+        private int pos;
+
+        Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buf[pos++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeTime(OffsetDateTime time) {
+            writeZigZag(time.toEpochSecond());
+            writeVarInt(time.getNano());
+            writeZigZag(time.getOffset().getTotalSeconds());
+        }
+
+        void writeExtension(String name, Object value) {
+            if (value instanceof Integer) {
+                writeByte(TYPE_INTEGER);
+                writeZigZag((Integer) value);
+            } else if (value instanceof Boolean) {
+                writeByte(TYPE_BOOLEAN);
+                writeByte((Boolean) value ? 1 : 0);
+            } else if (value instanceof URI) {
+                writeByte(TYPE_URI);
+                writeString(value.toString());
+            } else if (value instanceof OffsetDateTime) {
+                writeByte(TYPE_TIME);
+                writeTime((OffsetDateTime) value);
+            } else if (value instanceof byte[]) {
+                writeByte(TYPE_BYTES);
+                writeBytes((byte[]) value);
+            } else if (value != null) {
+                writeByte(TYPE_STRING);
+                writeString(value.toString());
+            } else {
+                throw new IllegalArgumentException("extension without value: " + name);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensureCapacity(int length) {
+            if (pos + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + length));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buf;
+
+        private int pos;
+
+        private byte[] data;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        byte readByte() {
+            if (pos >= buf.length) {
+                throw new IllegalArgumentException("unexpected end of binary event");
+            }
+            return buf[pos++];
+        }
+
+        int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("varint out of range: " + value);
+            }
+            return (int) value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        byte[] readBytes() {
+            int length = readVarInt();
+            if (length > remaining()) {
+                throw new IllegalArgumentException("length exceeds binary event: " + length);
+            }
+            byte[] bytes = Arrays.copyOfRange(buf, pos, pos + length);
+            pos += length;
+            return bytes;
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (length > remaining()) {
+                throw new IllegalArgumentException("length exceeds binary event: " + length);
+            }
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        OffsetDateTime readTime() {
+            long epochSecond = readZigZag();
+            int nano = readVarInt();
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) readZigZag());
+            return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+        }
+
+        void readExtension(CloudEventBuilder builder, String name) {
+            byte type = readByte();
+            switch (type) {
+                case TYPE_STRING:
+                    builder.withExtension(name, readString());
+                    break;
+                case TYPE_INTEGER:
+                    builder.withExtension(name, (int) readZigZag());
+                    break;
+                case TYPE_BOOLEAN:
+                    builder.withExtension(name, readByte() != 0);
+                    break;
+                case TYPE_URI:
+                    builder.withExtension(name, URI.create(readString()));
+                    break;
+                case TYPE_TIME:
+                    builder.withExtension(name, readTime());
+                    break;
+                case TYPE_BYTES:
+                    builder.withExtension(name, readBytes());
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown extension type: " + type);
+            }
+        }
+
+        int remaining() {
+            return buf.length - pos;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.handler.codec.ReplayingDecoder;
@@ -62,33 +63,59 @@ public class Codec {
             }
 
             final byte[] headerData = JsonUtils.toJSONBytes(header);
-            final byte[] bodyData;
+            final byte[] bodyData = serializeBody(pkg);
 
-            if (StringUtils.equals(Constants.CLOUD_EVENTS_PROTOCOL_NAME, header.getStringProperty(Constants.PROTOCOL_TYPE))) {
-                bodyData = (byte[]) pkg.getBody();
-            } else {
-                bodyData = JsonUtils.toJSONBytes(pkg.getBody());
+            writeFrameHeader(out, headerData, ArrayUtils.getLength(bodyData));
+            if (bodyData != null) {
+                out.writeBytes(bodyData);
             }
+        }
+    }
 
-            int headerLength = ArrayUtils.getLength(headerData);
-            int bodyLength = ArrayUtils.getLength(bodyData);
+    /**
+     * Serialize the package body the same way as {@link Encoder} does, so that it can be encoded once and shared.
+     */
+    public static byte[] serializeBody(Package pkg) {
+        final Header header = pkg.getHeader();
+        if (header != null
+            && StringUtils.equals(Constants.CLOUD_EVENTS_PROTOCOL_NAME, header.getStringProperty(Constants.PROTOCOL_TYPE))) {
+            return (byte[]) pkg.getBody();
+        }
+        return JsonUtils.toJSONBytes(pkg.getBody());
+    }
 
-            int length = 4 + 4 + headerLength + bodyLength;
+    /**
+     * Encode everything of a frame except its body, the body of bodyLength bytes must be written right after it.
+     */
+    public static ByteBuf encodeFrameHeader(ByteBufAllocator allocator, Header header, int bodyLength) {
+        Preconditions.checkNotNull(header, "TcpPackage header cannot be null");
+        final byte[] headerData = JsonUtils.toJSONBytes(header);
+        final ByteBuf out = allocator.buffer(CONSTANT_MAGIC_FLAG.length + VERSION.length + 8
+            + ArrayUtils.getLength(headerData));
+        try {
+            writeFrameHeader(out, headerData, bodyLength);
+        } catch (Exception e) {
+            out.release();
+            throw e;
+        }
+        return out;
+    }
 
-            if (length > FRAME_MAX_LENGTH) {
-                throw new IllegalArgumentException("message size is exceed limit!");
-            }
+    private static void writeFrameHeader(ByteBuf out, byte[] headerData, int bodyLength) {
+        int headerLength = ArrayUtils.getLength(headerData);
 
-            out.writeBytes(CONSTANT_MAGIC_FLAG);
-            out.writeBytes(VERSION);
-            out.writeInt(length);
-            out.writeInt(headerLength);
-            if (headerData != null) {
-                out.writeBytes(headerData);
-            }
-            if (bodyData != null) {
-                out.writeBytes(bodyData);
-            }
+        int length = 4 + 4 + headerLength + bodyLength;
+
+        if (length > FRAME_MAX_LENGTH) {
+            throw new IllegalArgumentException("message size is exceed limit!");
+        }
+
+        out.writeBytes(CONSTANT_MAGIC_FLAG);
+        out.writeBytes(VERSION);
+        out.writeInt(length);
+        out.writeInt(headerLength);
+        if (headerData != null) {
+            out.writeBytes(headerData);
         }
     }
 
@@ -148,6 +175,10 @@ public class Codec {
             }
             final byte[] bodyData = new byte[bodyLength];
             in.readBytes(bodyData);
+            if (StringUtils.equals(Constants.CONTENT_TYPE_CLOUDEVENTS_BINARY, header.getStringProperty(Constants.CONTENT_TYPE))) {
+                // binary cloudevents are not text, the protocol plugin decodes the raw bytes
+                return bodyData;
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Decode bodyJson={}", deserializeBytes(bodyData));
             }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.config;
+
+import static org.apache.eventmesh.common.config.ConfigService.CLASS_PATH_PREFIX;
+import static org.apache.eventmesh.common.config.ConfigService.FILE_PATH_PREFIX;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigChangeListenerTest {
+
+    private final String configFileName = "configuration.properties";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ConfigChangeListener<CommonConfiguration> listener;
+
+    @After
+    public void tearDown() throws Exception {
+        ConfigService configService = ConfigService.getInstance();
+        configService.removeConfigChangeListener(listener);
+        configService.setRootConfig(CLASS_PATH_PREFIX + configFileName);
+    }
+
+    @Test
+    public void testListenerNotifiedOnFileChange() throws Exception {
+        Properties properties = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/" + configFileName)) {
+            properties.load(in);
+        }
+        File file = new File(temporaryFolder.newFolder("conf"), configFileName);
+        store(properties, file);
+
+        ConfigService configService = ConfigService.getInstance();
+        configService.setRootConfig(FILE_PATH_PREFIX + file.getAbsolutePath());
+        Assert.assertEquals(file.getAbsolutePath(), configService.getRootFilePath());
+        CommonConfiguration current = configService.buildConfigInstance(CommonConfiguration.class);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<CommonConfiguration> oldConfigRef = new AtomicReference<>();
+        AtomicReference<CommonConfiguration> newConfigRef = new AtomicReference<>();
+        listener = (oldConfig, newConfig) -> {
+            oldConfigRef.set(oldConfig);
+            newConfigRef.set(newConfig);
+            latch.countDown();
+        };
+        configService.addConfigChangeListener(CommonConfiguration.class, current, listener);
+
+        properties.setProperty("eventMesh.server.env", "env-reloaded");
+        store(properties, file);
+
+        // the JDK falls back to a polling watch service on some platforms, allow it a few rounds
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        Assert.assertSame(current, oldConfigRef.get());
+        Assert.assertEquals("env-reloaded", newConfigRef.get().getEventMeshEnv());
+        Assert.assertEquals("env-reloaded", configService.getRootConfig().getProperty("eventMesh.server.env"));
+    }
+
+    private void store(Properties properties, File file) throws Exception {
+        try (OutputStream out = new FileOutputStream(file)) {
+            properties.store(out, null);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.loadbalance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HealthAwareLoadBalanceSelectorTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+
+    private HealthAwareLoadBalanceSelector<String> healthAwareLoadBalanceSelector;
+
+    @Before
+    public void before() {
+        List<String> address = new ArrayList<>();
+        address.add("A");
+        address.add("B");
+        address.add("C");
+        healthAwareLoadBalanceSelector = new HealthAwareLoadBalanceSelector<>(new RandomLoadBalanceSelector<>(address),
+            2, 100, 400, now::get);
+    }
+
+    @Test
+    public void testEjectFailedTarget() {
+        healthAwareLoadBalanceSelector.onFailure("A");
+        Assert.assertFalse(healthAwareLoadBalanceSelector.isEjected("A"));
+        healthAwareLoadBalanceSelector.onFailure("A");
+        Assert.assertTrue(healthAwareLoadBalanceSelector.isEjected("A"));
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertNotEquals("A", healthAwareLoadBalanceSelector.select());
+        }
+
+        now.addAndGet(100);
+        Assert.assertFalse(healthAwareLoadBalanceSelector.isEjected("A"));
+        healthAwareLoadBalanceSelector.onFailure("A");
+        Assert.assertTrue(healthAwareLoadBalanceSelector.isEjected("A"));
+        now.addAndGet(100);
+        Assert.assertTrue(healthAwareLoadBalanceSelector.isEjected("A"));
+        now.addAndGet(100);
+        healthAwareLoadBalanceSelector.onSuccess("A", 1);
+        healthAwareLoadBalanceSelector.onFailure("A");
+        Assert.assertFalse(healthAwareLoadBalanceSelector.isEjected("A"));
+    }
+
+    @Test
+    public void testSelectWhenAllEjected() {
+        for (String target : new String[] {"A", "B", "C"}) {
+            healthAwareLoadBalanceSelector.onFailure(target);
+            healthAwareLoadBalanceSelector.onFailure(target);
+        }
+        Assert.assertNotNull(healthAwareLoadBalanceSelector.select());
+    }
+
+    @Test
+    public void testPreferLowLatency() {
+        healthAwareLoadBalanceSelector.onSuccess("A", 100);
+        healthAwareLoadBalanceSelector.onSuccess("B", 100);
+        healthAwareLoadBalanceSelector.onSuccess("C", 5);
+        Map<String, Integer> addressToNum = new HashMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            String select = healthAwareLoadBalanceSelector.select();
+            addressToNum.put(select, addressToNum.getOrDefault(select, 0) + 1);
+        }
+        Assert.assertTrue(addressToNum.get("C") > addressToNum.get("A") + addressToNum.get("B"));
+    }
+
+    @Test
+    public void testGetType() {
+        Assert.assertEquals(LoadBalanceType.RANDOM, healthAwareLoadBalanceSelector.getType());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.cloudevents;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+
+public class EventMeshBinaryFormatTest {
+
+    private final EventMeshBinaryFormat format = new EventMeshBinaryFormat();
+
+    @Test
+    public void testRoundTrip() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-1")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .withSubject("TEST-TOPIC")
+            .withDataContentType("application/json")
+            .withTime(OffsetDateTime.of(2022, 3, 1, 12, 0, 0, 5000, ZoneOffset.ofHours(8)))
+            .withExtension("ttl", "4000")
+            .withExtension("retry", 3)
+            .withExtension("flag", true)
+            .withData("{\"k\":\"v\"}".getBytes(StandardCharsets.UTF_8))
+            .build();
+
+        byte[] bytes = format.serialize(event);
+        CloudEvent decoded = format.deserialize(bytes);
+
+        Assert.assertEquals(event, decoded);
+    }
+
+    @Test
+    public void testRoundTripV03WithoutData() {
+        CloudEvent event = CloudEventBuilder.v03()
+            .withId("id-2")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .build();
+
+        CloudEvent decoded = format.deserialize(format.serialize(event));
+
+        Assert.assertEquals(event, decoded);
+        Assert.assertNull(decoded.getData());
+    }
+
+    @Test
+    public void testDecodeBuilder() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-3")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .build();
+
+        CloudEvent decoded = EventMeshBinaryFormat.decode(format.serialize(event))
+            .withExtension("protocoltype", "eventmeshmessage")
+            .build();
+
+        Assert.assertEquals("id-3", decoded.getId());
+        Assert.assertEquals("eventmeshmessage", decoded.getExtension("protocoltype"));
+    }
+
+    @Test(expected = EventDeserializationException.class)
+    public void testTruncatedInput() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-4")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .build();
+        byte[] bytes = format.serialize(event);
+        byte[] truncated = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        format.deserialize(truncated);
+    }
+
+    @Test(expected = EventDeserializationException.class)
+    public void testUnknownSpecVersion() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-5")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .build();
+        byte[] bytes = format.serialize(event);
+        // the spec version follows the format version
+        bytes[1] = 9;
+
+        format.deserialize(bytes);
+    }
+
+    @Test
+    public void testResolvedByProvider() {
+        EventFormat resolved = EventFormatProvider.getInstance().resolveFormat(EventMeshBinaryFormat.CONTENT_TYPE);
+
+        Assert.assertTrue(resolved instanceof EventMeshBinaryFormat);
+    }
+}
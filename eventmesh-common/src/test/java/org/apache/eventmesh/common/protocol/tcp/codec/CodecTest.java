@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.common.protocol.tcp.codec;
 
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.Package;
@@ -28,6 +29,7 @@ import org.junit.Test;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 
 public class CodecTest {
 
@@ -47,4 +49,21 @@ public class CodecTest {
         Assert.assertEquals(testP.getHeader(), ((Package) result.get(0)).getHeader());
     }
 
+    @Test
+    public void testEncodeFrameHeader() throws Exception {
+        Header header = new Header(Command.BROADCAST_MESSAGE_TO_CLIENT, 0, null, "1");
+        header.putProperty(Constants.PROTOCOL_TYPE, Constants.CLOUD_EVENTS_PROTOCOL_NAME);
+        byte[] body = "{\"id\":\"1\"}".getBytes(Constants.DEFAULT_CHARSET);
+        Package pkg = new Package(header, body);
+
+        ByteBuf expected = PooledByteBufAllocator.DEFAULT.buffer();
+        new Codec.Encoder().encode(null, pkg, expected);
+
+        ByteBuf frameHeader = Codec.encodeFrameHeader(PooledByteBufAllocator.DEFAULT, header, body.length);
+        ByteBuf frame = Unpooled.wrappedBuffer(frameHeader, Unpooled.wrappedBuffer(Codec.serializeBody(pkg)));
+        Assert.assertEquals(expected, frame);
+
+        expected.release();
+        frame.release();
+    }
 }
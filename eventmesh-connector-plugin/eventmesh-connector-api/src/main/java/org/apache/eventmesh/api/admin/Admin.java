@@ -25,6 +25,7 @@ import org.apache.eventmesh.spi.EventMeshSPI;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import io.cloudevents.CloudEvent;
 
@@ -45,6 +46,16 @@ public interface Admin extends LifeCycle {
      */
     List<TopicProperties> getTopic() throws Exception;
 
+    /**
+     * Get the names of the topics, may be called repeatedly. Connectors that collect statistics in
+     * {@link #getTopic()} should list the names only.
+     *
+     * @return List of topic names.
+     */
+    default List<String> getTopicNames() throws Exception {
+        return getTopic().stream().map(topic -> topic.name).collect(Collectors.toList());
+    }
+
     /**
      * Create one topic.
      */
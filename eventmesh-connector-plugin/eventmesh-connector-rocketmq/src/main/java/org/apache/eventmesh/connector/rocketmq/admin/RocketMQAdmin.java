@@ -27,6 +27,7 @@ import org.apache.eventmesh.connector.rocketmq.config.ClientConfiguration;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.rocketmq.acl.common.AclClientRPCHook;
 import org.apache.rocketmq.acl.common.SessionCredentials;
+import org.apache.rocketmq.common.MixAll;
 import org.apache.rocketmq.common.TopicConfig;
 import org.apache.rocketmq.common.admin.TopicOffset;
 import org.apache.rocketmq.common.admin.TopicStatsTable;
@@ -49,7 +50,7 @@ import io.cloudevents.CloudEvent;
 public class RocketMQAdmin implements Admin {
     private final AtomicBoolean isStarted;
 
-    protected DefaultMQAdminExt adminExt;
+    private final RPCHook rpcHook;
 
     protected String nameServerAddr;
 
@@ -69,11 +70,18 @@ public class RocketMQAdmin implements Admin {
         String accessKey = clientConfiguration.accessKey;
         String secretKey = clientConfiguration.secretKey;
 
-        RPCHook rpcHook = new AclClientRPCHook(new SessionCredentials(accessKey, secretKey));
-        adminExt = new DefaultMQAdminExt(rpcHook);
+        rpcHook = new AclClientRPCHook(new SessionCredentials(accessKey, secretKey));
+    }
+
+    /**
+     * A DefaultMQAdminExt cannot be started again once shut down, every operation works on its own.
+     */
+    private DefaultMQAdminExt newAdminExt() {
+        DefaultMQAdminExt adminExt = new DefaultMQAdminExt(rpcHook);
         String groupId = UUID.randomUUID().toString();
         adminExt.setAdminExtGroup("admin_ext_group-" + groupId);
         adminExt.setNamesrvAddr(nameServerAddr);
+        return adminExt;
     }
 
     @Override
@@ -102,6 +110,7 @@ public class RocketMQAdmin implements Admin {
 
     @Override
     public List<TopicProperties> getTopic() throws Exception {
+        DefaultMQAdminExt adminExt = newAdminExt();
         try {
             adminExt.start();
             List<TopicProperties> result = new ArrayList<>();
@@ -126,11 +135,30 @@ public class RocketMQAdmin implements Admin {
         }
     }
 
+    @Override
+    public List<String> getTopicNames() throws Exception {
+        DefaultMQAdminExt adminExt = newAdminExt();
+        try {
+            adminExt.start();
+            List<String> result = new ArrayList<>();
+            for (String topic : adminExt.fetchAllTopicList().getTopicList()) {
+                // retry and dead letter topics of the consumer groups are not topics of the users
+                if (!topic.startsWith(MixAll.RETRY_GROUP_TOPIC_PREFIX) && !topic.startsWith(MixAll.DLQ_GROUP_TOPIC_PREFIX)) {
+                    result.add(topic);
+                }
+            }
+            return result;
+        } finally {
+            adminExt.shutdown();
+        }
+    }
+
     @Override
     public void createTopic(String topicName) throws Exception {
         if (StringUtils.isBlank(topicName)) {
             throw new Exception("Topic name can not be blank");
         }
+        DefaultMQAdminExt adminExt = newAdminExt();
         try {
             adminExt.start();
             Set<String> brokerAddress = CommandUtil.fetchMasterAddrByClusterName(adminExt, clusterName);
@@ -152,6 +180,7 @@ public class RocketMQAdmin implements Admin {
         if (StringUtils.isBlank(topicName)) {
             throw new Exception("Topic name can not be blank.");
         }
+        DefaultMQAdminExt adminExt = newAdminExt();
         try {
             adminExt.start();
             Set<String> brokerAddress = CommandUtil.fetchMasterAddrByClusterName(adminExt, clusterName);
@@ -64,6 +64,11 @@ public class RocketMQAdminAdaptor implements Admin {
         return admin.getTopic();
     }
 
+    @Override
+    public List<String> getTopicNames() throws Exception {
+        return admin.getTopicNames();
+    }
+
     @Override
     public void createTopic(String topicName) throws Exception {
         admin.createTopic(topicName);
@@ -17,6 +17,8 @@
 
 package org.apache.eventmesh.metrics.api.model;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class GrpcSummaryMetrics implements Metric {
@@ -34,6 +36,11 @@ public class GrpcSummaryMetrics implements Metric {
     private long retrySize;
     private long subscribeTopicNum;
 
+    /**
+     * current adaptive concurrency limit of each group
+     */
+    private Map<String, Integer> concurrencyLimits = Collections.emptyMap();
+
     public GrpcSummaryMetrics() {
         this.client2EventMeshMsgNum = new AtomicLong(0);
         this.eventMesh2MqMsgNum = new AtomicLong(0);
@@ -102,4 +109,12 @@ public class GrpcSummaryMetrics implements Metric {
     public void setSubscribeTopicNum(long subscribeTopicNum) {
         this.subscribeTopicNum = subscribeTopicNum;
     }
+
+    public Map<String, Integer> getConcurrencyLimits() {
+        return concurrencyLimits;
+    }
+
+    public void setConcurrencyLimits(Map<String, Integer> concurrencyLimits) {
+        this.concurrencyLimits = concurrencyLimits;
+    }
 }
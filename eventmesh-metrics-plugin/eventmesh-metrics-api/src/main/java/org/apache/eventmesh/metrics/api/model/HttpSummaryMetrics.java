@@ -19,6 +19,7 @@ package org.apache.eventmesh.metrics.api.model;
 
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
@@ -404,6 +405,19 @@ public class HttpSummaryMetrics implements Metric {
         return httpFailedQueue.size();
     }
 
+    /**
+     * current adaptive concurrency limit of each group
+     */
+    private Map<String, Integer> concurrencyLimits = Collections.emptyMap();
+
+    public Map<String, Integer> getConcurrencyLimits() {
+        return concurrencyLimits;
+    }
+
+    public void setConcurrencyLimits(Map<String, Integer> concurrencyLimits) {
+        this.concurrencyLimits = concurrencyLimits;
+    }
+
 
     private float avg(LinkedList<Integer> linkedList) {
         if (linkedList.isEmpty()) {
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A striped, never-reset event counter whose rate is derived from the delta between two {@link #tick()} calls.
+ *
+ * <p>Hot paths only {@link #mark()}, which contends on a {@link LongAdder} cell instead of a single atomic.
+ * Because the total is monotonic, events marked concurrently with a tick are counted in the next window
+ * rather than lost.
+ */
+public class RateMeter {
+
+    private final LongAdder count = new LongAdder();
+
+    private long lastCount;
+
+    private long lastTickNanos;
+
+    private volatile double rate;
+
+    public RateMeter() {
+        this.lastTickNanos = System.nanoTime();
+    }
+
+    public void mark() {
+        count.increment();
+    }
+
+    public void mark(long n) {
+        count.add(n);
+    }
+
+    /**
+     * @return total number of events marked since creation
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Close the current window and compute its rate in events per second.
+     *
+     * @return the rate of the window just closed
+     */
+    public double tick() {
+        return tick(System.nanoTime());
+    }
+
+    synchronized double tick(long nowNanos) {
+        long current = count.sum();
+        long elapsedNanos = nowNanos - lastTickNanos;
+        if (elapsedNanos > 0) {
+            rate = (current - lastCount) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+        lastCount = current;
+        lastTickNanos = nowNanos;
+        return rate;
+    }
+
+    /**
+     * @return events per second of the last closed window
+     */
+    public double getRate() {
+        return rate;
+    }
+}
@@ -17,16 +17,17 @@
 
 package org.apache.eventmesh.metrics.api.model;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Collections;
+import java.util.Map;
 
 import lombok.Data;
 
 @Data
 public class TcpSummaryMetrics implements Metric {
-    private AtomicInteger client2eventMeshMsgNum;
-    private AtomicInteger eventMesh2mqMsgNum;
-    private AtomicInteger mq2eventMeshMsgNum;
-    private AtomicInteger eventMesh2clientMsgNum;
+    private final RateMeter client2eventMeshMsgNum = new RateMeter();
+    private final RateMeter eventMesh2mqMsgNum = new RateMeter();
+    private final RateMeter mq2eventMeshMsgNum = new RateMeter();
+    private final RateMeter eventMesh2clientMsgNum = new RateMeter();
 
     private int client2eventMeshTPS;
     private int eventMesh2clientTPS;
@@ -38,43 +39,19 @@ public class TcpSummaryMetrics implements Metric {
 
     private int retrySize;
 
-    public TcpSummaryMetrics() {
-        this.client2eventMeshMsgNum = new AtomicInteger(0);
-        this.eventMesh2mqMsgNum = new AtomicInteger(0);
-        this.mq2eventMeshMsgNum = new AtomicInteger(0);
-        this.eventMesh2clientMsgNum = new AtomicInteger(0);
-    }
-
-    public int client2eventMeshMsgNum() {
-        return client2eventMeshMsgNum.get();
-    }
-
-    public int eventMesh2mqMsgNum() {
-        return eventMesh2mqMsgNum.get();
-    }
-
-    public int mq2eventMeshMsgNum() {
-        return mq2eventMeshMsgNum.get();
-    }
-
-    public int eventMesh2clientMsgNum() {
-        return eventMesh2clientMsgNum.get();
-    }
-
-    public void resetClient2EventMeshMsgNum() {
-        this.client2eventMeshMsgNum = new AtomicInteger(0);
-    }
-
-    public void resetEventMesh2mqMsgNum() {
-        this.eventMesh2mqMsgNum = new AtomicInteger(0);
-    }
-
-    public void resetMq2eventMeshMsgNum() {
-        this.mq2eventMeshMsgNum = new AtomicInteger(0);
-    }
-
-    public void resetEventMesh2ClientMsgNum() {
-        this.eventMesh2clientMsgNum = new AtomicInteger(0);
+    /**
+     * current adaptive concurrency limit of each group
+     */
+    private Map<String, Integer> concurrencyLimits = Collections.emptyMap();
+
+    /**
+     * Close the current rate window of every meter and publish the resulting TPS.
+     */
+    public void refreshTpsMetrics() {
+        client2eventMeshTPS = (int) client2eventMeshMsgNum.tick();
+        eventMesh2clientTPS = (int) eventMesh2clientMsgNum.tick();
+        eventMesh2mqTPS = (int) eventMesh2mqMsgNum.tick();
+        mq2eventMeshTPS = (int) mq2eventMeshMsgNum.tick();
     }
 
     public int getClient2eventMeshTPS() {
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RateMeterTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testWindowedRate() {
+        RateMeter meter = new RateMeter();
+        meter.tick(0);
+        meter.mark(500);
+        Assert.assertEquals(250d, meter.tick(2 * ONE_SECOND), 0.001d);
+
+        meter.mark();
+        meter.mark();
+        Assert.assertEquals(2d, meter.tick(3 * ONE_SECOND), 0.001d);
+        Assert.assertEquals(2d, meter.getRate(), 0.001d);
+        Assert.assertEquals(502, meter.getCount());
+    }
+
+    @Test
+    public void testMarksRacingTickAreNotLost() throws Exception {
+        RateMeter meter = new RateMeter();
+        meter.tick(0);
+        int threads = 4;
+        int marksPerThread = 100_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < marksPerThread; j++) {
+                    meter.mark();
+                }
+                done.countDown();
+            }).start();
+        }
+
+        long now = 0;
+        double counted = 0;
+        while (done.getCount() > 0) {
+            now += ONE_SECOND;
+            counted += meter.tick(now);
+        }
+        now += ONE_SECOND;
+        counted += meter.tick(now);
+
+        Assert.assertEquals((double) threads * marksPerThread, counted, 0.001d);
+    }
+}
@@ -52,5 +52,12 @@ public class PrometheusGrpcExporter {
 
         observeOfValue(meter, "mq.provider.tps", "get tps of eventMesh to mq.", summaryMetrics::getEventMesh2MqTPS);
         observeOfValue(meter, "mq.consumer.tps", "get tps of eventMesh to mq.", summaryMetrics::getMq2EventMeshTPS);
+
+        meter.doubleValueObserverBuilder(METRICS_NAME_PREFIX + "concurrency.limit")
+            .setDescription("get adaptive concurrency limit of each group.")
+            .setUnit(UNIT)
+            .setUpdater(result -> summaryMetrics.getConcurrencyLimits()
+                .forEach((group, limit) -> result.observe(limit, Labels.of("group", group))))
+            .build();
     }
 }
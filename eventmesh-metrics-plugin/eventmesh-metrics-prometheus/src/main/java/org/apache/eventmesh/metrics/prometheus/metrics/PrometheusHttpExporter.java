@@ -293,6 +293,15 @@ public class PrometheusHttpExporter {
             .setUnit("HTTP")
             .setUpdater(result -> result.observe(summaryMetrics.avgReplyMsgCost(), Labels.empty()))
             .build();
+
+        //concurrencyLimit
+        meter
+            .doubleValueObserverBuilder("eventmesh.concurrency.limit")
+            .setDescription("get adaptive concurrency limit of each group.")
+            .setUnit("HTTP")
+            .setUpdater(result -> summaryMetrics.getConcurrencyLimits()
+                .forEach((group, limit) -> result.observe(limit, Labels.of("group", group))))
+            .build();
     }
 
 }
@@ -85,5 +85,13 @@ public class PrometheusTcpExporter {
             .setUnit("TCP")
             .setUpdater(result -> result.observe(summaryMetrics.getSubTopicNum(), Labels.empty()))
             .build();
+
+        //concurrencyLimit
+        meter.doubleValueObserverBuilder("eventmesh.tcp.concurrency.limit")
+            .setDescription("get adaptive concurrency limit of each group.")
+            .setUnit("TCP")
+            .setUpdater(result -> summaryMetrics.getConcurrencyLimits()
+                .forEach((group, limit) -> result.observe(limit, Labels.of("group", group))))
+            .build();
     }
 }
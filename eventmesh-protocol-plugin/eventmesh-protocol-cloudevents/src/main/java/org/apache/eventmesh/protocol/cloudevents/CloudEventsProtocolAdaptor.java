@@ -64,6 +64,9 @@ public class CloudEventsProtocolAdaptor<T extends ProtocolTransportObject>
         if (cloudEvent instanceof Package) {
             Package tcpPackage = (Package) cloudEvent;
             Header header = tcpPackage.getHeader();
+            if (tcpPackage.getBody() instanceof byte[]) {
+                return TcpMessageProtocolResolver.buildEvent(header, (byte[]) tcpPackage.getBody());
+            }
             String cloudEventJson = tcpPackage.getBody().toString();
 
             return deserializeTcpProtocol(header, cloudEventJson);
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.protocol.cloudevents.resolver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.regex.Pattern;
+
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.jackson.JsonCloudEventData;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming decoder for the structured JSON format of CloudEvents.
+ *
+ * <p>The JSON text is parsed token by token straight into a {@link CloudEventBuilder} of the spec version announced by the
+ * protocol header, so resolvers can add their header extensions to the returned builder and build the event once, instead of
+ * deserializing an intermediate event and copying it with {@code CloudEventBuilder.v1(event)}.
+ * The parser works on the String body directly and Jackson recycles its parse buffers per thread, so no byte copy of the body
+ * is made either.
+ *
+ * <p>The result matches {@code io.cloudevents.jackson.JsonFormat#deserialize}: JSON data is kept as {@link JsonCloudEventData},
+ * other data must be a string or base64 encoded, and unknown attributes become extensions.
+ */
+public final class CloudEventJsonDecoder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Pattern JSON_CONTENT_TYPE_PATTERN = Pattern.compile("^(application|text)/([a-zA-Z]+\\+)?json(;.*)*$");
+
+    private CloudEventJsonDecoder() {
+    }
+
+    /**
+     * Parse a structured JSON CloudEvent.
+     *
+     * @param specVersion spec version of the builder to fill, taken from the protocol header
+     * @param json        event in structured JSON format
+     * @return builder holding the decoded attributes, extensions and data
+     */
+    public static CloudEventBuilder decode(SpecVersion specVersion, String json) throws IOException {
+        CloudEventBuilder builder = specVersion == SpecVersion.V03 ? CloudEventBuilder.v03() : CloudEventBuilder.v1();
+
+        String contentType = null;
+        String contentEncoding = null;
+        JsonNode data = null;
+        byte[] dataBase64 = null;
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("cloud event json must be an object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (name) {
+                    case "specversion":
+                        break;
+                    case "id":
+                        builder.withId(parser.getText());
+                        break;
+                    case "source":
+                        builder.withSource(URI.create(parser.getText()));
+                        break;
+                    case "type":
+                        builder.withType(parser.getText());
+                        break;
+                    case "subject":
+                        builder.withSubject(parser.getText());
+                        break;
+                    case "time":
+                        builder.withTime(OffsetDateTime.parse(parser.getText()));
+                        break;
+                    case "dataschema":
+                    case "schemaurl":
+                        builder.withDataSchema(URI.create(parser.getText()));
+                        break;
+                    case "datacontenttype":
+                        contentType = parser.getText();
+                        builder.withDataContentType(contentType);
+                        break;
+                    case "datacontentencoding":
+                        if (specVersion == SpecVersion.V03) {
+                            contentEncoding = parser.getText();
+                        } else {
+                            readExtension(builder, name, parser, token);
+                        }
+                        break;
+                    case "data":
+                        data = parser.readValueAsTree();
+                        break;
+                    case "data_base64":
+                        dataBase64 = parser.getBinaryValue();
+                        break;
+                    default:
+                        readExtension(builder, name, parser, token);
+                        break;
+                }
+            }
+        }
+
+        if (data != null && dataBase64 != null) {
+            throw new IOException("cloud event json contains both data and data_base64");
+        }
+        if (dataBase64 != null) {
+            builder.withData(BytesCloudEventData.wrap(dataBase64));
+        } else if (data != null) {
+            if ("base64".equals(contentEncoding)) {
+                builder.withData(BytesCloudEventData.wrap(data.binaryValue()));
+            } else if (isJsonContentType(contentType)) {
+                builder.withData(new JsonCloudEventData(data));
+            } else if (data.isTextual()) {
+                builder.withData(BytesCloudEventData.wrap(data.textValue().getBytes(StandardCharsets.UTF_8)));
+            } else {
+                throw new IOException(String.format("data must be a string when datacontenttype is %s", contentType));
+            }
+        }
+        return builder;
+    }
+
+    private static void readExtension(CloudEventBuilder builder, String name, JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                builder.withExtension(name, parser.getText());
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                builder.withExtension(name, parser.getNumberValue());
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                builder.withExtension(name, parser.getBooleanValue());
+                break;
+            default:
+                builder.withExtension(name, parser.readValueAsTree().toString());
+                break;
+        }
+    }
+
+    private static boolean isJsonContentType(String contentType) {
+        // the spec says data without content type is json
+        return contentType == null || JSON_CONTENT_TYPE_PATTERN.matcher(contentType).matches();
+    }
+}
@@ -18,29 +18,62 @@
 package org.apache.eventmesh.protocol.cloudevents.resolver.tcp;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.cloudevents.EventMeshBinaryFormat;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.protocol.api.exception.ProtocolHandleException;
 import org.apache.eventmesh.protocol.cloudevents.CloudEventsProtocolConstant;
+import org.apache.eventmesh.protocol.cloudevents.resolver.CloudEventJsonDecoder;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
-import io.cloudevents.core.format.EventFormat;
-import io.cloudevents.core.provider.EventFormatProvider;
-import io.cloudevents.jackson.JsonFormat;
-
-import com.google.common.base.Preconditions;
 
 public class TcpMessageProtocolResolver {
 
     public static CloudEvent buildEvent(Header header, String cloudEventJson)
             throws ProtocolHandleException {
+        validateProtocol(header);
+        if (StringUtils.isBlank(cloudEventJson)) {
+            throw new ProtocolHandleException(
+                String.format("invalid method params cloudEventJson %s", cloudEventJson));
+        }
+        SpecVersion specVersion = resolveSpecVersion(header);
+
+        CloudEventBuilder cloudEventBuilder;
+        try {
+            cloudEventBuilder = CloudEventJsonDecoder.decode(specVersion, cloudEventJson);
+        } catch (Exception e) {
+            throw new ProtocolHandleException(String.format("invalid cloudEventJson: %s", e.getMessage()), e);
+        }
+        return withHeaderExtensions(cloudEventBuilder, header);
+    }
+
+    /**
+     * Build the event from a body in {@link EventMeshBinaryFormat}, the spec version is carried by the body itself.
+     */
+    public static CloudEvent buildEvent(Header header, byte[] binaryEvent)
+            throws ProtocolHandleException {
+        validateProtocol(header);
+        if (ArrayUtils.isEmpty(binaryEvent)) {
+            throw new ProtocolHandleException("invalid method params binaryEvent is empty");
+        }
+        resolveSpecVersion(header);
+
         CloudEventBuilder cloudEventBuilder;
+        try {
+            cloudEventBuilder = EventMeshBinaryFormat.decode(binaryEvent);
+        } catch (Exception e) {
+            throw new ProtocolHandleException(String.format("invalid binaryEvent: %s", e.getMessage()), e);
+        }
+        return withHeaderExtensions(cloudEventBuilder, header);
+    }
 
+    private static void validateProtocol(Header header) throws ProtocolHandleException {
         String protocolType = header.getProperty(Constants.PROTOCOL_TYPE).toString();
         String protocolVersion = header.getProperty(Constants.PROTOCOL_VERSION).toString();
         String protocolDesc = header.getProperty(Constants.PROTOCOL_DESC).toString();
@@ -53,41 +86,30 @@ public class TcpMessageProtocolResolver {
                             protocolType, protocolVersion, protocolDesc));
         }
 
-        if (StringUtils.isBlank(cloudEventJson)) {
-            throw new ProtocolHandleException(
-                String.format("invalid method params cloudEventJson %s", cloudEventJson));
-        }
-
         if (!StringUtils.equals(CloudEventsProtocolConstant.PROTOCOL_NAME, protocolType)) {
             throw new ProtocolHandleException(String.format("Unsupported protocolType: %s", protocolType));
         }
+    }
 
+    private static SpecVersion resolveSpecVersion(Header header) throws ProtocolHandleException {
+        String protocolVersion = header.getProperty(Constants.PROTOCOL_VERSION).toString();
         if (StringUtils.equals(SpecVersion.V1.toString(), protocolVersion)) {
-            // todo:resolve different format
-            EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
-            Preconditions
-                    .checkNotNull(eventFormat, String.format("EventFormat: %s is not supported", JsonFormat.CONTENT_TYPE));
-            CloudEvent event = eventFormat.deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
-            cloudEventBuilder = CloudEventBuilder.v1(event);
-            for (String propKey : header.getProperties().keySet()) {
-                cloudEventBuilder.withExtension(propKey, header.getProperty(propKey).toString());
-            }
-
-            return cloudEventBuilder.build();
-
+            return SpecVersion.V1;
         } else if (StringUtils.equals(SpecVersion.V03.toString(), protocolVersion)) {
-            // todo:resolve different format
-            CloudEvent event = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE)
-                    .deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
-            cloudEventBuilder = CloudEventBuilder.v03(event);
-
-            for (String propKey : header.getProperties().keySet()) {
-                cloudEventBuilder.withExtension(propKey, header.getProperty(propKey).toString());
-            }
-
-            return cloudEventBuilder.build();
+            return SpecVersion.V03;
         } else {
             throw new ProtocolHandleException(String.format("Unsupported protocolVersion: %s", protocolVersion));
         }
     }
+
+    private static CloudEvent withHeaderExtensions(CloudEventBuilder cloudEventBuilder, Header header) {
+        for (Map.Entry<String, Object> prop : header.getProperties().entrySet()) {
+            // the body format only describes this hop, it must not leak into the event pushed to other clients
+            if (Constants.CONTENT_TYPE.equals(prop.getKey())) {
+                continue;
+            }
+            cloudEventBuilder.withExtension(prop.getKey(), prop.getValue().toString());
+        }
+        return cloudEventBuilder.build();
+    }
 }
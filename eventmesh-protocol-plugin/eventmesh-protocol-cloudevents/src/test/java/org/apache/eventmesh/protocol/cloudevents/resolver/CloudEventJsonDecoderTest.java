@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.protocol.cloudevents.resolver;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.jackson.JsonFormat;
+
+public class CloudEventJsonDecoderTest {
+
+    private final JsonFormat jsonFormat = new JsonFormat();
+
+    @Test
+    public void testDecodeJsonData() throws Exception {
+        String json = "{\"specversion\":\"1.0\",\"id\":\"id-1\",\"source\":\"/source\",\"type\":\"test\",\"subject\":\"topic\","
+            + "\"time\":\"2022-10-10T10:10:10Z\",\"datacontenttype\":\"application/json\",\"ttl\":\"4000\","
+            + "\"data\":{\"name\":\"eventmesh\",\"values\":[1,2]}}";
+        assertSameAsJsonFormat(SpecVersion.V1, json);
+    }
+
+    @Test
+    public void testDecodeTextData() throws Exception {
+        String json = "{\"data\":\"hello\",\"specversion\":\"1.0\",\"id\":\"id-2\",\"source\":\"/source\",\"type\":\"test\","
+            + "\"datacontenttype\":\"text/plain\",\"dataschema\":\"http://schema\"}";
+        CloudEvent event = assertSameAsJsonFormat(SpecVersion.V1, json);
+        Assert.assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), event.getData().toBytes());
+    }
+
+    @Test
+    public void testDecodeBase64Data() throws Exception {
+        String json = "{\"specversion\":\"1.0\",\"id\":\"id-3\",\"source\":\"/source\",\"type\":\"test\","
+            + "\"datacontenttype\":\"application/octet-stream\",\"data_base64\":\"aGVsbG8=\"}";
+        CloudEvent event = assertSameAsJsonFormat(SpecVersion.V1, json);
+        Assert.assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), event.getData().toBytes());
+    }
+
+    @Test
+    public void testDecodeV03() throws Exception {
+        String json = "{\"specversion\":\"0.3\",\"id\":\"id-4\",\"source\":\"/source\",\"type\":\"test\","
+            + "\"schemaurl\":\"http://schema\",\"datacontenttype\":\"text/plain\",\"datacontentencoding\":\"base64\",\"data\":\"aGVsbG8=\"}";
+        assertSameAsJsonFormat(SpecVersion.V03, json);
+    }
+
+    @Test
+    public void testHeaderExtensionOverridesEventExtension() throws Exception {
+        String json = "{\"specversion\":\"1.0\",\"id\":\"id-5\",\"source\":\"/source\",\"type\":\"test\",\"ttl\":\"4000\"}";
+        CloudEvent event = CloudEventJsonDecoder.decode(SpecVersion.V1, json).withExtension("ttl", "3000").build();
+        Assert.assertEquals("3000", event.getExtension("ttl"));
+    }
+
+    @Test(expected = Exception.class)
+    public void testRejectDataAndDataBase64() throws Exception {
+        String json = "{\"specversion\":\"1.0\",\"id\":\"id-6\",\"source\":\"/source\",\"type\":\"test\","
+            + "\"data\":\"hello\",\"data_base64\":\"aGVsbG8=\"}";
+        CloudEventJsonDecoder.decode(SpecVersion.V1, json);
+    }
+
+    private CloudEvent assertSameAsJsonFormat(SpecVersion specVersion, String json) throws Exception {
+        CloudEvent expected = jsonFormat.deserialize(json.getBytes(StandardCharsets.UTF_8));
+        CloudEvent actual = CloudEventJsonDecoder.decode(specVersion, json).build();
+        Assert.assertEquals(expected, actual);
+        return actual;
+    }
+}
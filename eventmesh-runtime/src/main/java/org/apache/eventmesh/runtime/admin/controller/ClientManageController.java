@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.admin.controller;
 
 import org.apache.eventmesh.admin.rocketmq.controller.AdminController;
 import org.apache.eventmesh.runtime.admin.handler.ConfigurationHandler;
+import org.apache.eventmesh.runtime.admin.handler.DeadLetterHandler;
 import org.apache.eventmesh.runtime.admin.handler.DeleteWebHookConfigHandler;
 import org.apache.eventmesh.runtime.admin.handler.EventHandler;
 import org.apache.eventmesh.runtime.admin.handler.GrpcClientHandler;
@@ -43,6 +44,7 @@ import org.apache.eventmesh.runtime.admin.handler.TopicHandler;
 import org.apache.eventmesh.runtime.admin.handler.UpdateWebHookConfigHandler;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.webhook.admin.AdminWebHookConfigOperationManager;
@@ -129,6 +131,9 @@ public class ClientManageController {
         new TopicHandler(eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType(), httpHandlerManager);
         new EventHandler(eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType(), httpHandlerManager);
         new RegistryHandler(eventMeshRegistry, httpHandlerManager);
+        if (Objects.nonNull(EventMeshServer.getDeadLetterManager())) {
+            new DeadLetterHandler(EventMeshServer.getDeadLetterManager(), httpHandlerManager);
+        }
 
         if (Objects.nonNull(adminWebHookConfigOperationManage.getWebHookConfigOperation())) {
             WebHookConfigOperation webHookConfigOperation = adminWebHookConfigOperationManage.getWebHookConfigOperation();
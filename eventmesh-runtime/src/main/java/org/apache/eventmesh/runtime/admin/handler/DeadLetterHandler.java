@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.admin.handler;
+
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.runtime.admin.controller.HttpHandlerManager;
+import org.apache.eventmesh.runtime.admin.request.ReplayDeadLetterRequest;
+import org.apache.eventmesh.runtime.admin.response.Error;
+import org.apache.eventmesh.runtime.admin.response.GetDeadLetterResponse;
+import org.apache.eventmesh.runtime.admin.utils.HttpExchangeUtils;
+import org.apache.eventmesh.runtime.common.EventHttpHandler;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterEvent;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The dead-letter handler
+ */
+@Slf4j
+@EventHttpHandler(path = "/deadletter")
+public class DeadLetterHandler extends AbstractHttpHandler {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    /**
+     * Bounds how long a replay request holds the admin thread, replay is rate limited
+     */
+    private static final int MAX_LIMIT = 1000;
+
+    private final DeadLetterManager deadLetterManager;
+
+    public DeadLetterHandler(
+        DeadLetterManager deadLetterManager,
+        HttpHandlerManager httpHandlerManager
+    ) {
+        super(httpHandlerManager);
+        this.deadLetterManager = deadLetterManager;
+    }
+
+    /**
+     * OPTIONS /deadletter
+     */
+    void preflight(HttpExchange httpExchange) throws IOException {
+        httpExchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+        httpExchange.getResponseHeaders().add("Access-Control-Allow-Methods", "*");
+        httpExchange.getResponseHeaders().add("Access-Control-Allow-Headers", "*");
+        httpExchange.getResponseHeaders().add("Access-Control-Max-Age", "86400");
+        httpExchange.sendResponseHeaders(200, 0);
+        OutputStream out = httpExchange.getResponseBody();
+        out.close();
+    }
+
+    private Map<String, String> queryToMap(String query) {
+        Map<String, String> result = new HashMap<>();
+        if (query == null) {
+            return result;
+        }
+        for (String param : query.split("&")) {
+            String[] entry = param.split("=");
+            if (entry.length > 1) {
+                result.put(entry[0], entry[1]);
+            } else {
+                result.put(entry[0], "");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * GET /deadletter?group=&fromId=&limit=
+     * Return the dead-lettered events not replayed yet, of every group if group is absent
+     */
+    void get(HttpExchange httpExchange) {
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+        httpExchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+
+        try (OutputStream out = httpExchange.getResponseBody()) {
+            Map<String, String> queryMap = queryToMap(httpExchange.getRequestURI().getQuery());
+            long fromId = NumberUtils.toLong(queryMap.get("fromId"), 0);
+            int limit = Math.min(NumberUtils.toInt(queryMap.get("limit"), DEFAULT_LIMIT), MAX_LIMIT);
+            List<DeadLetterEvent> deadLetterEvents = deadLetterManager.query(queryMap.get("group"), fromId, limit);
+
+            String result = JsonUtils.toJSONString(toResponse(deadLetterEvents));
+            byte[] bytes = Objects.requireNonNull(result).getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, bytes.length);
+            out.write(bytes);
+        } catch (Exception e) {
+            sendError(httpExchange, e);
+        }
+    }
+
+    /**
+     * POST /deadletter
+     * Replay the dead-lettered events selected like GET to their original topic, return the replayed ones
+     */
+    void post(HttpExchange httpExchange) {
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+        httpExchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+
+        try (OutputStream out = httpExchange.getResponseBody()) {
+            String request = HttpExchangeUtils.streamToString(httpExchange.getRequestBody());
+            ReplayDeadLetterRequest replayRequest = JsonUtils.parseObject(request, ReplayDeadLetterRequest.class);
+            Objects.requireNonNull(replayRequest, "replay request is empty");
+            int limit = replayRequest.getLimit() <= 0 ? DEFAULT_LIMIT : Math.min(replayRequest.getLimit(), MAX_LIMIT);
+            List<DeadLetterEvent> replayed = deadLetterManager.replay(replayRequest.getGroup(), replayRequest.getFromId(), limit);
+
+            String result = JsonUtils.toJSONString(toResponse(replayed));
+            byte[] bytes = Objects.requireNonNull(result).getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, bytes.length);
+            out.write(bytes);
+        } catch (Exception e) {
+            sendError(httpExchange, e);
+        }
+    }
+
+    private List<GetDeadLetterResponse> toResponse(List<DeadLetterEvent> deadLetterEvents) {
+        List<GetDeadLetterResponse> response = new ArrayList<>(deadLetterEvents.size());
+        for (DeadLetterEvent deadLetterEvent : deadLetterEvents) {
+            byte[] serializedEvent = Objects.requireNonNull(EventFormatProvider
+                    .getInstance()
+                    .resolveFormat(JsonFormat.CONTENT_TYPE))
+                .serialize(deadLetterEvent.getEvent());
+            response.add(new GetDeadLetterResponse(deadLetterEvent.getId(), deadLetterEvent.getProtocol(),
+                deadLetterEvent.getGroup(), deadLetterEvent.getTopic(), deadLetterEvent.getReason(), deadLetterEvent.getAttempts(),
+                deadLetterEvent.getFirstAttemptTime(), deadLetterEvent.getDeadTime(),
+                new String(serializedEvent, StandardCharsets.UTF_8)));
+        }
+        return response;
+    }
+
+    private void sendError(HttpExchange httpExchange, Exception e) {
+        try (OutputStream out = httpExchange.getResponseBody()) {
+            StringWriter writer = new StringWriter();
+            PrintWriter printWriter = new PrintWriter(writer);
+            e.printStackTrace(printWriter);
+            printWriter.flush();
+            String stackTrace = writer.toString();
+
+            Error error = new Error(e.toString(), stackTrace);
+            String result = JsonUtils.toJSONString(error);
+            httpExchange.sendResponseHeaders(500, Objects.requireNonNull(result).getBytes().length);
+            out.write(result.getBytes());
+        } catch (IOException ioe) {
+            log.warn("out close failed...", ioe);
+        }
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        if (httpExchange.getRequestMethod().equals("OPTIONS")) {
+            preflight(httpExchange);
+        }
+        if (httpExchange.getRequestMethod().equals("POST")) {
+            post(httpExchange);
+        }
+        if (httpExchange.getRequestMethod().equals("GET")) {
+            get(httpExchange);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.admin.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class GetDeadLetterResponse {
+
+    private long id;
+    private String protocol;
+    private String group;
+    private String topic;
+    private String reason;
+    private int attempts;
+    private long firstAttemptTime;
+    private long deadTime;
+    private String event;
+
+    @JsonCreator
+    public GetDeadLetterResponse(
+        @JsonProperty("id") long id,
+        @JsonProperty("protocol") String protocol,
+        @JsonProperty("group") String group,
+        @JsonProperty("topic") String topic,
+        @JsonProperty("reason") String reason,
+        @JsonProperty("attempts") int attempts,
+        @JsonProperty("firstAttemptTime") long firstAttemptTime,
+        @JsonProperty("deadTime") long deadTime,
+        @JsonProperty("event") String event) {
+
+        super();
+        this.id = id;
+        this.protocol = protocol;
+        this.group = group;
+        this.topic = topic;
+        this.reason = reason;
+        this.attempts = attempts;
+        this.firstAttemptTime = firstAttemptTime;
+        this.deadTime = deadTime;
+        this.event = event;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.audit;
+
+/**
+ * One slot of the {@link MessageAuditor} ring buffer. Slots are allocated once and reused, a slot
+ * is owned by the producer that claimed its sequence until {@link #published} is set.
+ */
+class AuditRecord {
+
+    /**
+     * sequence of the last record written into this slot, -1 before the first write
+     */
+    volatile long published = -1;
+
+    long timestamp;
+
+    String protocol;
+
+    String direction;
+
+    String topic;
+
+    String group;
+
+    String bizSeqNo;
+
+    String uniqueId;
+
+    String client;
+
+    long cost;
+
+    boolean success;
+
+    void clear() {
+        protocol = null;
+        direction = null;
+        topic = null;
+        group = null;
+        bizSeqNo = null;
+        uniqueId = null;
+        client = null;
+    }
+
+    /**
+     * Append the record as one JSON line, the builder is owned by the dispatcher thread.
+     */
+    void writeJson(StringBuilder sb) {
+        sb.append("{\"ts\":").append(timestamp);
+        appendField(sb, "protocol", protocol);
+        appendField(sb, "direction", direction);
+        appendField(sb, "topic", topic);
+        appendField(sb, "group", group);
+        appendField(sb, "bizSeqNo", bizSeqNo);
+        appendField(sb, "uniqueId", uniqueId);
+        appendField(sb, "client", client);
+        sb.append(",\"cost\":").append(cost);
+        sb.append(",\"success\":").append(success);
+        sb.append('}');
+    }
+
+    private static void appendField(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
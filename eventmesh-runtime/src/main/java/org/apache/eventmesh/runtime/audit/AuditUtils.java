@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.audit;
+
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+
+/**
+ * Entry of the protocol servers to the {@link MessageAuditor}, does nothing when auditing is disabled.
+ */
+public class AuditUtils {
+
+    public static final String DIRECTION_CLIENT_TO_EVENTMESH = "c2eventMesh";
+
+    public static final String DIRECTION_EVENTMESH_TO_MQ = "eventMesh2mq";
+
+    public static final String DIRECTION_MQ_TO_EVENTMESH = "mq2eventMesh";
+
+    public static final String DIRECTION_EVENTMESH_TO_CLIENT = "eventMesh2client";
+
+    private AuditUtils() {
+    }
+
+    public static boolean isEnabled() {
+        return EventMeshServer.getMessageAuditor() != null;
+    }
+
+    public static void record(String protocol, String direction, String topic, String group, String bizSeqNo,
+                              String uniqueId, String client, long cost, boolean success) {
+        MessageAuditor auditor = EventMeshServer.getMessageAuditor();
+        if (auditor == null) {
+            return;
+        }
+        auditor.record(protocol, direction, topic, group, bizSeqNo, uniqueId, client, cost, success);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.audit;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Message audit records are written into a lock-free ring buffer by the protocol worker threads and formatted
+ * as JSON lines by a single dispatcher thread. The worker thread never blocks: records are dropped when the
+ * buffer is full, when the topic is not sampled, or when the topic exceeds its records per second cap.
+ */
+@Slf4j
+public class MessageAuditor {
+
+    public static final String AUDIT_LOGGER_NAME = "audit";
+
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger(AUDIT_LOGGER_NAME);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AuditRecord[] ring;
+
+    private final int mask;
+
+    /**
+     * next sequence to be claimed by a producer
+     */
+    private final AtomicLong head = new AtomicLong(0);
+
+    /**
+     * next sequence to be consumed by the dispatcher
+     */
+    private final AtomicLong tail = new AtomicLong(0);
+
+    private final AtomicLong dropped = new AtomicLong(0);
+
+    private final int sampleRate;
+
+    private final int maxRecordsPerSecond;
+
+    private final Map<String, TopicQuota> topicQuotas = new ConcurrentHashMap<>();
+
+    private final Logger sink;
+
+    private Thread dispatcher;
+
+    private volatile boolean running;
+
+    /**
+     * @param bufferSize          ring buffer size, rounded up to a power of two
+     * @param sampleRate          audit one of every sampleRate messages of a topic, 1 audits every message
+     * @param maxRecordsPerSecond records per second cap of a topic, 0 means no cap
+     */
+    public MessageAuditor(int bufferSize, int sampleRate, int maxRecordsPerSecond) {
+        this(bufferSize, sampleRate, maxRecordsPerSecond, AUDIT_LOGGER);
+    }
+
+    MessageAuditor(int bufferSize, int sampleRate, int maxRecordsPerSecond, Logger sink) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.ring = new AuditRecord[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new AuditRecord();
+        }
+        this.mask = capacity - 1;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxRecordsPerSecond = Math.max(0, maxRecordsPerSecond);
+        this.sink = sink;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = new EventMeshThreadFactory("eventMesh-audit-dispatcher", true).newThread(this::dispatch);
+        dispatcher.start();
+        log.info("MessageAuditor started, bufferSize={}, sampleRate={}, maxRecordsPerSecond={}",
+            ring.length, sampleRate, maxRecordsPerSecond);
+    }
+
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("MessageAuditor shutdown, dropped={}", dropped.get());
+    }
+
+    /**
+     * Record one message, never blocks the caller.
+     *
+     * @return true if the record is accepted by the ring buffer
+     */
+    public boolean record(String protocol, String direction, String topic, String group, String bizSeqNo,
+                          String uniqueId, String client, long cost, boolean success) {
+        if (!running || !acquireQuota(topic)) {
+            return false;
+        }
+
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail.get() >= ring.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        AuditRecord record = ring[(int) (sequence & mask)];
+        record.timestamp = System.currentTimeMillis();
+        record.protocol = protocol;
+        record.direction = direction;
+        record.topic = topic;
+        record.group = group;
+        record.bizSeqNo = bizSeqNo;
+        record.uniqueId = uniqueId;
+        record.client = client;
+        record.cost = cost;
+        record.success = success;
+        record.published = sequence;
+        return true;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getPendingSize() {
+        return (int) (head.get() - tail.get());
+    }
+
+    private boolean acquireQuota(String topic) {
+        if (sampleRate == 1 && maxRecordsPerSecond == 0) {
+            return true;
+        }
+        TopicQuota quota = topicQuotas.computeIfAbsent(topic == null ? "" : topic, key -> new TopicQuota());
+        if (sampleRate > 1 && quota.counter.getAndIncrement() % sampleRate != 0) {
+            return false;
+        }
+        if (maxRecordsPerSecond > 0) {
+            long second = System.currentTimeMillis() / 1000;
+            if (quota.windowSecond != second) {
+                quota.windowSecond = second;
+                quota.windowCount.set(0);
+            }
+            return quota.windowCount.incrementAndGet() <= maxRecordsPerSecond;
+        }
+        return true;
+    }
+
+    private void dispatch() {
+        StringBuilder sb = new StringBuilder(256);
+        while (running || tail.get() < head.get()) {
+            long sequence = tail.get();
+            AuditRecord record = ring[(int) (sequence & mask)];
+            if (record.published != sequence) {
+                if (sequence < head.get()) {
+                    // claimed by a producer which is still filling the slot
+                    Thread.yield();
+                } else if (running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else {
+                    break;
+                }
+                continue;
+            }
+            sb.setLength(0);
+            record.writeJson(sb);
+            record.clear();
+            tail.lazySet(sequence + 1);
+            try {
+                sink.info(sb.toString());
+            } catch (Exception e) {
+                log.warn("write audit record failed", e);
+            }
+        }
+    }
+
+    private static class TopicQuota {
+
+        private final AtomicLong counter = new AtomicLong(0);
+
+        private final AtomicInteger windowCount = new AtomicInteger(0);
+
+        private volatile long windowSecond;
+    }
+}
@@ -58,9 +58,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLEngine;
-
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFutureListener;
@@ -90,7 +87,7 @@ import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
 import io.netty.handler.codec.http.multipart.DiskAttribute;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
-import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCountUtil;
@@ -201,7 +198,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                 b.group(this.getBossGroup(), this.getWorkerGroup())
                         .channel(NioServerSocketChannel.class)
                         .childHandler(new HttpsServerInitializer(
-                                useTLS ? SSLContextFactory.getSslContext(eventMeshHttpConfiguration) : null))
+                                useTLS ? SSLContextFactory.getNettySslContext(eventMeshHttpConfiguration) : null))
                         .childOption(ChannelOption.SO_KEEPALIVE, Boolean.TRUE);
 
                 if (log.isInfoEnabled()) {
@@ -690,9 +687,9 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
 
     private class HttpsServerInitializer extends ChannelInitializer<SocketChannel> {
 
-        private final transient SSLContext sslContext;
+        private final transient SslContext sslContext;
 
-        public HttpsServerInitializer(final SSLContext sslContext) {
+        public HttpsServerInitializer(final SslContext sslContext) {
             this.sslContext = sslContext;
         }
 
@@ -701,9 +698,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
             final ChannelPipeline pipeline = channel.pipeline();
 
             if (sslContext != null && useTLS) {
-                final SSLEngine sslEngine = sslContext.createSSLEngine();
-                sslEngine.setUseClientMode(false);
-                pipeline.addFirst("ssl", new SslHandler(sslEngine));
+                pipeline.addFirst("ssl", sslContext.newHandler(channel.alloc()));
             }
 
             pipeline.addLast(new HttpRequestDecoder(),
@@ -20,6 +20,8 @@ package org.apache.eventmesh.runtime.boot;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.config.ConfigChangeListener;
+import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 import org.apache.eventmesh.common.utils.IPUtils;
@@ -34,6 +36,7 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.retry.GrpcRetryer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ConsumerService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.HeartbeatService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ProducerService;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiterManager;
 import org.apache.eventmesh.runtime.metrics.grpc.EventMeshGrpcMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
 
@@ -87,6 +90,10 @@ public class EventMeshGrpcServer {
 
     private RateLimiter msgRateLimiter;
 
+    private ConcurrencyLimiterManager concurrencyLimiterManager;
+
+    private final ConfigChangeListener<EventMeshGrpcConfiguration> configChangeListener = this::onConfigChange;
+
     private final Registry registry;
 
     private final Acl acl;
@@ -110,6 +117,8 @@ public class EventMeshGrpcServer {
         initHttpClientPool();
 
         msgRateLimiter = RateLimiter.create(eventMeshGrpcConfiguration.getEventMeshMsgReqNumPerSecond());
+        concurrencyLimiterManager = new ConcurrencyLimiterManager(EventMeshConstants.PROTOCOL_GRPC, eventMeshGrpcConfiguration);
+        ConfigService.getInstance().addConfigChangeListener(EventMeshGrpcConfiguration.class, eventMeshGrpcConfiguration, configChangeListener);
 
         producerManager = new ProducerManager(this);
         producerManager.init();
@@ -153,6 +162,10 @@ public class EventMeshGrpcServer {
     public void shutdown() throws Exception {
         log.info("---------------EventMeshGRPCServer stopping-------------------");
 
+        ConfigService.getInstance().removeConfigChangeListener(configChangeListener);
+
+        concurrencyLimiterManager.shutdown();
+
         producerManager.shutdown();
         consumerManager.shutdown();
         grpcRetryer.shutdown();
@@ -235,6 +248,10 @@ public class EventMeshGrpcServer {
         return msgRateLimiter;
     }
 
+    public ConcurrencyLimiterManager getConcurrencyLimiterManager() {
+        return concurrencyLimiterManager;
+    }
+
     public CloseableHttpClient getHttpClient() {
         int size = httpClientPool.size();
         return httpClientPool.get(RandomUtils.nextInt(size, 2 * size) % size);
@@ -275,6 +292,41 @@ public class EventMeshGrpcServer {
                 "eventMesh-grpc-replyMsg", true);
     }
 
+    /**
+     * Apply the tunables that can change without a restart: the message rate limit and thread pool sizes.
+     */
+    private void onConfigChange(final EventMeshGrpcConfiguration oldConfig, final EventMeshGrpcConfiguration newConfig) {
+        if (oldConfig.getEventMeshMsgReqNumPerSecond() != newConfig.getEventMeshMsgReqNumPerSecond()) {
+            msgRateLimiter.setRate(newConfig.getEventMeshMsgReqNumPerSecond());
+            eventMeshGrpcConfiguration.setEventMeshMsgReqNumPerSecond(newConfig.getEventMeshMsgReqNumPerSecond());
+            log.info("grpc msg rate limit changed to {}/s", newConfig.getEventMeshMsgReqNumPerSecond());
+        }
+
+        if (resizeThreadPool(sendMsgExecutor, "sendMsg", newConfig.getEventMeshServerSendMsgThreadNum())) {
+            eventMeshGrpcConfiguration.setEventMeshServerSendMsgThreadNum(newConfig.getEventMeshServerSendMsgThreadNum());
+        }
+        if (resizeThreadPool(clientMgmtExecutor, "clientMgmt", newConfig.getEventMeshServerSubscribeMsgThreadNum())) {
+            eventMeshGrpcConfiguration.setEventMeshServerSubscribeMsgThreadNum(newConfig.getEventMeshServerSubscribeMsgThreadNum());
+        }
+        if (resizeThreadPool(pushMsgExecutor, "pushMsg", newConfig.getEventMeshServerPushMsgThreadNum())) {
+            eventMeshGrpcConfiguration.setEventMeshServerPushMsgThreadNum(newConfig.getEventMeshServerPushMsgThreadNum());
+        }
+        if (resizeThreadPool(replyMsgExecutor, "replyMsg", newConfig.getEventMeshServerReplyMsgThreadNum())) {
+            eventMeshGrpcConfiguration.setEventMeshServerReplyMsgThreadNum(newConfig.getEventMeshServerReplyMsgThreadNum());
+        }
+
+        // the retryer checks its queue against the live value on every push
+        eventMeshGrpcConfiguration.setEventMeshServerRetryBlockQueueSize(newConfig.getEventMeshServerRetryBlockQueueSize());
+    }
+
+    private static boolean resizeThreadPool(final ThreadPoolExecutor executor, final String name, final int size) {
+        if (!ThreadPoolFactory.resizeThreadPoolExecutor(executor, size, size)) {
+            return false;
+        }
+        log.info("grpc {} thread pool resized to {}", name, size);
+        return true;
+    }
+
     private void initHttpClientPool() {
         httpClientPool = new LinkedList<>();
         int clientPool = RandomUtils.nextInt(MIN_LIMIT, MAX_LIMIT);
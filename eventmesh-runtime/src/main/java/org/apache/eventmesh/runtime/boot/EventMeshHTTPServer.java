@@ -20,6 +20,8 @@ package org.apache.eventmesh.runtime.boot;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.config.ConfigChangeListener;
+import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.http.common.RequestCode;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
@@ -52,6 +54,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.WebHookProcesso
 import org.apache.eventmesh.runtime.core.protocol.http.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPClientPool;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiterManager;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.webhook.receive.WebHookController;
@@ -110,10 +113,16 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
     public ThreadPoolExecutor webhookExecutor;
 
+    private transient WebHookController webHookController;
+
     private transient RateLimiter msgRateLimiter;
 
     private transient RateLimiter batchRateLimiter;
 
+    private transient ConcurrencyLimiterManager concurrencyLimiterManager;
+
+    private final transient ConfigChangeListener<EventMeshHTTPConfiguration> configChangeListener = this::onConfigChange;
+
     public transient HTTPClientPool httpClientPool = new HTTPClientPool(10);
 
     public EventMeshHTTPServer(final EventMeshServer eventMeshServer,
@@ -219,6 +228,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
         return batchRateLimiter;
     }
 
+    public ConcurrencyLimiterManager getConcurrencyLimiterManager() {
+        return concurrencyLimiterManager;
+    }
+
     public Registry getRegistry() {
         return registry;
     }
@@ -233,6 +246,8 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         msgRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshHttpMsgReqNumPerSecond());
         batchRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshBatchMsgRequestNumPerSecond());
+        concurrencyLimiterManager = new ConcurrencyLimiterManager(EventMeshConstants.PROTOCOL_HTTP, eventMeshHttpConfiguration);
+        ConfigService.getInstance().addConfigChangeListener(EventMeshHTTPConfiguration.class, eventMeshHttpConfiguration, configChangeListener);
 
         // The MetricsRegistry is singleton, so we can use factory method to get.
         final List<MetricsRegistry> metricsRegistries = Lists.newArrayList();
@@ -295,6 +310,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         super.shutdown();
 
+        ConfigService.getInstance().removeConfigChangeListener(configChangeListener);
+
+        concurrencyLimiterManager.shutdown();
+
         this.getMetrics().shutdown();
 
         consumerManager.shutdown();
@@ -307,6 +326,10 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         httpRetryer.shutdown();
 
+        if (webHookController != null) {
+            webHookController.shutdown();
+        }
+
         if (eventMeshHttpConfiguration.isEventMeshServerRegistryEnable()) {
             this.unRegister();
         }
@@ -315,6 +338,55 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
         }
     }
 
+    /**
+     * Apply the tunables that can change without a restart: rate limits and thread pool sizes.
+     */
+    private void onConfigChange(final EventMeshHTTPConfiguration oldConfig, final EventMeshHTTPConfiguration newConfig) {
+        if (oldConfig.getEventMeshHttpMsgReqNumPerSecond() != newConfig.getEventMeshHttpMsgReqNumPerSecond()) {
+            msgRateLimiter.setRate(newConfig.getEventMeshHttpMsgReqNumPerSecond());
+            eventMeshHttpConfiguration.setEventMeshHttpMsgReqNumPerSecond(newConfig.getEventMeshHttpMsgReqNumPerSecond());
+            log.info("http msg rate limit changed to {}/s", newConfig.getEventMeshHttpMsgReqNumPerSecond());
+        }
+        if (oldConfig.getEventMeshBatchMsgRequestNumPerSecond() != newConfig.getEventMeshBatchMsgRequestNumPerSecond()) {
+            batchRateLimiter.setRate(newConfig.getEventMeshBatchMsgRequestNumPerSecond());
+            eventMeshHttpConfiguration.setEventMeshBatchMsgRequestNumPerSecond(newConfig.getEventMeshBatchMsgRequestNumPerSecond());
+            log.info("http batch msg rate limit changed to {}/s", newConfig.getEventMeshBatchMsgRequestNumPerSecond());
+        }
+
+        if (resizeThreadPool(batchMsgExecutor, "batchMsg", newConfig.getEventMeshServerBatchMsgThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerBatchMsgThreadNum(newConfig.getEventMeshServerBatchMsgThreadNum());
+        }
+        if (resizeThreadPool(sendMsgExecutor, "sendMsg", newConfig.getEventMeshServerSendMsgThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerSendMsgThreadNum(newConfig.getEventMeshServerSendMsgThreadNum());
+        }
+        if (resizeThreadPool(remoteMsgExecutor, "remoteMsg", newConfig.getEventMeshServerRemoteMsgThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerRemoteMsgThreadNum(newConfig.getEventMeshServerRemoteMsgThreadNum());
+        }
+        if (resizeThreadPool(pushMsgExecutor, "pushMsg", newConfig.getEventMeshServerPushMsgThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerPushMsgThreadNum(newConfig.getEventMeshServerPushMsgThreadNum());
+        }
+        if (resizeThreadPool(replyMsgExecutor, "replyMsg", newConfig.getEventMeshServerReplyMsgThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerReplyMsgThreadNum(newConfig.getEventMeshServerReplyMsgThreadNum());
+        }
+        if (resizeThreadPool(clientManageExecutor, "clientManage", newConfig.getEventMeshServerClientManageThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerClientManageThreadNum(newConfig.getEventMeshServerClientManageThreadNum());
+        }
+        if (resizeThreadPool(adminExecutor, "admin", newConfig.getEventMeshServerAdminThreadNum())) {
+            eventMeshHttpConfiguration.setEventMeshServerAdminThreadNum(newConfig.getEventMeshServerAdminThreadNum());
+        }
+
+        // the retryer checks its queue against the live value on every push
+        eventMeshHttpConfiguration.setEventMeshServerRetryBlockQSize(newConfig.getEventMeshServerRetryBlockQSize());
+    }
+
+    private static boolean resizeThreadPool(final ThreadPoolExecutor executor, final String name, final int size) {
+        if (!ThreadPoolFactory.resizeThreadPoolExecutor(executor, size, size)) {
+            return false;
+        }
+        log.info("http {} thread pool resized to {}", name, size);
+        return true;
+    }
+
     public boolean register() {
         boolean registerResult = false;
         try {
@@ -405,7 +477,7 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
                 new LinkedBlockingQueue<>(100), "eventMesh-webhook", true);
         final WebHookProcessor webHookProcessor = new WebHookProcessor();
 
-        final WebHookController webHookController = new WebHookController();
+        webHookController = new WebHookController();
         webHookController.init();
         webHookProcessor.setWebHookController(webHookController);
         this.getHandlerService().register(webHookProcessor, webhookExecutor);
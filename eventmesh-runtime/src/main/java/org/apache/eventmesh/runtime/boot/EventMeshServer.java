@@ -17,15 +17,22 @@
 
 package org.apache.eventmesh.runtime.boot;
 
+import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.utils.AssertUtils;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.audit.MessageAuditor;
 import org.apache.eventmesh.runtime.admin.controller.ClientManageController;
 import org.apache.eventmesh.runtime.common.ServiceState;
 import org.apache.eventmesh.runtime.connector.ConnectorResource;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
+import org.apache.eventmesh.runtime.core.protocol.delay.DelayedDeliveryManager;
+import org.apache.eventmesh.runtime.core.protocol.rr.RequestReplyManager;
+import org.apache.eventmesh.runtime.core.protocol.topic.TopicCatalog;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.runtime.trace.Trace;
 
@@ -45,6 +52,18 @@ public class EventMeshServer {
 
     private static Trace trace;
 
+    private static MessageAuditor messageAuditor;
+
+    private static RequestReplyManager requestReplyManager;
+
+    private static DeadLetterManager deadLetterManager;
+
+    private static DedupManager dedupManager;
+
+    private static DelayedDeliveryManager delayedDeliveryManager;
+
+    private static TopicCatalog topicCatalog;
+
     private final ConnectorResource connectorResource;
 
     private ServiceState serviceState;
@@ -66,6 +85,30 @@ public class EventMeshServer {
         this.registry = Registry.getInstance(this.configuration.getEventMeshRegistryPluginType());
 
         trace = Trace.getInstance(this.configuration.getEventMeshTracePluginType(), this.configuration.isEventMeshServerTraceEnable());
+        if (this.configuration.isEventMeshServerAuditEnable()) {
+            messageAuditor = new MessageAuditor(this.configuration.getEventMeshServerAuditBufferSize(),
+                this.configuration.getEventMeshServerAuditSampleRate(), this.configuration.getEventMeshServerAuditMaxRecordsPerSecond());
+        }
+        if (this.configuration.isEventMeshServerRequestReplyEnable()) {
+            requestReplyManager = new RequestReplyManager(this.configuration);
+        }
+        if (this.configuration.isEventMeshServerDeadLetterEnable()) {
+            deadLetterManager = new DeadLetterManager(this.configuration);
+        }
+        if (this.configuration.isEventMeshServerDedupEnable()) {
+            dedupManager = new DedupManager(this.configuration);
+        }
+        if (this.configuration.isEventMeshServerDelayEnable()) {
+            delayedDeliveryManager = new DelayedDeliveryManager(this.configuration);
+        }
+        if (this.configuration.isEventMeshServerWildcardTopicEnable()) {
+            if (ConnectorPluginFactory.getMeshMQAdmin(this.configuration.getEventMeshConnectorPluginType()) == null) {
+                log.warn("connector {} has no admin plugin to list its topics, wildcard topics stay disabled",
+                    this.configuration.getEventMeshConnectorPluginType());
+            } else {
+                topicCatalog = new TopicCatalog(this.configuration);
+            }
+        }
         this.connectorResource = ConnectorResource.getInstance(this.configuration.getEventMeshConnectorPluginType());
 
         final List<String> provideServerProtocols = configuration.getEventMeshProvideServerProtocols();
@@ -93,6 +136,12 @@ public class EventMeshServer {
         if (configuration.isEventMeshServerTraceEnable()) {
             trace.init();
         }
+        if (messageAuditor != null) {
+            messageAuditor.start();
+        }
+        if (requestReplyManager != null) {
+            requestReplyManager.init();
+        }
 
         EventMeshTCPServer eventMeshTCPServer = null;
 
@@ -143,6 +192,18 @@ public class EventMeshServer {
                 registry.start();
             }
         }
+        if (requestReplyManager != null) {
+            requestReplyManager.start();
+        }
+        if (deadLetterManager != null) {
+            deadLetterManager.start();
+        }
+        if (delayedDeliveryManager != null) {
+            delayedDeliveryManager.start();
+        }
+        if (topicCatalog != null) {
+            topicCatalog.start();
+        }
         // server start
         for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
             eventMeshBootstrap.start();
@@ -169,6 +230,22 @@ public class EventMeshServer {
             eventMeshBootstrap.shutdown();
         }
 
+        if (requestReplyManager != null) {
+            requestReplyManager.shutdown();
+        }
+
+        if (deadLetterManager != null) {
+            deadLetterManager.shutdown();
+        }
+
+        if (delayedDeliveryManager != null) {
+            delayedDeliveryManager.shutdown();
+        }
+
+        if (topicCatalog != null) {
+            topicCatalog.shutdown();
+        }
+
         if (configuration != null && configuration.isEventMeshServerRegistryEnable()) {
             registry.shutdown();
         }
@@ -183,6 +260,10 @@ public class EventMeshServer {
             trace.shutdown();
         }
 
+        if (messageAuditor != null) {
+            messageAuditor.shutdown();
+        }
+
         ConfigurationContextUtil.clear();
         serviceState = ServiceState.STOPED;
 
@@ -195,6 +276,48 @@ public class EventMeshServer {
         return trace;
     }
 
+    /**
+     * @return null if message auditing is disabled
+     */
+    public static MessageAuditor getMessageAuditor() {
+        return messageAuditor;
+    }
+
+    /**
+     * @return null if request-reply is left to the connector
+     */
+    public static RequestReplyManager getRequestReplyManager() {
+        return requestReplyManager;
+    }
+
+    /**
+     * @return null if dead-lettering is disabled
+     */
+    public static DeadLetterManager getDeadLetterManager() {
+        return deadLetterManager;
+    }
+
+    /**
+     * @return null if dedup is disabled
+     */
+    public static DedupManager getDedupManager() {
+        return dedupManager;
+    }
+
+    /**
+     * @return null if delayed delivery is disabled
+     */
+    public static DelayedDeliveryManager getDelayedDeliveryManager() {
+        return delayedDeliveryManager;
+    }
+
+    /**
+     * @return null if wildcard topics are disabled
+     */
+    public static TopicCatalog getTopicCatalog() {
+        return topicCatalog;
+    }
+
     public ServiceState getServiceState() {
         return serviceState;
     }
@@ -21,6 +21,8 @@ import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
 import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.config.ConfigChangeListener;
+import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
@@ -31,9 +33,14 @@ import org.apache.eventmesh.metrics.api.MetricsRegistry;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiterManager;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnectionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpExceptionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpMessageDispatcher;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.forward.RegistryForwardPeerResolver;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.forward.TcpForwardClient;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.forward.TcpForwardServer;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshRebalanceService;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventmeshRebalanceImpl;
@@ -42,15 +49,20 @@ import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.webhook.admin.AdminWebHookConfigOperationManager;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.util.Lists;
 
+import io.cloudevents.CloudEvent;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
@@ -59,6 +71,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.traffic.ChannelTrafficShapingHandler;
 import io.netty.handler.traffic.GlobalTrafficShapingHandler;
@@ -86,7 +99,6 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient ExecutorService taskHandleExecutorService;
 
-    private transient ExecutorService broadcastMsgDownstreamExecutorService;
 
     private final transient Registry registry;
 
@@ -98,6 +110,16 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient RateLimiter rateLimiter;
 
+    private transient SslContext sslContext;
+
+    private transient ConcurrencyLimiterManager concurrencyLimiterManager;
+
+    private transient TcpForwardServer tcpForwardServer;
+
+    private transient TcpForwardClient tcpForwardClient;
+
+    private final transient ConfigChangeListener<EventMeshTCPConfiguration> configChangeListener = this::onConfigChange;
+
     public void setClientSessionGroupMapping(final ClientSessionGroupMapping clientSessionGroupMapping) {
         this.clientSessionGroupMapping = clientSessionGroupMapping;
     }
@@ -114,10 +136,6 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         return taskHandleExecutorService;
     }
 
-    public ExecutorService getBroadcastMsgDownstreamExecutorService() {
-        return broadcastMsgDownstreamExecutorService;
-    }
-
     public void setTaskHandleExecutorService(final ExecutorService taskHandleExecutorService) {
         this.taskHandleExecutorService = taskHandleExecutorService;
     }
@@ -130,6 +148,10 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         this.rateLimiter = rateLimiter;
     }
 
+    public ConcurrencyLimiterManager getConcurrencyLimiterManager() {
+        return concurrencyLimiterManager;
+    }
+
 
     public EventMeshTCPServer(final EventMeshServer eventMeshServer, final EventMeshTCPConfiguration eventMeshTCPConfiguration) {
         super();
@@ -145,6 +167,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             ChannelInitializer channelInitializer = new ChannelInitializer() {
                 @Override
                 public void initChannel(final Channel ch) throws Exception {
+                    if (sslContext != null) {
+                        ch.pipeline().addFirst("ssl", sslContext.newHandler(ch.alloc()));
+                    }
                     ch.pipeline()
                             .addLast(new Codec.Encoder())
                             .addLast(new Codec.Decoder())
@@ -206,7 +231,15 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
         rateLimiter = RateLimiter.create(eventMeshTCPConfiguration.getEventMeshTcpMsgReqnumPerSecond());
 
-        globalTrafficShapingHandler = newGTSHandler(scheduler, eventMeshTCPConfiguration.getGtc().getReadLimit());
+        concurrencyLimiterManager = new ConcurrencyLimiterManager(EventMeshConstants.PROTOCOL_TCP, eventMeshTCPConfiguration);
+
+        ConfigService.getInstance().addConfigChangeListener(EventMeshTCPConfiguration.class, eventMeshTCPConfiguration, configChangeListener);
+
+        if (eventMeshTCPConfiguration.isEventMeshTcpServerUseTls()) {
+            sslContext = SSLContextFactory.getNettySslContext(eventMeshTCPConfiguration);
+        }
+
+        globalTrafficShapingHandler = newGTSHandler(scheduler, eventMeshTCPConfiguration.getEventMeshTcpGlobalReadLimit());
 
 
         adminWebHookConfigOperationManage = new AdminWebHookConfigOperationManager();
@@ -232,6 +265,17 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             eventMeshRebalanceService = new EventMeshRebalanceService(this,
                     new EventmeshRebalanceImpl(this));
             eventMeshRebalanceService.init();
+
+            if (eventMeshTCPConfiguration.isEventMeshTcpForwardEnabled()) {
+                tcpForwardServer = new TcpForwardServer(eventMeshTCPConfiguration.getEventMeshTcpForwardPort(),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardConnectionsPerPeer(), this::dispatchForwardedMsg);
+                tcpForwardClient = new TcpForwardClient(new RegistryForwardPeerResolver(this),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardConnectionsPerPeer(),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardBatchSize(),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardLingerInMills(),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardMaxInFlightBatches(),
+                        eventMeshTCPConfiguration.getEventMeshTcpForwardAckTimeoutInMills());
+            }
         }
 
         if (log.isInfoEnabled()) {
@@ -249,6 +293,11 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
         eventMeshTcpMonitor.start();
 
+        if (tcpForwardServer != null) {
+            tcpForwardServer.start();
+            tcpForwardClient.start();
+        }
+
         if (eventMeshTCPConfiguration.isEventMeshServerRegistryEnable()) {
             this.register();
             eventMeshRebalanceService.start();
@@ -266,12 +315,21 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             log.info("shutdown bossGroup, no client is allowed to connect access server");
         }
 
+        ConfigService.getInstance().removeConfigChangeListener(configChangeListener);
+
+        concurrencyLimiterManager.shutdown();
+
         if (eventMeshTCPConfiguration.isEventMeshServerRegistryEnable()) {
             eventMeshRebalanceService.shutdown();
 
             this.unRegister();
         }
 
+        if (tcpForwardServer != null) {
+            tcpForwardClient.shutdown();
+            tcpForwardServer.shutdown();
+        }
+
         clientSessionGroupMapping.shutdown();
         ThreadUtils.sleep(40, TimeUnit.SECONDS);
         globalTrafficShapingHandler.release();
@@ -307,6 +365,12 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             eventMeshRegisterInfo.setEndPoint(endPoints);
             eventMeshRegisterInfo.setEventMeshInstanceNumMap(clientSessionGroupMapping.prepareProxyClientDistributionData());
             eventMeshRegisterInfo.setProtocolType(ConfigurationContextUtil.TCP);
+            if (eventMeshTCPConfiguration.isEventMeshTcpForwardEnabled()) {
+                Map<String, String> metadata = new HashMap<>();
+                metadata.put(RegistryForwardPeerResolver.METADATA_FORWARD_PORT,
+                        String.valueOf(eventMeshTCPConfiguration.getEventMeshTcpForwardPort()));
+                eventMeshRegisterInfo.setMetadata(metadata);
+            }
             registerResult = registry.register(eventMeshRegisterInfo);
         } catch (Exception e) {
             log.error("eventMesh register to registry failed", e);
@@ -340,12 +404,46 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
                 eventMeshTCPConfiguration.getEventMeshTcpTaskHandleExecutorPoolSize(),
                 new LinkedBlockingQueue<>(10_000),
                 new EventMeshThreadFactory("eventMesh-tcp-task-handle", true));
+    }
 
-        broadcastMsgDownstreamExecutorService = ThreadPoolFactory.createThreadPoolExecutor(
-                eventMeshTCPConfiguration.getEventMeshTcpMsgDownStreamExecutorPoolSize(),
-                eventMeshTCPConfiguration.getEventMeshTcpMsgDownStreamExecutorPoolSize(),
-                new LinkedBlockingQueue<>(10_000),
-                new EventMeshThreadFactory("eventMesh-tcp-msg-downstream", true));
+    /**
+     * Apply the tunables that can change without a restart: the message rate limit and thread pool sizes.
+     */
+    private void onConfigChange(final EventMeshTCPConfiguration oldConfig, final EventMeshTCPConfiguration newConfig) {
+        final Integer reqNumPerSecond = newConfig.getEventMeshTcpMsgReqnumPerSecond();
+        if (reqNumPerSecond != null && !reqNumPerSecond.equals(oldConfig.getEventMeshTcpMsgReqnumPerSecond())) {
+            rateLimiter.setRate(reqNumPerSecond);
+            eventMeshTCPConfiguration.setEventMeshTcpMsgReqnumPerSecond(reqNumPerSecond);
+            log.info("tcp msg rate limit changed to {}/s", reqNumPerSecond);
+        }
+
+        final int taskHandlePoolSize = newConfig.getEventMeshTcpTaskHandleExecutorPoolSize();
+        if (resizeThreadPool(taskHandleExecutorService, "taskHandle", taskHandlePoolSize)) {
+            eventMeshTCPConfiguration.setEventMeshTcpTaskHandleExecutorPoolSize(taskHandlePoolSize);
+        }
+
+        final long globalReadLimit = newConfig.getEventMeshTcpGlobalReadLimit();
+        if (globalReadLimit != oldConfig.getEventMeshTcpGlobalReadLimit() && globalTrafficShapingHandler != null) {
+            globalTrafficShapingHandler.configure(0, globalReadLimit);
+            eventMeshTCPConfiguration.setEventMeshTcpGlobalReadLimit(globalReadLimit);
+            log.info("tcp global read limit changed to {}/s", globalReadLimit);
+        }
+
+        // the retryer reads these on every push, so writing them back is enough to apply them
+        eventMeshTCPConfiguration.setEventMeshTcpMsgRetryQueueSize(newConfig.getEventMeshTcpMsgRetryQueueSize());
+        eventMeshTCPConfiguration.setEventMeshTcpMsgAsyncRetryTimes(newConfig.getEventMeshTcpMsgAsyncRetryTimes());
+        eventMeshTCPConfiguration.setEventMeshTcpMsgSyncRetryTimes(newConfig.getEventMeshTcpMsgSyncRetryTimes());
+        eventMeshTCPConfiguration.setEventMeshTcpMsgRetryAsyncDelayInMills(newConfig.getEventMeshTcpMsgRetryAsyncDelayInMills());
+        eventMeshTCPConfiguration.setEventMeshTcpMsgRetrySyncDelayInMills(newConfig.getEventMeshTcpMsgRetrySyncDelayInMills());
+    }
+
+    private static boolean resizeThreadPool(final ExecutorService executor, final String name, final int size) {
+        if (!(executor instanceof ThreadPoolExecutor)
+                || !ThreadPoolFactory.resizeThreadPoolExecutor((ThreadPoolExecutor) executor, size, size)) {
+            return false;
+        }
+        log.info("tcp {} thread pool resized to {}", name, size);
+        return true;
     }
 
     private void shutdownThreadPool() {
@@ -376,6 +474,18 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         return handler;
     }
 
+    private CompletableFuture<Boolean> dispatchForwardedMsg(String group, CloudEvent event) {
+        ClientGroupWrapper clientGroupWrapper = clientSessionGroupMapping.getClientGroupWrapper(group);
+        if (clientGroupWrapper == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return clientGroupWrapper.downstreamForwardedMsg(event);
+    }
+
+    public TcpForwardClient getTcpForwardClient() {
+        return tcpForwardClient;
+    }
+
     public ClientSessionGroupMapping getClientSessionGroupMapping() {
         return clientSessionGroupMapping;
     }
@@ -20,6 +20,7 @@
 package org.apache.eventmesh.runtime.boot;
 
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 
 import org.apache.commons.lang3.StringUtils;
@@ -30,7 +31,6 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -38,37 +38,87 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 
 import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
 
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class SSLContextFactory {
-    private static String protocol = "TLSv1.1";
 
-    private static String fileName;
+    public static SslContext getNettySslContext(final EventMeshHTTPConfiguration eventMeshHttpConfiguration)
+            throws NoSuchAlgorithmException, KeyStoreException, CertificateException, IOException,
+            UnrecoverableKeyException {
+        return getNettySslContext(eventMeshHttpConfiguration.getEventMeshServerSSLProtocol(),
+                eventMeshHttpConfiguration.getEventMeshServerSSLCer(),
+                eventMeshHttpConfiguration.getEventMeshServerSSLPass(),
+                eventMeshHttpConfiguration.getEventMeshServerSSLProvider(),
+                eventMeshHttpConfiguration.getEventMeshServerSSLSessionCacheSize(),
+                eventMeshHttpConfiguration.getEventMeshServerSSLSessionTimeout());
+    }
 
-    private static String password;
+    public static SslContext getNettySslContext(final EventMeshTCPConfiguration eventMeshTcpConfiguration)
+            throws NoSuchAlgorithmException, KeyStoreException, CertificateException, IOException,
+            UnrecoverableKeyException {
+        return getNettySslContext(eventMeshTcpConfiguration.getEventMeshServerSSLProtocol(),
+                eventMeshTcpConfiguration.getEventMeshServerSSLCer(),
+                eventMeshTcpConfiguration.getEventMeshServerSSLPass(),
+                eventMeshTcpConfiguration.getEventMeshServerSSLProvider(),
+                eventMeshTcpConfiguration.getEventMeshServerSSLSessionCacheSize(),
+                eventMeshTcpConfiguration.getEventMeshServerSSLSessionTimeout());
+    }
 
-    public static SSLContext getSslContext(final EventMeshHTTPConfiguration eventMeshHttpConfiguration)
+    /**
+     * Build a server side netty {@link SslContext}. With {@link SslProvider#OPENSSL} the handshake and record
+     * encryption run in netty-tcnative, which also enables stateless session tickets by default; the session cache
+     * settings apply to both providers so that reconnecting clients can resume instead of doing a full handshake.
+     * Falls back to the JDK provider when OpenSSL is requested but the native library is not available.
+     * The protocol may list several versions separated by commas, e.g. {@code TLSv1.3,TLSv1.2}.
+     */
+    public static SslContext getNettySslContext(final String protocol, final String cer, final String password,
+                                                final SslProvider sslProvider, final long sessionCacheSize,
+                                                final long sessionTimeout)
             throws NoSuchAlgorithmException, KeyStoreException, CertificateException, IOException,
-            UnrecoverableKeyException, KeyManagementException {
-        SSLContext sslContext;
+            UnrecoverableKeyException {
+        final KeyManagerFactory kmf = getKeyManagerFactory(cer, password);
+
+        SslProvider provider = sslProvider == null ? SslProvider.JDK : sslProvider;
+        if (provider != SslProvider.JDK && !OpenSsl.isAvailable()) {
+            log.warn("ssl provider {} is not available, fall back to JDK, cause: {}", provider,
+                    OpenSsl.unavailabilityCause() == null ? "" : OpenSsl.unavailabilityCause().getMessage());
+            provider = SslProvider.JDK;
+        }
 
+        final SslContextBuilder builder = SslContextBuilder.forServer(kmf)
+                .sslProvider(provider)
+                .sessionCacheSize(sessionCacheSize)
+                .sessionTimeout(sessionTimeout);
+        if (StringUtils.isNotBlank(protocol)) {
+            builder.protocols(StringUtils.stripAll(StringUtils.split(protocol, ',')));
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("build ssl context|provider={}|protocol={}|sessionCacheSize={}|sessionTimeout={}",
+                    provider, protocol, sessionCacheSize, sessionTimeout);
+        }
+        return builder.build();
+    }
+
+    private static KeyManagerFactory getKeyManagerFactory(final String fileName, final String password)
+            throws NoSuchAlgorithmException, KeyStoreException, CertificateException, IOException,
+            UnrecoverableKeyException {
         try (InputStream inputStream = Files.newInputStream(Paths.get(EventMeshConstants.EVENTMESH_CONF_HOME
                 + File.separator
                 + fileName), StandardOpenOption.READ)) {
-            protocol = eventMeshHttpConfiguration.getEventMeshServerSSLProtocol();
-            fileName = eventMeshHttpConfiguration.getEventMeshServerSSLCer();
-            password = eventMeshHttpConfiguration.getEventMeshServerSSLPass();
-
             char[] filePass = StringUtils.isNotBlank(password) ? password.toCharArray() : new char[0];
             final KeyStore keyStore = KeyStore.getInstance("JKS");
             keyStore.load(inputStream, filePass);
             final KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
             kmf.init(keyStore, filePass);
-
-            sslContext = SSLContext.getInstance(protocol);
-            sslContext.init(kmf.getKeyManagers(), null, null);
+            return kmf;
         }
-
-        return sslContext;
     }
 }
@@ -81,6 +81,9 @@ public class EventMeshGrpcConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "pushmsg.blockQ.size")
     private int eventMeshServerPushMsgBlockQueueSize = 1000;
 
+    @ConfigFiled(field = "pushmsg.pendingQ.size")
+    private int eventMeshServerPushMsgPendingQueueSize = 1000;
+
     @ConfigFiled(field = "clientM.blockQ.size")
     private int eventMeshServerSubscribeMsgBlockQueueSize = 1000;
 
@@ -24,6 +24,8 @@ import org.apache.eventmesh.common.config.ConfigFiled;
 import java.util.Collections;
 import java.util.List;
 
+import io.netty.handler.ssl.SslProvider;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -104,7 +106,7 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
     private boolean eventMeshServerUseTls = false;
 
     @ConfigFiled(field = "ssl.protocol")
-    private String eventMeshServerSSLProtocol = "TLSv1.1";
+    private String eventMeshServerSSLProtocol = "TLSv1.2";
 
     @ConfigFiled(field = "ssl.cer")
     private String eventMeshServerSSLCer = "sChat2.jks";
@@ -112,6 +114,15 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "ssl.pass")
     private String eventMeshServerSSLPass = "sNetty";
 
+    @ConfigFiled(field = "ssl.provider")
+    private SslProvider eventMeshServerSSLProvider = SslProvider.JDK;
+
+    @ConfigFiled(field = "ssl.sessionCacheSize")
+    private long eventMeshServerSSLSessionCacheSize = 0;
+
+    @ConfigFiled(field = "ssl.sessionTimeout")
+    private long eventMeshServerSSLSessionTimeout = 0;
+
     @ConfigFiled(field = "http.msgReqnumPerSecond")
     private int eventMeshHttpMsgReqNumPerSecond = 15000;
 
@@ -21,6 +21,8 @@ import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.common.config.ConfigFiled;
 
+import io.netty.handler.ssl.SslProvider;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -59,9 +61,6 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "tcp.taskHandleExecutorPoolSize")
     private int eventMeshTcpTaskHandleExecutorPoolSize = Runtime.getRuntime().availableProcessors();
 
-    @ConfigFiled(field = "tcp.msgDownStreamExecutorPoolSize")
-    private int eventMeshTcpMsgDownStreamExecutorPoolSize = Math.max(Runtime.getRuntime().availableProcessors(), 8);
-
     @ConfigFiled(field = "session.expiredInMills")
     private int eventMeshTcpSessionExpiredInMills = 60000;
 
@@ -110,7 +109,57 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "maxEventBatchSize")
     private int eventMeshEventBatchSize = 10;
 
-    private final TrafficShapingConfig gtc = new TrafficShapingConfig(0, 10_000, 1_000, 2_000);
+    @ConfigFiled(field = "tcp.useTls.enabled")
+    private boolean eventMeshTcpServerUseTls = false;
+
+    @ConfigFiled(field = "ssl.protocol")
+    private String eventMeshServerSSLProtocol = "TLSv1.2";
+
+    @ConfigFiled(field = "ssl.cer")
+    private String eventMeshServerSSLCer = "sChat2.jks";
+
+    @ConfigFiled(field = "ssl.pass")
+    private String eventMeshServerSSLPass = "sNetty";
+
+    @ConfigFiled(field = "ssl.provider")
+    private SslProvider eventMeshServerSSLProvider = SslProvider.JDK;
+
+    @ConfigFiled(field = "ssl.sessionCacheSize")
+    private long eventMeshServerSSLSessionCacheSize = 0;
+
+    @ConfigFiled(field = "ssl.sessionTimeout")
+    private long eventMeshServerSSLSessionTimeout = 0;
+
+    /**
+     * Forward messages of a group without local session to the gateways its consumers are connected to
+     */
+    @ConfigFiled(field = "tcp.forward.enabled")
+    private boolean eventMeshTcpForwardEnabled = false;
+
+    @ConfigFiled(field = "tcp.forward.port")
+    private int eventMeshTcpForwardPort = 10003;
+
+    @ConfigFiled(field = "tcp.forward.connectionsPerPeer")
+    private int eventMeshTcpForwardConnectionsPerPeer = 2;
+
+    @ConfigFiled(field = "tcp.forward.batchSize")
+    private int eventMeshTcpForwardBatchSize = 64;
+
+    @ConfigFiled(field = "tcp.forward.lingerInMills")
+    private int eventMeshTcpForwardLingerInMills = 2;
+
+    @ConfigFiled(field = "tcp.forward.maxInFlightBatches")
+    private int eventMeshTcpForwardMaxInFlightBatches = 256;
+
+    @ConfigFiled(field = "tcp.forward.ackTimeoutInMills")
+    private int eventMeshTcpForwardAckTimeoutInMills = 10000;
+
+    @ConfigFiled(field = "tcp.forward.peerRefreshInMills")
+    private int eventMeshTcpForwardPeerRefreshInMills = 5000;
+
+    @ConfigFiled(field = "tcp.globalReadLimit")
+    private long eventMeshTcpGlobalReadLimit = 10_000;
+
     private final TrafficShapingConfig ctc = new TrafficShapingConfig(0, 2_000, 1_000, 10_000);
 
     @Data
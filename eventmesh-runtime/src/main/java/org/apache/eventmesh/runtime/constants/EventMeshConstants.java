@@ -129,6 +129,18 @@ public class EventMeshConstants {
 
     public static final String PROPERTY_RR_REQUEST_ID = "RR_REQUEST_UNIQ_ID";
 
+    public static final String PROPERTY_RR_CORRELATION_ID = "rrcorrelationid";  //set by the runtime request-reply
+
+    public static final String PROPERTY_RR_REPLY_TO = "rrreplyto";  //reply topic of the requesting eventMesh
+
+    public static final String PROPERTY_DELIVER_AT = "deliverat";  //epoch millis to deliver a delayed event at
+
+    public static final String PROPERTY_DELAY_MS = "delayms";  //millis to delay an event by, if no deliverat
+
+    public static final String PROPERTY_REDELIVERY = "eventmeshredelivery";  //set on every sendBack or replay, for dedup
+
+    public static final String PROPERTY_REPLAY_GROUP = "eventmeshreplaygroup";  //the only consumer group a replay is for
+
     public static final String LEAVE_TIME = "leave" + Constants.MESSAGE_PROP_SEPARATOR + "time";            //leaveBrokerTime
     public static final String ARRIVE_TIME = "arrive" + Constants.MESSAGE_PROP_SEPARATOR + "time";
     public static final String STORE_TIME = "store" + Constants.MESSAGE_PROP_SEPARATOR + "time";
@@ -45,6 +45,22 @@ public class ConsumerGroupConf implements Serializable {
         return consumerGroupTopicConf;
     }
 
+    /**
+     * An immutable-by-convention copy for a consumer, replacing a serialization round trip. Topic configs that did not
+     * change since {@code previous} are shared with it instead of being copied again.
+     *
+     * @param previous the snapshot the consumer currently runs with, may be null
+     */
+    public ConsumerGroupConf snapshot(ConsumerGroupConf previous) {
+        ConsumerGroupConf snapshot = new ConsumerGroupConf(consumerGroup);
+        consumerGroupTopicConf.forEach((topic, topicConf) -> {
+            ConsumerGroupTopicConf previousTopicConf = previous == null ? null : previous.consumerGroupTopicConf.get(topic);
+            snapshot.consumerGroupTopicConf.put(topic,
+                    topicConf.sameContent(previousTopicConf) ? previousTopicConf : topicConf.copy());
+        });
+        return snapshot;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
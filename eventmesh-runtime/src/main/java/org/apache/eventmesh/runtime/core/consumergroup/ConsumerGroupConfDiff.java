@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumergroup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Difference between two snapshots of a consumer group config, split into what the connector consumer has to act on
+ * (topics to subscribe or unsubscribe) and what only changes where messages are pushed (urls).
+ */
+public class ConsumerGroupConfDiff {
+
+    private final Map<String, ConsumerGroupTopicConf> addedTopics = new HashMap<>();
+
+    private final Map<String, ConsumerGroupTopicConf> removedTopics = new HashMap<>();
+
+    /**
+     * Topics whose subscription item changed, the old conf is kept to unsubscribe with the old mode.
+     */
+    private final Map<String, ConsumerGroupTopicConf> resubscribedTopics = new HashMap<>();
+
+    private final Map<String, Set<String>> addedUrls = new HashMap<>();
+
+    private final Map<String, Set<String>> removedUrls = new HashMap<>();
+
+    private ConsumerGroupConfDiff() {
+    }
+
+    public static ConsumerGroupConfDiff between(ConsumerGroupConf oldConf, ConsumerGroupConf newConf) {
+        Map<String, ConsumerGroupTopicConf> oldTopics = oldConf == null
+                ? Collections.emptyMap() : oldConf.getConsumerGroupTopicConf();
+        Map<String, ConsumerGroupTopicConf> newTopics = newConf == null
+                ? Collections.emptyMap() : newConf.getConsumerGroupTopicConf();
+
+        ConsumerGroupConfDiff diff = new ConsumerGroupConfDiff();
+        oldTopics.forEach((topic, oldTopicConf) -> {
+            if (!newTopics.containsKey(topic)) {
+                diff.removedTopics.put(topic, oldTopicConf);
+            }
+        });
+        newTopics.forEach((topic, newTopicConf) -> {
+            ConsumerGroupTopicConf oldTopicConf = oldTopics.get(topic);
+            if (oldTopicConf == null) {
+                diff.addedTopics.put(topic, newTopicConf);
+                return;
+            }
+            if (oldTopicConf == newTopicConf) {
+                // shared by the snapshots, unchanged
+                return;
+            }
+            if (!Objects.equals(oldTopicConf.getSubscriptionItem(), newTopicConf.getSubscriptionItem())) {
+                diff.resubscribedTopics.put(topic, oldTopicConf);
+            }
+            Set<String> added = new HashSet<>(newTopicConf.getUrls());
+            added.removeAll(oldTopicConf.getUrls());
+            if (!added.isEmpty()) {
+                diff.addedUrls.put(topic, added);
+            }
+            Set<String> removed = new HashSet<>(oldTopicConf.getUrls());
+            removed.removeAll(newTopicConf.getUrls());
+            if (!removed.isEmpty()) {
+                diff.removedUrls.put(topic, removed);
+            }
+        });
+        return diff;
+    }
+
+    public Map<String, ConsumerGroupTopicConf> getAddedTopics() {
+        return addedTopics;
+    }
+
+    public Map<String, ConsumerGroupTopicConf> getRemovedTopics() {
+        return removedTopics;
+    }
+
+    public Map<String, ConsumerGroupTopicConf> getResubscribedTopics() {
+        return resubscribedTopics;
+    }
+
+    public Map<String, Set<String>> getAddedUrls() {
+        return addedUrls;
+    }
+
+    public Map<String, Set<String>> getRemovedUrls() {
+        return removedUrls;
+    }
+
+    /**
+     * @return true if the connector subscriptions stay as they are and only the push targets change
+     */
+    public boolean isUrlOnly() {
+        return addedTopics.isEmpty() && removedTopics.isEmpty() && resubscribedTopics.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "consumerGroupConfDiff={addedTopics=" + addedTopics.keySet()
+                + ",removedTopics=" + removedTopics.keySet()
+                + ",resubscribedTopics=" + resubscribedTopics.keySet()
+                + ",addedUrls=" + addedUrls
+                + ",removedUrls=" + removedUrls + "}";
+    }
+}
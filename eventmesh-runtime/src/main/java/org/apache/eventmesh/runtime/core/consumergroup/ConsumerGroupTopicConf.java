@@ -20,6 +20,7 @@ package org.apache.eventmesh.runtime.core.consumergroup;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +58,32 @@ public class ConsumerGroupTopicConf implements Serializable {
      */
     private final Map<String, String> httpAuthTypeMap = Maps.newConcurrentMap();
 
+    /**
+     * A detached copy whose url collections can be handed to a consumer while this config keeps changing. The
+     * subscription item is shared, it is never modified after subscribing.
+     */
+    public ConsumerGroupTopicConf copy() {
+        final ConsumerGroupTopicConf copy = new ConsumerGroupTopicConf();
+        copy.consumerGroup = consumerGroup;
+        copy.topic = topic;
+        copy.subscriptionItem = subscriptionItem;
+        final Map<String, List<String>> copiedIdcUrls = Maps.newConcurrentMap();
+        idcUrls.forEach((idc, idcUrlList) -> copiedIdcUrls.put(idc, new ArrayList<>(idcUrlList)));
+        copy.idcUrls = copiedIdcUrls;
+        copy.urls = Sets.newConcurrentHashSet(urls);
+        copy.httpAuthTypeMap.putAll(httpAuthTypeMap);
+        return copy;
+    }
+
+    /**
+     * Like {@link #equals(Object)}, but also compares the url set and the auth types, which equals leaves out.
+     */
+    public boolean sameContent(final ConsumerGroupTopicConf other) {
+        return equals(other)
+                && Objects.equals(urls, other.urls)
+                && Objects.equals(httpAuthTypeMap, other.httpAuthTypeMap);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
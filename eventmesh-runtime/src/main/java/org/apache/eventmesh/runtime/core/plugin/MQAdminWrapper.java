@@ -86,6 +86,10 @@ public class MQAdminWrapper extends MQWrapper {
         return meshMQAdmin.getTopic();
     }
 
+    public List<String> getTopicNames() throws Exception {
+        return meshMQAdmin.getTopicNames();
+    }
+
     public void createTopic(String topicName) throws Exception {
         meshMQAdmin.createTopic(topicName);
     }
@@ -21,6 +21,10 @@ import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.consumer.Consumer;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
 
 import java.util.List;
 import java.util.Properties;
@@ -35,6 +39,8 @@ public class MQConsumerWrapper extends MQWrapper {
 
     protected Consumer meshMQPushConsumer;
 
+    private String consumerGroup;
+
     public MQConsumerWrapper(String connectorPluginType) {
         this.meshMQPushConsumer = ConnectorPluginFactory.getMeshMQPushConsumer(connectorPluginType);
         if (meshMQPushConsumer == null) {
@@ -52,7 +58,7 @@ public class MQConsumerWrapper extends MQWrapper {
     }
 
     public synchronized void init(Properties keyValue) throws Exception {
-
+        consumerGroup = keyValue.getProperty(EventMeshConstants.CONSUMER_GROUP);
         meshMQPushConsumer.init(keyValue);
         inited.compareAndSet(false, true);
     }
@@ -69,10 +75,22 @@ public class MQConsumerWrapper extends MQWrapper {
     }
 
     public void registerEventListener(EventListener listener) {
+        DedupManager dedupManager = EventMeshServer.getDedupManager();
+        if (dedupManager != null && consumerGroup != null) {
+            listener = dedupManager.wrap(consumerGroup, listener);
+        }
+        DeadLetterManager deadLetterManager = EventMeshServer.getDeadLetterManager();
+        if (deadLetterManager != null && consumerGroup != null) {
+            listener = deadLetterManager.forGroup(consumerGroup, listener);
+        }
         meshMQPushConsumer.registerEventListener(listener);
     }
 
     public void updateOffset(List<CloudEvent> events, AbstractContext eventMeshConsumeConcurrentlyContext) {
         meshMQPushConsumer.updateOffset(events, eventMeshConsumeConcurrentlyContext);
+        DedupManager dedupManager = EventMeshServer.getDedupManager();
+        if (dedupManager != null && consumerGroup != null) {
+            dedupManager.confirm(consumerGroup, events);
+        }
     }
 }
@@ -19,10 +19,21 @@ package org.apache.eventmesh.runtime.core.plugin;
 
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
 import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.delay.DelayedDeliveryManager;
+import org.apache.eventmesh.runtime.core.protocol.rr.RequestReplyManager;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
 
@@ -77,15 +88,65 @@ public class MQProducerWrapper extends MQWrapper {
     }
 
     public void send(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception {
+        final DelayedDeliveryManager delayedDeliveryManager = EventMeshServer.getDelayedDeliveryManager();
+        if (delayedDeliveryManager != null && delayedDeliveryManager.schedule(cloudEvent, sendCallback)) {
+            return;
+        }
         meshMQProducer.publish(cloudEvent, sendCallback);
     }
 
+    /**
+     * Publish to the connector as is, bypassing delayed delivery, and wait until the connector took the event. For the
+     * events the runtime publishes on its own behalf.
+     */
+    public void publish(CloudEvent cloudEvent, long timeoutMills) throws Exception {
+        CompletableFuture<SendResult> published = new CompletableFuture<>();
+        meshMQProducer.publish(cloudEvent, new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                published.complete(sendResult);
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                published.completeExceptionally(context.getException() != null ? context.getException()
+                    : new IllegalStateException("publish failed, id:" + cloudEvent.getId()));
+            }
+        });
+        try {
+            published.get(timeoutMills, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * @return the init properties of a producer the runtime publishes with on its own behalf
+     */
+    public static Properties internalProducerProperties(String producerGroup, CommonConfiguration configuration) {
+        Properties keyValue = new Properties();
+        keyValue.put(EventMeshConstants.PRODUCER_GROUP, producerGroup);
+        keyValue.put(EventMeshConstants.INSTANCE_NAME,
+            EventMeshUtil.buildMeshClientID(producerGroup, configuration.getEventMeshCluster()));
+        keyValue.put(EventMeshConstants.EVENT_MESH_IDC, configuration.getEventMeshIDC());
+        return keyValue;
+    }
+
     public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout)
             throws Exception {
+        final RequestReplyManager requestReplyManager = EventMeshServer.getRequestReplyManager();
+        if (requestReplyManager != null) {
+            requestReplyManager.request(meshMQProducer, cloudEvent, rrCallback, timeout);
+            return;
+        }
         meshMQProducer.request(cloudEvent, rrCallback, timeout);
     }
 
     public boolean reply(final CloudEvent cloudEvent, final SendCallback sendCallback) throws Exception {
+        final RequestReplyManager requestReplyManager = EventMeshServer.getRequestReplyManager();
+        if (requestReplyManager != null && requestReplyManager.reply(meshMQProducer, cloudEvent, sendCallback)) {
+            return true;
+        }
         return meshMQProducer.reply(cloudEvent, sendCallback);
     }
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.Getter;
+
+/**
+ * An event given up on, with why and after how many attempts.
+ */
+@Getter
+public class DeadLetterEvent {
+
+    /**
+     * Assigned by the store on append, increasing in append order
+     */
+    private final long id;
+
+    private final String protocol;
+
+    private final String group;
+
+    private final String topic;
+
+    private final String reason;
+
+    private final int attempts;
+
+    private final long firstAttemptTime;
+
+    private final long deadTime;
+
+    private final CloudEvent event;
+
+    public DeadLetterEvent(String protocol, String group, CloudEvent event, String reason, int attempts, long firstAttemptTime) {
+        this(-1, protocol, group, event.getSubject(), reason, attempts, firstAttemptTime, System.currentTimeMillis(), event);
+    }
+
+    DeadLetterEvent(long id, String protocol, String group, String topic, String reason, int attempts, long firstAttemptTime,
+                    long deadTime, CloudEvent event) {
+        this.id = id;
+        this.protocol = protocol;
+        this.group = group;
+        this.topic = topic;
+        this.reason = reason;
+        this.attempts = attempts;
+        this.firstAttemptTime = firstAttemptTime;
+        this.deadTime = deadTime;
+        this.event = event;
+    }
+
+    DeadLetterEvent withId(long id) {
+        return new DeadLetterEvent(id, protocol, group, topic, reason, attempts, firstAttemptTime, deadTime, event);
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetterEvent{id=" + id
+            + ",protocol=" + protocol
+            + ",group=" + group
+            + ",topic=" + topic
+            + ",reason=" + reason
+            + ",attempts=" + attempts + '}';
+    }
+}
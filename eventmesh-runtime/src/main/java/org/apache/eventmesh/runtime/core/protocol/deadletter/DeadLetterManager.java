@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQAdminWrapper;
+import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catches the events that retries gave up on, so that a broken consumer only costs retry capacity for a bounded number of
+ * attempts, and replays them on demand at a bounded rate once the consumer is fixed.
+ *
+ * <p>A replay is published to the original topic through the producer plugin and only the consumer group it was
+ * dead-lettered for consumes it, the other groups on the topic commit it right away, see {@link #forGroup}.
+ */
+@Slf4j
+public class DeadLetterManager {
+
+    public static final String STORE_FILE = "file";
+
+    public static final String STORE_TOPIC = "topic";
+
+    public static final String PRODUCER_GROUP = "EventMesh-DeadLetter";
+
+    private static final long PUBLISH_TIMEOUT_MILLS = 10 * 1000;
+
+    private final CommonConfiguration configuration;
+
+    private final DeadLetterStore store;
+
+    private final MQProducerWrapper publisher;
+
+    private final RateLimiter replayLimiter;
+
+    private final LongAdder deadLetterCount = new LongAdder();
+
+    public DeadLetterManager(CommonConfiguration configuration) {
+        this(configuration, new MQProducerWrapper(configuration.getEventMeshConnectorPluginType()));
+    }
+
+    private DeadLetterManager(CommonConfiguration configuration, MQProducerWrapper publisher) {
+        this(configuration, createStore(configuration, publisher), publisher);
+    }
+
+    DeadLetterManager(CommonConfiguration configuration, DeadLetterStore store, MQProducerWrapper publisher) {
+        this.configuration = configuration;
+        this.store = store;
+        this.publisher = publisher;
+        this.replayLimiter = RateLimiter.create(configuration.getEventMeshServerDeadLetterReplayPerSecond());
+    }
+
+    static DeadLetterStore createStore(CommonConfiguration configuration, MQProducerWrapper publisher) {
+        String storeType = configuration.getEventMeshServerDeadLetterStore();
+        if (STORE_TOPIC.equals(storeType)) {
+            if (TopicDeadLetterStore.UNSUPPORTED_CONNECTORS.contains(configuration.getEventMeshConnectorPluginType())) {
+                throw new IllegalArgumentException("dead-letter store topic is not supported by the connector: "
+                    + configuration.getEventMeshConnectorPluginType());
+            }
+            return new TopicDeadLetterStore(configuration.getEventMeshServerDeadLetterTopic(),
+                new MQAdminWrapper(configuration.getEventMeshConnectorPluginType()), publisher);
+        }
+        if (!STORE_FILE.equals(storeType)) {
+            throw new IllegalArgumentException("unknown dead-letter store: " + storeType);
+        }
+        return new FileDeadLetterStore(Paths.get(configuration.getEventMeshServerDeadLetterPath()));
+    }
+
+    public void start() throws Exception {
+        publisher.init(MQProducerWrapper.internalProducerProperties(PRODUCER_GROUP, configuration));
+        publisher.start();
+        store.start();
+        log.info("dead-letter started, store:{}", store.getClass().getSimpleName());
+    }
+
+    public void shutdown() throws Exception {
+        store.shutdown();
+        publisher.shutdown();
+    }
+
+    /**
+     * Keep an event given up on, never throws so that it can be called from any retry path.
+     *
+     * @param firstAttemptTime when the event was first tried
+     */
+    public void deadLetter(String protocol, String group, CloudEvent event, String reason, int attempts, long firstAttemptTime) {
+        DeadLetterEvent deadLetterEvent = new DeadLetterEvent(protocol, group, event, reason, attempts, firstAttemptTime);
+        try {
+            long id = store.append(deadLetterEvent);
+            deadLetterCount.increment();
+            log.warn("dead-letter event, id:{}, {}", id, deadLetterEvent);
+        } catch (Exception e) {
+            log.error("dead-letter event failed, dropped, {}", deadLetterEvent, e);
+        }
+    }
+
+    public List<DeadLetterEvent> query(String group, long fromId, int limit) throws Exception {
+        return store.query(group, fromId, limit);
+    }
+
+    /**
+     * Publish dead-lettered events back to their original topic for the group they were dead-lettered for, at most
+     * replayPerSecond of them per second.
+     *
+     * @return the replayed events, stops at the first one failing to publish
+     * @throws UnsupportedOperationException if the store cannot mark events replayed
+     */
+    public List<DeadLetterEvent> replay(String group, long fromId, int limit) throws Exception {
+        if (!store.isReplayable()) {
+            throw new UnsupportedOperationException("replay is not supported by the dead-letter store: "
+                + store.getClass().getSimpleName());
+        }
+        List<DeadLetterEvent> deadLetterEvents = store.query(group, fromId, limit);
+        for (int i = 0; i < deadLetterEvents.size(); i++) {
+            DeadLetterEvent deadLetterEvent = deadLetterEvents.get(i);
+            replayLimiter.acquire();
+            try {
+                publisher.publish(replayEvent(deadLetterEvent), PUBLISH_TIMEOUT_MILLS);
+            } catch (Exception e) {
+                log.error("replay dead-letter event failed, {}", deadLetterEvent, e);
+                return deadLetterEvents.subList(0, i);
+            }
+            store.markReplayed(deadLetterEvent.getId());
+        }
+        log.info("replayed {} dead-letter events, group:{}, fromId:{}", deadLetterEvents.size(), group, fromId);
+        return deadLetterEvents;
+    }
+
+    static CloudEvent replayEvent(DeadLetterEvent deadLetterEvent) {
+        CloudEvent event = DedupManager.redelivery(deadLetterEvent.getEvent());
+        if (deadLetterEvent.getGroup() == null) {
+            return event;
+        }
+        return CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.PROPERTY_REPLAY_GROUP, deadLetterEvent.getGroup())
+            .build();
+    }
+
+    /**
+     * Commit the replays meant for another consumer group without handing them to the listener, only wrapped while
+     * dead-letter is enabled.
+     */
+    public EventListener forGroup(String group, EventListener listener) {
+        return (event, context) -> {
+            Object replayGroup = event.getExtension(EventMeshConstants.PROPERTY_REPLAY_GROUP);
+            if (replayGroup != null && !group.equals(replayGroup.toString())) {
+                context.commit(EventMeshAction.CommitMessage);
+                return;
+            }
+            listener.consume(event, context);
+        };
+    }
+
+    /**
+     * @return number of events dead-lettered since start
+     */
+    public long getDeadLetterCount() {
+        return deadLetterCount.sum();
+    }
+}
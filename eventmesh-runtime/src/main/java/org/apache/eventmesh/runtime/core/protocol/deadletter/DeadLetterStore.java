@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import java.util.List;
+
+/**
+ * Where dead-lettered events are kept until they are replayed.
+ */
+public interface DeadLetterStore {
+
+    void start() throws Exception;
+
+    void shutdown() throws Exception;
+
+    /**
+     * @return the id assigned to the event
+     */
+    long append(DeadLetterEvent deadLetterEvent) throws Exception;
+
+    /**
+     * @param group  null for every group
+     * @param fromId smallest id to return
+     * @return at most limit events not replayed yet, in id order
+     */
+    List<DeadLetterEvent> query(String group, long fromId, int limit) throws Exception;
+
+    /**
+     * @return false for a store which cannot keep a replayed event from being returned again, replay is rejected on it
+     */
+    boolean isReplayable();
+
+    /**
+     * Keep a replayed event from being returned again.
+     */
+    void markReplayed(long id) throws Exception;
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import org.apache.eventmesh.common.protocol.cloudevents.EventMeshBinaryFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dead-letter store on a local append-only file:
+ * <pre>
+ * | length(4) | type(1) | id(8) | body |
+ * </pre>
+ * An append record carries the event in the EventMesh binary event format, a replayed record has no body and hides the
+ * append record of the same id. Only the file position of live events is kept in memory, the events are read back on query.
+ * A record cut short by a crash is truncated away on start.
+ */
+@Slf4j
+public class FileDeadLetterStore implements DeadLetterStore {
+
+    static final String FILE_NAME = "deadletter.log";
+
+    private static final byte TYPE_APPEND = 1;
+
+    private static final byte TYPE_REPLAYED = 2;
+
+    private static final int HEADER_LENGTH = 4 + 1 + 8;
+
+    private static final EventMeshBinaryFormat FORMAT = new EventMeshBinaryFormat();
+
+    private final Path file;
+
+    /**
+     * id -> position of the append record of every event not replayed yet
+     */
+    private final ConcurrentSkipListMap<Long, Long> positions = new ConcurrentSkipListMap<>();
+
+    private FileChannel channel;
+
+    private long writePosition;
+
+    private long nextId;
+
+    public FileDeadLetterStore(Path dir) {
+        this.file = dir.resolve(FILE_NAME);
+    }
+
+    @Override
+    public synchronized void start() throws Exception {
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+        log.info("dead-letter file store started, file:{}, events:{}", file, positions.size());
+    }
+
+    @Override
+    public synchronized void shutdown() throws Exception {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    @Override
+    public synchronized long append(DeadLetterEvent deadLetterEvent) throws IOException {
+        long id = nextId++;
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(body);
+        writeString(out, deadLetterEvent.getProtocol());
+        writeString(out, deadLetterEvent.getGroup());
+        writeString(out, deadLetterEvent.getTopic());
+        writeString(out, deadLetterEvent.getReason());
+        out.writeInt(deadLetterEvent.getAttempts());
+        out.writeLong(deadLetterEvent.getFirstAttemptTime());
+        out.writeLong(deadLetterEvent.getDeadTime());
+        out.write(FORMAT.serialize(deadLetterEvent.getEvent()));
+        out.flush();
+
+        long position = writeRecord(TYPE_APPEND, id, body.toByteArray());
+        positions.put(id, position);
+        return id;
+    }
+
+    @Override
+    public List<DeadLetterEvent> query(String group, long fromId, int limit) throws IOException {
+        List<DeadLetterEvent> result = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<Long, Long> entry : positions.tailMap(fromId).entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            DeadLetterEvent deadLetterEvent = read(entry.getKey(), entry.getValue());
+            if (group == null || group.equals(deadLetterEvent.getGroup())) {
+                result.add(deadLetterEvent);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return true;
+    }
+
+    @Override
+    public synchronized void markReplayed(long id) throws IOException {
+        if (positions.remove(id) != null) {
+            writeRecord(TYPE_REPLAYED, id, new byte[0]);
+        }
+    }
+
+    int size() {
+        return positions.size();
+    }
+
+    private long writeRecord(byte type, long id, byte[] body) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_LENGTH + body.length);
+        record.putInt(1 + 8 + body.length).put(type).putLong(id).put(body).flip();
+        long position = writePosition;
+        while (record.hasRemaining()) {
+            writePosition += channel.write(record, writePosition);
+        }
+        return position;
+    }
+
+    private DeadLetterEvent read(long id, long position) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        readFully(length, position);
+        ByteBuffer record = ByteBuffer.allocate(length.getInt(0) - 1 - 8);
+        readFully(record, position + HEADER_LENGTH);
+        record.flip();
+        String protocol = readString(record);
+        String group = readString(record);
+        String topic = readString(record);
+        String reason = readString(record);
+        int attempts = record.getInt();
+        long firstAttemptTime = record.getLong();
+        long deadTime = record.getLong();
+        byte[] event = new byte[record.remaining()];
+        record.get(event);
+        return new DeadLetterEvent(id, protocol, group, topic, reason, attempts, firstAttemptTime, deadTime,
+            EventMeshBinaryFormat.decode(event).build());
+    }
+
+    private void recover() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        while (position + HEADER_LENGTH <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            if (length < 1 + 8 || position + 4 + length > size) {
+                break;
+            }
+            long id = header.getLong(5);
+            if (header.get(4) == TYPE_APPEND) {
+                positions.put(id, position);
+            } else {
+                positions.remove(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+            position += 4 + length;
+        }
+        if (position < size) {
+            log.warn("truncate incomplete dead-letter record, file:{}, position:{}, size:{}", file, position, size);
+            channel.truncate(position);
+        }
+        writePosition = position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of dead-letter file at " + position);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
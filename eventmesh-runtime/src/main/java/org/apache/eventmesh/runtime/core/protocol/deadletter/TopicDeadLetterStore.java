@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import org.apache.eventmesh.runtime.core.plugin.MQAdminWrapper;
+import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dead-letter store on a connector topic, so that dead letters survive the eventMesh instance and are shared by the cluster.
+ * The dead-letter details travel as extensions of the event and the id of an event is its offset in the topic. A topic
+ * cannot delete and the instances of the cluster share no replay position, so the store can be queried but not replayed
+ * from, replaying the same events twice would deliver them twice.
+ *
+ * <p>Events are written with the producer plugin and read back with the admin plugin, so the store needs a connector
+ * whose admin plugin reads events by offset. The rocketmq admin plugin does not.
+ */
+@Slf4j
+public class TopicDeadLetterStore implements DeadLetterStore {
+
+    static final String EXT_PROTOCOL = "deadletterprotocol";
+
+    static final String EXT_GROUP = "deadlettergroup";
+
+    static final String EXT_TOPIC = "deadlettertopic";
+
+    static final String EXT_REASON = "deadletterreason";
+
+    static final String EXT_ATTEMPTS = "deadletterattempts";
+
+    static final String EXT_FIRST_ATTEMPT_TIME = "deadletterfirstattempttime";
+
+    static final String EXT_DEAD_TIME = "deadlettertime";
+
+    /**
+     * Connectors whose admin plugin cannot read the events of a topic
+     */
+    static final Set<String> UNSUPPORTED_CONNECTORS = Collections.singleton("rocketmq");
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final long PUBLISH_TIMEOUT_MILLS = 10 * 1000;
+
+    private final String topic;
+
+    private final MQAdminWrapper admin;
+
+    private final MQProducerWrapper producer;
+
+    /**
+     * @param producer started and shut down by the caller
+     */
+    public TopicDeadLetterStore(String topic, MQAdminWrapper admin, MQProducerWrapper producer) {
+        this.topic = topic;
+        this.admin = admin;
+        this.producer = producer;
+    }
+
+    @Override
+    public void start() throws Exception {
+        admin.init(null);
+        admin.start();
+        admin.createTopic(topic);
+        log.info("dead-letter topic store started, topic:{}", topic);
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        admin.shutdown();
+    }
+
+    /**
+     * @return -1, the offset is only known once the event is read back
+     */
+    @Override
+    public long append(DeadLetterEvent deadLetterEvent) throws Exception {
+        CloudEventBuilder builder = CloudEventBuilder.from(deadLetterEvent.getEvent())
+            .withSubject(topic)
+            .withExtension(EXT_TOPIC, deadLetterEvent.getTopic())
+            .withExtension(EXT_ATTEMPTS, String.valueOf(deadLetterEvent.getAttempts()))
+            .withExtension(EXT_FIRST_ATTEMPT_TIME, String.valueOf(deadLetterEvent.getFirstAttemptTime()))
+            .withExtension(EXT_DEAD_TIME, String.valueOf(deadLetterEvent.getDeadTime()));
+        if (deadLetterEvent.getProtocol() != null) {
+            builder.withExtension(EXT_PROTOCOL, deadLetterEvent.getProtocol());
+        }
+        if (deadLetterEvent.getGroup() != null) {
+            builder.withExtension(EXT_GROUP, deadLetterEvent.getGroup());
+        }
+        if (deadLetterEvent.getReason() != null) {
+            builder.withExtension(EXT_REASON, deadLetterEvent.getReason());
+        }
+        producer.publish(builder.build(), PUBLISH_TIMEOUT_MILLS);
+        return -1;
+    }
+
+    @Override
+    public List<DeadLetterEvent> query(String group, long fromId, int limit) throws Exception {
+        List<DeadLetterEvent> result = new ArrayList<>(Math.min(limit, PAGE_SIZE));
+        long offset = Math.max(fromId, 0);
+        while (result.size() < limit) {
+            List<CloudEvent> page = admin.getEvent(topic, (int) offset, PAGE_SIZE);
+            if (page == null) {
+                throw new UnsupportedOperationException("the admin plugin does not read the events of topic: " + topic);
+            }
+            for (CloudEvent event : page) {
+                DeadLetterEvent deadLetterEvent = fromTopicEvent(offset++, event);
+                if (group == null || group.equals(deadLetterEvent.getGroup())) {
+                    result.add(deadLetterEvent);
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    @Override
+    public void markReplayed(long id) {
+        throw new UnsupportedOperationException("the dead-letter topic store cannot mark events replayed");
+    }
+
+    static DeadLetterEvent fromTopicEvent(long offset, CloudEvent event) {
+        String topic = extension(event, EXT_TOPIC);
+        CloudEventBuilder original = CloudEventBuilder.from(event).withSubject(Objects.requireNonNull(topic));
+        for (String name : new String[] {EXT_PROTOCOL, EXT_GROUP, EXT_TOPIC, EXT_REASON, EXT_ATTEMPTS, EXT_FIRST_ATTEMPT_TIME,
+            EXT_DEAD_TIME}) {
+            original.withoutExtension(name);
+        }
+        return new DeadLetterEvent(offset, extension(event, EXT_PROTOCOL), extension(event, EXT_GROUP), topic,
+            extension(event, EXT_REASON), NumberUtils.toInt(extension(event, EXT_ATTEMPTS)),
+            NumberUtils.toLong(extension(event, EXT_FIRST_ATTEMPT_TIME)), NumberUtils.toLong(extension(event, EXT_DEAD_TIME)),
+            original.build());
+    }
+
+    private static String extension(CloudEvent event, String name) {
+        Object value = event.getExtension(name);
+        return value == null ? null : value.toString();
+    }
+}
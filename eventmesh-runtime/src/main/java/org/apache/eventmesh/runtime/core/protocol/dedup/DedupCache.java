@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+/**
+ * Remembers the keys seen during the last window with bounded memory:
+ * <ul>
+ *     <li>An exact LRU of at most capacity keys, split in shards so that concurrent consumers rarely share a lock.</li>
+ *     <li>Two generations of Bloom filters rotated every window, covering the keys the LRU had to evict while they were
+ *     still in the window. It is only asked once a shard evicted such a key, so as long as the LRU holds the window
+ *     there are no false positives at all.</li>
+ * </ul>
+ */
+public class DedupCache {
+
+    private final long windowInMills;
+
+    private final Shard[] shards;
+
+    private final int expectedInsertions;
+
+    private final double fpp;
+
+    private final LongSupplier clock;
+
+    private volatile BloomFilter<CharSequence> currentBloom;
+
+    private volatile BloomFilter<CharSequence> previousBloom;
+
+    private volatile long currentBloomStart;
+
+    public DedupCache(int capacity, int shardNum, long windowInMills, int expectedInsertions, double fpp) {
+        this(capacity, shardNum, windowInMills, expectedInsertions, fpp, System::currentTimeMillis);
+    }
+
+    DedupCache(int capacity, int shardNum, long windowInMills, int expectedInsertions, double fpp, LongSupplier clock) {
+        this.windowInMills = windowInMills;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.clock = clock;
+        int shardCapacity = Math.max(1, capacity / shardNum);
+        this.shards = new Shard[shardNum];
+        for (int i = 0; i < shardNum; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+        this.currentBloom = newBloom();
+        this.previousBloom = newBloom();
+        this.currentBloomStart = clock.getAsLong();
+    }
+
+    /**
+     * Record the key and tell whether it was seen within the window.
+     */
+    public boolean isDuplicate(String key) {
+        long now = clock.getAsLong();
+        rotateIfNeeded(now);
+        Shard shard = shardOf(key);
+        synchronized (shard) {
+            Long seenTime = shard.get(key);
+            if (seenTime != null && now - seenTime < windowInMills) {
+                return true;
+            }
+            boolean mayHaveForgotten = now - shard.lastLiveEvictionTime < windowInMills;
+            if (seenTime != null) {
+                // re-insert so that the insertion order stays the age order
+                shard.remove(key);
+            }
+            shard.now = now;
+            shard.put(key, now);
+            if (mayHaveForgotten && mightContain(key)) {
+                shard.bloomHits++;
+                return true;
+            }
+        }
+        currentBloom.put(key);
+        return false;
+    }
+
+    /**
+     * Tell whether the key was recorded within the window, without recording it.
+     */
+    public boolean contains(String key) {
+        long now = clock.getAsLong();
+        rotateIfNeeded(now);
+        Shard shard = shardOf(key);
+        synchronized (shard) {
+            Long seenTime = shard.get(key);
+            if (seenTime != null && now - seenTime < windowInMills) {
+                return true;
+            }
+            if (now - shard.lastLiveEvictionTime < windowInMills && mightContain(key)) {
+                shard.bloomHits++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record the key as seen now.
+     */
+    public void record(String key) {
+        long now = clock.getAsLong();
+        rotateIfNeeded(now);
+        Shard shard = shardOf(key);
+        synchronized (shard) {
+            shard.remove(key);
+            shard.now = now;
+            shard.put(key, now);
+        }
+        currentBloom.put(key);
+    }
+
+    /**
+     * @return duplicates told by the Bloom filters only, an upper bound of the false positives
+     */
+    public long getBloomHits() {
+        long bloomHits = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                bloomHits += shard.bloomHits;
+            }
+        }
+        return bloomHits;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.size();
+            }
+        }
+        return size;
+    }
+
+    private Shard shardOf(String key) {
+        return shards[(key.hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private boolean mightContain(String key) {
+        return currentBloom.mightContain(key) || previousBloom.mightContain(key);
+    }
+
+    private void rotateIfNeeded(long now) {
+        if (now - currentBloomStart < windowInMills) {
+            return;
+        }
+        synchronized (this) {
+            if (now - currentBloomStart < windowInMills) {
+                return;
+            }
+            previousBloom = currentBloom;
+            currentBloom = newBloom();
+            currentBloomStart = now;
+        }
+    }
+
+    private BloomFilter<CharSequence> newBloom() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+    }
+
+    private class Shard extends LinkedHashMap<String, Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private long now;
+
+        private long lastLiveEvictionTime = Long.MIN_VALUE / 2;
+
+        private long bloomHits;
+
+        Shard(int capacity) {
+            super(16, 0.75f, false);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            if (now - eldest.getValue() < windowInMills) {
+                lastLiveEvictionTime = now;
+            }
+            return true;
+        }
+    }
+}
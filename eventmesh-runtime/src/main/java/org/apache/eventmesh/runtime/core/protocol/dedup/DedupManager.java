@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.dedup;
+
+import org.apache.eventmesh.api.AsyncConsumeContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per consumer group dedup in front of the downstream path of every protocol. Events redelivered by the connector, after a
+ * rebalance or a consumer restart, are committed without being pushed again.
+ *
+ * <p>The key of an event is only recorded once the event is done with, committed by the downstream path or acked by the
+ * client through {@link #confirm(String, List)}. A redelivery of an event that was never acked is pushed again.
+ *
+ * <p>Push retries of an unacked event are not deduplicated, the client may not have received the first push. An event
+ * the runtime publishes again on purpose, sent back to the broker or replayed from dead-letter, goes through
+ * {@link #redelivery(CloudEvent)} so that it is not taken for a duplicate of the first delivery.
+ */
+@Slf4j
+public class DedupManager {
+
+    public static final String KEY_ID = "id";
+
+    private final CommonConfiguration configuration;
+
+    private final Set<String> groups;
+
+    private final String key;
+
+    private final ConcurrentHashMap<String, DedupCache> caches = new ConcurrentHashMap<>();
+
+    private final LongAdder duplicates = new LongAdder();
+
+    public DedupManager(CommonConfiguration configuration) {
+        this.configuration = configuration;
+        this.groups = CollectionUtils.isEmpty(configuration.getEventMeshServerDedupGroups())
+            ? Collections.emptySet() : new HashSet<>(configuration.getEventMeshServerDedupGroups());
+        this.key = configuration.getEventMeshServerDedupKey();
+    }
+
+    /**
+     * @return the listener itself if the group is not deduplicated
+     */
+    public EventListener wrap(String group, EventListener listener) {
+        if (!groups.isEmpty() && !groups.contains(group)) {
+            return listener;
+        }
+        log.info("dedup consumer group:{}, key:{}", group, key);
+        return (event, context) -> {
+            if (isDuplicate(group, event)) {
+                duplicates.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("suppress duplicate event, group:{}, topic:{}, id:{}", group, event.getSubject(), event.getId());
+                }
+                context.commit(EventMeshAction.CommitMessage);
+                return;
+            }
+            listener.consume(event, new ConfirmingContext(group, event, context));
+        };
+    }
+
+    /**
+     * Tell whether the event was already done with, without recording it.
+     */
+    public boolean isDuplicate(String group, CloudEvent event) {
+        String dedupKey = dedupKey(event);
+        if (dedupKey == null) {
+            return false;
+        }
+        return cache(group).contains(event.getSubject() + '/' + dedupKey);
+    }
+
+    /**
+     * Record the events as done with, called once their offset is committed.
+     */
+    public void confirm(String group, List<CloudEvent> events) {
+        if (!groups.isEmpty() && !groups.contains(group)) {
+            return;
+        }
+        for (CloudEvent event : events) {
+            String dedupKey = dedupKey(event);
+            if (dedupKey != null) {
+                cache(group).record(event.getSubject() + '/' + dedupKey);
+            }
+        }
+    }
+
+    /**
+     * Mark a copy of the event as a new delivery of it. The copy has a key of its own, broker duplicates of the copy are
+     * still suppressed.
+     */
+    public static CloudEvent redelivery(CloudEvent event) {
+        return CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.PROPERTY_REDELIVERY, UUID.randomUUID().toString())
+            .build();
+    }
+
+    /**
+     * @return number of suppressed events since start
+     */
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    private DedupCache cache(String group) {
+        return caches.computeIfAbsent(group, g -> new DedupCache(configuration.getEventMeshServerDedupCapacity(),
+            configuration.getEventMeshServerDedupShards(), configuration.getEventMeshServerDedupWindowInMills(),
+            configuration.getEventMeshServerDedupBloomExpectedInsertions(), configuration.getEventMeshServerDedupBloomFpp()));
+    }
+
+    private String dedupKey(CloudEvent event) {
+        String dedupKey;
+        if (KEY_ID.equals(key)) {
+            dedupKey = event.getId();
+        } else {
+            Object value = event.getExtension(key);
+            dedupKey = value == null ? event.getId() : value.toString();
+        }
+        Object redelivery = event.getExtension(EventMeshConstants.PROPERTY_REDELIVERY);
+        return dedupKey == null || redelivery == null ? dedupKey : dedupKey + '#' + redelivery;
+    }
+
+    /**
+     * Records the key when the downstream path commits the event right away. A manual ack is recorded later, when the
+     * client acks and the offset is updated.
+     */
+    private class ConfirmingContext extends EventMeshAsyncConsumeContext {
+
+        private final String group;
+
+        private final CloudEvent event;
+
+        private final AsyncConsumeContext context;
+
+        ConfirmingContext(String group, CloudEvent event, AsyncConsumeContext context) {
+            this.group = group;
+            this.event = event;
+            this.context = context;
+            if (context instanceof EventMeshAsyncConsumeContext) {
+                setAbstractContext(((EventMeshAsyncConsumeContext) context).getAbstractContext());
+            }
+        }
+
+        @Override
+        public void commit(EventMeshAction action) {
+            if (action == EventMeshAction.CommitMessage) {
+                confirm(group, Collections.singletonList(event));
+            }
+            context.commit(action);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.delay;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The segments holding an open file channel, in least recently used order. A segment pushed out beyond maxOpen is handed
+ * to the closer, which closes its channel under the segment lock, never under the lock of this cache.
+ */
+class DelayChannelCache {
+
+    private final int maxOpen;
+
+    private final Consumer<DelaySegment> closer;
+
+    private final LinkedHashMap<DelaySegment, Boolean> open = new LinkedHashMap<>(16, 0.75f, true);
+
+    DelayChannelCache(int maxOpen, Consumer<DelaySegment> closer) {
+        this.maxOpen = Math.max(1, maxOpen);
+        this.closer = closer;
+    }
+
+    synchronized void touch(DelaySegment segment) {
+        open.put(segment, Boolean.TRUE);
+        if (open.size() > maxOpen) {
+            Iterator<DelaySegment> eldest = open.keySet().iterator();
+            DelaySegment evicted = eldest.next();
+            eldest.remove();
+            closer.accept(evicted);
+        }
+    }
+
+    synchronized boolean contains(DelaySegment segment) {
+        return open.containsKey(segment);
+    }
+
+    synchronized void remove(DelaySegment segment) {
+        open.remove(segment);
+    }
+
+    synchronized int size() {
+        return open.size();
+    }
+}
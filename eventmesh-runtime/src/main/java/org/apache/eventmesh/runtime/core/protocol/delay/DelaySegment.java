@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.delay;
+
+import org.apache.eventmesh.common.protocol.cloudevents.EventMeshBinaryFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delayed events whose deliver time falls in one slot, on a local append-only file:
+ * <pre>
+ * | length(4) | type(1) | value(8) | body |
+ * </pre>
+ * A scheduled record carries the deliver time as value and the event in the EventMesh binary event format as body, a
+ * delivered record carries the position of its scheduled record as value and has no body. Only the number of pending
+ * events is kept in memory until the slot comes within the memory horizon and gets loaded onto the timer.
+ * A record cut short by a crash is truncated away on open.
+ *
+ * <p>The file channel is opened on demand and kept in a {@link DelayChannelCache} bounded in size. A segment beyond the
+ * memory horizon is closed once its appends are flushed, it is not read until it gets loaded.
+ */
+@Slf4j
+class DelaySegment {
+
+    static final String SUFFIX = ".delay";
+
+    private static final byte TYPE_SCHEDULED = 1;
+
+    private static final byte TYPE_DELIVERED = 2;
+
+    private static final int HEADER_LENGTH = 4 + 1 + 8;
+
+    private static final EventMeshBinaryFormat FORMAT = new EventMeshBinaryFormat();
+
+    private final Path file;
+
+    private final long slotStart;
+
+    private final long slotEnd;
+
+    private final DelayChannelCache channels;
+
+    private FileChannel channel;
+
+    /**
+     * appended since the last force
+     */
+    private boolean dirty;
+
+    private long writePosition;
+
+    private int pending;
+
+    private boolean loaded;
+
+    private boolean deleted;
+
+    DelaySegment(Path dir, long slotStart, long slotLength, DelayChannelCache channels) {
+        this.file = dir.resolve(String.format("%020d", slotStart) + SUFFIX);
+        this.slotStart = slotStart;
+        this.slotEnd = slotStart + slotLength;
+        this.channels = channels;
+    }
+
+    /**
+     * Count the pending events, the channel is closed again until the segment is used.
+     */
+    synchronized void open() throws IOException {
+        FileChannel fileChannel = channel();
+        long size = fileChannel.size();
+        long position = scan((type, recordPosition, value) -> pending += type == TYPE_SCHEDULED ? 1 : -1);
+        if (position < size) {
+            log.warn("truncate incomplete delay record, file:{}, position:{}, size:{}", file, position, size);
+            fileChannel.truncate(position);
+        }
+        writePosition = position;
+        close();
+    }
+
+    /**
+     * @return position of the record, identifies the event within the segment
+     */
+    synchronized long append(long deliverAt, CloudEvent event) throws IOException {
+        long position = writeRecord(TYPE_SCHEDULED, deliverAt, FORMAT.serialize(event));
+        pending++;
+        return position;
+    }
+
+    /**
+     * Read back the deliver time of every pending event, from now on new events are expected to go on the timer directly.
+     */
+    synchronized List<DelayedEvent> load() throws IOException {
+        Map<Long, Long> scheduled = new LinkedHashMap<>();
+        scan((type, position, value) -> {
+            if (type == TYPE_SCHEDULED) {
+                scheduled.put(position, value);
+            } else {
+                scheduled.remove(value);
+            }
+        });
+        List<DelayedEvent> delayedEvents = new ArrayList<>(scheduled.size());
+        scheduled.forEach((position, deliverAt) -> delayedEvents.add(new DelayedEvent(this, position, deliverAt)));
+        loaded = true;
+        return delayedEvents;
+    }
+
+    /**
+     * Flush the records appended so far to the disk, the lock is not held meanwhile so that appends go on. The channel of
+     * a segment not loaded is closed afterwards.
+     */
+    void force() throws IOException {
+        FileChannel forced;
+        synchronized (this) {
+            if (!dirty || channel == null) {
+                return;
+            }
+            dirty = false;
+            forced = channel;
+        }
+        try {
+            forced.force(false);
+        } catch (ClosedChannelException e) {
+            if (isDeleted()) {
+                return;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            if (!loaded && !dirty && channel == forced) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Close the channel of a segment not loaded without forcing it, when acks do not wait for the disk.
+     */
+    synchronized void closeIfNotLoaded() throws IOException {
+        if (!loaded) {
+            dirty = false;
+            close();
+        }
+    }
+
+    /**
+     * Close the channel if it was pushed out of the channel cache and not used again since.
+     */
+    synchronized void evicted() throws IOException {
+        if (!channels.contains(this)) {
+            closeChannel();
+        }
+    }
+
+    synchronized CloudEvent read(long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        readFully(header, position);
+        ByteBuffer body = ByteBuffer.allocate(header.getInt(0) - 1 - 8);
+        readFully(body, position + HEADER_LENGTH);
+        return EventMeshBinaryFormat.decode(body.array()).build();
+    }
+
+    /**
+     * @return whether no event is pending anymore
+     */
+    synchronized boolean delivered(long position) throws IOException {
+        writeRecord(TYPE_DELIVERED, position, new byte[0]);
+        return --pending == 0;
+    }
+
+    /**
+     * Delete the file once the slot is over and every event of it was delivered.
+     *
+     * @return whether the segment is deleted
+     */
+    synchronized boolean deleteIfDone(long now) throws IOException {
+        if (deleted || !loaded || pending > 0 || now < slotEnd) {
+            return deleted;
+        }
+        dirty = false;
+        close();
+        Files.deleteIfExists(file);
+        deleted = true;
+        return true;
+    }
+
+    synchronized void close() throws IOException {
+        channels.remove(this);
+        closeChannel();
+    }
+
+    long getSlotStart() {
+        return slotStart;
+    }
+
+    synchronized int getPending() {
+        return pending;
+    }
+
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    synchronized boolean isDeleted() {
+        return deleted;
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        channels.touch(this);
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (dirty) {
+                channel.force(false);
+                dirty = false;
+            }
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private long writeRecord(byte type, long value, byte[] body) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_LENGTH + body.length);
+        record.putInt(1 + 8 + body.length).put(type).putLong(value).put(body).flip();
+        FileChannel fileChannel = channel();
+        long position = writePosition;
+        while (record.hasRemaining()) {
+            writePosition += fileChannel.write(record, writePosition);
+        }
+        dirty = true;
+        return position;
+    }
+
+    /**
+     * @return position after the last complete record
+     */
+    private long scan(RecordVisitor visitor) throws IOException {
+        FileChannel fileChannel = channel();
+        long size = fileChannel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        while (position + HEADER_LENGTH <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            if (length < 1 + 8 || position + 4 + length > size) {
+                break;
+            }
+            visitor.visit(header.get(4), position, header.getLong(5));
+            position += 4 + length;
+        }
+        return position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        FileChannel fileChannel = channel();
+        while (buffer.hasRemaining()) {
+            if (fileChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of delay segment " + file + " at " + position);
+            }
+        }
+    }
+
+    private interface RecordVisitor {
+
+        void visit(byte type, long position, long value);
+    }
+}
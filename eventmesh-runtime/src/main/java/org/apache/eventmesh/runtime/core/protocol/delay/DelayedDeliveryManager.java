@@ -0,0 +1,435 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.delay;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.util.HashedWheelTimer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delayed delivery done by the runtime, so that it works with every connector. An event published with a
+ * {@link EventMeshConstants#PROPERTY_DELIVER_AT} or {@link EventMeshConstants#PROPERTY_DELAY_MS} extension is acknowledged
+ * to the producer once it is on disk, and published to the connector when it is due.
+ * <ul>
+ *     <li>Events are appended to a {@link DelaySegment} per slot of deliver time, which is what survives a restart.</li>
+ *     <li>Slots within the memory horizon are loaded onto a timer wheel, holding the segment position of an event only,
+ *     later slots cost nothing but their file until they come within the horizon.</li>
+ *     <li>A delivered event is marked in its segment, a segment is deleted once its slot is over and all of it delivered.</li>
+ *     <li>Appends are forced to the disk by a flush thread, all the events appended while it forces are acked by the next
+ *     force together. Only maxOpenSegments segment files are open at a time.</li>
+ * </ul>
+ * Due events are published through the producer plugin of the connector. A failing publish is retried with a doubling
+ * backoff, an event still failing after maxDeliverAttempts goes to dead-letter. Delivery is at least once, an event
+ * published right before a crash is published again after the restart.
+ */
+@Slf4j
+public class DelayedDeliveryManager {
+
+    public static final String PRODUCER_GROUP = "EventMesh-Delay";
+
+    public static final String DEAD_LETTER_PROTOCOL = "delay";
+
+    private static final long RETRY_DELAY_MILLS = 1000;
+
+    private static final long MAX_RETRY_DELAY_MILLS = 60 * 1000;
+
+    private static final long PUBLISH_TIMEOUT_MILLS = 10 * 1000;
+
+    private final CommonConfiguration configuration;
+
+    private final Path dir;
+
+    private final long segmentMills;
+
+    private final long memoryHorizonMills;
+
+    private final int maxDeliverAttempts;
+
+    private final MQProducerWrapper publisher;
+
+    private final HashedWheelTimer timer;
+
+    private final ScheduledExecutorService loader;
+
+    private final ExecutorService deliverExecutor;
+
+    private final boolean fsync;
+
+    private final ExecutorService flusher;
+
+    private final DelayChannelCache channels;
+
+    /**
+     * appended events waiting for the flush thread to be acked
+     */
+    private final ConcurrentLinkedQueue<Unflushed> unflushed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * slot start -> segment of every slot with pending events
+     */
+    private final ConcurrentSkipListMap<Long, DelaySegment> segments = new ConcurrentSkipListMap<>();
+
+    private final LongAdder pendingCount = new LongAdder();
+
+    private final LongAdder deliveredCount = new LongAdder();
+
+    public DelayedDeliveryManager(CommonConfiguration configuration) {
+        this(configuration, new MQProducerWrapper(configuration.getEventMeshConnectorPluginType()));
+    }
+
+    DelayedDeliveryManager(CommonConfiguration configuration, MQProducerWrapper publisher) {
+        this.configuration = configuration;
+        this.dir = Paths.get(configuration.getEventMeshServerDelayPath());
+        this.segmentMills = configuration.getEventMeshServerDelaySegmentInMills();
+        this.memoryHorizonMills = Math.max(configuration.getEventMeshServerDelayMemoryHorizonInMills(), segmentMills);
+        this.maxDeliverAttempts = Math.max(1, configuration.getEventMeshServerDelayMaxDeliverAttempts());
+        this.publisher = publisher;
+        this.timer = new HashedWheelTimer(new EventMeshThreadFactory("EventMesh-DelayTimer", true),
+            configuration.getEventMeshServerDelayTickInMills(), TimeUnit.MILLISECONDS,
+            (int) Math.min(1 << 16, memoryHorizonMills / configuration.getEventMeshServerDelayTickInMills() + 1));
+        this.loader = Executors.newSingleThreadScheduledExecutor(new EventMeshThreadFactory("EventMesh-DelayLoader", true));
+        this.deliverExecutor = Executors.newFixedThreadPool(configuration.getEventMeshServerDelayDeliverThreads(),
+            new EventMeshThreadFactory("EventMesh-DelayDeliver", true));
+        this.fsync = configuration.isEventMeshServerDelayFsync();
+        this.flusher = Executors.newSingleThreadExecutor(new EventMeshThreadFactory("EventMesh-DelayFlush", true));
+        this.channels = new DelayChannelCache(configuration.getEventMeshServerDelayMaxOpenSegments(), this::closeEvicted);
+    }
+
+    public void start() throws Exception {
+        publisher.init(MQProducerWrapper.internalProducerProperties(PRODUCER_GROUP, configuration));
+        publisher.start();
+        Files.createDirectories(dir);
+        File[] files = dir.toFile().listFiles((d, name) -> name.endsWith(DelaySegment.SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                long slotStart = Long.parseLong(name.substring(0, name.length() - DelaySegment.SUFFIX.length()));
+                DelaySegment segment = new DelaySegment(dir, slotStart, segmentMills, channels);
+                segment.open();
+                segments.put(slotStart, segment);
+                pendingCount.add(segment.getPending());
+            }
+        }
+        loader.scheduleWithFixedDelay(this::loadSegments, 0, Math.min(segmentMills, 1000), TimeUnit.MILLISECONDS);
+        log.info("delayed delivery started, dir:{}, segments:{}, pending:{}", dir, segments.size(), pendingCount.sum());
+    }
+
+    public void shutdown() throws Exception {
+        loader.shutdown();
+        timer.stop();
+        deliverExecutor.shutdown();
+        deliverExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        for (DelaySegment segment : segments.values()) {
+            segment.close();
+        }
+        publisher.shutdown();
+    }
+
+    /**
+     * Keep the event until it is due if it asks to be delayed, the callback is told on the flush thread once the event is
+     * forced to the disk, or right away if fsync is off.
+     *
+     * @return false if the event is to be published right away
+     */
+    public boolean schedule(CloudEvent cloudEvent, SendCallback sendCallback) throws IOException {
+        long now = System.currentTimeMillis();
+        long deliverAt = deliverAt(cloudEvent, now);
+        if (deliverAt <= now) {
+            return false;
+        }
+        long slotStart = deliverAt - deliverAt % segmentMills;
+        DelaySegment appended;
+        while (true) {
+            DelaySegment segment = segments.computeIfAbsent(slotStart, this::openSegment);
+            synchronized (segment) {
+                if (segment.isDeleted()) {
+                    segments.remove(slotStart, segment);
+                    continue;
+                }
+                if (!segment.isLoaded() && slotStart < now + memoryHorizonMills) {
+                    // do not wait for the loader, the event may be due before it runs
+                    segment.load().forEach(this::arm);
+                }
+                long position = segment.append(deliverAt, cloudEvent);
+                pendingCount.increment();
+                if (segment.isLoaded()) {
+                    arm(new DelayedEvent(segment, position, deliverAt));
+                }
+            }
+            appended = segment;
+            break;
+        }
+        if (!fsync) {
+            appended.closeIfNotLoaded();
+            ack(cloudEvent, sendCallback);
+            return true;
+        }
+        unflushed.add(new Unflushed(appended, cloudEvent, sendCallback));
+        flusher.execute(this::flush);
+        return true;
+    }
+
+    /**
+     * @return epoch millis the event asks to be delivered at, 0 if it does not ask to be delayed
+     */
+    static long deliverAt(CloudEvent cloudEvent, long now) {
+        Object deliverAt = cloudEvent.getExtension(EventMeshConstants.PROPERTY_DELIVER_AT);
+        if (deliverAt instanceof OffsetDateTime) {
+            return ((OffsetDateTime) deliverAt).toInstant().toEpochMilli();
+        }
+        if (deliverAt != null) {
+            return parseMills(EventMeshConstants.PROPERTY_DELIVER_AT, deliverAt);
+        }
+        Object delayMs = cloudEvent.getExtension(EventMeshConstants.PROPERTY_DELAY_MS);
+        if (delayMs != null) {
+            return now + parseMills(EventMeshConstants.PROPERTY_DELAY_MS, delayMs);
+        }
+        return 0;
+    }
+
+    private static long parseMills(String name, Object value) {
+        String mills = value.toString();
+        if (!NumberUtils.isDigits(mills)) {
+            throw new IllegalArgumentException(name + " is not a number of millis: " + mills);
+        }
+        return Long.parseLong(mills);
+    }
+
+    /**
+     * @return events stored and not delivered yet
+     */
+    public long getPendingCount() {
+        return pendingCount.sum();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * @return events on the timer wheel, the others are on disk only
+     */
+    long getTimerCount() {
+        return timer.pendingTimeouts();
+    }
+
+    /**
+     * @return segments holding an open file channel
+     */
+    int getOpenSegmentCount() {
+        return channels.size();
+    }
+
+    /**
+     * Force every segment appended to since the last flush once, then ack the events appended before the force.
+     */
+    private void flush() {
+        List<Unflushed> batch = new ArrayList<>();
+        for (Unflushed next = unflushed.poll(); next != null; next = unflushed.poll()) {
+            batch.add(next);
+        }
+        Map<DelaySegment, IOException> forced = new HashMap<>();
+        for (Unflushed next : batch) {
+            if (forced.containsKey(next.segment)) {
+                continue;
+            }
+            IOException failure = null;
+            try {
+                next.segment.force();
+            } catch (IOException e) {
+                log.error("flush delay segment failed, slotStart:{}", next.segment.getSlotStart(), e);
+                failure = e;
+            }
+            forced.put(next.segment, failure);
+        }
+        for (Unflushed next : batch) {
+            IOException failure = forced.get(next.segment);
+            try {
+                if (failure == null) {
+                    ack(next.event, next.sendCallback);
+                } else {
+                    next.sendCallback.onException(OnExceptionContext.builder()
+                        .messageId(next.event.getId())
+                        .topic(next.event.getSubject())
+                        .exception(new ConnectorRuntimeException("flush delayed event failed", failure))
+                        .build());
+                }
+            } catch (Exception e) {
+                log.error("delayed event callback failed, id:{}", next.event.getId(), e);
+            }
+        }
+    }
+
+    private void closeEvicted(DelaySegment segment) {
+        try {
+            flusher.execute(() -> {
+                try {
+                    segment.evicted();
+                } catch (IOException e) {
+                    log.error("close delay segment failed, slotStart:{}", segment.getSlotStart(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // shutting down, every segment is closed anyway
+        }
+    }
+
+    private static void ack(CloudEvent cloudEvent, SendCallback sendCallback) {
+        SendResult sendResult = new SendResult();
+        sendResult.setMessageId(cloudEvent.getId());
+        sendResult.setTopic(cloudEvent.getSubject());
+        sendCallback.onSuccess(sendResult);
+    }
+
+    private DelaySegment openSegment(long slotStart) {
+        DelaySegment segment = new DelaySegment(dir, slotStart, segmentMills, channels);
+        try {
+            segment.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return segment;
+    }
+
+    private void loadSegments() {
+        long now = System.currentTimeMillis();
+        for (DelaySegment segment : segments.headMap(now + memoryHorizonMills).values()) {
+            try {
+                synchronized (segment) {
+                    if (!segment.isLoaded()) {
+                        segment.load().forEach(this::arm);
+                    }
+                    if (segment.deleteIfDone(now)) {
+                        segments.remove(segment.getSlotStart(), segment);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("load delay segment failed, slotStart:{}", segment.getSlotStart(), e);
+            }
+        }
+    }
+
+    private void arm(DelayedEvent delayedEvent) {
+        timer.newTimeout(timeout -> deliverExecutor.execute(() -> deliver(delayedEvent)),
+            delayedEvent.getDeliverAt() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void deliver(DelayedEvent delayedEvent) {
+        DelaySegment segment = delayedEvent.getSegment();
+        CloudEvent event = null;
+        boolean published = false;
+        try {
+            event = CloudEventBuilder.from(segment.read(delayedEvent.getPosition()))
+                .withoutExtension(EventMeshConstants.PROPERTY_DELIVER_AT)
+                .withoutExtension(EventMeshConstants.PROPERTY_DELAY_MS)
+                .build();
+            publisher.publish(event, PUBLISH_TIMEOUT_MILLS);
+            published = true;
+        } catch (Exception e) {
+            if (event == null) {
+                log.error("read delayed event failed, dropped, slotStart:{}, position:{}", segment.getSlotStart(),
+                    delayedEvent.getPosition(), e);
+            } else if (delayedEvent.getAttempts() + 1 < maxDeliverAttempts) {
+                long retryDelay = Math.min(RETRY_DELAY_MILLS << Math.min(delayedEvent.getAttempts(), 16), MAX_RETRY_DELAY_MILLS);
+                log.warn("deliver delayed event failed, retry in {}ms, id:{}, attempts:{}", retryDelay, event.getId(),
+                    delayedEvent.getAttempts() + 1, e);
+                arm(new DelayedEvent(segment, delayedEvent.getPosition(), System.currentTimeMillis() + retryDelay,
+                    delayedEvent.getAttempts() + 1));
+                return;
+            } else {
+                deadLetter(event, delayedEvent, e);
+            }
+        }
+        pendingCount.decrement();
+        if (published) {
+            deliveredCount.increment();
+        }
+        try {
+            synchronized (segment) {
+                if (segment.delivered(delayedEvent.getPosition()) && segment.deleteIfDone(System.currentTimeMillis())) {
+                    segments.remove(segment.getSlotStart(), segment);
+                }
+            }
+        } catch (IOException e) {
+            log.error("mark delayed event delivered failed, slotStart:{}", segment.getSlotStart(), e);
+        }
+    }
+
+    private void deadLetter(CloudEvent event, DelayedEvent delayedEvent, Exception cause) {
+        DeadLetterManager deadLetterManager = EventMeshServer.getDeadLetterManager();
+        if (deadLetterManager == null) {
+            log.error("deliver delayed event failed {} times, dropped, id:{}", maxDeliverAttempts, event.getId(), cause);
+            return;
+        }
+        // no group, a replay goes to every group subscribed to the topic like the original publish
+        deadLetterManager.deadLetter(DEAD_LETTER_PROTOCOL, null, event, "deliver failed: " + cause,
+            delayedEvent.getAttempts() + 1, delayedEvent.getDeliverAt());
+    }
+
+    private static final class Unflushed {
+
+        private final DelaySegment segment;
+
+        private final CloudEvent event;
+
+        private final SendCallback sendCallback;
+
+        Unflushed(DelaySegment segment, CloudEvent event, SendCallback sendCallback) {
+            this.segment = segment;
+            this.event = event;
+            this.sendCallback = sendCallback;
+        }
+    }
+}
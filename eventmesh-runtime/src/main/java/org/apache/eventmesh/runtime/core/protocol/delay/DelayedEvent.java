@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.delay;
+
+import lombok.Getter;
+
+/**
+ * A pending delayed event on the timer, the event itself stays in its segment until it is due.
+ */
+@Getter
+class DelayedEvent {
+
+    private final DelaySegment segment;
+
+    private final long position;
+
+    private final long deliverAt;
+
+    /**
+     * failed attempts to publish the event so far
+     */
+    private final int attempts;
+
+    DelayedEvent(DelaySegment segment, long position, long deliverAt) {
+        this(segment, position, deliverAt, 0);
+    }
+
+    DelayedEvent(DelaySegment segment, long position, long deliverAt, int attempts) {
+        this.segment = segment;
+        this.position = position;
+        this.deliverAt = deliverAt;
+        this.attempts = attempts;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.filter;
+
+import org.apache.eventmesh.common.utils.JsonUtils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import io.cloudevents.CloudEvent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Compiles the filter of a subscription, a JSON expression in the dialects of the CloudEvents Subscriptions API:
+ * <pre>
+ * {"exact": {"type": "order.created"}}
+ * {"prefix": {"source": "/shop/"}}
+ * {"suffix": {"subject": ".png"}}
+ * {"all": [filter, ...]}, {"any": [filter, ...]}, {"not": filter}
+ * {"sql": "type = 'order.created' AND amount > 100"}
+ * </pre>
+ * A JSON array is a shorthand of {@code all}. Attribute names resolve to the context attributes of the event first,
+ * to its extensions otherwise. An expression is parsed once into a tree of evaluators shared by every subscription
+ * with the same expression.
+ */
+public final class EventFilters {
+
+    private static final int MAX_COMPILED = 10000;
+
+    private static final Cache<String, EventFilter> COMPILED = CacheBuilder.newBuilder().maximumSize(MAX_COMPILED).build();
+
+    private EventFilters() {
+    }
+
+    /**
+     * @return {@link EventFilter#MATCH_ALL} if the expression is blank
+     * @throws IllegalArgumentException if the expression is not a valid filter
+     */
+    public static EventFilter compile(String expression) {
+        if (StringUtils.isBlank(expression)) {
+            return EventFilter.MATCH_ALL;
+        }
+        try {
+            return COMPILED.get(expression, () -> compile(parse(expression)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e.getCause();
+            }
+            throw new IllegalArgumentException("invalid filter: " + expression, e.getCause());
+        }
+    }
+
+    private static JsonNode parse(String expression) {
+        try {
+            return JsonUtils.getJsonNode(expression);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("filter is not json: " + expression, e);
+        }
+    }
+
+    private static EventFilter compile(JsonNode node) {
+        if (node.isArray()) {
+            return all(compileEach(node));
+        }
+        if (!node.isObject() || node.size() != 1) {
+            throw new IllegalArgumentException("a filter is an object with one dialect, got: " + node);
+        }
+        Map.Entry<String, JsonNode> dialect = node.fields().next();
+        JsonNode value = dialect.getValue();
+        switch (dialect.getKey().toLowerCase(Locale.ROOT)) {
+            case "exact":
+                return attributes(AttributeFilter.Match.EXACT, value);
+            case "prefix":
+                return attributes(AttributeFilter.Match.PREFIX, value);
+            case "suffix":
+                return attributes(AttributeFilter.Match.SUFFIX, value);
+            case "all":
+                return all(compileEach(nonEmptyArray(dialect.getKey(), value)));
+            case "any":
+                return any(compileEach(nonEmptyArray(dialect.getKey(), value)));
+            case "not":
+                return new NotFilter(compile(value));
+            case "sql":
+                if (!value.isTextual()) {
+                    throw new IllegalArgumentException("sql filter is not a string: " + value);
+                }
+                return SqlFilterParser.parse(value.asText());
+            default:
+                throw new IllegalArgumentException("unknown filter dialect: " + dialect.getKey());
+        }
+    }
+
+    private static JsonNode nonEmptyArray(String dialect, JsonNode value) {
+        if (!value.isArray() || value.size() == 0) {
+            throw new IllegalArgumentException(dialect + " filter is not a non empty array: " + value);
+        }
+        return value;
+    }
+
+    private static List<EventFilter> compileEach(JsonNode array) {
+        List<EventFilter> filters = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            filters.add(compile(node));
+        }
+        return filters;
+    }
+
+    private static EventFilter attributes(AttributeFilter.Match match, JsonNode value) {
+        if (!value.isObject() || value.size() == 0) {
+            throw new IllegalArgumentException(match.name().toLowerCase(Locale.ROOT) + " filter is not an object of attributes: " + value);
+        }
+        List<EventFilter> filters = new ArrayList<>(value.size());
+        for (Iterator<Map.Entry<String, JsonNode>> it = value.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> attribute = it.next();
+            if (!attribute.getValue().isValueNode() || attribute.getValue().isNull()) {
+                throw new IllegalArgumentException("value of attribute " + attribute.getKey() + " is not a string: " + value);
+            }
+            filters.add(new AttributeFilter(match, attribute.getKey(), attribute.getValue().asText()));
+        }
+        return all(filters);
+    }
+
+    static EventFilter all(List<EventFilter> filters) {
+        if (filters.isEmpty()) {
+            return EventFilter.MATCH_ALL;
+        }
+        return filters.size() == 1 ? filters.get(0) : new AllFilter(filters);
+    }
+
+    static EventFilter any(List<EventFilter> filters) {
+        return filters.size() == 1 ? filters.get(0) : new AnyFilter(filters);
+    }
+
+    /**
+     * @return reads the attribute as a string, null if the event does not have it
+     */
+    static Function<CloudEvent, String> attribute(String name) {
+        String attribute = name.toLowerCase(Locale.ROOT);
+        switch (attribute) {
+            case "id":
+                return CloudEvent::getId;
+            case "source":
+                return event -> toString(event.getSource());
+            case "specversion":
+                return event -> toString(event.getSpecVersion());
+            case "type":
+                return CloudEvent::getType;
+            case "datacontenttype":
+                return CloudEvent::getDataContentType;
+            case "dataschema":
+                return event -> toString(event.getDataSchema());
+            case "subject":
+                return CloudEvent::getSubject;
+            case "time":
+                return event -> toString(event.getTime());
+            default:
+                return event -> toString(event.getExtension(attribute));
+        }
+    }
+
+    private static String toString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * exact, prefix or suffix match of one attribute, exact ones are what {@link FilterIndex} hashes on
+     */
+    static final class AttributeFilter implements EventFilter {
+
+        enum Match {
+            EXACT, PREFIX, SUFFIX
+        }
+
+        private final Match match;
+
+        private final String name;
+
+        private final String value;
+
+        private final Function<CloudEvent, String> attribute;
+
+        AttributeFilter(Match match, String name, String value) {
+            this.match = match;
+            this.name = name.toLowerCase(Locale.ROOT);
+            this.value = value;
+            this.attribute = attribute(name);
+        }
+
+        Match getMatch() {
+            return match;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        Function<CloudEvent, String> getAttribute() {
+            return attribute;
+        }
+
+        @Override
+        public boolean matches(CloudEvent event) {
+            String actual = attribute.apply(event);
+            if (actual == null) {
+                return false;
+            }
+            switch (match) {
+                case PREFIX:
+                    return actual.startsWith(value);
+                case SUFFIX:
+                    return actual.endsWith(value);
+                default:
+                    return actual.equals(value);
+            }
+        }
+    }
+
+    static final class AllFilter implements EventFilter {
+
+        private final List<EventFilter> filters;
+
+        AllFilter(List<EventFilter> filters) {
+            this.filters = Collections.unmodifiableList(new ArrayList<>(filters));
+        }
+
+        List<EventFilter> getFilters() {
+            return filters;
+        }
+
+        @Override
+        public boolean matches(CloudEvent event) {
+            for (EventFilter filter : filters) {
+                if (!filter.matches(event)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class AnyFilter implements EventFilter {
+
+        private final List<EventFilter> filters;
+
+        AnyFilter(List<EventFilter> filters) {
+            this.filters = new ArrayList<>(filters);
+        }
+
+        @Override
+        public boolean matches(CloudEvent event) {
+            for (EventFilter filter : filters) {
+                if (filter.matches(event)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class NotFilter implements EventFilter {
+
+        private final EventFilter filter;
+
+        NotFilter(EventFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean matches(CloudEvent event) {
+            return !filter.matches(event);
+        }
+    }
+}
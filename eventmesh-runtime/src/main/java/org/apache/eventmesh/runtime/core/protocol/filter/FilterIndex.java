@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.filter;
+
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters.AllFilter;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters.AttributeFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * The filters of the subscribers of one topic, indexed so that an event is evaluated against candidate filters only.
+ * A filter that requires an exact value of an attribute, alone or within {@code all}, is hashed on that value, only the
+ * rest of such a filter is evaluated and only for the subscribers hashed on the value of the event. Other filters are
+ * evaluated one by one.
+ * <p>
+ * Changes copy the index, so matching never blocks and sees a consistent view of the subscribers.
+ */
+public class FilterIndex<T> {
+
+    private final Map<T, EventFilter> filters = new LinkedHashMap<>();
+
+    private volatile Snapshot<T> snapshot = new Snapshot<>(Collections.emptyMap());
+
+    public synchronized void add(T subscriber, EventFilter filter) {
+        filters.put(subscriber, filter);
+        snapshot = new Snapshot<>(filters);
+    }
+
+    public synchronized void remove(T subscriber) {
+        if (filters.remove(subscriber) != null) {
+            snapshot = new Snapshot<>(filters);
+        }
+    }
+
+    public boolean isEmpty() {
+        return snapshot.size == 0;
+    }
+
+    /**
+     * @return false if every subscriber receives every event
+     */
+    public boolean hasFilters() {
+        return snapshot.hasFilters;
+    }
+
+    public Set<T> matches(CloudEvent event) {
+        Snapshot<T> current = snapshot;
+        if (!current.hasFilters) {
+            return Collections.unmodifiableSet(current.unfiltered);
+        }
+        Set<T> matched = new HashSet<>(current.unfiltered);
+        for (AttributeIndex<T> index : current.exact.values()) {
+            String value = index.attribute.apply(event);
+            List<Candidate<T>> candidates = value == null ? null : index.byValue.get(value);
+            if (candidates != null) {
+                for (Candidate<T> candidate : candidates) {
+                    if (candidate.rest == null || candidate.rest.matches(event)) {
+                        matched.add(candidate.subscriber);
+                    }
+                }
+            }
+        }
+        for (Candidate<T> candidate : current.scanned) {
+            if (candidate.rest.matches(event)) {
+                matched.add(candidate.subscriber);
+            }
+        }
+        return matched;
+    }
+
+    private static final class Snapshot<T> {
+
+        private final int size;
+
+        private final Set<T> unfiltered = new HashSet<>();
+
+        /**
+         * attribute name -> exact values of the attribute
+         */
+        private final Map<String, AttributeIndex<T>> exact = new HashMap<>();
+
+        private final List<Candidate<T>> scanned = new ArrayList<>();
+
+        private final boolean hasFilters;
+
+        private Snapshot(Map<T, EventFilter> filters) {
+            this.size = filters.size();
+            filters.forEach(this::add);
+            this.hasFilters = !exact.isEmpty() || !scanned.isEmpty();
+        }
+
+        private void add(T subscriber, EventFilter filter) {
+            if (filter == EventFilter.MATCH_ALL) {
+                unfiltered.add(subscriber);
+                return;
+            }
+            AttributeFilter key = null;
+            EventFilter rest = null;
+            if (isExact(filter)) {
+                key = (AttributeFilter) filter;
+            } else if (filter instanceof AllFilter) {
+                List<EventFilter> others = new ArrayList<>(((AllFilter) filter).getFilters());
+                for (int i = 0; i < others.size(); i++) {
+                    if (isExact(others.get(i))) {
+                        key = (AttributeFilter) others.remove(i);
+                        break;
+                    }
+                }
+                rest = EventFilters.all(others);
+            }
+            if (key == null) {
+                scanned.add(new Candidate<>(subscriber, filter));
+                return;
+            }
+            Function<CloudEvent, String> attribute = key.getAttribute();
+            exact.computeIfAbsent(key.getName(), name -> new AttributeIndex<>(attribute))
+                .byValue.computeIfAbsent(key.getValue(), value -> new ArrayList<>())
+                .add(new Candidate<>(subscriber, rest == EventFilter.MATCH_ALL ? null : rest));
+        }
+
+        private static boolean isExact(EventFilter filter) {
+            return filter instanceof AttributeFilter && ((AttributeFilter) filter).getMatch() == AttributeFilter.Match.EXACT;
+        }
+    }
+
+    private static final class AttributeIndex<T> {
+
+        private final Function<CloudEvent, String> attribute;
+
+        private final Map<String, List<Candidate<T>>> byValue = new HashMap<>();
+
+        private AttributeIndex(Function<CloudEvent, String> attribute) {
+            this.attribute = attribute;
+        }
+    }
+
+    private static final class Candidate<T> {
+
+        private final T subscriber;
+
+        /**
+         * what is left to evaluate, null if nothing
+         */
+        private final EventFilter rest;
+
+        private Candidate(T subscriber, EventFilter rest) {
+            this.subscriber = subscriber;
+            this.rest = rest;
+        }
+    }
+}
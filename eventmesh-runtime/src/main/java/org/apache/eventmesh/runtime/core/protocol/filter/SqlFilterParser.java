@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.filter;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Parser of the sql dialect, a subset of CloudEvents SQL:
+ * <pre>
+ * expression := or
+ * or         := and (OR and)*
+ * and        := not (AND not)*
+ * not        := NOT not | '(' or ')' | EXISTS attribute | predicate
+ * predicate  := attribute [ (= | != | &lt;&gt; | &lt; | &lt;= | &gt; | &gt;=) literal
+ *                          | [NOT] LIKE string | [NOT] IN '(' literal (, literal)* ')' ]
+ * literal    := 'string' | "string" | number | TRUE | FALSE
+ * </pre>
+ * A comparison with a number literal is numeric, others compare strings. A predicate over an attribute the event does
+ * not have is false, and a bare attribute is true if its value is "true".
+ */
+final class SqlFilterParser {
+
+    private enum Kind {
+        IDENTIFIER, STRING, NUMBER, SYMBOL, END
+    }
+
+    private final String sql;
+
+    private int position;
+
+    private Kind kind;
+
+    private String token;
+
+    private SqlFilterParser(String sql) {
+        this.sql = sql;
+    }
+
+    static EventFilter parse(String sql) {
+        SqlFilterParser parser = new SqlFilterParser(sql);
+        parser.next();
+        EventFilter filter = parser.or();
+        if (parser.kind != Kind.END) {
+            throw parser.error("unexpected " + parser.token);
+        }
+        return filter;
+    }
+
+    private EventFilter or() {
+        List<EventFilter> filters = new ArrayList<>();
+        filters.add(and());
+        while (acceptKeyword("OR")) {
+            filters.add(and());
+        }
+        return EventFilters.any(filters);
+    }
+
+    private EventFilter and() {
+        List<EventFilter> filters = new ArrayList<>();
+        filters.add(not());
+        while (acceptKeyword("AND")) {
+            filters.add(not());
+        }
+        return EventFilters.all(filters);
+    }
+
+    private EventFilter not() {
+        if (acceptKeyword("NOT")) {
+            return new EventFilters.NotFilter(not());
+        }
+        if (acceptSymbol("(")) {
+            EventFilter filter = or();
+            expectSymbol(")");
+            return filter;
+        }
+        if (acceptKeyword("EXISTS")) {
+            Function<CloudEvent, String> attribute = EventFilters.attribute(identifier());
+            return event -> attribute.apply(event) != null;
+        }
+        return predicate();
+    }
+
+    private EventFilter predicate() {
+        String name = identifier();
+        Function<CloudEvent, String> attribute = EventFilters.attribute(name);
+        boolean negated = acceptKeyword("NOT");
+        if (acceptKeyword("LIKE")) {
+            if (kind != Kind.STRING) {
+                throw error("LIKE expects a string, got " + token);
+            }
+            Pattern pattern = like(token);
+            next();
+            return event -> {
+                String value = attribute.apply(event);
+                return value != null && pattern.matcher(value).matches() != negated;
+            };
+        }
+        if (acceptKeyword("IN")) {
+            expectSymbol("(");
+            List<Literal> literals = new ArrayList<>();
+            do {
+                literals.add(literal());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            return event -> {
+                String value = attribute.apply(event);
+                if (value == null) {
+                    return false;
+                }
+                for (Literal literal : literals) {
+                    if (literal.equalTo(value)) {
+                        return !negated;
+                    }
+                }
+                return negated;
+            };
+        }
+        if (negated) {
+            throw error("NOT expects LIKE or IN, got " + token);
+        }
+        if (kind != Kind.SYMBOL || "(".equals(token) || ")".equals(token) || ",".equals(token)) {
+            return event -> "true".equalsIgnoreCase(attribute.apply(event));
+        }
+        String operator = token;
+        next();
+        Literal literal = literal();
+        switch (operator) {
+            case "=":
+                if (literal.number == null && !literal.bool) {
+                    return new EventFilters.AttributeFilter(EventFilters.AttributeFilter.Match.EXACT, name, literal.value);
+                }
+                return event -> {
+                    String value = attribute.apply(event);
+                    return value != null && literal.equalTo(value);
+                };
+            case "!=":
+            case "<>":
+                return event -> {
+                    String value = attribute.apply(event);
+                    return value != null && !literal.equalTo(value);
+                };
+            case "<":
+                return compare(attribute, literal, c -> c < 0);
+            case "<=":
+                return compare(attribute, literal, c -> c <= 0);
+            case ">":
+                return compare(attribute, literal, c -> c > 0);
+            case ">=":
+                return compare(attribute, literal, c -> c >= 0);
+            default:
+                throw error("unknown operator " + operator);
+        }
+    }
+
+    private static EventFilter compare(Function<CloudEvent, String> attribute, Literal literal, IntPredicate predicate) {
+        return event -> {
+            String value = attribute.apply(event);
+            if (value == null) {
+                return false;
+            }
+            Integer comparison = literal.compareFrom(value);
+            return comparison != null && predicate.test(comparison);
+        };
+    }
+
+    private Literal literal() {
+        Literal literal;
+        switch (kind) {
+            case STRING:
+                literal = new Literal(token, null, false);
+                break;
+            case NUMBER:
+                literal = new Literal(token, Double.parseDouble(token), false);
+                break;
+            case IDENTIFIER:
+                if ("TRUE".equalsIgnoreCase(token) || "FALSE".equalsIgnoreCase(token)) {
+                    literal = new Literal(token.toLowerCase(Locale.ROOT), null, true);
+                    break;
+                }
+                throw error("expected a literal, got " + token);
+            default:
+                throw error("expected a literal, got " + token);
+        }
+        next();
+        return literal;
+    }
+
+    private String identifier() {
+        if (kind != Kind.IDENTIFIER) {
+            throw error("expected an attribute, got " + token);
+        }
+        String identifier = token;
+        next();
+        return identifier;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (kind == Kind.IDENTIFIER && keyword.equalsIgnoreCase(token)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        if (kind == Kind.SYMBOL && symbol.equals(token)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw error("expected " + symbol + ", got " + token);
+        }
+    }
+
+    private void next() {
+        while (position < sql.length() && Character.isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+        if (position >= sql.length()) {
+            kind = Kind.END;
+            token = "end of expression";
+            return;
+        }
+        int start = position;
+        char c = sql.charAt(position);
+        if (c == '\'' || c == '"') {
+            StringBuilder value = new StringBuilder();
+            position++;
+            while (true) {
+                if (position >= sql.length()) {
+                    throw error("unterminated string");
+                }
+                char ch = sql.charAt(position++);
+                if (ch == c) {
+                    if (position < sql.length() && sql.charAt(position) == c) {
+                        value.append(c);
+                        position++;
+                        continue;
+                    }
+                    break;
+                }
+                value.append(ch);
+            }
+            kind = Kind.STRING;
+            token = value.toString();
+        } else if (Character.isDigit(c) || c == '-' && position + 1 < sql.length() && Character.isDigit(sql.charAt(position + 1))) {
+            position++;
+            while (position < sql.length() && (Character.isDigit(sql.charAt(position)) || sql.charAt(position) == '.')) {
+                position++;
+            }
+            kind = Kind.NUMBER;
+            token = sql.substring(start, position);
+            if (!NumberUtils.isCreatable(token)) {
+                throw error("invalid number " + token);
+            }
+        } else if (Character.isLetter(c) || c == '_') {
+            while (position < sql.length() && (Character.isLetterOrDigit(sql.charAt(position)) || sql.charAt(position) == '_')) {
+                position++;
+            }
+            kind = Kind.IDENTIFIER;
+            token = sql.substring(start, position);
+        } else {
+            String two = position + 1 < sql.length() ? sql.substring(position, position + 2) : "";
+            if ("!=".equals(two) || "<>".equals(two) || "<=".equals(two) || ">=".equals(two)) {
+                position += 2;
+            } else if ("=<>(),".indexOf(c) >= 0) {
+                position++;
+            } else {
+                throw error("unexpected character " + c);
+            }
+            kind = Kind.SYMBOL;
+            token = sql.substring(start, position);
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("invalid sql filter at " + position + ", " + message + ": " + sql);
+    }
+
+    /**
+     * @return the LIKE pattern, % for any characters, _ for one, \ to escape the next
+     */
+    private static Pattern like(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static final class Literal {
+
+        private final String value;
+
+        private final Double number;
+
+        private final boolean bool;
+
+        private Literal(String value, Double number, boolean bool) {
+            this.value = value;
+            this.number = number;
+            this.bool = bool;
+        }
+
+        private boolean equalTo(String actual) {
+            if (number != null) {
+                double parsed = NumberUtils.toDouble(actual, Double.NaN);
+                return !Double.isNaN(parsed) && parsed == number;
+            }
+            return bool ? value.equalsIgnoreCase(actual) : value.equals(actual);
+        }
+
+        /**
+         * @return the sign of actual compared to this literal, null if actual is not a number and this literal is
+         */
+        private Integer compareFrom(String actual) {
+            if (number != null) {
+                double parsed = NumberUtils.toDouble(actual, Double.NaN);
+                return Double.isNaN(parsed) ? null : Double.compare(parsed, number);
+            }
+            return actual.compareTo(value);
+        }
+    }
+}
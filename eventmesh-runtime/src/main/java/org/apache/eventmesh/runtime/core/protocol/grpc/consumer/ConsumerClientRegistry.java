@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.consumer;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the gRPC consumer group clients, indexed per consumer group by client identity, by heartbeat key and by
+ * topic so that subscribe, heartbeat and unsubscribe are map lookups instead of scans over the group.
+ *
+ * <p>Lookups are lock free. Updates lock only the consumer group they touch, so clients of different groups never
+ * contend with each other.
+ */
+class ConsumerClientRegistry {
+
+    // key: ConsumerGroup
+    private final Map<String, GroupClients> groups = new ConcurrentHashMap<>();
+
+    /**
+     * Add the client, or refresh the registered client with the same identity.
+     *
+     * @return the registered client, which is {@code newClient} itself if it was not registered yet
+     */
+    ConsumerGroupClient upsert(final ConsumerGroupClient newClient) {
+        final List<Object> identity = identityOf(newClient);
+        while (true) {
+            final GroupClients group = groups.computeIfAbsent(newClient.getConsumerGroup(), key -> new GroupClients());
+            synchronized (group) {
+                if (group.removed) {
+                    // emptied and dropped concurrently, retry with a fresh group
+                    continue;
+                }
+                final ConsumerGroupClient localClient = group.byIdentity.get(identity);
+                if (localClient != null) {
+                    if (GrpcType.WEBHOOK == newClient.getGrpcType()) {
+                        localClient.setUrl(newClient.getUrl());
+                    } else {
+                        localClient.setEventEmitter(newClient.getEventEmitter());
+                    }
+                    localClient.setLastUpTime(newClient.getLastUpTime());
+                    return localClient;
+                }
+                group.add(identity, newClient);
+                return newClient;
+            }
+        }
+    }
+
+    /**
+     * Refresh the last update time of the clients matching the heartbeat.
+     *
+     * @return false if no client matches
+     */
+    boolean touch(final ConsumerGroupClient heartbeatClient) {
+        final GroupClients group = groups.get(heartbeatClient.getConsumerGroup());
+        if (group == null) {
+            return false;
+        }
+        final Set<ConsumerGroupClient> clients = group.byHeartbeat.get(heartbeatKeyOf(heartbeatClient));
+        if (clients == null || clients.isEmpty()) {
+            return false;
+        }
+        final Date now = new Date();
+        clients.forEach(client -> client.setLastUpTime(now));
+        return true;
+    }
+
+    /**
+     * Remove every client of the group subscribed to the topic with the given mode.
+     *
+     * @return the removed clients
+     */
+    List<ConsumerGroupClient> removeByTopic(final String consumerGroup, final String topic, final SubscriptionMode mode) {
+        final GroupClients group = groups.get(consumerGroup);
+        if (group == null) {
+            return Collections.emptyList();
+        }
+        final List<ConsumerGroupClient> removed = new ArrayList<>();
+        synchronized (group) {
+            final Set<ConsumerGroupClient> clients = group.byTopic.get(topic);
+            if (clients == null) {
+                return Collections.emptyList();
+            }
+            for (final ConsumerGroupClient client : new ArrayList<>(clients)) {
+                if (client.getSubscriptionMode() == mode) {
+                    group.remove(client);
+                    removed.add(client);
+                }
+            }
+            dropIfEmpty(consumerGroup, group);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove exactly this client instance.
+     *
+     * @return false if the client is no longer registered
+     */
+    boolean remove(final ConsumerGroupClient client) {
+        final GroupClients group = groups.get(client.getConsumerGroup());
+        if (group == null) {
+            return false;
+        }
+        synchronized (group) {
+            if (group.byIdentity.get(identityOf(client)) != client) {
+                return false;
+            }
+            group.remove(client);
+            dropIfEmpty(client.getConsumerGroup(), group);
+            return true;
+        }
+    }
+
+    boolean contains(final ConsumerGroupClient client) {
+        final GroupClients group = groups.get(client.getConsumerGroup());
+        return group != null && group.byIdentity.get(identityOf(client)) == client;
+    }
+
+    /**
+     * A point in time copy of all clients, keyed by consumer group.
+     */
+    Map<String, List<ConsumerGroupClient>> snapshot() {
+        final Map<String, List<ConsumerGroupClient>> snapshot = new HashMap<>();
+        groups.forEach((consumerGroup, group) -> {
+            if (!group.byIdentity.isEmpty()) {
+                snapshot.put(consumerGroup, new ArrayList<>(group.byIdentity.values()));
+            }
+        });
+        return snapshot;
+    }
+
+    List<String> topics() {
+        return groups.values().stream()
+            .flatMap(group -> group.byTopic.keySet().stream())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    int size() {
+        return groups.values().stream().mapToInt(group -> group.byIdentity.size()).sum();
+    }
+
+    private void dropIfEmpty(final String consumerGroup, final GroupClients group) {
+        if (group.byIdentity.isEmpty()) {
+            group.removed = true;
+            groups.remove(consumerGroup, group);
+        }
+    }
+
+    /**
+     * Webhook clients are identified by their url, stream clients by the process holding the stream.
+     */
+    private static List<Object> identityOf(final ConsumerGroupClient client) {
+        if (GrpcType.WEBHOOK == client.getGrpcType()) {
+            return Arrays.asList(GrpcType.WEBHOOK, client.getTopic(), client.getUrl(), client.getSubscriptionMode());
+        }
+        return Arrays.asList(GrpcType.STREAM, client.getTopic(), client.getIp(), client.getPid(), client.getSubscriptionMode());
+    }
+
+    private static List<Object> heartbeatKeyOf(final ConsumerGroupClient client) {
+        return Arrays.asList(client.getIp(), client.getPid(), client.getSys(), client.getTopic());
+    }
+
+    private static final class GroupClients {
+
+        private final Map<List<Object>, ConsumerGroupClient> byIdentity = new ConcurrentHashMap<>();
+
+        private final Map<List<Object>, Set<ConsumerGroupClient>> byHeartbeat = new ConcurrentHashMap<>();
+
+        private final Map<String, Set<ConsumerGroupClient>> byTopic = new ConcurrentHashMap<>();
+
+        private boolean removed;
+
+        void add(final List<Object> identity, final ConsumerGroupClient client) {
+            byIdentity.put(identity, client);
+            byHeartbeat.computeIfAbsent(heartbeatKeyOf(client), key -> ConcurrentHashMap.newKeySet()).add(client);
+            byTopic.computeIfAbsent(client.getTopic(), key -> ConcurrentHashMap.newKeySet()).add(client);
+        }
+
+        void remove(final ConsumerGroupClient client) {
+            byIdentity.remove(identityOf(client), client);
+            removeFromIndex(byHeartbeat, heartbeatKeyOf(client), client);
+            removeFromIndex(byTopic, client.getTopic(), client);
+        }
+
+        private static <K> void removeFromIndex(final Map<K, Set<ConsumerGroupClient>> index, final K key,
+                                                final ConsumerGroupClient client) {
+            final Set<ConsumerGroupClient> clients = index.get(key);
+            if (clients != null) {
+                clients.remove(client);
+                if (clients.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -17,21 +17,12 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.consumer;
 
-import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.common.ServiceState;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
-import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
 
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
-
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,20 +30,31 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ConsumerManager {
 
+    private static final long RESTART_DELAY_MILLIS = 1_000L;
+
     private final transient EventMeshGrpcServer eventMeshGrpcServer;
 
     private final transient ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
 
-    // key: ConsumerGroup
-    private final transient Map<String, List<ConsumerGroupClient>> clientTable = new ConcurrentHashMap<>();
+    // expiry of clients that stop sending heartbeats, each client is checked once per session timeout
+    private final transient Timer expiryTimer = new HashedWheelTimer(
+        new EventMeshThreadFactory("GrpcClientExpiry", true), 1, TimeUnit.SECONDS);
+
+    private final transient ConsumerClientRegistry clientRegistry = new ConsumerClientRegistry();
+
+    // consumer groups waiting for a restart after expired clients changed their topics
+    private final transient Set<String> pendingRestart = ConcurrentHashMap.newKeySet();
+
+    private transient volatile boolean started;
 
     // key: ConsumerGroup
     private final transient Map<String, EventMeshConsumer> consumerTable = new ConcurrentHashMap<>();
@@ -61,8 +63,11 @@ public class ConsumerManager {
         this.eventMeshGrpcServer = eventMeshGrpcServer;
     }
 
+    /**
+     * A point in time copy of the registered clients, keyed by consumer group.
+     */
     public Map<String, List<ConsumerGroupClient>> getClientTable() {
-        return clientTable;
+        return clientRegistry.snapshot();
     }
 
     public void init() throws Exception {
@@ -72,7 +77,7 @@ public class ConsumerManager {
     }
 
     public void start() throws Exception {
-        startClientCheck();
+        started = true;
         if (log.isInfoEnabled()) {
             log.info("Grpc ConsumerManager started.");
         }
@@ -82,6 +87,7 @@ public class ConsumerManager {
         for (final EventMeshConsumer consumer : consumerTable.values()) {
             consumer.shutdown();
         }
+        expiryTimer.stop();
         scheduledExecutorService.shutdown();
         if (log.isInfoEnabled()) {
             log.info("Grpc ConsumerManager shutdown.");
@@ -97,88 +103,21 @@ public class ConsumerManager {
         return consumer;
     }
 
-    public synchronized void registerClient(final ConsumerGroupClient newClient) {
-        final String consumerGroup = newClient.getConsumerGroup();
-        final String topic = newClient.getTopic();
-        final GrpcType grpcType = newClient.getGrpcType();
-        final String url = newClient.getUrl();
-        final String ip = newClient.getIp();
-        final String pid = newClient.getPid();
-        final SubscriptionMode subscriptionMode = newClient.getSubscriptionMode();
-
-        List<ConsumerGroupClient> localClients = clientTable.get(consumerGroup);
-        if (localClients == null) {
-            localClients = new ArrayList<>();
-            localClients.add(newClient);
-            clientTable.putIfAbsent(consumerGroup, localClients);
-        } else {
-            boolean isContains = false;
-            for (final ConsumerGroupClient localClient : localClients) {
-                if (GrpcType.WEBHOOK == grpcType && StringUtils.equals(localClient.getTopic(), topic)
-                        && StringUtils.equals(localClient.getUrl(), url)
-                        && localClient.getSubscriptionMode() == subscriptionMode) {
-                    isContains = true;
-                    localClient.setUrl(newClient.getUrl());
-                    localClient.setLastUpTime(newClient.getLastUpTime());
-                    break;
-                } else if (GrpcType.STREAM == grpcType && StringUtils.equals(localClient.getTopic(), topic)
-                        && StringUtils.equals(localClient.getIp(), ip) && StringUtils.equals(localClient.getPid(), pid)
-                        && localClient.getSubscriptionMode() == subscriptionMode) {
-                    isContains = true;
-                    localClient.setEventEmitter(newClient.getEventEmitter());
-                    localClient.setLastUpTime(newClient.getLastUpTime());
-                    break;
-                }
-            }
-            if (!isContains) {
-                localClients.add(newClient);
-            }
+    public void registerClient(final ConsumerGroupClient newClient) {
+        if (clientRegistry.upsert(newClient) == newClient) {
+            scheduleExpiry(newClient, sessionTimeout());
         }
     }
 
     public boolean updateClientTime(final ConsumerGroupClient client) {
-        final List<ConsumerGroupClient> localClients = clientTable.get(client.getConsumerGroup());
-        if (CollectionUtils.isEmpty(localClients)) {
-            return false;
-        }
-
-        for (final ConsumerGroupClient localClient : localClients) {
-            if (StringUtils.equals(localClient.getIp(), client.getIp())
-                    && StringUtils.equals(localClient.getPid(), client.getPid())
-                    && StringUtils.equals(localClient.getSys(), client.getSys())
-                    && StringUtils.equals(localClient.getTopic(), client.getTopic())) {
-                localClient.setLastUpTime(new Date());
-                return true;
-            }
-        }
-
-        return false;
+        return clientRegistry.touch(client);
     }
 
-    public synchronized void deregisterClient(final ConsumerGroupClient client) {
-        final String consumerGroup = client.getConsumerGroup();
-        final List<ConsumerGroupClient> localClients = clientTable.get(consumerGroup);
-        if (CollectionUtils.isEmpty(localClients)) {
-            return;
-        }
-
-        final Iterator<ConsumerGroupClient> iterator = localClients.iterator();
-        synchronized (clientTable) {
-            while (iterator.hasNext()) {
-                final ConsumerGroupClient localClient = iterator.next();
-                if (StringUtils.equals(localClient.getTopic(), client.getTopic())
-                        && localClient.getSubscriptionMode() == client.getSubscriptionMode()) {
-                    // close the GRPC client stream before removing it
-                    closeEventStream(localClient);
-                    iterator.remove();
-                }
-            }
-        }
-
-        if (CollectionUtils.isEmpty(localClients)) {
-            clientTable.remove(consumerGroup);
-        }
-
+    public void deregisterClient(final ConsumerGroupClient client) {
+        final List<ConsumerGroupClient> removed = clientRegistry.removeByTopic(client.getConsumerGroup(), client.getTopic(),
+                client.getSubscriptionMode());
+        // close the GRPC client streams of the removed clients
+        removed.forEach(this::closeEventStream);
     }
 
     private void closeEventStream(final ConsumerGroupClient client) {
@@ -206,62 +145,69 @@ public class ConsumerManager {
         }
     }
 
-    private void startClientCheck() {
-        final int clientTimeout = eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshSessionExpiredInMills();
-        if (clientTimeout > 0) {
-            scheduledExecutorService.scheduleAtFixedRate(() -> {
-                if (log.isDebugEnabled()) {
-                    log.debug("grpc client info check");
-                }
+    private int sessionTimeout() {
+        return eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshSessionExpiredInMills();
+    }
 
-                final List<ConsumerGroupClient> clientList = new LinkedList<>();
-                clientTable.values().forEach(clients -> {
-                    clientList.addAll(clients);
-                });
+    private void scheduleExpiry(final ConsumerGroupClient client, final long delayMillis) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            expiryTimer.newTimeout(timeout -> checkExpiry(client), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            // timer stopped during shutdown
+            log.debug("Skip expiry of grpc client {}, ConsumerManager is shut down", client);
+        }
+    }
 
-                if (log.isDebugEnabled()) {
-                    log.debug("total number of ConsumerGroupClients: {}", clientList.size());
-                }
+    /**
+     * Runs on the timer thread. Heartbeats only move the last update time forward, so a client that is still alive is
+     * simply checked again when its current session would end.
+     */
+    private void checkExpiry(final ConsumerGroupClient client) {
+        if (!clientRegistry.contains(client)) {
+            return;
+        }
+        final int clientTimeout = sessionTimeout();
+        if (clientTimeout <= 0) {
+            return;
+        }
+        final long idle = System.currentTimeMillis() - client.getLastUpTime().getTime();
+        if (!started || idle <= clientTimeout) {
+            scheduleExpiry(client, Math.max(clientTimeout - idle, 1));
+            return;
+        }
+        scheduledExecutorService.execute(() -> expire(client));
+    }
 
-                if (CollectionUtils.isEmpty(clientList)) {
-                    return;
-                }
+    private void expire(final ConsumerGroupClient client) {
+        if (!clientRegistry.remove(client)) {
+            return;
+        }
+        if (log.isWarnEnabled()) {
+            log.warn("client {} lastUpdate time {} over three heartbeat cycles. Removing it",
+                    JsonUtils.toJSONString(client), client.getLastUpTime());
+        }
+        closeEventStream(client);
 
-                final Set<String> consumerGroupRestart = new HashSet<>();
-                clientList.forEach(client -> {
-                    if (System.currentTimeMillis() - client.getLastUpTime().getTime() > clientTimeout) {
-                        if (log.isWarnEnabled()) {
-                            log.warn("client {} lastUpdate time {} over three heartbeat cycles. Removing it",
-                                    JsonUtils.toJSONString(client), client.getLastUpTime());
-                        }
-
-                        deregisterClient(client);
-                        if (getEventMeshConsumer(client.getConsumerGroup()).deregisterClient(client)) {
-                            consumerGroupRestart.add(client.getConsumerGroup());
-                        }
-                    }
-                });
-
-                // restart EventMeshConsumer for the group
-                consumerGroupRestart.forEach(consumerGroup -> {
-                    try {
-                        restartEventMeshConsumer(consumerGroup);
-                    } catch (Exception e) {
-                        if (log.isErrorEnabled()) {
-                            log.error("Error in restarting EventMeshConsumer [{}]", consumerGroup, e);
-                        }
+        final String consumerGroup = client.getConsumerGroup();
+        if (getEventMeshConsumer(consumerGroup).deregisterClient(client) && pendingRestart.add(consumerGroup)) {
+            // clients of a group usually expire together, restart the group once for all of them
+            scheduledExecutorService.schedule(() -> {
+                pendingRestart.remove(consumerGroup);
+                try {
+                    restartEventMeshConsumer(consumerGroup);
+                } catch (Exception e) {
+                    if (log.isErrorEnabled()) {
+                        log.error("Error in restarting EventMeshConsumer [{}]", consumerGroup, e);
                     }
-                });
-            }, 10_000, 10_000, TimeUnit.MILLISECONDS);
+                }
+            }, RESTART_DELAY_MILLIS, TimeUnit.MILLISECONDS);
         }
     }
 
     public List<String> getAllConsumerTopic() {
-        return clientTable.values()
-                .stream()
-                .flatMap(List::stream)
-                .map(ConsumerGroupClient::getTopic)
-                .distinct()
-                .collect(Collectors.toList());
+        return clientRegistry.topics();
     }
 }
@@ -39,6 +39,7 @@ import org.apache.eventmesh.runtime.common.ServiceState;
 import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupTopicConfig;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
@@ -307,7 +308,7 @@ public class EventMeshConsumer {
             return;
         }
 
-        final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, event,
+        final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, DedupManager.redelivery(event),
                 producer, eventMeshGrpcServer);
 
         producer.send(sendMessageBackContext, new SendCallback() {
@@ -58,7 +58,7 @@ public class ConsumerGroupClient {
 
     public final String apiVersion;
 
-    private Date lastUpTime;
+    private volatile Date lastUpTime;
 
     public void setUrl(String url) {
         this.url = url;
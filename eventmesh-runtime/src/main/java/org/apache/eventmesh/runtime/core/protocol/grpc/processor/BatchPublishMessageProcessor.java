@@ -39,6 +39,7 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -101,31 +102,56 @@ public class BatchPublishMessageProcessor {
         ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
         List<CloudEvent> cloudEvents = grpcCommandProtocolAdaptor.toBatchCloudEvent(new BatchMessageWrapper(message));
 
-        for (CloudEvent event : cloudEvents) {
-            String seqNum = event.getId();
-            String uniqueId = (event.getExtension(ProtocolKey.UNIQUE_ID) == null) ? "" : event.getExtension(ProtocolKey.UNIQUE_ID).toString();
-            ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
-            EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
-
-            SendMessageContext sendMessageContext = new SendMessageContext(seqNum, event, eventMeshProducer, eventMeshGrpcServer);
-
-            eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
-            long startTime = System.currentTimeMillis();
-            eventMeshProducer.send(sendMessageContext, new SendCallback() {
-                @Override
-                public void onSuccess(SendResult sendResult) {
-                    long endTime = System.currentTimeMillis();
-                    log.info("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                        endTime - startTime, topic, seqNum, uniqueId);
-                }
-
-                @Override
-                public void onException(OnExceptionContext context) {
-                    long endTime = System.currentTimeMillis();
-                    log.error("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                        endTime - startTime, topic, seqNum, uniqueId, context.getException());
-                }
-            });
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshGrpcServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshGrpcServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                ServiceUtils.sendRespAndDone(StatusCode.OVERLOAD, emitter);
+                return;
+            }
+            limiterToken.expectParts(cloudEvents.size());
+        } else {
+            limiterToken = null;
+        }
+
+        try {
+            for (CloudEvent event : cloudEvents) {
+                String seqNum = event.getId();
+                String uniqueId = (event.getExtension(ProtocolKey.UNIQUE_ID) == null) ? "" : event.getExtension(ProtocolKey.UNIQUE_ID).toString();
+                ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
+                EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
+
+                SendMessageContext sendMessageContext = new SendMessageContext(seqNum, event, eventMeshProducer, eventMeshGrpcServer);
+
+                eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
+                long startTime = System.currentTimeMillis();
+                eventMeshProducer.send(sendMessageContext, new SendCallback() {
+                    @Override
+                    public void onSuccess(SendResult sendResult) {
+                        if (limiterToken != null) {
+                            limiterToken.onPartDone(true);
+                        }
+                        long endTime = System.currentTimeMillis();
+                        log.info("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                            endTime - startTime, topic, seqNum, uniqueId);
+                    }
+
+                    @Override
+                    public void onException(OnExceptionContext context) {
+                        if (limiterToken != null) {
+                            limiterToken.onPartDone(false);
+                        }
+                        long endTime = System.currentTimeMillis();
+                        log.error("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                            endTime - startTime, topic, seqNum, uniqueId, context.getException());
+                    }
+                });
+            }
+        } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
+            throw e;
         }
         ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "batch publish success", emitter);
     }
@@ -37,6 +37,7 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.concurrent.TimeUnit;
@@ -110,11 +111,39 @@ public class ReplyMessageProcessor {
 
         SendMessageContext sendMessageContext = new SendMessageContext(message.getSeqNum(), cloudEvent, eventMeshProducer, eventMeshGrpcServer);
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshGrpcServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshGrpcServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                ServiceUtils.sendStreamRespAndDone(requestHeader, StatusCode.OVERLOAD, emitter);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
         long startTime = System.currentTimeMillis();
-        eventMeshProducer.reply(sendMessageContext, new SendCallback() {
+        try {
+            eventMeshProducer.reply(sendMessageContext, newReplyCallback(requestHeader, emitter, limiterToken, startTime,
+                replyTopic, seqNum, uniqueId));
+        } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
+            throw e;
+        }
+    }
+
+    private SendCallback newReplyCallback(RequestHeader requestHeader, EventEmitter<SimpleMessage> emitter,
+                                          ConcurrencyLimiter.Token limiterToken, long startTime, String replyTopic,
+                                          String seqNum, String uniqueId) {
+        return new SendCallback() {
             @Override
             public void onSuccess(SendResult sendResult) {
+                if (limiterToken != null) {
+                    limiterToken.onSuccess();
+                }
                 long endTime = System.currentTimeMillis();
                 log.info("message|mq2eventmesh|REPLY|ReplyToServer|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                     endTime - startTime, replyTopic, seqNum, uniqueId);
@@ -122,13 +151,16 @@ public class ReplyMessageProcessor {
 
             @Override
             public void onException(OnExceptionContext onExceptionContext) {
+                if (limiterToken != null) {
+                    limiterToken.onDropped();
+                }
                 ServiceUtils.sendStreamRespAndDone(requestHeader, StatusCode.EVENTMESH_REPLY_MSG_ERR,
                     EventMeshUtil.stackTrace(onExceptionContext.getException(), 2), emitter);
                 long endTime = System.currentTimeMillis();
                 log.error("message|mq2eventmesh|REPLY|ReplyToServer|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                     endTime - startTime, replyTopic, seqNum, uniqueId, onExceptionContext.getException());
             }
-        });
+        };
     }
 
     private void doAclCheck(SimpleMessage message) throws AclException {
@@ -35,6 +35,7 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.concurrent.TimeUnit;
@@ -94,9 +95,6 @@ public class RequestMessageProcessor {
         ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
         CloudEvent cloudEvent = grpcCommandProtocolAdaptor.toCloudEvent(new SimpleMessageWrapper(message));
 
-        String seqNum = message.getSeqNum();
-        String uniqueId = message.getUniqueId();
-        String topic = message.getTopic();
         String producerGroup = message.getProducerGroup();
         int ttl = Integer.parseInt(message.getTtl());
 
@@ -105,11 +103,44 @@ public class RequestMessageProcessor {
 
         SendMessageContext sendMessageContext = new SendMessageContext(message.getSeqNum(), cloudEvent, eventMeshProducer, eventMeshGrpcServer);
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshGrpcServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshGrpcServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                ServiceUtils.sendStreamRespAndDone(message.getHeader(), StatusCode.OVERLOAD, emitter);
+                return;
+            }
+            limiterToken.extendDeadline(ttl);
+        } else {
+            limiterToken = null;
+        }
+
         eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
         long startTime = System.currentTimeMillis();
-        eventMeshProducer.request(sendMessageContext, new RequestReplyCallback() {
+        try {
+            eventMeshProducer.request(sendMessageContext, newRequestReplyCallback(message, emitter, grpcCommandProtocolAdaptor,
+                limiterToken, startTime), ttl);
+        } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
+            throw e;
+        }
+    }
+
+    private RequestReplyCallback newRequestReplyCallback(SimpleMessage message, EventEmitter<SimpleMessage> emitter,
+                                                         ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor,
+                                                         ConcurrencyLimiter.Token limiterToken, long startTime) {
+        String seqNum = message.getSeqNum();
+        String uniqueId = message.getUniqueId();
+        String topic = message.getTopic();
+        return new RequestReplyCallback() {
             @Override
             public void onSuccess(CloudEvent event) {
+                if (limiterToken != null) {
+                    // the round trip includes the replier's handling, it is not a sample of the connector latency
+                    limiterToken.onIgnore();
+                }
                 try {
                     eventMeshGrpcServer.getMetricsMonitor().recordReceiveMsgFromQueue();
                     SimpleMessageWrapper wrapper = (SimpleMessageWrapper) grpcCommandProtocolAdaptor.fromCloudEvent(event);
@@ -133,13 +164,16 @@ public class RequestMessageProcessor {
 
             @Override
             public void onException(Throwable e) {
+                if (limiterToken != null) {
+                    limiterToken.onDropped();
+                }
                 ServiceUtils.sendStreamRespAndDone(message.getHeader(), StatusCode.EVENTMESH_REQUEST_REPLY_MSG_ERR,
                     EventMeshUtil.stackTrace(e, 2), emitter);
                 long endTime = System.currentTimeMillis();
                 log.error("message|eventMesh2mq|REPLY|RequestReply|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                     endTime - startTime, topic, seqNum, uniqueId, e);
             }
-        }, ttl);
+        };
     }
 
     private void doAclCheck(SimpleMessage message) throws AclException {
@@ -31,6 +31,7 @@ import org.apache.eventmesh.common.protocol.http.common.RequestCode;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
@@ -38,6 +39,8 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.concurrent.TimeUnit;
@@ -109,27 +112,66 @@ public class SendAsyncMessageProcessor {
         SendMessageContext sendMessageContext = new SendMessageContext(message.getSeqNum(), cloudEvent,
                 eventMeshProducer, eventMeshGrpcServer);
 
-        eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
-        long startTime = System.currentTimeMillis();
-        eventMeshProducer.send(sendMessageContext, new SendCallback() {
-            @Override
-            public void onSuccess(SendResult sendResult) {
-                ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, sendResult.toString(), emitter);
-                long endTime = System.currentTimeMillis();
-                log.info("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                    endTime - startTime, topic, seqNum, uniqueId);
-                eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToClient();
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshGrpcServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshGrpcServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                ServiceUtils.sendRespAndDone(StatusCode.OVERLOAD, emitter);
+                return;
             }
+        } else {
+            limiterToken = null;
+        }
 
-            @Override
-            public void onException(OnExceptionContext context) {
-                ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR,
-                    EventMeshUtil.stackTrace(context.getException(), 2), emitter);
-                long endTime = System.currentTimeMillis();
-                log.error("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                    endTime - startTime, topic, seqNum, uniqueId, context.getException());
+        eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
+        long startTime = System.currentTimeMillis();
+        MessageStage publishStage = MessageStage.publish();
+        try {
+            eventMeshProducer.send(sendMessageContext, new SendCallback() {
+                @Override
+                public void onSuccess(SendResult sendResult) {
+                    if (limiterToken != null) {
+                        limiterToken.onSuccess();
+                    }
+                    ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, sendResult.toString(), emitter);
+                    long endTime = System.currentTimeMillis();
+                    if (log.isDebugEnabled()) {
+                        log.debug("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                            endTime - startTime, topic, seqNum, uniqueId);
+                    }
+                    if (AuditUtils.isEnabled()) {
+                        AuditUtils.record(EventMeshConstants.PROTOCOL_GRPC, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                            topic, producerGroup, seqNum, uniqueId,
+                            requestHeader.getIp(), endTime - startTime, true);
+                    }
+                    publishStage.record(EventMeshConstants.PROTOCOL_GRPC, topic, producerGroup, seqNum, true);
+                    eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToClient();
+                }
+
+                @Override
+                public void onException(OnExceptionContext context) {
+                    if (limiterToken != null) {
+                        limiterToken.onDropped();
+                    }
+                    ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR,
+                        EventMeshUtil.stackTrace(context.getException(), 2), emitter);
+                    long endTime = System.currentTimeMillis();
+                    log.error("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                        endTime - startTime, topic, seqNum, uniqueId, context.getException());
+                    if (AuditUtils.isEnabled()) {
+                        AuditUtils.record(EventMeshConstants.PROTOCOL_GRPC, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                            topic, producerGroup, seqNum, uniqueId,
+                            requestHeader.getIp(), endTime - startTime, false);
+                    }
+                    publishStage.record(EventMeshConstants.PROTOCOL_GRPC, topic, producerGroup, seqNum, false);
+                }
+            });
+        } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
             }
-        });
+            throw e;
+        }
     }
 
     private void doAclCheck(SimpleMessage message) throws AclException {
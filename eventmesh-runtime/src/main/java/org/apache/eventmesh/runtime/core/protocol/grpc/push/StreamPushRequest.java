@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.StreamTopicConfig;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
@@ -32,9 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import io.grpc.stub.StreamObserver;
-
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -71,28 +69,46 @@ public class StreamPushRequest extends AbstractPushRequest {
 
             simpleMessage = SimpleMessage.newBuilder(simpleMessage)
                     .putProperties(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(lastPushTime)).build();
+            final SimpleMessage pushed = simpleMessage;
+            final long pushTime = lastPushTime;
             try {
-                // catch the error and retry, don't use eventEmitter.onNext() to hide the error
-                StreamObserver<SimpleMessage> emitter = eventEmitter.getEmitter();
-                synchronized (emitter) {
-                    emitter.onNext(simpleMessage);
+                // the emitter rejects the message when the subscriber can not keep up, retry it later
+                if (!eventEmitter.tryOnNext(pushed, sent -> onSent(pushed, pushTime, sent))) {
+                    log.warn("message|eventMesh2client|emitter|overflow|topic={}|bizSeqNo={}|uniqueId={}|pendingSize={}",
+                            pushed.getTopic(), pushed.getSeqNum(), pushed.getUniqueId(), eventEmitter.getPendingSize());
+                    delayRetry();
                 }
-
-                long cost = System.currentTimeMillis() - lastPushTime;
-                log.info("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                        simpleMessage.getTopic(), simpleMessage.getSeqNum(), simpleMessage.getUniqueId(), cost);
-                complete();
             } catch (Throwable t) {
-                long cost = System.currentTimeMillis() - lastPushTime;
+                long cost = System.currentTimeMillis() - pushTime;
                 log.error("message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                        t.getMessage(), simpleMessage.getTopic(), simpleMessage.getSeqNum(),
-                        simpleMessage.getUniqueId(), cost, t);
+                        t.getMessage(), pushed.getTopic(), pushed.getSeqNum(), pushed.getUniqueId(), cost, t);
 
                 delayRetry();
             }
         }
     }
 
+    /**
+     * Called by the emitter once the message is handed to the stream, or given back when the stream ended first.
+     */
+    private void onSent(SimpleMessage pushed, long pushTime, boolean sent) {
+        long cost = System.currentTimeMillis() - pushTime;
+        if (!sent) {
+            log.warn("message|eventMesh2client|emitter|closed|topic={}|bizSeqNo={}|uniqueId={}|cost={}",
+                    pushed.getTopic(), pushed.getSeqNum(), pushed.getUniqueId(), cost);
+            delayRetry();
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
+                    pushed.getTopic(), pushed.getSeqNum(), pushed.getUniqueId(), cost);
+        }
+        AuditUtils.record(EventMeshConstants.PROTOCOL_GRPC, AuditUtils.DIRECTION_EVENTMESH_TO_CLIENT,
+                pushed.getTopic(), handleMsgContext.getConsumerGroup(), pushed.getSeqNum(),
+                pushed.getUniqueId(), null, cost, true);
+        complete();
+    }
+
     private List<EventEmitter<SimpleMessage>> selectEmitter() {
         List<EventEmitter<SimpleMessage>> emitterList = MapUtils.getObject(idcEmitters,
                 eventMeshGrpcConfiguration.getEventMeshIDC(), null);
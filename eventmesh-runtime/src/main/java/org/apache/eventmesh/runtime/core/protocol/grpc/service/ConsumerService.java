@@ -72,7 +72,8 @@ public class ConsumerService extends ConsumerServiceGrpc.ConsumerServiceImplBase
     }
 
     public StreamObserver<Subscription> subscribeStream(StreamObserver<SimpleMessage> responseObserver) {
-        EventEmitter<SimpleMessage> emitter = new EventEmitter<>(responseObserver);
+        EventEmitter<SimpleMessage> emitter = new EventEmitter<>(responseObserver,
+            eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshServerPushMsgPendingQueueSize());
 
         return new StreamObserver<Subscription>() {
             @Override
@@ -17,45 +17,238 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.service;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Lock-free, flow-control-aware wrapper of a {@link StreamObserver}.
+ *
+ * <p>Events are put into a bounded per-stream queue and drained by a single thread at a time, so the
+ * underlying observer is never called concurrently. When the observer is a {@link ServerCallStreamObserver},
+ * draining stops while the transport is not ready and resumes from its onReady handler, so a slow client
+ * can not make grpc-java buffer without bound. {@link #tryOnNext(Object)} returns false when the queue is full,
+ * letting the caller fall back to its own retry handling.
+ *
+ * <p>An event accepted by {@link #tryOnNext(Object, SendListener)} is only sent once the transport is ready, its
+ * listener is told when the observer took it, or that it was not sent because the stream ended or was cancelled
+ * first.
+ */
 @Slf4j
 public class EventEmitter<T> {
 
+    public static final int DEFAULT_MAX_PENDING_SIZE = 1000;
+
     private final StreamObserver<T> emitter;
 
+    private final ServerCallStreamObserver<T> serverCallEmitter;
+
+    private final int maxPendingSize;
+
+    private final Queue<PendingEvent<T>> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingSize = new AtomicInteger(0);
+
+    private final AtomicInteger wip = new AtomicInteger(0);
+
+    private volatile boolean completeRequested = false;
+
+    private volatile Throwable errorRequested;
+
+    private volatile boolean cancelled = false;
+
+    private volatile boolean terminated = false;
+
     public EventEmitter(StreamObserver<T> emitter) {
-        this.emitter = emitter;
+        this(emitter, DEFAULT_MAX_PENDING_SIZE);
     }
 
-    public synchronized void onNext(T event) {
-        try {
-            emitter.onNext(event);
-        } catch (Throwable t) {
-            log.warn("StreamObserver Error onNext. {}", t.getMessage());
+    @SuppressWarnings("unchecked")
+    public EventEmitter(StreamObserver<T> emitter, int maxPendingSize) {
+        this.emitter = emitter;
+        this.maxPendingSize = maxPendingSize > 0 ? maxPendingSize : DEFAULT_MAX_PENDING_SIZE;
+        this.serverCallEmitter = emitter instanceof ServerCallStreamObserver ? (ServerCallStreamObserver<T>) emitter : null;
+        if (serverCallEmitter != null) {
+            try {
+                // only allowed during the initial call to the service method
+                serverCallEmitter.setOnReadyHandler(this::drain);
+                serverCallEmitter.setOnCancelHandler(() -> {
+                    cancelled = true;
+                    drain();
+                });
+            } catch (IllegalStateException e) {
+                log.warn("StreamObserver can not register onReady handler, drain on emit only. {}", e.getMessage());
+            }
         }
     }
 
-    public synchronized void onCompleted() {
-        try {
-            emitter.onCompleted();
-        } catch (Throwable t) {
-            log.warn("StreamObserver Error onCompleted. {}", t.getMessage());
+    /**
+     * Queue the event for sending.
+     *
+     * @return false if the stream is terminated or its pending queue is full
+     */
+    public boolean tryOnNext(T event) {
+        return tryOnNext(event, null);
+    }
+
+    /**
+     * Queue the event for sending, the listener is told once whether it was sent.
+     *
+     * @return false if the stream is terminated or its pending queue is full, the listener is not told then
+     */
+    public boolean tryOnNext(T event, SendListener listener) {
+        if (terminated || completeRequested || errorRequested != null || isCancelled()) {
+            return false;
+        }
+        if (pendingSize.incrementAndGet() > maxPendingSize) {
+            pendingSize.decrementAndGet();
+            return false;
         }
+        pendingEvents.offer(new PendingEvent<>(event, listener));
+        drain();
+        return true;
     }
 
-    public synchronized void onError(Throwable t) {
-        try {
-            emitter.onError(t);
-        } catch (Throwable t1) {
-            log.warn("StreamObserver Error onError. {}", t1.getMessage());
+    public void onNext(T event) {
+        if (!tryOnNext(event)) {
+            log.warn("StreamObserver Error onNext. stream is closed or pending queue is full, pendingSize={}",
+                pendingSize.get());
         }
     }
 
+    public void onCompleted() {
+        completeRequested = true;
+        drain();
+    }
+
+    public void onError(Throwable t) {
+        errorRequested = t;
+        drain();
+    }
+
+    public int getPendingSize() {
+        return pendingSize.get();
+    }
+
+    public boolean isReady() {
+        return serverCallEmitter == null || serverCallEmitter.isReady();
+    }
+
     public StreamObserver<T> getEmitter() {
         return emitter;
     }
+
+    private boolean isCancelled() {
+        return cancelled || serverCallEmitter != null && serverCallEmitter.isCancelled();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            if (!terminated) {
+                if (errorRequested != null) {
+                    terminate(errorRequested);
+                } else if (isCancelled()) {
+                    terminate(null);
+                } else {
+                    while (isReady()) {
+                        PendingEvent<T> pendingEvent = pendingEvents.poll();
+                        if (pendingEvent == null) {
+                            break;
+                        }
+                        pendingSize.decrementAndGet();
+                        boolean sent = false;
+                        try {
+                            emitter.onNext(pendingEvent.event);
+                            sent = true;
+                        } catch (Throwable t) {
+                            log.warn("StreamObserver Error onNext. {}", t.getMessage());
+                        }
+                        pendingEvent.sent(sent);
+                    }
+                    if (completeRequested && pendingEvents.isEmpty()) {
+                        terminate(null);
+                    }
+                }
+            } else {
+                // queued while terminating
+                returnPendingEvents();
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Not sent, give them back to their senders.
+     */
+    private void returnPendingEvents() {
+        for (PendingEvent<T> pendingEvent = pendingEvents.poll(); pendingEvent != null; pendingEvent = pendingEvents.poll()) {
+            pendingSize.decrementAndGet();
+            pendingEvent.sent(false);
+        }
+    }
+
+    private void terminate(Throwable error) {
+        terminated = true;
+        returnPendingEvents();
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            if (error == null) {
+                emitter.onCompleted();
+            } else {
+                emitter.onError(error);
+            }
+        } catch (Throwable t) {
+            log.warn("StreamObserver Error {}. {}", error == null ? "onCompleted" : "onError", t.getMessage());
+        }
+    }
+
+    /**
+     * Told once whether an event accepted by {@link #tryOnNext(Object, SendListener)} was sent.
+     */
+    public interface SendListener {
+
+        /**
+         * @param sent true once the observer took the event, false if the stream ended or was cancelled before
+         */
+        void onSent(boolean sent);
+    }
+
+    private static final class PendingEvent<T> {
+
+        private final T event;
+
+        private final SendListener listener;
+
+        PendingEvent(T event, SendListener listener) {
+            this.event = event;
+            this.listener = listener;
+        }
+
+        void sent(boolean sent) {
+            if (listener == null) {
+                return;
+            }
+            try {
+                listener.onSent(sent);
+            } catch (Throwable t) {
+                log.warn("StreamObserver Error SendListener. {}", t.getMessage());
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.http.consumer;
 
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConfDiff;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +28,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class ConsumerGroupManager {
 
     protected AtomicBoolean started = new AtomicBoolean(Boolean.FALSE);
@@ -74,7 +78,10 @@ public class ConsumerGroupManager {
         }
 
         if (started.get()) {
-            shutdown();
+            ConsumerGroupConfDiff diff = ConsumerGroupConfDiff.between(this.consumerGroupConfig, consumerGroupConfig);
+            log.info("refresh consumerGroup {} with {}", consumerGroupConfig.getConsumerGroup(), diff);
+            applyDiff(diff, consumerGroupConfig);
+            return;
         }
 
         this.consumerGroupConfig = consumerGroupConfig;
@@ -83,6 +90,28 @@ public class ConsumerGroupManager {
         start();
     }
 
+    /**
+     * Apply a change to the running consumer. Only the changed topics are subscribed or unsubscribed on the connector,
+     * url changes take effect by switching the config the consumer pushes with.
+     */
+    private void applyDiff(ConsumerGroupConfDiff diff, ConsumerGroupConf consumerGroupConfig) throws Exception {
+        // switch the config first, so messages of added topics find their config once the connector delivers them
+        this.consumerGroupConfig = consumerGroupConfig;
+        this.eventMeshConsumer.setConsumerGroupConf(consumerGroupConfig);
+
+        for (Map.Entry<String, ConsumerGroupTopicConf> removed : diff.getRemovedTopics().entrySet()) {
+            eventMeshConsumer.unsubscribe(removed.getKey(), removed.getValue().getSubscriptionItem().getMode());
+        }
+        for (Map.Entry<String, ConsumerGroupTopicConf> resubscribed : diff.getResubscribedTopics().entrySet()) {
+            eventMeshConsumer.unsubscribe(resubscribed.getKey(), resubscribed.getValue().getSubscriptionItem().getMode());
+            eventMeshConsumer.subscribe(resubscribed.getKey(),
+                    consumerGroupConfig.getConsumerGroupTopicConf().get(resubscribed.getKey()).getSubscriptionItem());
+        }
+        for (Map.Entry<String, ConsumerGroupTopicConf> added : diff.getAddedTopics().entrySet()) {
+            eventMeshConsumer.subscribe(added.getKey(), added.getValue().getSubscriptionItem());
+        }
+    }
+
     public ConsumerGroupConf getConsumerGroupConfig() {
         return consumerGroupConfig;
     }
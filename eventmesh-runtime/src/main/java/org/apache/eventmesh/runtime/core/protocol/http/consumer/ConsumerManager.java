@@ -22,7 +22,6 @@ import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
 import org.apache.eventmesh.runtime.core.consumergroup.event.ConsumerGroupStateEvent;
 import org.apache.eventmesh.runtime.core.consumergroup.event.ConsumerGroupTopicConfChangeEvent;
-import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -181,7 +180,7 @@ public class ConsumerManager {
             ConsumerGroupStateEvent notification = new ConsumerGroupStateEvent();
             notification.action = ConsumerGroupStateEvent.ConsumerGroupStateAction.NEW;
             notification.consumerGroup = consumerGroup;
-            notification.consumerGroupConfig = EventMeshUtil.cloneObject(latestConsumerGroupConfig);
+            notification.consumerGroupConfig = latestConsumerGroupConfig.snapshot(null);
             eventMeshHTTPServer.getEventBus().post(notification);
             return;
         }
@@ -190,7 +189,7 @@ public class ConsumerManager {
             ConsumerGroupStateEvent notification = new ConsumerGroupStateEvent();
             notification.action = ConsumerGroupStateEvent.ConsumerGroupStateAction.CHANGE;
             notification.consumerGroup = consumerGroup;
-            notification.consumerGroupConfig = EventMeshUtil.cloneObject(latestConsumerGroupConfig);
+            notification.consumerGroupConfig = latestConsumerGroupConfig.snapshot(cgm.getConsumerGroupConfig());
             eventMeshHTTPServer.getEventBus().post(notification);
             return;
         }
@@ -37,6 +37,8 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPMessageHandler;
@@ -77,7 +79,7 @@ public class EventMeshConsumer {
 
     public Logger messageLogger = LoggerFactory.getLogger("message");
 
-    private ConsumerGroupConf consumerGroupConf;
+    private volatile ConsumerGroupConf consumerGroupConf;
 
     private final MQConsumerWrapper persistentMqConsumer;
 
@@ -145,6 +147,10 @@ public class EventMeshConsumer {
 
                 SubscriptionItem subscriptionItem =
                     consumerGroupConf.getConsumerGroupTopicConf().get(topic).getSubscriptionItem();
+                if (!EventFilters.compile(subscriptionItem.getFilter()).matches(event)) {
+                    eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
+                    return;
+                }
                 HandleMsgContext handleMsgContext = new HandleMsgContext(
                     EventMeshUtil.buildPushMsgSeqNo(),
                     consumerGroupConf.getConsumerGroup(),
@@ -226,6 +232,10 @@ public class EventMeshConsumer {
                 SubscriptionItem subscriptionItem =
                     consumerGroupConf.getConsumerGroupTopicConf().get(topic)
                         .getSubscriptionItem();
+                if (!EventFilters.compile(subscriptionItem.getFilter()).matches(event)) {
+                    eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
+                    return;
+                }
                 HandleMsgContext handleMsgContext =
                     new HandleMsgContext(EventMeshUtil.buildPushMsgSeqNo(),
                         consumerGroupConf.getConsumerGroup(), EventMeshConsumer.this,
@@ -322,8 +332,8 @@ public class EventMeshConsumer {
             return;
         }
 
-        final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, event, sendMessageBack,
-            eventMeshHTTPServer);
+        final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, DedupManager.redelivery(event),
+            sendMessageBack, eventMeshHTTPServer);
 
         sendMessageBack.send(sendMessageBackContext, new SendCallback() {
             @Override
@@ -41,6 +41,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -215,6 +216,22 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
             return;
         }
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
+                    sendMessageBatchResponseHeader,
+                    SendMessageBatchResponseBody.buildBody(EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getRetCode(),
+                        EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg()));
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsgDiscard(eventSize);
+                asyncContext.onComplete(responseEventMeshCommand);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         final long batchStartTime = System.currentTimeMillis();
 
         String remoteAddr = RemotingHelper.parseChannelRemoteAddr(ctx.channel());
@@ -287,45 +304,68 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
         long delta = eventSize;
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsg(delta);
 
-        if (eventMeshHTTPServer.getEventMeshHttpConfiguration().isEventMeshServerBatchMsgBatchEnabled()) {
-            for (List<CloudEvent> eventlist : topicBatchMessageMappings.values()) {
-                // TODO: Implementation in API. Consider whether to put it in the plug-in.
-                CloudEvent event = null;
-                // TODO: Detect the maximum length of messages for different producers.
-                final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
-                        eventMeshHTTPServer);
-                sendMessageContext.setEventList(eventlist);
-                batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
-                    @Override
-                    public void onSuccess(SendResult sendResult) {
-                    }
-
-                    @Override
-                    public void onException(OnExceptionContext context) {
-                        batchMessageLogger.warn("", context.getException());
-                        eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
-                    }
-
-                });
+        boolean batchEnabled = eventMeshHTTPServer.getEventMeshHttpConfiguration().isEventMeshServerBatchMsgBatchEnabled();
+        if (limiterToken != null) {
+            // the batch holds one token until all of its sends completed
+            limiterToken.expectParts(batchEnabled ? topicBatchMessageMappings.size() : eventList.size());
+        }
+        try {
+            if (batchEnabled) {
+                for (List<CloudEvent> eventlist : topicBatchMessageMappings.values()) {
+                    // TODO: Implementation in API. Consider whether to put it in the plug-in.
+                    CloudEvent event = null;
+                    // TODO: Detect the maximum length of messages for different producers.
+                    final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
+                            eventMeshHTTPServer);
+                    sendMessageContext.setEventList(eventlist);
+                    batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
+                        @Override
+                        public void onSuccess(SendResult sendResult) {
+                            if (limiterToken != null) {
+                                limiterToken.onPartDone(true);
+                            }
+                        }
+
+                        @Override
+                        public void onException(OnExceptionContext context) {
+                            if (limiterToken != null) {
+                                limiterToken.onPartDone(false);
+                            }
+                            batchMessageLogger.warn("", context.getException());
+                            eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
+                        }
+
+                    });
+                }
+            } else {
+                for (CloudEvent event : eventList) {
+                    final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
+                            eventMeshHTTPServer);
+                    batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
+                        @Override
+                        public void onSuccess(SendResult sendResult) {
+                            if (limiterToken != null) {
+                                limiterToken.onPartDone(true);
+                            }
+                        }
+
+                        @Override
+                        public void onException(OnExceptionContext context) {
+                            if (limiterToken != null) {
+                                limiterToken.onPartDone(false);
+                            }
+                            batchMessageLogger.warn("", context.getException());
+                            eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
+                        }
+
+                    });
+                }
             }
-        } else {
-            for (CloudEvent event : eventList) {
-                final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
-                        eventMeshHTTPServer);
-                batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
-                    @Override
-                    public void onSuccess(SendResult sendResult) {
-
-                    }
-
-                    @Override
-                    public void onException(OnExceptionContext context) {
-                        batchMessageLogger.warn("", context.getException());
-                        eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
-                    }
-
-                });
+        } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
             }
+            throw e;
         }
 
         long batchEndTime = System.currentTimeMillis();
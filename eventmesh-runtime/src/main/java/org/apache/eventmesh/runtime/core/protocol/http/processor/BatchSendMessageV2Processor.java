@@ -40,6 +40,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -256,6 +257,23 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
             return;
         }
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                responseEventMeshCommand = request.createHttpCommandResponse(
+                    sendMessageBatchV2ResponseHeader,
+                    SendMessageBatchV2ResponseBody
+                        .buildBody(EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getRetCode(),
+                            EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg()));
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsgDiscard(1);
+                asyncContext.onComplete(responseEventMeshCommand);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsg(1);
 
         final SendMessageContext sendMessageContext =
@@ -265,6 +283,9 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
             batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
                 @Override
                 public void onSuccess(SendResult sendResult) {
+                    if (limiterToken != null) {
+                        limiterToken.onSuccess();
+                    }
                     long batchEndTime = System.currentTimeMillis();
                     eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordBatchSendMsgCost(batchEndTime - batchStartTime);
                     batchMessageLogger.debug(
@@ -274,6 +295,9 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
 
                 @Override
                 public void onException(OnExceptionContext context) {
+                    if (limiterToken != null) {
+                        limiterToken.onDropped();
+                    }
                     long batchEndTime = System.currentTimeMillis();
                     eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
                     eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordBatchSendMsgCost(batchEndTime - batchStartTime);
@@ -284,6 +308,9 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
 
             });
         } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
                 sendMessageBatchV2ResponseHeader,
                 SendMessageBatchV2ResponseBody
@@ -31,6 +31,7 @@ import org.apache.eventmesh.runtime.common.EventMeshTrace;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.consumer.ClientInfo;
 import org.apache.eventmesh.runtime.core.consumer.SubscriptionManager;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.AbstractEventProcessor;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.WebhookUtil;
@@ -114,6 +115,18 @@ public class LocalSubscribeEventProcessor extends AbstractEventProcessor {
                 }
         )).orElseGet(Collections::emptyList);
 
+        //validate filters
+        for (final SubscriptionItem item : subscriptionList) {
+            try {
+                EventFilters.compile(item.getFilter());
+            } catch (IllegalArgumentException e) {
+                log.warn("invalid subscription filter, topic:{}", item.getTopic(), e);
+                handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_ERR, responseHeaderMap,
+                        responseBodyMap, null);
+                return;
+            }
+        }
+
         //do acl check
         if (eventMeshHTTPServer.getEventMeshHttpConfiguration().isEventMeshServerSecurityEnable()) {
             for (final SubscriptionItem item : subscriptionList) {
@@ -41,6 +41,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.CompleteHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -237,6 +238,21 @@ public class ReplyMessageProcessor implements HttpRequestProcessor {
             }
         };
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
+                    replyMessageResponseHeader,
+                    ReplyMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getRetCode(),
+                        EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg()));
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPDiscard();
+                asyncContext.onComplete(responseEventMeshCommand);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
 
         try {
             CloudEvent clone = CloudEventBuilder.from(sendMessageContext.getEvent())
@@ -246,6 +262,9 @@ public class ReplyMessageProcessor implements HttpRequestProcessor {
             eventMeshProducer.reply(sendMessageContext, new SendCallback() {
                 @Override
                 public void onSuccess(SendResult sendResult) {
+                    if (limiterToken != null) {
+                        limiterToken.onSuccess();
+                    }
                     HttpCommand succ = asyncContext.getRequest().createHttpCommandResponse(
                             replyMessageResponseHeader,
                             SendMessageResponseBody.buildBody(EventMeshRetCode.SUCCESS.getRetCode(), EventMeshRetCode.SUCCESS.getErrMsg()));
@@ -259,6 +278,9 @@ public class ReplyMessageProcessor implements HttpRequestProcessor {
 
                 @Override
                 public void onException(OnExceptionContext context) {
+                    if (limiterToken != null) {
+                        limiterToken.onDropped();
+                    }
                     HttpCommand err = asyncContext.getRequest().createHttpCommandResponse(
                         replyMessageResponseHeader,
                         SendMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_REPLY_MSG_ERR.getRetCode(),
@@ -274,6 +296,9 @@ public class ReplyMessageProcessor implements HttpRequestProcessor {
                 }
             });
         } catch (Exception ex) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             HttpCommand err = asyncContext.getRequest().createHttpCommandResponse(
                 replyMessageResponseHeader,
                 SendMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_REPLY_MSG_ERR.getRetCode(),
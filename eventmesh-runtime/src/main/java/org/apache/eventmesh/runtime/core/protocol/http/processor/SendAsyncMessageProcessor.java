@@ -33,6 +33,7 @@ import org.apache.eventmesh.common.utils.IPUtils;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
@@ -41,6 +42,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.CompleteHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
@@ -282,6 +284,27 @@ public class SendAsyncMessageProcessor implements HttpRequestProcessor {
 
         long startTime = System.currentTimeMillis();
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                responseEventMeshCommand = request.createHttpCommandResponse(
+                    sendMessageResponseHeader,
+                    SendMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getRetCode(),
+                        EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg()));
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPDiscard();
+                asyncContext.onComplete(responseEventMeshCommand);
+
+                Span excepSpan = TraceUtils.prepareServerSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersin, event),
+                    EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN, false);
+                TraceUtils.finishSpanWithException(excepSpan, EventMeshUtil.getCloudEventExtensionMap(protocolVersin, event),
+                    EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg(), null);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         final CompleteHandler<HttpCommand> handler = httpCommand -> {
             try {
                 if (httpLogger.isDebugEnabled()) {
@@ -310,6 +333,9 @@ public class SendAsyncMessageProcessor implements HttpRequestProcessor {
 
                     @Override
                     public void onSuccess(SendResult sendResult) {
+                        if (limiterToken != null) {
+                            limiterToken.onSuccess();
+                        }
                         HttpCommand succ = request.createHttpCommandResponse(
                             sendMessageResponseHeader,
                             SendMessageResponseBody.buildBody(EventMeshRetCode.SUCCESS.getRetCode(),
@@ -317,14 +343,24 @@ public class SendAsyncMessageProcessor implements HttpRequestProcessor {
                         asyncContext.onComplete(succ, handler);
                         long endTime = System.currentTimeMillis();
                         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsgCost(endTime - startTime);
-                        messageLogger.info("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                            endTime - startTime, topic, bizNo, uniqueId);
+                        if (messageLogger.isDebugEnabled()) {
+                            messageLogger.debug("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                                endTime - startTime, topic, bizNo, uniqueId);
+                        }
+                        if (AuditUtils.isEnabled()) {
+                            AuditUtils.record(EventMeshConstants.PROTOCOL_HTTP, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                                topic, producerGroup, bizNo, uniqueId,
+                                RemotingHelper.parseChannelRemoteAddr(ctx.channel()), endTime - startTime, true);
+                        }
 
                         TraceUtils.finishSpan(span, sendMessageContext.getEvent());
                     }
 
                     @Override
                     public void onException(OnExceptionContext context) {
+                        if (limiterToken != null) {
+                            limiterToken.onDropped();
+                        }
                         HttpCommand err = request.createHttpCommandResponse(
                             sendMessageResponseHeader,
                             SendMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode(),
@@ -338,6 +374,11 @@ public class SendAsyncMessageProcessor implements HttpRequestProcessor {
                         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsgCost(endTime - startTime);
                         messageLogger.error("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                             endTime - startTime, topic, bizNo, uniqueId, context.getException());
+                        if (AuditUtils.isEnabled()) {
+                            AuditUtils.record(EventMeshConstants.PROTOCOL_HTTP, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                                topic, producerGroup, bizNo, uniqueId,
+                                RemotingHelper.parseChannelRemoteAddr(ctx.channel()), endTime - startTime, false);
+                        }
 
                         TraceUtils.finishSpanWithException(span,
                             EventMeshUtil.getCloudEventExtensionMap(protocolVersin, sendMessageContext.getEvent()),
@@ -350,6 +391,9 @@ public class SendAsyncMessageProcessor implements HttpRequestProcessor {
 
 
         } catch (Exception ex) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             HttpCommand err = request.createHttpCommandResponse(
                 sendMessageResponseHeader,
                 SendMessageResponseBody.buildBody(EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode(),
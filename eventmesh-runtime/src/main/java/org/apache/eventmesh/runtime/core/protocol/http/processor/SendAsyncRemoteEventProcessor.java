@@ -33,12 +33,14 @@ import org.apache.eventmesh.common.utils.RandomStringUtils;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.common.EventMeshTrace;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -281,6 +283,19 @@ public class SendAsyncRemoteEventProcessor implements AsyncHttpProcessor {
 
         final long startTime = System.currentTimeMillis();
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPDiscard();
+                handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR, responseHeaderMap,
+                        responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         try {
             event = CloudEventBuilder.from(sendMessageContext.getEvent())
                     .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
@@ -292,19 +307,30 @@ public class SendAsyncRemoteEventProcessor implements AsyncHttpProcessor {
 
                 @Override
                 public void onSuccess(final SendResult sendResult) {
+                    if (limiterToken != null) {
+                        limiterToken.onSuccess();
+                    }
                     responseBodyMap.put(EventMeshConstants.RET_CODE, EventMeshRetCode.SUCCESS.getRetCode());
                     responseBodyMap.put(EventMeshConstants.RET_MSG, EventMeshRetCode.SUCCESS.getErrMsg() + sendResult);
 
-                    if (log.isInfoEnabled()) {
-                        log.info("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
+                    if (log.isDebugEnabled()) {
+                        log.debug("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                                 System.currentTimeMillis() - startTime, topic, bizNo, uniqueId);
                     }
+                    if (AuditUtils.isEnabled()) {
+                        AuditUtils.record(EventMeshConstants.PROTOCOL_HTTP, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                            topic, producerGroup, bizNo, uniqueId,
+                            source, System.currentTimeMillis() - startTime, true);
+                    }
                     handlerSpecific.getTraceOperation().endLatestTrace(sendMessageContext.getEvent());
                     handlerSpecific.sendResponse(responseHeaderMap, responseBodyMap);
                 }
 
                 @Override
                 public void onException(final OnExceptionContext context) {
+                    if (limiterToken != null) {
+                        limiterToken.onDropped();
+                    }
                     responseBodyMap.put(EventMeshConstants.RET_CODE, EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode());
                     responseBodyMap.put(EventMeshConstants.RET_MSG, EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getErrMsg()
                             + EventMeshUtil.stackTrace(context.getException(), 2));
@@ -318,9 +344,17 @@ public class SendAsyncRemoteEventProcessor implements AsyncHttpProcessor {
                         log.error("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                                 System.currentTimeMillis() - startTime, topic, bizNo, uniqueId, context.getException());
                     }
+                    if (AuditUtils.isEnabled()) {
+                        AuditUtils.record(EventMeshConstants.PROTOCOL_HTTP, AuditUtils.DIRECTION_EVENTMESH_TO_MQ,
+                            topic, producerGroup, bizNo, uniqueId,
+                            source, System.currentTimeMillis() - startTime, false);
+                    }
                 }
             });
         } catch (Exception ex) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10_000));
             handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR, responseHeaderMap,
                     responseBodyMap, null);
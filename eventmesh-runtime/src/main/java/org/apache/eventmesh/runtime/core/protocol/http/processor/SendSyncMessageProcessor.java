@@ -39,6 +39,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.CompleteHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -249,6 +250,23 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
             return;
         }
 
+        final ConcurrencyLimiter.Token limiterToken;
+        if (eventMeshHTTPServer.getConcurrencyLimiterManager().isEnabled()) {
+            limiterToken = eventMeshHTTPServer.getConcurrencyLimiterManager().tryAcquire(producerGroup);
+            if (limiterToken == null) {
+                responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
+                        sendMessageResponseHeader,
+                        SendMessageResponseBody
+                                .buildBody(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getRetCode(),
+                                        EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg()));
+                eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPDiscard();
+                asyncContext.onComplete(responseEventMeshCommand);
+                return;
+            }
+        } else {
+            limiterToken = null;
+        }
+
         final SendMessageContext sendMessageContext =
                 new SendMessageContext(bizNo, newEevent, eventMeshProducer,
                         eventMeshHTTPServer);
@@ -275,9 +293,16 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
 
 
         try {
+            if (limiterToken != null) {
+                limiterToken.extendDeadline(Integer.parseInt(ttl));
+            }
             eventMeshProducer.request(sendMessageContext, new RequestReplyCallback() {
                 @Override
                 public void onSuccess(final CloudEvent event) {
+                    if (limiterToken != null) {
+                        // the round trip includes the replier's handling, it is not a sample of the connector latency
+                        limiterToken.onIgnore();
+                    }
                     if (log.isInfoEnabled()) {
                         log.info("message|mq2eventMesh|RSP|SYNC|rrCost={}ms|topic={}"
                                         + "|bizSeqNo={}|uniqueId={}", System.currentTimeMillis() - startTime,
@@ -321,6 +346,9 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
 
                 @Override
                 public void onException(final Throwable e) {
+                    if (limiterToken != null) {
+                        limiterToken.onDropped();
+                    }
                     final HttpCommand err = asyncContext.getRequest().createHttpCommandResponse(
                             sendMessageResponseHeader,
                             SendMessageResponseBody
@@ -339,6 +367,9 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
                 }
             }, Integer.parseInt(ttl));
         } catch (Exception ex) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             final HttpCommand err = asyncContext.getRequest().createHttpCommandResponse(
                     sendMessageResponseHeader,
                     SendMessageResponseBody
@@ -33,6 +33,7 @@ import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.consumer.ClientInfo;
 import org.apache.eventmesh.runtime.core.consumer.SubscriptionManager;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.async.CompleteHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
@@ -116,6 +117,21 @@ public class SubscribeProcessor implements HttpRequestProcessor {
         }
         final List<SubscriptionItem> subTopicList = subscribeRequestBody.getTopics();
 
+        //validate filters
+        for (final SubscriptionItem item : subTopicList) {
+            try {
+                EventFilters.compile(item.getFilter());
+            } catch (IllegalArgumentException e) {
+                responseEventMeshCommand = request.createHttpCommandResponse(
+                        subscribeResponseHeader,
+                        SubscribeResponseBody
+                                .buildBody(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_ERR.getRetCode(),
+                                        EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_ERR.getErrMsg() + e.getMessage()));
+                asyncContext.onComplete(responseEventMeshCommand);
+                return;
+            }
+        }
+
         //do acl check
         if (eventMeshHTTPServer.getEventMeshHttpConfiguration().isEventMeshServerSecurityEnable()) {
             for (final SubscriptionItem item : subTopicList) {
@@ -18,11 +18,15 @@
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.RetryContext;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyAffinity;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyOrderedLanes;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -32,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import com.google.common.collect.Lists;
 
@@ -59,6 +64,13 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
 
     private AtomicBoolean complete = new AtomicBoolean(Boolean.FALSE);
 
+    /**
+     * null unless key-ordered push is enabled and the event carries a partition key
+     */
+    private final String partitionKey;
+
+    private volatile Runnable completeCallback;
+
     public AbstractHTTPPushRequest(HandleMsgContext handleMsgContext) {
         this.eventMeshHTTPServer = handleMsgContext.getEventMeshHTTPServer();
         this.handleMsgContext = handleMsgContext;
@@ -68,6 +80,8 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         this.retryer = handleMsgContext.getEventMeshHTTPServer().getHttpRetryer();
         this.ttl = handleMsgContext.getTtl();
         this.startIdx = RandomUtils.nextInt(0, totalUrls.size());
+        this.partitionKey = eventMeshHttpConfiguration.isEventMeshServerKeyOrderedEnable()
+            ? KeyOrderedLanes.partitionKey(handleMsgContext.getEvent()) : null;
     }
 
     public void tryHTTPRequest() {
@@ -79,7 +93,7 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
             delay(delayTime);
             retryer.pushRetry(this);
         } else {
-            complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+            deadLetter("push gave up after " + (retryTimes + 1) + " attempts");
         }
     }
 
@@ -89,7 +103,7 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
             delay(retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
             retryer.pushRetry(this);
         } else {
-            complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+            deadLetter("push gave up after " + (retryTimes + 1) + " attempts");
         }
     }
 
@@ -97,7 +111,7 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         List<String> localIDCUrl = MapUtils.getObject(urls,
                 eventMeshHttpConfiguration.getEventMeshIDC(), null);
         if (CollectionUtils.isNotEmpty(localIDCUrl)) {
-            return localIDCUrl.get((startIdx + retryTimes) % localIDCUrl.size());
+            return select(localIDCUrl);
         }
 
         List<String> otherIDCUrl = new ArrayList<String>();
@@ -106,18 +120,60 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         }
 
         if (CollectionUtils.isNotEmpty(otherIDCUrl)) {
-            return otherIDCUrl.get((startIdx + retryTimes) % otherIDCUrl.size());
+            return select(otherIDCUrl);
         }
 
         return null;
     }
 
+    /**
+     * An event with a partition key goes to the url the key hashes to first, the others start anywhere.
+     */
+    private String select(List<String> candidateUrls) {
+        int idx = startIdx;
+        if (partitionKey != null) {
+            idx = candidateUrls.indexOf(KeyAffinity.select(partitionKey, candidateUrls, Function.identity()));
+        }
+        return candidateUrls.get((idx + retryTimes) % candidateUrls.size());
+    }
+
     public boolean isComplete() {
         return complete.get();
     }
 
     public void complete() {
-        complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+        if (complete.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            runCompleteCallback();
+        }
+    }
+
+    /**
+     * Run the callback once the push is complete, whether it succeeded or was given up on
+     */
+    public void onComplete(Runnable callback) {
+        this.completeCallback = callback;
+    }
+
+    private void runCompleteCallback() {
+        Runnable callback = completeCallback;
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Complete the push as given up on, keeping the event in the dead-letter store if there is one
+     */
+    public void deadLetter(String reason) {
+        if (!complete.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            return;
+        }
+        DeadLetterManager deadLetterManager = EventMeshServer.getDeadLetterManager();
+        if (deadLetterManager != null) {
+            deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_HTTP, handleMsgContext.getConsumerGroup(),
+                handleMsgContext.getEvent(), reason, retryTimes + 1, handleMsgContext.getCreateTime());
+        }
+        runCompleteCallback();
     }
 
     public void timeout() {
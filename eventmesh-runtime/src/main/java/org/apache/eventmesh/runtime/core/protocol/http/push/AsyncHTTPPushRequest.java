@@ -93,6 +93,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         currPushUrl = getUrl();
 
         if (StringUtils.isBlank(currPushUrl)) {
+            deadLetter("no url to push to");
             return;
         }
 
@@ -149,6 +150,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
         } catch (Exception ex) {
             LOGGER.error("Failed to convert EventMeshMessage from CloudEvent", ex);
+            deadLetter("failed to convert the event");
             return;
         }
 
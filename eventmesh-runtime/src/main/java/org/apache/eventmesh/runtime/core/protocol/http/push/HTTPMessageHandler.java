@@ -18,8 +18,10 @@
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyOrderedLanes;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -33,6 +35,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.opentelemetry.api.trace.Span;
 
@@ -55,6 +58,11 @@ public class HTTPMessageHandler implements MessageHandler {
 
     private transient ThreadPoolExecutor pushExecutor;
 
+    /**
+     * null if events are pushed regardless of their partition key
+     */
+    private final transient KeyOrderedLanes keyOrderedLanes;
+
     private void checkTimeout() {
         waitingRequests.forEach((key, value) -> {
             value.forEach(r -> {
@@ -69,6 +77,9 @@ public class HTTPMessageHandler implements MessageHandler {
     public HTTPMessageHandler(EventMeshConsumer eventMeshConsumer) {
         this.eventMeshConsumer = eventMeshConsumer;
         this.pushExecutor = eventMeshConsumer.getEventMeshHTTPServer().pushMsgExecutor;
+        EventMeshHTTPConfiguration httpConfiguration = eventMeshConsumer.getEventMeshHTTPServer().getEventMeshHttpConfiguration();
+        this.keyOrderedLanes = httpConfiguration.isEventMeshServerKeyOrderedEnable()
+                ? new KeyOrderedLanes(httpConfiguration.getEventMeshServerKeyOrderedLaneCapacity()) : null;
         waitingRequests.put(this.eventMeshConsumer.getConsumerGroupConf().getConsumerGroup(), Sets.newConcurrentHashSet());
         SCHEDULER.scheduleAtFixedRate(this::checkTimeout, 0, 1000, TimeUnit.MILLISECONDS);
     }
@@ -83,6 +94,47 @@ public class HTTPMessageHandler implements MessageHandler {
             return false;
         }
 
+        String partitionKey = keyOrderedLanes == null ? null : KeyOrderedLanes.partitionKey(handleMsgContext.getEvent());
+        if (partitionKey != null) {
+            // a push rejected right away is sent back by the caller, one rejected after waiting for its turn is sent back here
+            Thread caller = Thread.currentThread();
+            AtomicBoolean submitting = new AtomicBoolean(true);
+            AtomicBoolean rejected = new AtomicBoolean();
+            boolean submitted = keyOrderedLanes.submit(partitionKey, done -> {
+                if (!push(handleMsgContext, done)) {
+                    if (submitting.get() && Thread.currentThread() == caller) {
+                        rejected.set(true);
+                    } else {
+                        sendBack(handleMsgContext);
+                    }
+                    done.run();
+                }
+            });
+            submitting.set(false);
+            if (!submitted) {
+                log.warn("lane of partition key is full, so reject, this message will be send back to MQ, "
+                        + "consumerGroup:{}, partitionKey:{}", handleMsgContext.getConsumerGroup(), partitionKey);
+            }
+            return submitted && !rejected.get();
+        }
+        return push(handleMsgContext, null);
+    }
+
+    private void sendBack(final HandleMsgContext handleMsgContext) {
+        try {
+            eventMeshConsumer.sendMessageBack(handleMsgContext.getEvent(), handleMsgContext.getUniqueId(),
+                    handleMsgContext.getBizSeqNo());
+        } catch (Exception e) {
+            log.warn("sendMessageBack failed, consumerGroup:{}, bizSeqNo:{}", handleMsgContext.getConsumerGroup(),
+                    handleMsgContext.getBizSeqNo(), e);
+        }
+        handleMsgContext.finish();
+    }
+
+    /**
+     * @param completeCallback run once the push is complete, null if none
+     */
+    private boolean push(final HandleMsgContext handleMsgContext, final Runnable completeCallback) {
         try {
             pushExecutor.submit(() -> {
                 String protocolVersion = Objects.requireNonNull(handleMsgContext.getEvent().getSpecVersion()).toString();
@@ -92,7 +144,9 @@ public class HTTPMessageHandler implements MessageHandler {
                         EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
                 try {
-                    new AsyncHTTPPushRequest(handleMsgContext, waitingRequests).tryHTTPRequest();
+                    AsyncHTTPPushRequest request = new AsyncHTTPPushRequest(handleMsgContext, waitingRequests);
+                    request.onComplete(completeCallback);
+                    request.tryHTTPRequest();
                 } finally {
                     TraceUtils.finishSpan(span, handleMsgContext.getEvent());
                 }
@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.http.retry;
 
 import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.core.protocol.http.push.AbstractHTTPPushRequest;
 
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.DelayQueue;
@@ -51,6 +52,9 @@ public class HttpRetryer {
     public void pushRetry(DelayRetryable delayRetryable) {
         if (failed.size() >= eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryBlockQSize()) {
             retryLogger.error("[RETRY-QUEUE] is full!");
+            if (delayRetryable instanceof AbstractHTTPPushRequest) {
+                ((AbstractHTTPPushRequest) delayRetryable).deadLetter("retry queue full");
+            }
             return;
         }
         failed.offer(delayRetryable);
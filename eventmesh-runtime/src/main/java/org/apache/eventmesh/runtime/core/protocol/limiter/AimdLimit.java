@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase on success, multiplicative decrease on drop or timeout.
+ */
+public class AimdLimit implements Limit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long timeoutNanos;
+
+    private volatile int limit;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, long timeoutInMills) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMills);
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        int currentLimit = limit;
+        if (dropped || rttNanos > timeoutNanos) {
+            currentLimit = (int) (currentLimit * BACKOFF_RATIO);
+        } else if (inflight * 2 >= currentLimit) {
+            // only grow when the limit is actually used
+            currentLimit = currentLimit + 1;
+        }
+        limit = Math.min(maxLimit, Math.max(minLimit, currentLimit));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.limiter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Limits the number of inflight publish requests of one group, the limit is adjusted by a {@link Limit}
+ * from the connector publish latency. A token whose request never completes, e.g. a connector callback that is
+ * never called, is released as dropped by {@link #reapExpired()} once it is older than the token expiry.
+ */
+public class ConcurrencyLimiter {
+
+    private final Limit limit;
+
+    private final AtomicInteger inflight = new AtomicInteger(0);
+
+    private final IntConsumer limitListener;
+
+    private final long tokenExpiredNanos;
+
+    private final Set<Token> outstanding = ConcurrentHashMap.newKeySet();
+
+    public ConcurrencyLimiter(Limit limit, IntConsumer limitListener) {
+        this(limit, limitListener, 0);
+    }
+
+    /**
+     * @param tokenExpiredInMills age after which an unreleased token is reaped, 0 to never reap
+     */
+    public ConcurrencyLimiter(Limit limit, IntConsumer limitListener, long tokenExpiredInMills) {
+        this.limit = limit;
+        this.limitListener = limitListener;
+        this.tokenExpiredNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, tokenExpiredInMills));
+        limitListener.accept(limit.getLimit());
+    }
+
+    /**
+     * @return a token that must be completed when the request finishes, or null if the limit is reached
+     */
+    public Token tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit.getLimit()) {
+                return null;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        Token token = new Token(current + 1);
+        if (tokenExpiredNanos > 0) {
+            outstanding.add(token);
+        }
+        return token;
+    }
+
+    /**
+     * Release every token older than the token expiry as dropped, so a lost completion does not keep its slot.
+     *
+     * @return number of reaped tokens
+     */
+    public int reapExpired() {
+        if (tokenExpiredNanos <= 0 || outstanding.isEmpty()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        int reaped = 0;
+        for (Token token : outstanding) {
+            if (now - token.deadlineNanos > 0 && token.release(true, true)) {
+                reaped++;
+            }
+        }
+        return reaped;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private void release(Token token, long rttNanos, boolean dropped, boolean sample) {
+        if (tokenExpiredNanos > 0) {
+            outstanding.remove(token);
+        }
+        inflight.decrementAndGet();
+        if (sample) {
+            int before = limit.getLimit();
+            limit.onSample(rttNanos, token.inflightOnAcquire, dropped);
+            int after = limit.getLimit();
+            if (before != after) {
+                limitListener.accept(after);
+            }
+        }
+    }
+
+    public class Token {
+
+        private final long startNanos = System.nanoTime();
+
+        private final int inflightOnAcquire;
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private final AtomicInteger pendingParts = new AtomicInteger(1);
+
+        private volatile long deadlineNanos = startNanos + tokenExpiredNanos;
+
+        private volatile boolean partDropped;
+
+        private Token(int inflightOnAcquire) {
+            this.inflightOnAcquire = inflightOnAcquire;
+        }
+
+        /**
+         * The request legitimately waits this long before completing, e.g. the ttl of a request-reply, so the token
+         * is reaped only once the wait and the token expiry have both passed.
+         */
+        public void extendDeadline(long waitInMills) {
+            deadlineNanos = startNanos + tokenExpiredNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, waitInMills));
+        }
+
+        /**
+         * Share the token between the parts of one request, e.g. the sends of a batch, each of them then calls
+         * {@link #onPartDone(boolean)}. A request without any part is released right away.
+         */
+        public void expectParts(int parts) {
+            if (parts <= 0) {
+                onIgnore();
+                return;
+            }
+            pendingParts.set(parts);
+        }
+
+        /**
+         * A part of the request completed, the token is released with the last one, as dropped if any part failed.
+         */
+        public void onPartDone(boolean success) {
+            if (!success) {
+                partDropped = true;
+            }
+            if (pendingParts.decrementAndGet() == 0) {
+                if (partDropped) {
+                    onDropped();
+                } else {
+                    onSuccess();
+                }
+            }
+        }
+
+        /**
+         * The request was published by the connector.
+         */
+        public void onSuccess() {
+            release(false, true);
+        }
+
+        /**
+         * The request failed or timed out in the connector.
+         */
+        public void onDropped() {
+            release(true, true);
+        }
+
+        /**
+         * The request did not reach the connector, release it without sampling.
+         */
+        public void onIgnore() {
+            release(false, false);
+        }
+
+        private boolean release(boolean dropped, boolean sample) {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            ConcurrencyLimiter.this.release(this, sample ? System.nanoTime() - startNanos : 0, dropped, sample);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.limiter;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds one {@link ConcurrencyLimiter} per group of a protocol server. The current limit of every group is kept in
+ * {@link #getLimits()}, which is exported as a metric. A reaper releases the tokens whose request never completed.
+ */
+@Slf4j
+public class ConcurrencyLimiterManager {
+
+    public static final String LIMITER_TYPE_NONE = "none";
+
+    public static final String LIMITER_TYPE_AIMD = "aimd";
+
+    public static final String LIMITER_TYPE_GRADIENT = "gradient";
+
+    private static final long REAP_INTERVAL_IN_MILLS = 1000;
+
+    private final String protocol;
+
+    private final CommonConfiguration configuration;
+
+    private final boolean enabled;
+
+    private final Map<String /* group */, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final Map<String /* group */, Integer> limits = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService reaper;
+
+    public ConcurrencyLimiterManager(String protocol, CommonConfiguration configuration) {
+        this.protocol = protocol;
+        this.configuration = configuration;
+        String type = configuration.getEventMeshServerLimiterType();
+        this.enabled = StringUtils.isNotBlank(type) && !LIMITER_TYPE_NONE.equalsIgnoreCase(type);
+        if (enabled && configuration.getEventMeshServerLimiterTokenExpiredInMills() > 0) {
+            this.reaper = ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-limiterReaper-" + protocol);
+            this.reaper.scheduleWithFixedDelay(this::reapExpired, REAP_INTERVAL_IN_MILLS, REAP_INTERVAL_IN_MILLS,
+                TimeUnit.MILLISECONDS);
+        } else {
+            this.reaper = null;
+        }
+        if (log.isInfoEnabled()) {
+            log.info("init concurrency limiter|protocol={}|type={}", protocol, type);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return a token to complete when the request finishes, or null if the group is overloaded.
+     *     Callers must check {@link #isEnabled()} first.
+     */
+    public ConcurrencyLimiter.Token tryAcquire(String group) {
+        ConcurrencyLimiter limiter = limiters.computeIfAbsent(group, this::createLimiter);
+        ConcurrencyLimiter.Token token = limiter.tryAcquire();
+        if (token == null && log.isWarnEnabled()) {
+            log.warn("concurrency limit reached|protocol={}|group={}|limit={}|inflight={}",
+                protocol, group, limiter.getLimit(), limiter.getInflight());
+        }
+        return token;
+    }
+
+    public Map<String, Integer> getLimits() {
+        return limits;
+    }
+
+    public void shutdown() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+    }
+
+    void reapExpired() {
+        limiters.forEach((group, limiter) -> {
+            int reaped = limiter.reapExpired();
+            if (reaped > 0 && log.isWarnEnabled()) {
+                log.warn("reaped expired concurrency limiter tokens|protocol={}|group={}|reaped={}|inflight={}",
+                    protocol, group, reaped, limiter.getInflight());
+            }
+        });
+    }
+
+    private ConcurrencyLimiter createLimiter(String group) {
+        int initialLimit = configuration.getEventMeshServerLimiterInitialLimit();
+        int minLimit = configuration.getEventMeshServerLimiterMinLimit();
+        int maxLimit = configuration.getEventMeshServerLimiterMaxLimit();
+        int timeout = configuration.getEventMeshServerLimiterTimeoutInMills();
+
+        Limit limit;
+        if (LIMITER_TYPE_GRADIENT.equalsIgnoreCase(configuration.getEventMeshServerLimiterType())) {
+            limit = new GradientLimit(initialLimit, minLimit, maxLimit, timeout);
+        } else {
+            limit = new AimdLimit(initialLimit, minLimit, maxLimit, timeout);
+        }
+        return new ConcurrencyLimiter(limit, newLimit -> limits.put(group, newLimit),
+            configuration.getEventMeshServerLimiterTokenExpiredInMills());
+    }
+}
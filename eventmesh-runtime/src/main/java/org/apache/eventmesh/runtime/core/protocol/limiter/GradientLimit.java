@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gradient style limit: compares the short term latency with a slowly moving long term baseline, shrinks the
+ * limit when the latency grows (the connector starts queueing) and grows it by a small queue allowance otherwise.
+ */
+public class GradientLimit implements Limit {
+
+    private static final double LONG_WINDOW_FACTOR = 2.0 / (600 + 1);
+
+    private static final double SHORT_WINDOW_FACTOR = 2.0 / (10 + 1);
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long timeoutNanos;
+
+    private double estimatedLimit;
+
+    private double longRtt;
+
+    private double shortRtt;
+
+    private volatile int limit;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, long timeoutInMills) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMills);
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.estimatedLimit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped || rttNanos > timeoutNanos) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit / 2);
+            limit = (int) estimatedLimit;
+            return;
+        }
+
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+        } else {
+            longRtt = longRtt + (rttNanos - longRtt) * LONG_WINDOW_FACTOR;
+            shortRtt = shortRtt + (rttNanos - shortRtt) * SHORT_WINDOW_FACTOR;
+        }
+
+        // recover faster after a latency spike by letting the baseline follow it down
+        if (longRtt / shortRtt > 2) {
+            longRtt = longRtt * 0.95;
+        }
+
+        // do not grow the limit when the application does not use it
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.ordered;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Consistent affinity of partition keys to sessions or urls by rendezvous hashing: a key goes to the candidate with the
+ * highest hash of key and candidate id, so a candidate joining or leaving only moves the keys it wins or won.
+ */
+public final class KeyAffinity {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private KeyAffinity() {
+    }
+
+    /**
+     * @return null if there is no candidate
+     */
+    public static <T> T select(String key, Collection<T> candidates, Function<T, String> id) {
+        T selected = null;
+        long max = Long.MIN_VALUE;
+        for (T candidate : candidates) {
+            long weight = HASH.newHasher()
+                .putString(key, StandardCharsets.UTF_8)
+                .putString(id.apply(candidate), StandardCharsets.UTF_8)
+                .hash().asLong();
+            if (selected == null || weight > max) {
+                selected = candidate;
+                max = weight;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.ordered;
+
+import org.apache.eventmesh.common.Constants;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serializes the events of a partition key while events of different keys are dispatched concurrently: an event is
+ * dispatched once the one before it of the same key is done, i.e. acked or given up on. Retries and re-pushes to
+ * another session or url happen while the event still holds its lane, so they cannot be overtaken.
+ * <p>
+ * A lane only exists while an event of its key is in flight, idle keys cost nothing. A lane holds at most laneCapacity
+ * waiting events, so that a stuck key cannot buffer its whole backlog in memory.
+ */
+@Slf4j
+public class KeyOrderedLanes {
+
+    private static final int RUNNING = 0;
+
+    private static final int RETURNED = 1;
+
+    private static final int DONE_INLINE = 2;
+
+    private static final int DONE = 3;
+
+    /**
+     * key -> events waiting behind the one in flight
+     */
+    private final ConcurrentHashMap<String, Queue<Consumer<Runnable>>> lanes = new ConcurrentHashMap<>();
+
+    private final int laneCapacity;
+
+    public KeyOrderedLanes(int laneCapacity) {
+        this.laneCapacity = laneCapacity;
+    }
+
+    /**
+     * @return the partition key of the event, null if it has none and can be dispatched in any order
+     */
+    public static String partitionKey(CloudEvent event) {
+        Object partitionKey = event.getExtension(Constants.PROPERTY_MESSAGE_PARTITION_KEY);
+        return partitionKey == null || StringUtils.isEmpty(partitionKey.toString()) ? null : partitionKey.toString();
+    }
+
+    /**
+     * Dispatch right away if no event of the key is in flight, otherwise once the ones before it are done.
+     *
+     * @param dispatch is given the callback to run once the event is done, exactly once however it ends
+     * @return false if the lane of the key is full, the event is not dispatched then
+     */
+    public boolean submit(String key, Consumer<Runnable> dispatch) {
+        boolean[] idle = new boolean[1];
+        boolean[] full = new boolean[1];
+        lanes.compute(key, (k, waiting) -> {
+            if (waiting == null) {
+                idle[0] = true;
+                return new ArrayDeque<>();
+            }
+            if (waiting.size() >= laneCapacity) {
+                full[0] = true;
+            } else {
+                waiting.add(dispatch);
+            }
+            return waiting;
+        });
+        if (idle[0]) {
+            run(key, dispatch);
+        }
+        return !full[0];
+    }
+
+    /**
+     * @return keys with an event in flight
+     */
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Dispatches that are done before returning continue the loop instead of recursing, so a lane whose events all
+     * end right away, e.g. with no session to push to, does not grow the stack.
+     */
+    private void run(String key, Consumer<Runnable> dispatch) {
+        Consumer<Runnable> current = dispatch;
+        while (current != null) {
+            Completion completion = new Completion(key);
+            try {
+                current.accept(completion);
+            } catch (RuntimeException e) {
+                log.error("dispatch in lane failed, key:{}", key, e);
+                completion.run();
+            }
+            if (completion.state.compareAndSet(RUNNING, RETURNED)) {
+                return;
+            }
+            current = next(key);
+        }
+    }
+
+    private Consumer<Runnable> next(String key) {
+        Object[] next = new Object[1];
+        lanes.computeIfPresent(key, (k, waiting) -> {
+            next[0] = waiting.poll();
+            return next[0] == null ? null : waiting;
+        });
+        @SuppressWarnings("unchecked")
+        Consumer<Runnable> dispatch = (Consumer<Runnable>) next[0];
+        return dispatch;
+    }
+
+    private final class Completion implements Runnable {
+
+        private final String key;
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private Completion(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(RUNNING, DONE_INLINE)) {
+                return;
+            }
+            if (state.compareAndSet(RETURNED, DONE)) {
+                Consumer<Runnable> dispatch = next(key);
+                if (dispatch != null) {
+                    KeyOrderedLanes.this.run(key, dispatch);
+                }
+            }
+        }
+    }
+}
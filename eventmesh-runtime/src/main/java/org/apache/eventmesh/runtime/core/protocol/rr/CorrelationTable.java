@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.rr;
+
+import org.apache.eventmesh.api.RequestReplyCallback;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.cloudevents.CloudEvent;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+/**
+ * Pending requests by correlation id. The table is split into shards so that a burst of requests or timeouts does not
+ * contend on one map, and every request is expired by a timer wheel instead of being scanned.
+ */
+class CorrelationTable {
+
+    private final ConcurrentHashMap<String, PendingRequest>[] shards;
+
+    private final Timer timer;
+
+    @SuppressWarnings("unchecked")
+    CorrelationTable(int shardCount, Timer timer) {
+        this.shards = new ConcurrentHashMap[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.timer = timer;
+    }
+
+    void register(String correlationId, RequestReplyCallback callback, long timeoutMillis) {
+        PendingRequest pendingRequest = new PendingRequest(callback);
+        shard(correlationId).put(correlationId, pendingRequest);
+        pendingRequest.timeout = timer.newTimeout(timeout -> {
+            if (shard(correlationId).remove(correlationId, pendingRequest)) {
+                callback.onException(new TimeoutException(
+                    String.format("request-reply timeout, correlationId:%s, timeout:%dms", correlationId, timeoutMillis)));
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return false if the request is unknown, it timed out or was answered already
+     */
+    boolean complete(String correlationId, CloudEvent reply) {
+        PendingRequest pendingRequest = shard(correlationId).remove(correlationId);
+        if (pendingRequest == null) {
+            return false;
+        }
+        pendingRequest.cancelTimeout();
+        pendingRequest.callback.onSuccess(reply);
+        return true;
+    }
+
+    boolean fail(String correlationId, Throwable e) {
+        PendingRequest pendingRequest = shard(correlationId).remove(correlationId);
+        if (pendingRequest == null) {
+            return false;
+        }
+        pendingRequest.cancelTimeout();
+        pendingRequest.callback.onException(e);
+        return true;
+    }
+
+    /**
+     * Forget the request without calling it back, e.g. when it could not be sent and the caller gets the error.
+     */
+    void cancel(String correlationId) {
+        PendingRequest pendingRequest = shard(correlationId).remove(correlationId);
+        if (pendingRequest != null) {
+            pendingRequest.cancelTimeout();
+        }
+    }
+
+    void failAll(Throwable e) {
+        for (ConcurrentHashMap<String, PendingRequest> shard : shards) {
+            shard.keySet().forEach(correlationId -> fail(correlationId, e));
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, PendingRequest> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, PendingRequest> shard(String correlationId) {
+        int hash = correlationId.hashCode();
+        return shards[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private static class PendingRequest {
+
+        private final RequestReplyCallback callback;
+
+        private volatile Timeout timeout;
+
+        PendingRequest(RequestReplyCallback callback) {
+            this.callback = callback;
+        }
+
+        void cancelTimeout() {
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
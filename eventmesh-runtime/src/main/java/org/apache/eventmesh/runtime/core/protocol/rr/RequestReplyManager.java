@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.rr;
+
+import static org.apache.eventmesh.runtime.constants.EventMeshConstants.CONSUMER_GROUP;
+import static org.apache.eventmesh.runtime.constants.EventMeshConstants.EVENT_MESH_IDC;
+import static org.apache.eventmesh.runtime.constants.EventMeshConstants.INSTANCE_NAME;
+import static org.apache.eventmesh.runtime.constants.EventMeshConstants.IS_BROADCAST;
+
+import org.apache.eventmesh.api.AsyncConsumeContext;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.RequestReplyCallback;
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.common.utils.ThreadUtils;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.util.HashedWheelTimer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request-reply done by the runtime on top of plain publish and subscribe, so that it works with every connector
+ * and not only with the ones implementing {@link Producer#request} and {@link Producer#reply}.
+ * <ul>
+ *     <li>Every eventMesh subscribes to a reply topic of its own.</li>
+ *     <li>A request is published with a correlation id and that reply topic as extensions, its callback is kept in a
+ *     {@link CorrelationTable} until the reply arrives or the request times out.</li>
+ *     <li>The responder echoes the extensions, so its reply is published to the reply topic of the requesting
+ *     eventMesh, where the callback routes it back to the waiting session, HTTP request or gRPC stream.</li>
+ * </ul>
+ */
+@Slf4j
+public class RequestReplyManager {
+
+    private final String replyTopic;
+
+    private final String correlationIdPrefix;
+
+    private final AtomicLong correlationSequence = new AtomicLong();
+
+    private final HashedWheelTimer timer;
+
+    private final CorrelationTable correlationTable;
+
+    private final MQConsumerWrapper replyConsumer;
+
+    private final CommonConfiguration configuration;
+
+    public RequestReplyManager(CommonConfiguration configuration) {
+        this(configuration, new MQConsumerWrapper(configuration.getEventMeshConnectorPluginType()));
+    }
+
+    RequestReplyManager(CommonConfiguration configuration, MQConsumerWrapper replyConsumer) {
+        this.configuration = configuration;
+        this.replyConsumer = replyConsumer;
+        this.replyTopic = String.join("-", configuration.getEventMeshCluster(), configuration.getEventMeshServerIp(),
+            String.valueOf(ThreadUtils.getPID()), EventMeshConstants.RR_REPLY_TOPIC);
+        // a restarted eventMesh must not match late replies to the requests of its previous run
+        this.correlationIdPrefix = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+        this.timer = new HashedWheelTimer(new EventMeshThreadFactory("EventMesh-RequestReplyTimer", true),
+            configuration.getEventMeshServerRequestReplyTickInMills(), TimeUnit.MILLISECONDS);
+        this.correlationTable = new CorrelationTable(configuration.getEventMeshServerRequestReplyShards(), timer);
+    }
+
+    public void init() throws Exception {
+        Properties keyValue = new Properties();
+        keyValue.put(IS_BROADCAST, "false");
+        keyValue.put(CONSUMER_GROUP, replyTopic);
+        keyValue.put(EVENT_MESH_IDC, configuration.getEventMeshIDC());
+        keyValue.put(INSTANCE_NAME, EventMeshUtil.buildMeshClientID(replyTopic, configuration.getEventMeshCluster()));
+        replyConsumer.init(keyValue);
+        replyConsumer.registerEventListener(this::onReply);
+    }
+
+    public void start() throws Exception {
+        replyConsumer.subscribe(replyTopic);
+        replyConsumer.start();
+        log.info("request-reply started, replyTopic:{}", replyTopic);
+    }
+
+    public void shutdown() throws Exception {
+        replyConsumer.shutdown();
+        correlationTable.failAll(new IllegalStateException("eventMesh is shutting down"));
+        timer.stop();
+    }
+
+    /**
+     * Publish the request through the given producer and call back once the reply arrives on the reply topic.
+     */
+    public void request(Producer producer, CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout) throws Exception {
+        String correlationId = correlationIdPrefix + correlationSequence.incrementAndGet();
+        CloudEvent request = CloudEventBuilder.from(cloudEvent)
+            .withExtension(EventMeshConstants.PROPERTY_RR_CORRELATION_ID, correlationId)
+            .withExtension(EventMeshConstants.PROPERTY_RR_REPLY_TO, replyTopic)
+            .build();
+        correlationTable.register(correlationId, rrCallback, timeout);
+        try {
+            producer.publish(request, new SendCallback() {
+                @Override
+                public void onSuccess(SendResult sendResult) {
+                    // the callback waits for the reply
+                }
+
+                @Override
+                public void onException(OnExceptionContext context) {
+                    correlationTable.fail(correlationId, context.getException());
+                }
+            });
+        } catch (Exception e) {
+            correlationTable.cancel(correlationId);
+            throw e;
+        }
+    }
+
+    /**
+     * @return false if the event does not answer a request made through this manager
+     */
+    public boolean reply(Producer producer, CloudEvent cloudEvent, SendCallback sendCallback) throws Exception {
+        Object replyTo = cloudEvent.getExtension(EventMeshConstants.PROPERTY_RR_REPLY_TO);
+        if (replyTo == null || cloudEvent.getExtension(EventMeshConstants.PROPERTY_RR_CORRELATION_ID) == null) {
+            return false;
+        }
+        producer.publish(CloudEventBuilder.from(cloudEvent).withSubject(replyTo.toString()).build(), sendCallback);
+        return true;
+    }
+
+    public String getReplyTopic() {
+        return replyTopic;
+    }
+
+    public int getPendingRequests() {
+        return correlationTable.size();
+    }
+
+    void onReply(CloudEvent cloudEvent, AsyncConsumeContext context) {
+        Object correlationId = cloudEvent.getExtension(EventMeshConstants.PROPERTY_RR_CORRELATION_ID);
+        if (correlationId == null || !correlationTable.complete(correlationId.toString(), cloudEvent)) {
+            log.warn("drop reply without pending request, correlationId:{}, topic:{}", correlationId, cloudEvent.getSubject());
+        }
+        context.commit(EventMeshAction.CommitMessage);
+    }
+}
@@ -67,7 +67,7 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
         validateMsg(pkg);
 
         eventMeshTCPServer.getEventMeshTcpMonitor().getTcpSummaryMetrics()
-                .getClient2eventMeshMsgNum().incrementAndGet();
+                .getClient2eventMeshMsgNum().mark();
 
         Command cmd = pkg.getHeader().getCmd();
         try {
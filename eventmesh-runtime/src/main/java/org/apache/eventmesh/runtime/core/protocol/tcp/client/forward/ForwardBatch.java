@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import java.util.List;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Events of one consumer group sent to a peer gateway in a single frame.
+ */
+public class ForwardBatch {
+
+    private final long batchId;
+
+    private final String group;
+
+    private final List<CloudEvent> events;
+
+    public ForwardBatch(long batchId, String group, List<CloudEvent> events) {
+        this.batchId = batchId;
+        this.group = group;
+        this.events = events;
+    }
+
+    public long getBatchId() {
+        return batchId;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public List<CloudEvent> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import org.apache.eventmesh.common.protocol.cloudevents.EventMeshBinaryFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.cloudevents.CloudEvent;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Frames of the gateway to gateway forward channel:
+ * <pre>
+ * | length(4) | type(1) | batchId(8) | body |
+ * </pre>
+ * The body of a batch is the group followed by the events in the EventMesh binary event format, the body of an ack is one
+ * accepted flag per event of the batch. Acks carry the batch id so any number of batches can be in flight on a connection.
+ */
+public class ForwardCodec {
+
+    static final byte TYPE_BATCH = 1;
+
+    static final byte TYPE_ACK = 2;
+
+    private static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+    private static final EventMeshBinaryFormat FORMAT = new EventMeshBinaryFormat();
+
+    public static class Encoder extends MessageToByteEncoder<Object> {
+
+        @Override
+        public boolean acceptOutboundMessage(Object msg) {
+            return msg instanceof ForwardBatch || msg instanceof ForwardAck;
+        }
+
+        @Override
+        public void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+            int lengthIndex = out.writerIndex();
+            out.writeInt(0);
+            if (msg instanceof ForwardBatch) {
+                ForwardBatch batch = (ForwardBatch) msg;
+                out.writeByte(TYPE_BATCH);
+                out.writeLong(batch.getBatchId());
+                writeBytes(out, batch.getGroup().getBytes(StandardCharsets.UTF_8));
+                out.writeInt(batch.getEvents().size());
+                for (CloudEvent event : batch.getEvents()) {
+                    writeBytes(out, FORMAT.serialize(event));
+                }
+            } else {
+                ForwardAck ack = (ForwardAck) msg;
+                out.writeByte(TYPE_ACK);
+                out.writeLong(ack.getBatchId());
+                out.writeInt(ack.getAccepted().length);
+                for (boolean accepted : ack.getAccepted()) {
+                    out.writeBoolean(accepted);
+                }
+            }
+            out.setInt(lengthIndex, out.writerIndex() - lengthIndex - 4);
+        }
+
+        private static void writeBytes(ByteBuf out, byte[] bytes) {
+            out.writeInt(bytes.length);
+            out.writeBytes(bytes);
+        }
+    }
+
+    public static class Decoder extends LengthFieldBasedFrameDecoder {
+
+        public Decoder() {
+            super(MAX_FRAME_LENGTH, 0, 4, 0, 4);
+        }
+
+        @Override
+        protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+            ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+            if (frame == null) {
+                return null;
+            }
+            try {
+                return decodeFrame(frame);
+            } finally {
+                frame.release();
+            }
+        }
+
+        private static Object decodeFrame(ByteBuf frame) {
+            byte type = frame.readByte();
+            long batchId = frame.readLong();
+            switch (type) {
+                case TYPE_BATCH:
+                    String group = new String(readBytes(frame), StandardCharsets.UTF_8);
+                    int count = frame.readInt();
+                    List<CloudEvent> events = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        events.add(EventMeshBinaryFormat.decode(readBytes(frame)).build());
+                    }
+                    return new ForwardBatch(batchId, group, events);
+                case TYPE_ACK:
+                    boolean[] accepted = new boolean[frame.readInt()];
+                    for (int i = 0; i < accepted.length; i++) {
+                        accepted[i] = frame.readBoolean();
+                    }
+                    return new ForwardAck(batchId, accepted);
+                default:
+                    throw new CorruptedFrameException("unknown forward frame type: " + type);
+            }
+        }
+
+        private static byte[] readBytes(ByteBuf frame) {
+            byte[] bytes = new byte[frame.readInt()];
+            frame.readBytes(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Hands an event forwarded by a peer gateway to a local session of its group.
+ */
+@FunctionalInterface
+public interface ForwardEventDispatcher {
+
+    /**
+     * @return completed with true once a local client acked the event, with false if the group has no session able to take it
+     *     here or the push is given up on, the origin eventMesh then sends the event back to the broker
+     */
+    CompletableFuture<Boolean> dispatch(String group, CloudEvent event);
+}
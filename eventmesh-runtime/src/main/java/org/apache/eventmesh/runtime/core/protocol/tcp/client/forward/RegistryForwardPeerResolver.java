@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.utils.IPUtils;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the gateways of the local cluster holding consumer sessions of a group from the registry, cached for
+ * {@code tcp.forward.peerRefreshInMills} so the registry is not queried per message. The registry is never queried on the caller
+ * thread either: an expired entry is served while it is refreshed in the background, a group seen for the first time resolves to
+ * no peer until its first refresh is done.
+ *
+ * <p>Every gateway publishes its forward port under {@link #METADATA_FORWARD_PORT} in its registry metadata. A gateway without
+ * it, e.g. because the metadata was overwritten through the http server, is assumed to listen on the local forward port.
+ */
+@Slf4j
+public class RegistryForwardPeerResolver implements ForwardPeerResolver {
+
+    public static final String METADATA_FORWARD_PORT = "tcpForwardPort";
+
+    private final EventMeshTCPServer eventMeshTCPServer;
+
+    private final Map<String, CachedPeers> cache = new ConcurrentHashMap<>();
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService refresher =
+            Executors.newSingleThreadExecutor(new EventMeshThreadFactory("eventMesh-tcp-forward-peers", true));
+
+    public RegistryForwardPeerResolver(EventMeshTCPServer eventMeshTCPServer) {
+        this.eventMeshTCPServer = eventMeshTCPServer;
+    }
+
+    @Override
+    public List<InetSocketAddress> resolve(String group) {
+        CachedPeers cached = cache.get(group);
+        if (cached == null || System.currentTimeMillis() >= cached.expireTime) {
+            refreshAsync(group);
+        }
+        return cached == null ? Collections.emptyList() : cached.peers;
+    }
+
+    @Override
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshAsync(String group) {
+        if (!refreshing.add(group)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    EventMeshTCPConfiguration configuration = eventMeshTCPServer.getEventMeshTCPConfiguration();
+                    List<InetSocketAddress> peers = queryPeers(configuration, group);
+                    cache.put(group, new CachedPeers(peers,
+                            System.currentTimeMillis() + configuration.getEventMeshTcpForwardPeerRefreshInMills()));
+                } catch (Exception e) {
+                    log.warn("refresh forward peers failed, group:{}", group, e);
+                } finally {
+                    refreshing.remove(group);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(group);
+        }
+    }
+
+    private List<InetSocketAddress> queryPeers(EventMeshTCPConfiguration configuration, String group) throws Exception {
+        String cluster = configuration.getEventMeshCluster();
+        List<EventMeshDataInfo> eventMeshDataInfoList = eventMeshTCPServer.getRegistry().findEventMeshInfoByCluster(cluster);
+        Map<String, Map<String, Integer>> clientDistributionData = eventMeshTCPServer.getRegistry()
+                .findEventMeshClientDistributionData(cluster, group, EventMeshConstants.PURPOSE_SUB);
+        if (CollectionUtils.isEmpty(eventMeshDataInfoList) || MapUtils.isEmpty(clientDistributionData)) {
+            return Collections.emptyList();
+        }
+
+        String localEndpoint = IPUtils.getLocalAddress() + EventMeshConstants.IP_PORT_SEPARATOR
+                + configuration.getEventMeshTcpServerPort();
+        List<InetSocketAddress> peers = new ArrayList<>();
+        for (EventMeshDataInfo eventMeshDataInfo : eventMeshDataInfoList) {
+            String endpoint = eventMeshDataInfo.getEndpoint();
+            if (StringUtils.isBlank(endpoint) || StringUtils.equals(endpoint, localEndpoint)) {
+                continue;
+            }
+            Map<String, Integer> purposeCount = clientDistributionData.get(eventMeshDataInfo.getEventMeshName());
+            Integer subCount = MapUtils.isEmpty(purposeCount) ? null : purposeCount.get(EventMeshConstants.PURPOSE_SUB);
+            if (subCount == null || subCount <= 0) {
+                continue;
+            }
+            String host = endpoint.split(EventMeshConstants.IP_PORT_SEPARATOR)[0];
+            peers.add(new InetSocketAddress(host, forwardPort(eventMeshDataInfo, configuration)));
+        }
+        return peers;
+    }
+
+    private static int forwardPort(EventMeshDataInfo eventMeshDataInfo, EventMeshTCPConfiguration configuration) {
+        Map<String, String> metadata = eventMeshDataInfo.getMetadata();
+        String port = MapUtils.isEmpty(metadata) ? null : metadata.get(METADATA_FORWARD_PORT);
+        return NumberUtils.toInt(port, configuration.getEventMeshTcpForwardPort());
+    }
+
+    private static class CachedPeers {
+
+        private final List<InetSocketAddress> peers;
+
+        private final long expireTime;
+
+        CachedPeers(List<InetSocketAddress> peers, long expireTime) {
+            this.peers = peers;
+            this.expireTime = expireTime;
+        }
+    }
+}
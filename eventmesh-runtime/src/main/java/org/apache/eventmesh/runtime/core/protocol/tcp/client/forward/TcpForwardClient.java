@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.cloudevents.CloudEvent;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Forwards messages to peer gateways over a few long-lived connections per peer.
+ *
+ * <p>Messages for the same peer and group are batched until {@code batchSize} is reached or {@code lingerInMills}
+ * has passed, batches are pipelined on the connections and completed by the ack of the peer. A peer may have at most
+ * {@code maxInFlightBatches} unacked batches, further batches are rejected at once so the caller can fall back to
+ * sending the messages back to the broker instead of blocking its consumer thread.
+ */
+@Slf4j
+public class TcpForwardClient {
+
+    private final ForwardPeerResolver peerResolver;
+
+    private final int connectionsPerPeer;
+
+    private final int batchSize;
+
+    private final int lingerInMills;
+
+    private final int maxInFlightBatches;
+
+    private final int ackTimeoutInMills;
+
+    private final Map<InetSocketAddress, PeerConnection> peers = new ConcurrentHashMap<>();
+
+    private final Map<Long, InFlightBatch> inFlightBatches = new ConcurrentHashMap<>();
+
+    private final AtomicLong batchIdGenerator = new AtomicLong();
+
+    private EventLoopGroup ioGroup;
+
+    private Bootstrap bootstrap;
+
+    private volatile boolean started;
+
+    public TcpForwardClient(ForwardPeerResolver peerResolver, int connectionsPerPeer, int batchSize, int lingerInMills,
+                            int maxInFlightBatches, int ackTimeoutInMills) {
+        this.peerResolver = peerResolver;
+        this.connectionsPerPeer = Math.max(1, connectionsPerPeer);
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerInMills = Math.max(0, lingerInMills);
+        this.maxInFlightBatches = Math.max(1, maxInFlightBatches);
+        this.ackTimeoutInMills = ackTimeoutInMills;
+    }
+
+    public void start() {
+        ioGroup = new NioEventLoopGroup(connectionsPerPeer, new EventMeshThreadFactory("eventMesh-tcp-forward-client", true));
+        AckHandler ackHandler = new AckHandler();
+        bootstrap = new Bootstrap()
+                .group(ioGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ackTimeoutInMills)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(new ForwardCodec.Encoder())
+                                .addLast(new ForwardCodec.Decoder())
+                                .addLast(ackHandler);
+                    }
+                });
+        started = true;
+        log.info("TcpForwardClient started");
+    }
+
+    public void shutdown() {
+        started = false;
+        peerResolver.shutdown();
+        peers.values().forEach(PeerConnection::close);
+        peers.clear();
+        inFlightBatches.keySet().forEach(this::failBatch);
+        if (ioGroup != null) {
+            ioGroup.shutdownGracefully();
+        }
+        log.info("TcpForwardClient shutdown");
+    }
+
+    /**
+     * Forward a message to a peer gateway holding a consumer session of the group.
+     *
+     * @return completed with true once a peer session took the message, with false if no peer took it
+     */
+    public CompletableFuture<Boolean> forward(String group, CloudEvent event) {
+        if (!started) {
+            return CompletableFuture.completedFuture(false);
+        }
+        List<InetSocketAddress> candidates;
+        try {
+            candidates = peerResolver.resolve(group);
+        } catch (Exception e) {
+            log.warn("resolve forward peers failed, group:{}", group, e);
+            return CompletableFuture.completedFuture(false);
+        }
+        if (CollectionUtils.isEmpty(candidates)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        InetSocketAddress peer = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        return peers.computeIfAbsent(peer, PeerConnection::new).offer(group, event);
+    }
+
+    int getInFlightBatchCount() {
+        return inFlightBatches.size();
+    }
+
+    private void failBatch(long batchId) {
+        InFlightBatch batch = inFlightBatches.remove(batchId);
+        if (batch != null) {
+            batch.complete(null);
+        }
+    }
+
+    private static void reject(List<PendingEvent> pendingEvents) {
+        pendingEvents.forEach(pendingEvent -> pendingEvent.future.complete(false));
+    }
+
+    private class PeerConnection {
+
+        private final InetSocketAddress address;
+
+        private final ChannelFuture[] channels = new ChannelFuture[connectionsPerPeer];
+
+        private final Semaphore inFlight = new Semaphore(maxInFlightBatches);
+
+        private final Map<String, List<PendingEvent>> buffers = new HashMap<>();
+
+        private int nextChannel;
+
+        PeerConnection(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        synchronized CompletableFuture<Boolean> offer(String group, CloudEvent event) {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            List<PendingEvent> buffer = buffers.computeIfAbsent(group, k -> new ArrayList<>(batchSize));
+            buffer.add(new PendingEvent(event, future));
+            if (buffer.size() >= batchSize) {
+                flush(group);
+            } else if (buffer.size() == 1) {
+                ioGroup.schedule(() -> lingerFlush(group), lingerInMills, TimeUnit.MILLISECONDS);
+            }
+            return future;
+        }
+
+        synchronized void lingerFlush(String group) {
+            flush(group);
+        }
+
+        synchronized void close() {
+            buffers.values().forEach(TcpForwardClient::reject);
+            buffers.clear();
+            for (ChannelFuture channelFuture : channels) {
+                if (channelFuture != null) {
+                    channelFuture.channel().close();
+                }
+            }
+        }
+
+        private void flush(String group) {
+            List<PendingEvent> buffer = buffers.remove(group);
+            if (CollectionUtils.isEmpty(buffer)) {
+                return;
+            }
+            if (!inFlight.tryAcquire()) {
+                log.warn("forward peer {} has {} batches in flight, reject {} msgs of group:{}", address, maxInFlightBatches,
+                        buffer.size(), group);
+                reject(buffer);
+                return;
+            }
+
+            long batchId = batchIdGenerator.incrementAndGet();
+            List<CloudEvent> events = new ArrayList<>(buffer.size());
+            buffer.forEach(pendingEvent -> events.add(pendingEvent.event));
+            InFlightBatch batch = new InFlightBatch(buffer, inFlight);
+            inFlightBatches.put(batchId, batch);
+
+            ChannelFuture channelFuture = nextChannel();
+            channelFuture.addListener(connected -> {
+                if (!connected.isSuccess()) {
+                    log.warn("connect forward peer {} failed", address, connected.cause());
+                    failBatch(batchId);
+                    return;
+                }
+                Channel channel = channelFuture.channel();
+                batch.channel = channel;
+                batch.timeout = channel.eventLoop().schedule(() -> failBatch(batchId), ackTimeoutInMills, TimeUnit.MILLISECONDS);
+                channel.writeAndFlush(new ForwardBatch(batchId, group, events)).addListener(written -> {
+                    if (!written.isSuccess()) {
+                        log.warn("write forward batch to peer {} failed", address, written.cause());
+                        failBatch(batchId);
+                    }
+                });
+            });
+        }
+
+        private ChannelFuture nextChannel() {
+            int index = nextChannel;
+            nextChannel = (nextChannel + 1) % channels.length;
+            ChannelFuture channelFuture = channels[index];
+            if (channelFuture == null
+                    || (channelFuture.isDone() && (!channelFuture.isSuccess() || !channelFuture.channel().isActive()))) {
+                channelFuture = bootstrap.connect(address);
+                channels[index] = channelFuture;
+            }
+            return channelFuture;
+        }
+    }
+
+    private static class PendingEvent {
+
+        private final CloudEvent event;
+
+        private final CompletableFuture<Boolean> future;
+
+        PendingEvent(CloudEvent event, CompletableFuture<Boolean> future) {
+            this.event = event;
+            this.future = future;
+        }
+    }
+
+    private static class InFlightBatch {
+
+        private final List<PendingEvent> pendingEvents;
+
+        private final Semaphore inFlight;
+
+        private volatile Channel channel;
+
+        private volatile ScheduledFuture<?> timeout;
+
+        InFlightBatch(List<PendingEvent> pendingEvents, Semaphore inFlight) {
+            this.pendingEvents = pendingEvents;
+            this.inFlight = inFlight;
+        }
+
+        /**
+         * Called once, by whoever removed the batch from the in flight table.
+         */
+        void complete(boolean[] accepted) {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            inFlight.release();
+            for (int i = 0; i < pendingEvents.size(); i++) {
+                pendingEvents.get(i).future.complete(accepted != null && i < accepted.length && accepted[i]);
+            }
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private class AckHandler extends SimpleChannelInboundHandler<ForwardAck> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ForwardAck ack) {
+            InFlightBatch batch = inFlightBatches.remove(ack.getBatchId());
+            if (batch != null) {
+                batch.complete(ack.getAccepted());
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            Channel channel = ctx.channel();
+            inFlightBatches.forEach((batchId, batch) -> {
+                if (batch.channel == channel) {
+                    failBatch(batchId);
+                }
+            });
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("forward channel to {} closed on error", ctx.channel().remoteAddress(), cause);
+            ctx.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.cloudevents.CloudEvent;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Accepts batches forwarded by peer gateways and acks every batch once its events are acked by local clients.
+ */
+@Slf4j
+public class TcpForwardServer {
+
+    private final int port;
+
+    private final int ioThreads;
+
+    private final ForwardEventDispatcher dispatcher;
+
+    private EventLoopGroup bossGroup;
+
+    private EventLoopGroup ioGroup;
+
+    private Channel serverChannel;
+
+    public TcpForwardServer(int port, int ioThreads, ForwardEventDispatcher dispatcher) {
+        this.port = port;
+        this.ioThreads = ioThreads;
+        this.dispatcher = dispatcher;
+    }
+
+    public void start() throws Exception {
+        bossGroup = new NioEventLoopGroup(1, new EventMeshThreadFactory("eventMesh-tcp-forward-boss", true));
+        ioGroup = new NioEventLoopGroup(ioThreads, new EventMeshThreadFactory("eventMesh-tcp-forward-io", true));
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(bossGroup, ioGroup)
+                .channel(NioServerSocketChannel.class)
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(new ForwardCodec.Encoder())
+                                .addLast(new ForwardCodec.Decoder())
+                                .addLast(new ForwardBatchHandler());
+                    }
+                });
+        serverChannel = bootstrap.bind(port).sync().channel();
+        log.info("TcpForwardServer[port={}] started", getPort());
+    }
+
+    public int getPort() {
+        return serverChannel == null ? port : ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    public void shutdown() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+        }
+        if (ioGroup != null) {
+            ioGroup.shutdownGracefully();
+        }
+        log.info("TcpForwardServer[port={}] shutdown", port);
+    }
+
+    private class ForwardBatchHandler extends SimpleChannelInboundHandler<ForwardBatch> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ForwardBatch batch) {
+            List<CloudEvent> events = batch.getEvents();
+            boolean[] accepted = new boolean[events.size()];
+            if (accepted.length == 0) {
+                ctx.writeAndFlush(new ForwardAck(batch.getBatchId(), accepted));
+                return;
+            }
+            // the batch is acked once every event is acked by a client or given up on, so the origin keeps the offset until then
+            AtomicInteger pending = new AtomicInteger(accepted.length);
+            Channel channel = ctx.channel();
+            for (int i = 0; i < accepted.length; i++) {
+                int index = i;
+                CompletableFuture<Boolean> acked;
+                try {
+                    acked = dispatcher.dispatch(batch.getGroup(), events.get(i));
+                } catch (Exception e) {
+                    log.warn("dispatch forwarded msg failed, group:{}, topic:{}", batch.getGroup(), events.get(i).getSubject(), e);
+                    acked = CompletableFuture.completedFuture(false);
+                }
+                acked.whenComplete((ok, e) -> {
+                    accepted[index] = Boolean.TRUE.equals(ok);
+                    if (pending.decrementAndGet() == 0) {
+                        channel.writeAndFlush(new ForwardAck(batch.getBatchId(), accepted));
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("forward channel from {} closed on error", ctx.channel().remoteAddress(), cause);
+            ctx.close();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.group;
 
+import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.AsyncConsumeContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.EventMeshAction;
@@ -27,34 +28,48 @@ import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
-import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
 import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+import org.apache.eventmesh.runtime.core.protocol.dedup.DedupManager;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters;
+import org.apache.eventmesh.runtime.core.protocol.filter.FilterIndex;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyOrderedLanes;
+import org.apache.eventmesh.runtime.core.protocol.topic.TopicCatalog;
+import org.apache.eventmesh.runtime.core.protocol.topic.TopicTrie;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.forward.TcpForwardClient;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SharedMsgBody;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.EventMeshTcpRetryer;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
-import org.apache.eventmesh.runtime.util.HttpTinyClient;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -109,10 +124,30 @@ public class ClientGroupWrapper {
 
     private final ConcurrentHashMap<String, SubscriptionItem> subscriptions = new ConcurrentHashMap<>();
 
+    /**
+     * topic -> filters of the sessions subscribing the topic
+     */
+    private final ConcurrentHashMap<String, FilterIndex<Session>> filterIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * subscribed wildcard topics, each its own subscriber
+     */
+    private final TopicTrie<String> wildcardTopics = new TopicTrie<>();
+
+    /**
+     * topic of the connector -> subscription the consumers hold on the topic on behalf of wildcard topics
+     */
+    private final Map<String, SubscriptionItem> wildcardConnectorTopics = new HashMap<>();
+
     public AtomicBoolean producerStarted = new AtomicBoolean(Boolean.FALSE);
 
     private final MQProducerWrapper mqProducerWrapper;
 
+    /**
+     * null if msgs are pushed regardless of their partition key
+     */
+    private final KeyOrderedLanes keyOrderedLanes;
+
     public ClientGroupWrapper(String sysId, String group,
                               EventMeshTCPServer eventMeshTCPServer,
                               DownstreamDispatchStrategy downstreamDispatchStrategy) {
@@ -124,6 +159,8 @@ public class ClientGroupWrapper {
         this.eventMeshTcpMonitor =
                 Preconditions.checkNotNull(eventMeshTCPServer.getEventMeshTcpMonitor());
         this.downstreamDispatchStrategy = downstreamDispatchStrategy;
+        this.keyOrderedLanes = eventMeshTCPConfiguration.isEventMeshServerKeyOrderedEnable()
+                ? new KeyOrderedLanes(eventMeshTCPConfiguration.getEventMeshServerKeyOrderedLaneCapacity()) : null;
         this.persistentMsgConsumer = new MQConsumerWrapper(
                 eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType());
         this.broadCastMsgConsumer = new MQConsumerWrapper(
@@ -220,12 +257,20 @@ public class ClientGroupWrapper {
             }
 
             subscriptions.putIfAbsent(topic, subscriptionItem);
+            filterIndexes.computeIfAbsent(topic, k -> new FilterIndex<>())
+                    .add(session, EventFilters.compile(subscriptionItem.getFilter()));
+            if (TopicTrie.isWildcard(topic)) {
+                wildcardTopics.add(topic, topic);
+            }
         } catch (Exception e) {
             log.error("addSubscription error! topic:{} client:{}", topic, session.getClient(), e);
             throw new Exception("addSubscription fail");
         } finally {
             this.groupLock.writeLock().unlock();
         }
+        if (TopicTrie.isWildcard(topic)) {
+            reconcileWildcardTopics();
+        }
         return r;
     }
 
@@ -262,9 +307,15 @@ public class ClientGroupWrapper {
                     }
                 }
             }
+            FilterIndex<Session> filterIndex = filterIndexes.get(topic);
+            if (filterIndex != null) {
+                filterIndex.remove(session);
+            }
             if (CollectionUtils.size(topic2sessionInGroupMapping.get(topic)) == 0) {
                 topic2sessionInGroupMapping.remove(topic);
                 subscriptions.remove(topic);
+                filterIndexes.remove(topic);
+                wildcardTopics.remove(topic, topic);
 
                 log.info("removeSubscription remove topic success, group:{} topic:{}",
                         group, topic);
@@ -450,9 +501,11 @@ public class ClientGroupWrapper {
                     EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
 
+            MessageStage consumeStage = MessageStage.consume();
+            boolean consumeFailed = false;
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
-                        .incrementAndGet();
+                        .mark();
                 event = CloudEventBuilder.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
@@ -462,52 +515,44 @@ public class ClientGroupWrapper {
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                         (EventMeshAsyncConsumeContext) context;
+                Set<Session> sessions = getMatchingSessions(topic, event);
+                if (isFilteredOut(topic, sessions)) {
+                    eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
+                    return;
+                }
+                String partitionKey = keyOrderedLanes == null ? null : KeyOrderedLanes.partitionKey(event);
+                if (partitionKey != null) {
+                    //offset is updated once the msg is acked or given up on, it may have to wait for its turn first
+                    CloudEvent laneEvent = event;
+                    AbstractContext abstractContext = eventMeshAsyncConsumeContext.getAbstractContext();
+                    if (!keyOrderedLanes.submit(partitionKey,
+                            done -> downstreamInLane(laneEvent, partitionKey, abstractContext, done))) {
+                        sendBack(event, EventMeshUtil.getMessageBizSeq(event), "lane of partition key " + partitionKey + " full");
+                        eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
+                        return;
+                    }
+                    eventMeshAsyncConsumeContext.commit(EventMeshAction.ManualAck);
+                    return;
+                }
+                MessageStage dispatchStage = MessageStage.dispatch();
                 Session session = downstreamDispatchStrategy
-                        .select(group, topic, groupConsumerSessions);
+                        .select(group, topic, sessions);
+                dispatchStage.record(EventMeshConstants.PROTOCOL_TCP, event, group, session != null);
                 String bizSeqNo = EventMeshUtil.getMessageBizSeq(event);
                 if (session == null) {
-                    try {
-                        Integer sendBackTimes = 0;
-                        String sendBackFromEventMeshIp = "";
-                        if (StringUtils.isNotBlank(Objects.requireNonNull(event.getExtension(
-                                EventMeshConstants.EVENTMESH_SEND_BACK_TIMES)).toString())) {
-                            sendBackTimes = (Integer) event.getExtension(
-                                    EventMeshConstants.EVENTMESH_SEND_BACK_TIMES);
-                        }
-                        if (StringUtils.isNotBlank(Objects.requireNonNull(event.getExtension(
-                                EventMeshConstants.EVENTMESH_SEND_BACK_IP)).toString())) {
-                            sendBackFromEventMeshIp = (String) event.getExtension(
-                                    EventMeshConstants.EVENTMESH_SEND_BACK_IP);
-                        }
-
-                        log.error(
-                                "found no session to downstream msg,groupName:{}, topic:{}, "
-                                        + "bizSeqNo:{}, sendBackTimes:{}, sendBackFromEventMeshIp:{}",
-                                group, topic, bizSeqNo, sendBackTimes,
-                                sendBackFromEventMeshIp);
-
-                        int eventMeshTcpSendBackMaxTimes = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpSendBackMaxTimes();
-                        if (Objects.requireNonNull(sendBackTimes) >= eventMeshTcpSendBackMaxTimes) {
-                            log.error("sendBack to broker over max times:{}, groupName:{}, topic:{}, " + "bizSeqNo:{}", eventMeshTcpSendBackMaxTimes,
-                                    group, topic, bizSeqNo);
-                        } else {
-                            sendBackTimes++;
-                            event = CloudEventBuilder.from(event)
-                                    .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES,
-                                            sendBackTimes.toString())
-                                    .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_IP,
-                                            eventMeshTCPConfiguration.getEventMeshServerIp()).build();
-                            sendMsgBackToBroker(event, bizSeqNo);
-                        }
-                    } catch (Exception e) {
-                        log.warn("handle msg exception when no session found", e);
+                    TcpForwardClient tcpForwardClient = eventMeshTCPServer.getTcpForwardClient();
+                    if (tcpForwardClient != null) {
+                        //offset is updated once a peer took the msg or it was sent back to broker
+                        forwardToPeer(tcpForwardClient, event, bizSeqNo, eventMeshAsyncConsumeContext.getAbstractContext());
+                        eventMeshAsyncConsumeContext.commit(EventMeshAction.ManualAck);
+                        return;
                     }
-
+                    sendBackOnNoSession(event, bizSeqNo);
                     eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
                     return;
                 }
 
-                SubscriptionItem subscriptionItem = subscriptions.get(topic);
+                SubscriptionItem subscriptionItem = getSubscription(topic);
                 DownStreamMsgContext downStreamMsgContext =
                         new DownStreamMsgContext(event, session, persistentMsgConsumer,
                                 eventMeshAsyncConsumeContext.getAbstractContext(), false,
@@ -516,7 +561,11 @@ public class ClientGroupWrapper {
                 session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
                 session.downstreamMsg(downStreamMsgContext);
                 eventMeshAsyncConsumeContext.commit(EventMeshAction.ManualAck);
+            } catch (RuntimeException e) {
+                consumeFailed = true;
+                throw e;
             } finally {
+                consumeStage.record(EventMeshConstants.PROTOCOL_TCP, event, group, !consumeFailed);
                 TraceUtils.finishSpan(span, event);
             }
         };
@@ -560,9 +609,11 @@ public class ClientGroupWrapper {
             Span span = TraceUtils.prepareServerSpan(
                     EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
+            MessageStage consumeStage = MessageStage.consume();
+            boolean consumeFailed = false;
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
-                        .incrementAndGet();
+                        .mark();
                 event = CloudEventBuilder.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
@@ -572,50 +623,64 @@ public class ClientGroupWrapper {
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                         (EventMeshAsyncConsumeContext) context;
-                if (CollectionUtils.isEmpty(groupConsumerSessions)) {
-                    if (log.isWarnEnabled()) {
+                Set<Session> sessions = getMatchingSessions(topic, event);
+                if (CollectionUtils.isEmpty(sessions)) {
+                    if (log.isWarnEnabled() && !isFilteredOut(topic, sessions)) {
                         log.warn("found no session to downstream broadcast msg");
                     }
                     eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
                     return;
                 }
 
-                Iterator<Session> sessionsItr = groupConsumerSessions.iterator();
+                Iterator<Session> sessionsItr = sessions.iterator();
 
-                SubscriptionItem subscriptionItem = subscriptions.get(topic);
-                DownStreamMsgContext downStreamMsgContext =
-                        new DownStreamMsgContext(event, null, broadCastMsgConsumer,
-                                eventMeshAsyncConsumeContext.getAbstractContext(), false,
-                                subscriptionItem);
+                SubscriptionItem subscriptionItem = getSubscription(topic);
 
-                while (sessionsItr.hasNext()) {
-                    Session session = sessionsItr.next();
+                // serialize the message once, for the first available session, every session only encodes its own frame header
+                SharedMsgBody sharedMsgBody = null;
+                Collection<String> subscribedTopics = getSubscribedTopics(topic);
+                try {
+                    while (sessionsItr.hasNext()) {
+                        Session session = sessionsItr.next();
 
-                    if (!session.isAvailable(topic)) {
-                        if (log.isWarnEnabled()) {
-                            log.warn("downstream broadcast msg,session is not available,client:{}",
-                                    session.getClient());
+                        if (!session.isAvailable(topic, subscribedTopics)) {
+                            if (log.isWarnEnabled()) {
+                                log.warn("downstream broadcast msg,session is not available,client:{}",
+                                        session.getClient());
+                            }
+                            continue;
                         }
-                        continue;
-                    }
 
-                    downStreamMsgContext.session = session;
-
-                    //downstream broadcast msg asynchronously
-                    eventMeshTCPServer.getBroadcastMsgDownstreamExecutorService()
-                            .submit(new Runnable() {
-                                @Override
-                                public void run() {
-                                    //msg put in eventmesh,waiting client ack
-                                    session.getPusher()
-                                            .unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
-                                    session.downstreamMsg(downStreamMsgContext);
-                                }
-                            });
+                        if (sharedMsgBody == null) {
+                            try {
+                                sharedMsgBody = SharedMsgBody.encode(event, group);
+                            } catch (Exception e) {
+                                log.error("encode broadcast msg fail, group:{}, topic:{}", group, topic, e);
+                                eventMeshAsyncConsumeContext.commit(EventMeshAction.CommitMessage);
+                                return;
+                            }
+                        }
+                        DownStreamMsgContext downStreamMsgContext =
+                                new DownStreamMsgContext(sharedMsgBody.getEvent(), session, broadCastMsgConsumer,
+                                        eventMeshAsyncConsumeContext.getAbstractContext(), false,
+                                        subscriptionItem);
+
+                        //msg put in eventmesh,waiting client ack
+                        session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
+                        session.downstreamMsg(downStreamMsgContext, sharedMsgBody);
+                    }
+                } finally {
+                    if (sharedMsgBody != null) {
+                        sharedMsgBody.release();
+                    }
                 }
 
                 eventMeshAsyncConsumeContext.commit(EventMeshAction.ManualAck);
+            } catch (RuntimeException e) {
+                consumeFailed = true;
+                throw e;
             } finally {
+                consumeStage.record(EventMeshConstants.PROTOCOL_TCP, event, group, !consumeFailed);
                 TraceUtils.finishSpan(span, event);
             }
         };
@@ -637,6 +702,18 @@ public class ClientGroupWrapper {
     }
 
     public void subscribe(SubscriptionItem subscriptionItem) throws Exception {
+        if (TopicTrie.isWildcard(subscriptionItem.getTopic())) {
+            if (EventMeshServer.getTopicCatalog() == null) {
+                throw new IllegalArgumentException("wildcard topics are disabled, topic:" + subscriptionItem.getTopic());
+            }
+            TopicTrie.validate(subscriptionItem.getTopic());
+            //the consumers subscribe the topics matching it once it is added
+            return;
+        }
+        subscribeConnector(subscriptionItem);
+    }
+
+    private void subscribeConnector(SubscriptionItem subscriptionItem) throws Exception {
         if (SubscriptionMode.BROADCASTING == subscriptionItem.getMode()) {
             broadCastMsgConsumer.subscribe(subscriptionItem.getTopic());
         } else {
@@ -645,6 +722,15 @@ public class ClientGroupWrapper {
     }
 
     public void unsubscribe(SubscriptionItem subscriptionItem) throws Exception {
+        if (TopicTrie.isWildcard(subscriptionItem.getTopic()) || getSubscription(subscriptionItem.getTopic()) != null) {
+            //the topic may still be consumed on behalf of a wildcard topic
+            reconcileWildcardTopics();
+            return;
+        }
+        unsubscribeConnector(subscriptionItem);
+    }
+
+    private void unsubscribeConnector(SubscriptionItem subscriptionItem) throws Exception {
         if (SubscriptionMode.BROADCASTING == subscriptionItem.getMode()) {
             broadCastMsgConsumer.unsubscribe(subscriptionItem.getTopic());
         } else {
@@ -681,6 +767,137 @@ public class ClientGroupWrapper {
         return groupConsumerSessions;
     }
 
+    /**
+     * @return the sessions whose filter of the topic the event matches, every session of the group if none of them
+     *     filters the topic
+     */
+    public Set<Session> getMatchingSessions(String topic, CloudEvent event) {
+        Collection<String> subscribedTopics = getSubscribedTopics(topic);
+        if (subscribedTopics.size() == 1) {
+            FilterIndex<Session> filterIndex = filterIndexes.get(topic);
+            if (filterIndex == null || !filterIndex.hasFilters()) {
+                return groupConsumerSessions;
+            }
+            return filterIndex.matches(event);
+        }
+        Set<Session> matched = new HashSet<>();
+        for (String subscribedTopic : subscribedTopics) {
+            FilterIndex<Session> filterIndex = filterIndexes.get(subscribedTopic);
+            if (filterIndex == null) {
+                continue;
+            }
+            if (!filterIndex.hasFilters()) {
+                return groupConsumerSessions;
+            }
+            matched.addAll(filterIndex.matches(event));
+        }
+        return matched;
+    }
+
+    /**
+     * @return the subscription the topic of an event falls under, its own or that of a wildcard topic matching it
+     */
+    public SubscriptionItem getSubscription(String topic) {
+        SubscriptionItem subscriptionItem = subscriptions.get(topic);
+        if (subscriptionItem != null || wildcardTopics.isEmpty()) {
+            return subscriptionItem;
+        }
+        for (String wildcardTopic : wildcardTopics.match(topic)) {
+            subscriptionItem = subscriptions.get(wildcardTopic);
+            if (subscriptionItem != null) {
+                return subscriptionItem;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the topic and the subscribed wildcard topics matching it
+     */
+    public Collection<String> getSubscribedTopics(String topic) {
+        Set<String> matched = wildcardTopics.match(topic);
+        if (matched.isEmpty()) {
+            return Collections.singletonList(topic);
+        }
+        List<String> subscribedTopics = new ArrayList<>(matched.size() + 1);
+        subscribedTopics.add(topic);
+        subscribedTopics.addAll(matched);
+        return subscribedTopics;
+    }
+
+    /**
+     * Have the consumers subscribe the topics of the connector matching a subscribed wildcard topic, and unsubscribe
+     * those no wildcard topic matches anymore. A topic subscribed by itself is left to its own subscription.
+     */
+    public void reconcileWildcardTopics() {
+        TopicCatalog topicCatalog = EventMeshServer.getTopicCatalog();
+        if (topicCatalog != null) {
+            reconcileWildcardTopics(topicCatalog.getTopics());
+        }
+    }
+
+    public synchronized void reconcileWildcardTopics(Set<String> connectorTopics) {
+        Map<String, SubscriptionItem> wanted = new HashMap<>();
+        if (!wildcardTopics.isEmpty()) {
+            for (String topic : connectorTopics) {
+                if (subscriptions.containsKey(topic)) {
+                    continue;
+                }
+                SubscriptionItem subscriptionItem = getSubscription(topic);
+                if (subscriptionItem != null) {
+                    wanted.put(topic, new SubscriptionItem(topic, subscriptionItem.getMode(), subscriptionItem.getType()));
+                }
+            }
+        }
+        Iterator<Map.Entry<String, SubscriptionItem>> it = wildcardConnectorTopics.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, SubscriptionItem> entry = it.next();
+            if (entry.getValue().equals(wanted.get(entry.getKey()))) {
+                wanted.remove(entry.getKey());
+                continue;
+            }
+            if (!subscriptions.containsKey(entry.getKey())) {
+                try {
+                    unsubscribeConnector(entry.getValue());
+                } catch (Exception e) {
+                    log.error("unsubscribe topic of wildcard topics failed, group:{}, topic:{}", group, entry.getKey(), e);
+                    continue;
+                }
+            }
+            it.remove();
+        }
+        for (SubscriptionItem subscriptionItem : wanted.values()) {
+            try {
+                subscribeConnector(subscriptionItem);
+                wildcardConnectorTopics.put(subscriptionItem.getTopic(), subscriptionItem);
+            } catch (Exception e) {
+                log.error("subscribe topic of wildcard topics failed, group:{}, topic:{}", group, subscriptionItem.getTopic(), e);
+            }
+        }
+        if (!wanted.isEmpty() && log.isInfoEnabled()) {
+            log.info("reconciled wildcard topics, group:{}, subscribed:{}, total:{}", group, wanted.keySet(),
+                    wildcardConnectorTopics.size());
+        }
+    }
+
+    /**
+     * @return true if the sessions subscribing the topic filter out the event, it is done with rather than sent back
+     */
+    private boolean isFilteredOut(String topic, Set<Session> matchingSessions) {
+        if (!matchingSessions.isEmpty()) {
+            return false;
+        }
+        boolean filteredOut = false;
+        for (String subscribedTopic : getSubscribedTopics(topic)) {
+            FilterIndex<Session> filterIndex = filterIndexes.get(subscribedTopic);
+            filteredOut |= filterIndex != null && filterIndex.hasFilters();
+        }
+        if (filteredOut && log.isDebugEnabled()) {
+            log.debug("msg filtered out by every session, group:{}, topic:{}", group, topic);
+        }
+        return filteredOut;
+    }
+
     public Set<Session> getGroupProducerSessions() {
         return groupProducerSessions;
     }
@@ -722,40 +939,124 @@ public class ClientGroupWrapper {
         return sysId;
     }
 
-    private String pushMsgToEventMesh(CloudEvent msg, String ip, int port) throws Exception {
-        StringBuilder targetUrl = new StringBuilder();
-        targetUrl.append("http://").append(ip).append(":").append(port)
-                .append("/eventMesh/msg/push");
-        HttpTinyClient.HttpResult result = null;
+    /**
+     * Downstream a msg whose turn has come in the lane of its partition key, done lets the next msg of the key go.
+     * A msg forwarded to a peer or sent back leaves the lane right away, the order is kept within this eventMesh only.
+     */
+    private void downstreamInLane(CloudEvent event, String partitionKey, AbstractContext context, Runnable done) {
+        String topic = event.getSubject();
+        MessageStage dispatchStage = MessageStage.dispatch();
+        Set<Session> sessions = getMatchingSessions(topic, event);
+        if (isFilteredOut(topic, sessions)) {
+            persistentMsgConsumer.updateOffset(Collections.singletonList(event), context);
+            done.run();
+            return;
+        }
+        Session session = downstreamDispatchStrategy.select(group, topic, partitionKey, sessions);
+        dispatchStage.record(EventMeshConstants.PROTOCOL_TCP, event, group, session != null);
+        if (session == null) {
+            String bizSeqNo = EventMeshUtil.getMessageBizSeq(event);
+            TcpForwardClient tcpForwardClient = eventMeshTCPServer.getTcpForwardClient();
+            if (tcpForwardClient != null) {
+                forwardToPeer(tcpForwardClient, event, bizSeqNo, context);
+            } else {
+                sendBackOnNoSession(event, bizSeqNo);
+                persistentMsgConsumer.updateOffset(Collections.singletonList(event), context);
+            }
+            done.run();
+            return;
+        }
+        DownStreamMsgContext downStreamMsgContext =
+                new DownStreamMsgContext(event, session, persistentMsgConsumer, context, false, getSubscription(topic));
+        downStreamMsgContext.setLaneDone(done);
+        session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
+        session.downstreamMsg(downStreamMsgContext);
+    }
+
+    private void forwardToPeer(TcpForwardClient tcpForwardClient, CloudEvent event, String bizSeqNo, AbstractContext context) {
+        tcpForwardClient.forward(group, event).thenAccept(accepted -> {
+            if (accepted) {
+                if (log.isDebugEnabled()) {
+                    log.debug("forward msg to peer eventMesh success, groupName:{}, topic:{}, bizSeqNo:{}", group,
+                            event.getSubject(), bizSeqNo);
+                }
+            } else {
+                sendBackOnNoSession(event, bizSeqNo);
+            }
+            persistentMsgConsumer.updateOffset(Collections.singletonList(event), context);
+        });
+    }
+
+    private void sendBackOnNoSession(CloudEvent event, String bizSeqNo) {
+        sendBack(event, bizSeqNo, "no session");
+    }
 
+    /**
+     * Send a msg which cannot be downstreamed here back to broker, or to dead-letter once it was sent back too often
+     */
+    private void sendBack(CloudEvent event, String bizSeqNo, String reason) {
+        String topic = event.getSubject();
         try {
-            if (log.isInfoEnabled()) {
-                log.info("pushMsgToEventMesh,targetUrl:{},msg:{}", targetUrl, msg);
+            // the extensions are absent on a msg sent back for the first time and strings once read back from broker
+            Object sendBackTimesValue = event.getExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES);
+            Integer sendBackTimes = sendBackTimesValue == null ? 0 : NumberUtils.toInt(sendBackTimesValue.toString());
+            Object sendBackIpValue = event.getExtension(EventMeshConstants.EVENTMESH_SEND_BACK_IP);
+            String sendBackFromEventMeshIp = sendBackIpValue == null ? "" : sendBackIpValue.toString();
+
+            log.error(
+                    "cannot downstream msg, {}, groupName:{}, topic:{}, "
+                            + "bizSeqNo:{}, sendBackTimes:{}, sendBackFromEventMeshIp:{}",
+                    reason, group, topic, bizSeqNo, sendBackTimes,
+                    sendBackFromEventMeshIp);
+
+            int eventMeshTcpSendBackMaxTimes = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpSendBackMaxTimes();
+            if (sendBackTimes >= eventMeshTcpSendBackMaxTimes) {
+                log.error("sendBack to broker over max times:{}, groupName:{}, topic:{}, " + "bizSeqNo:{}", eventMeshTcpSendBackMaxTimes,
+                        group, topic, bizSeqNo);
+                DeadLetterManager deadLetterManager = EventMeshServer.getDeadLetterManager();
+                if (deadLetterManager != null) {
+                    long firstAttemptTime = event.getTime() == null ? System.currentTimeMillis() : event.getTime().toInstant().toEpochMilli();
+                    deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, group, event,
+                            reason + " after sendBack " + sendBackTimes + " times", sendBackTimes + 1, firstAttemptTime);
+                }
+            } else {
+                sendBackTimes++;
+                CloudEvent sendBackEvent = DedupManager.redelivery(CloudEventBuilder.from(event)
+                        .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES,
+                                sendBackTimes.toString())
+                        .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_IP,
+                                eventMeshTCPConfiguration.getEventMeshServerIp()).build());
+                sendMsgBackToBroker(sendBackEvent, bizSeqNo);
             }
-            List<String> paramValues = new ArrayList<String>();
-            paramValues.add(EventMeshConstants.MANAGE_MSG);
-            paramValues.add(JsonUtils.toJSONString(msg));
-            paramValues.add(EventMeshConstants.MANAGE_GROUP);
-            paramValues.add(group);
-
-            result = HttpTinyClient.httpPost(
-                    targetUrl.toString(),
-                    null,
-                    paramValues,
-                    StandardCharsets.UTF_8.name(),
-                    3000);
         } catch (Exception e) {
-            log.error("httpPost " + targetUrl + " is fail,", e);
-            throw e;
+            log.warn("handle msg exception when sending msg back, {}", reason, e);
         }
+    }
 
-        if (200 == result.getCode() && result.getContent() != null) {
-            return result.getContent();
-
-        } else {
-            throw new Exception("httpPost targetUrl[" + targetUrl
-                    + "] is not OK when getContentThroughHttp, httpResult: " + result + ".");
+    /**
+     * Hand a msg forwarded by a peer eventMesh to a local session, its offset has been taken care of by the peer.
+     *
+     * @return completed with true once the client acked the msg, with false if the group has no session for the msg here or the
+     *     push is given up on
+     */
+    public CompletableFuture<Boolean> downstreamForwardedMsg(CloudEvent event) {
+        String topic = event.getSubject();
+        SubscriptionItem subscriptionItem = getSubscription(topic);
+        Set<Session> sessions = getMatchingSessions(topic, event);
+        if (subscriptionItem != null && isFilteredOut(topic, sessions)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        Session session = downstreamDispatchStrategy.select(group, topic, KeyOrderedLanes.partitionKey(event), sessions);
+        if (subscriptionItem == null || session == null) {
+            return CompletableFuture.completedFuture(false);
         }
+        CompletableFuture<Boolean> acked = new CompletableFuture<>();
+        DownStreamMsgContext downStreamMsgContext =
+                new DownStreamMsgContext(event, session, persistentMsgConsumer, null, true, subscriptionItem);
+        downStreamMsgContext.setForwardAck(acked);
+        session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
+        session.downstreamMsg(downStreamMsgContext);
+        return acked;
     }
 
     public MQConsumerWrapper getPersistentMsgConsumer() {
@@ -793,7 +1094,7 @@ public class ClientGroupWrapper {
                         }
 
                     });
-            eventMeshTcpMonitor.getTcpSummaryMetrics().getEventMesh2mqMsgNum().incrementAndGet();
+            eventMeshTcpMonitor.getTcpSummaryMetrics().getEventMesh2mqMsgNum().mark();
         } catch (Exception e) {
             if (log.isWarnEnabled()) {
                 log.warn("try send msg back to broker failed");
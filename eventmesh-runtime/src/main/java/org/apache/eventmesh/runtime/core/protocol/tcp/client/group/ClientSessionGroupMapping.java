@@ -21,11 +21,15 @@ import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.utils.ThreadUtils;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyOrderedLanes;
+import org.apache.eventmesh.runtime.core.protocol.topic.TopicCatalog;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcp2Client;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.FreePriorityDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.KeyAffinityDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
@@ -187,8 +191,11 @@ public class ClientSessionGroupMapping {
         }
         synchronized (lockMap.get(user.getGroup())) {
             if (!clientGroupMap.containsKey(user.getGroup())) {
+                DownstreamDispatchStrategy downstreamDispatchStrategy =
+                        eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshServerKeyOrderedEnable()
+                                ? new KeyAffinityDispatchStrategy() : new FreePriorityDispatchStrategy();
                 ClientGroupWrapper cgw = constructClientGroupWrapper(user.getSubsystem(), user.getGroup(),
-                        eventMeshTCPServer, new FreePriorityDispatchStrategy());
+                        eventMeshTCPServer, downstreamDispatchStrategy);
                 clientGroupMap.put(user.getGroup(), cgw);
                 log.info("create new ClientGroupWrapper, group:{}", user.getGroup());
             }
@@ -262,6 +269,7 @@ public class ClientSessionGroupMapping {
         ClientGroupWrapper clientGroupWrapper = Objects.requireNonNull(session.getClientGroupWrapper().get());
         clientGroupWrapper.removeGroupConsumerSession(session);
         handleUnackMsgsInSession(session);
+        session.getPusher().clearUnAckMsg();
         cleanClientGroupWrapperCommon(clientGroupWrapper);
     }
 
@@ -278,6 +286,9 @@ public class ClientSessionGroupMapping {
      */
     private void cleanSubscriptionInSession(Session session) throws Exception {
         for (SubscriptionItem item : session.getSessionContext().subscribeTopics.values()) {
+            if (session.getSessionContext().subscribeTopics.remove(item.getTopic()) != null) {
+                session.getSessionAggregates().unsubscribeTopic(item.getTopic());
+            }
             ClientGroupWrapper clientGroupWrapper = Objects.requireNonNull(session.getClientGroupWrapper().get());
             clientGroupWrapper.removeSubscription(item, session);
             if (!clientGroupWrapper.hasSubscription(item.getTopic())) {
@@ -306,7 +317,9 @@ public class ClientSessionGroupMapping {
                 Session reChooseSession = clientGroupWrapper.getDownstreamDispatchStrategy()
                         .select(clientGroupWrapper.getGroup(),
                                 downStreamMsgContext.event.getSubject(),
-                                clientGroupWrapper.groupConsumerSessions);
+                                KeyOrderedLanes.partitionKey(downStreamMsgContext.event),
+                                clientGroupWrapper.getMatchingSessions(downStreamMsgContext.event.getSubject(),
+                                        downStreamMsgContext.event));
                 if (reChooseSession != null) {
                     downStreamMsgContext.session = reChooseSession;
                     reChooseSession.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
@@ -316,8 +329,12 @@ public class ClientSessionGroupMapping {
                 } else {
                     log.warn("select session fail in handleUnackMsgsInSession,seq:{},topic:{}", entry.getKey(),
                             downStreamMsgContext.event.getSubject());
+                    downStreamMsgContext.completeForward(false);
                 }
             }
+        } else {
+            // a msg forwarded by a peer eventMesh is sent back to the broker by that peer
+            unAckMsg.values().forEach(downStreamMsgContext -> downStreamMsgContext.completeForward(false));
         }
     }
 
@@ -325,6 +342,7 @@ public class ClientSessionGroupMapping {
 
         if (CollectionUtils.isEmpty(clientGroupWrapper.getGroupConsumerSessions())) {
             shutdownClientGroupConsumer(clientGroupWrapper);
+            clientGroupWrapper.getEventMeshTcpMonitor().getSessionAggregates().removeGroup(clientGroupWrapper.getGroup());
         }
 
         log.info("GroupProducerSessions size:{}",
@@ -388,7 +406,7 @@ public class ClientSessionGroupMapping {
                             continue;
                         }
                         downStreamMsgContext.ackMsg();
-                        tmp.getPusher().getUnAckMsg().remove(seqKey);
+                        tmp.getPusher().removeUnAckMsg(seqKey);
                         log.warn("remove expire downStreamMsgContext, session:{}, topic:{}, seq:{}", tmp,
                             downStreamMsgContext.event.getSubject(), seqKey);
                     }
@@ -400,6 +418,10 @@ public class ClientSessionGroupMapping {
     public void init() throws Exception {
         initSessionCleaner();
         initDownStreamMsgContextCleaner();
+        TopicCatalog topicCatalog = EventMeshServer.getTopicCatalog();
+        if (topicCatalog != null) {
+            topicCatalog.addListener(topics -> clientGroupMap.values().forEach(cgw -> cgw.reconcileWildcardTopics(topics)));
+        }
         log.info("ClientSessionGroupMapping inited......");
     }
 
@@ -34,4 +34,14 @@ public interface DownstreamDispatchStrategy {
      * @return client session
      */
     Session select(String group, String topic, Set<Session> consumeSessions);
+
+    /**
+     * select a SESSION for a msg carrying a partition key, the same key should go to the same session while it is available
+     *
+     * @param partitionKey null if the msg has none
+     * @return client session
+     */
+    default Session select(String group, String topic, String partitionKey, Set<Session> consumeSessions) {
+        return select(group, topic, consumeSessions);
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +35,18 @@ public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy
 
     @Override
     public Session select(final String group, final String topic, final Set<Session> groupConsumerSessions) {
+        final List<Session> filtered = candidates(group, topic, groupConsumerSessions);
+        if (filtered == null) {
+            return null;
+        }
+        Collections.shuffle(filtered);
+        return filtered.get(0);
+    }
+
+    /**
+     * @return the available sessions, the isolated ones if all are isolated, null if none can downstream msgs
+     */
+    protected List<Session> candidates(final String group, final String topic, final Set<Session> groupConsumerSessions) {
         if (CollectionUtils.isEmpty(groupConsumerSessions)
                 || StringUtils.isBlank(topic)
                 || StringUtils.isBlank(group)) {
@@ -42,8 +55,13 @@ public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy
 
         final List<Session> filtered = new ArrayList<>();
         final List<Session> isolatedSessions = new ArrayList<>();
+        // the wildcard topics matching the topic are the same for all the sessions of the group
+        Collection<String> subscribedTopics = null;
         for (final Session session : groupConsumerSessions) {
-            if (!session.isAvailable(topic)) {
+            if (subscribedTopics == null) {
+                subscribedTopics = session.getSubscribedTopics(topic);
+            }
+            if (!session.isAvailable(topic, subscribedTopics)) {
                 continue;
             }
 
@@ -72,8 +90,6 @@ public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy
                 filtered.addAll(isolatedSessions);
             }
         }
-
-        Collections.shuffle(filtered);
-        return filtered.get(0);
+        return filtered;
     }
 }
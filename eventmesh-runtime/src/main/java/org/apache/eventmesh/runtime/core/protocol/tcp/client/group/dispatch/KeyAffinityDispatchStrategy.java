@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyAffinity;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Msgs with a partition key go to the session the key hashes to among the available ones, the others are spread as by
+ * {@link FreePriorityDispatchStrategy}. Only keys of a session that comes or goes move to another session.
+ */
+public class KeyAffinityDispatchStrategy extends FreePriorityDispatchStrategy {
+
+    @Override
+    public Session select(final String group, final String topic, final String partitionKey,
+                          final Set<Session> groupConsumerSessions) {
+        if (partitionKey == null) {
+            return select(group, topic, groupConsumerSessions);
+        }
+        final List<Session> filtered = candidates(group, topic, groupConsumerSessions);
+        if (filtered == null) {
+            return null;
+        }
+        return KeyAffinity.select(partitionKey, filtered, session -> String.valueOf(session.getRemoteAddress()));
+    }
+}
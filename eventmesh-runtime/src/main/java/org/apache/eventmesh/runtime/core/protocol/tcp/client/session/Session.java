@@ -27,11 +27,16 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.filter.EventFilters;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SharedMsgBody;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendResult;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.SessionSender;
+import org.apache.eventmesh.runtime.core.protocol.topic.TopicTrie;
+import org.apache.eventmesh.runtime.metrics.tcp.TcpSessionAggregates;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.Utils;
 
@@ -39,6 +44,8 @@ import org.apache.commons.lang3.time.DateFormatUtils;
 
 import java.lang.ref.WeakReference;
 import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
@@ -169,11 +176,22 @@ public class Session {
 
     public void subscribe(List<SubscriptionItem> items) throws Exception {
         for (SubscriptionItem item : items) {
-            sessionContext.subscribeTopics.putIfAbsent(item.getTopic(), item);
+            // reject an invalid filter or wildcard topic before subscribing any topic of the request
+            EventFilters.compile(item.getFilter());
+            if (TopicTrie.isWildcard(item.getTopic())) {
+                TopicTrie.validate(item.getTopic());
+            }
+        }
+        for (SubscriptionItem item : items) {
+            if (sessionContext.subscribeTopics.putIfAbsent(item.getTopic(), item) == null) {
+                getSessionAggregates().subscribeTopic(item.getTopic());
+            }
             Objects.requireNonNull(clientGroupWrapper.get()).subscribe(item);
 
-            Objects.requireNonNull(clientGroupWrapper.get()).getMqProducerWrapper().getMeshMQProducer()
-                    .checkTopicExist(item.getTopic());
+            if (!TopicTrie.isWildcard(item.getTopic())) {
+                Objects.requireNonNull(clientGroupWrapper.get()).getMqProducerWrapper().getMeshMQProducer()
+                        .checkTopicExist(item.getTopic());
+            }
 
             Objects.requireNonNull(clientGroupWrapper.get()).addSubscription(item, this);
             SUBSCRIB_LOGGER.info("subscribe|succeed|topic={}|user={}", item.getTopic(), client);
@@ -182,7 +200,9 @@ public class Session {
 
     public void unsubscribe(List<SubscriptionItem> items) throws Exception {
         for (SubscriptionItem item : items) {
-            sessionContext.subscribeTopics.remove(item.getTopic());
+            if (sessionContext.subscribeTopics.remove(item.getTopic()) != null) {
+                getSessionAggregates().unsubscribeTopic(item.getTopic());
+            }
             Objects.requireNonNull(clientGroupWrapper.get()).removeSubscription(item, this);
 
             if (!Objects.requireNonNull(clientGroupWrapper.get()).hasSubscription(item.getTopic())) {
@@ -194,9 +214,17 @@ public class Session {
 
     public EventMeshTcpSendResult upstreamMsg(Header header, CloudEvent event, SendCallback sendCallback,
                                               long startTime, long taskExecuteTime) {
+        return upstreamMsg(header, event, sendCallback, startTime, taskExecuteTime, null);
+    }
+
+    /**
+     * @param limiterToken concurrency limiter token of a request-reply, released when the reply or its failure arrives
+     */
+    public EventMeshTcpSendResult upstreamMsg(Header header, CloudEvent event, SendCallback sendCallback,
+                                              long startTime, long taskExecuteTime, ConcurrencyLimiter.Token limiterToken) {
         String topic = event.getSubject();
         sessionContext.sendTopics.putIfAbsent(topic, topic);
-        return sender.send(header, event, sendCallback, startTime, taskExecuteTime);
+        return sender.send(header, event, sendCallback, startTime, taskExecuteTime, limiterToken);
     }
 
     public void downstreamMsg(DownStreamMsgContext downStreamMsgContext) {
@@ -207,6 +235,14 @@ public class Session {
         pusher.push(downStreamMsgContext);
     }
 
+    public void downstreamMsg(DownStreamMsgContext downStreamMsgContext, SharedMsgBody sharedMsgBody) {
+        long currTime = System.currentTimeMillis();
+        trySendListenResponse(new Header(LISTEN_RESPONSE, OPStatus.SUCCESS.getCode(), "succeed",
+                getListenRequestSeq()), currTime, currTime);
+
+        pusher.push(downStreamMsgContext, sharedMsgBody);
+    }
+
     public boolean isIsolated() {
         return System.currentTimeMillis() < isolateTime;
     }
@@ -229,7 +265,7 @@ public class Session {
                                         .getEventMeshTcpMonitor()
                                         .getTcpSummaryMetrics()
                                         .getEventMesh2clientMsgNum()
-                                        .incrementAndGet();
+                                        .mark();
                             }
                         }
                     }
@@ -304,6 +340,10 @@ public class Session {
         return clientGroupWrapper;
     }
 
+    public TcpSessionAggregates getSessionAggregates() {
+        return Objects.requireNonNull(clientGroupWrapper.get()).getEventMeshTcpMonitor().getSessionAggregates();
+    }
+
     public void setClientGroupWrapper(WeakReference<ClientGroupWrapper> clientGroupWrapper) {
         this.clientGroupWrapper = clientGroupWrapper;
     }
@@ -353,12 +393,20 @@ public class Session {
     }
 
     public boolean isAvailable(String topic) {
+        return isAvailable(topic, getSubscribedTopics(topic));
+    }
+
+    /**
+     * @param subscribedTopics the topic and the wildcard topics of the group matching it, see {@link #getSubscribedTopics(String)},
+     *                         resolved once per msg for all the sessions of the group
+     */
+    public boolean isAvailable(String topic, Collection<String> subscribedTopics) {
         if (SessionState.CLOSED == sessionState) {
             log.warn("session is not available because session has been closed,topic:{},client:{}", topic, client);
             return false;
         }
 
-        if (!sessionContext.subscribeTopics.containsKey(topic)) {
+        if (!isSubscribed(subscribedTopics)) {
             log.warn("session is not available because session has not subscribe topic:{},client:{}", topic, client);
             return false;
         }
@@ -366,6 +414,23 @@ public class Session {
         return true;
     }
 
+    /**
+     * @return the topic and the subscribed wildcard topics of the group matching it
+     */
+    public Collection<String> getSubscribedTopics(String topic) {
+        ClientGroupWrapper groupWrapper = clientGroupWrapper == null ? null : clientGroupWrapper.get();
+        return groupWrapper == null ? Collections.singletonList(topic) : groupWrapper.getSubscribedTopics(topic);
+    }
+
+    private boolean isSubscribed(Collection<String> subscribedTopics) {
+        for (String subscribedTopic : subscribedTopics) {
+            if (sessionContext.subscribeTopics.containsKey(subscribedTopic)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isRunning() {
         if (SessionState.RUNNING != sessionState) {
             log.warn("session is not running, state:{} client:{}", sessionState, client);
@@ -22,8 +22,10 @@ import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.ordered.KeyOrderedLanes;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.RetryContext;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.ServerGlobal;
 
@@ -33,6 +35,7 @@ import org.apache.commons.lang3.time.DateFormatUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import io.cloudevents.CloudEvent;
 
@@ -58,6 +61,16 @@ public class DownStreamMsgContext extends RetryContext {
 
     public boolean msgFromOtherEventMesh;
 
+    /**
+     * lets the next msg of the same partition key go, null if the msg is not dispatched in a key-ordered lane
+     */
+    private volatile Runnable laneDone;
+
+    /**
+     * tells the peer eventMesh that forwarded the msg whether a client acked it, null if the msg is not forwarded
+     */
+    private volatile CompletableFuture<Boolean> forwardAck;
+
     public DownStreamMsgContext(CloudEvent event, Session session, MQConsumerWrapper consumer,
                                 AbstractContext consumeConcurrentlyContext, boolean msgFromOtherEventMesh,
                                 SubscriptionItem subscriptionItem) {
@@ -76,11 +89,50 @@ public class DownStreamMsgContext extends RetryContext {
         this.msgFromOtherEventMesh = msgFromOtherEventMesh;
     }
 
+    public long getCreateTime() {
+        return createTime;
+    }
+
     public boolean isExpire() {
         return System.currentTimeMillis() >= expireTime;
     }
 
+    public void setLaneDone(Runnable laneDone) {
+        this.laneDone = laneDone;
+    }
+
+    /**
+     * The msg is acked or given up on, the next msg of its partition key may be pushed.
+     */
+    public void releaseLane() {
+        Runnable done = laneDone;
+        if (done != null) {
+            done.run();
+        }
+    }
+
+    public void setForwardAck(CompletableFuture<Boolean> forwardAck) {
+        this.forwardAck = forwardAck;
+    }
+
+    /**
+     * Report the forwarded msg as acked, or as given up on so that the eventMesh which consumed it sends it back to the broker.
+     */
+    public void completeForward(boolean acked) {
+        CompletableFuture<Boolean> ack = forwardAck;
+        if (ack != null) {
+            ack.complete(acked);
+        }
+    }
+
     public void ackMsg() {
+        releaseLane();
+        if (msgFromOtherEventMesh) {
+            //offset of a forwarded msg is updated by the eventMesh that consumed it
+            log.debug("ackMsg seq:{} forwarded from other eventMesh, topic:{}", seq, event.getSubject());
+            completeForward(true);
+            return;
+        }
         if (consumer != null && consumeConcurrentlyContext != null && event != null) {
             List<CloudEvent> events = new ArrayList<>();
             events.add(event);
@@ -120,6 +172,8 @@ public class DownStreamMsgContext extends RetryContext {
 
     @Override
     public void retry() {
+        MessageStage retryStage = MessageStage.retry();
+        boolean retried = false;
         try {
             log.info("retry downStream msg start,seq:{},retryTimes:{},bizSeq:{}", this.seq, this.retryTimes,
                 EventMeshUtil.getMessageBizSeq(this.event));
@@ -135,7 +189,8 @@ public class DownStreamMsgContext extends RetryContext {
             if (SubscriptionMode.BROADCASTING != this.subscriptionItem.getMode()) {
                 rechoosen = Objects.requireNonNull(this.session.getClientGroupWrapper().get())
                     .getDownstreamDispatchStrategy().select(Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getSysId(),
-                        topic, Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getGroupConsumerSessions());
+                        topic, KeyOrderedLanes.partitionKey(this.event),
+                        Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getMatchingSessions(topic, this.event));
             } else {
                 rechoosen = this.session;
             }
@@ -146,11 +201,15 @@ public class DownStreamMsgContext extends RetryContext {
             } else {
                 this.session = rechoosen;
                 rechoosen.downstreamMsg(this);
+                retried = true;
                 log.info("retry downStream msg end,seq:{},retryTimes:{},bizSeq:{}", this.seq, this.retryTimes,
                     EventMeshUtil.getMessageBizSeq(this.event));
             }
         } catch (Exception e) {
             log.error("retry-dispatcher error!", e);
+        } finally {
+            retryStage.setRetryTimes(this.retryTimes);
+            retryStage.record(EventMeshConstants.PROTOCOL_TCP, this.event, this.session.getClient().getGroup(), retried);
         }
     }
 
@@ -184,6 +243,13 @@ public class DownStreamMsgContext extends RetryContext {
      * @param downStreamMsgContext Down Stream Message Context
      */
     private void eventMeshAckMsg(DownStreamMsgContext downStreamMsgContext) {
+        downStreamMsgContext.releaseLane();
+        downStreamMsgContext.completeForward(false);
+        if (downStreamMsgContext.consumeConcurrentlyContext == null) {
+            log.warn("eventMeshAckMsg topic:{}, seq:{}, no consume context, msgFromOtherEventMesh:{}", downStreamMsgContext.event.getSubject(),
+                downStreamMsgContext.seq, downStreamMsgContext.msgFromOtherEventMesh);
+            return;
+        }
         List<CloudEvent> msgExts = new ArrayList<>();
         msgExts.add(downStreamMsgContext.event);
         log.warn("eventMeshAckMsg topic:{}, seq:{}, bizSeq:{}", downStreamMsgContext.event.getSubject(),
@@ -27,8 +27,10 @@ import org.apache.eventmesh.common.protocol.tcp.OPStatus;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -79,6 +81,7 @@ public class SessionPusher {
     }
 
     public void push(final DownStreamMsgContext downStreamMsgContext) {
+        MessageStage pushStage = MessageStage.push();
         Command cmd;
         if (SubscriptionMode.BROADCASTING == downStreamMsgContext.subscriptionItem.getMode()) {
             cmd = Command.BROADCAST_MESSAGE_TO_CLIENT;
@@ -105,7 +108,9 @@ public class SessionPusher {
             pkg = (Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event);
             pkg.setHeader(new Header(cmd, OPStatus.SUCCESS.getCode(), null, downStreamMsgContext.seq));
             pkg.getHeader().putProperty(Constants.PROTOCOL_TYPE, protocolType);
-            messageLogger.info("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
+            if (messageLogger.isDebugEnabled()) {
+                messageLogger.debug("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
+            }
         } catch (Exception e) {
             pkg.setHeader(new Header(cmd, OPStatus.FAIL.getCode(), Arrays.toString(e.getStackTrace()), downStreamMsgContext.seq));
         } finally {
@@ -113,7 +118,7 @@ public class SessionPusher {
                 .getEventMeshTcpMonitor()
                 .getTcpSummaryMetrics()
                 .getEventMesh2clientMsgNum()
-                .incrementAndGet();
+                .mark();
 
             //TODO uploadTrace
             String protocolVersion = Objects.requireNonNull(downStreamMsgContext.event.getSpecVersion()).toString();
@@ -122,37 +127,7 @@ public class SessionPusher {
                 EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             try {
-                session.getContext().writeAndFlush(pkg).addListener(
-                    (ChannelFutureListener) future -> {
-                        if (!future.isSuccess()) {
-                            log.error("downstreamMsg fail,seq:{}, retryTimes:{}, event:{}", downStreamMsgContext.seq,
-                                downStreamMsgContext.retryTimes, downStreamMsgContext.event);
-                            deliverFailMsgsCount.incrementAndGet();
-
-                            //how long to isolate client when push fail
-                            long isolateTime = System.currentTimeMillis()
-                                + session.getEventMeshTCPConfiguration().getEventMeshTcpPushFailIsolateTimeInMills();
-                            session.setIsolateTime(isolateTime);
-                            log.warn("isolate client:{},isolateTime:{}", session.getClient(), isolateTime);
-
-                            //retry
-                            long delayTime = SubscriptionType.SYNC == downStreamMsgContext.subscriptionItem.getType()
-                                ? session.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetrySyncDelayInMills()
-                                : session.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryAsyncDelayInMills();
-                            downStreamMsgContext.delay(delayTime);
-                            Objects.requireNonNull(session.getClientGroupWrapper().get()).getEventMeshTcpRetryer().pushRetry(downStreamMsgContext);
-                        } else {
-                            deliveredMsgsCount.incrementAndGet();
-                            log.info("downstreamMsg success,seq:{}, retryTimes:{}, bizSeq:{}", downStreamMsgContext.seq,
-                                downStreamMsgContext.retryTimes, EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event));
-
-                            if (session.isIsolated()) {
-                                log.info("cancel isolated,client:{}", session.getClient());
-                                session.setIsolateTime(System.currentTimeMillis());
-                            }
-                        }
-                    }
-                );
+                session.getContext().writeAndFlush(pkg).addListener(newPushListener(downStreamMsgContext, pushStage));
             } finally {
                 TraceUtils.finishSpan(span, downStreamMsgContext.event);
             }
@@ -160,9 +135,109 @@ public class SessionPusher {
         }
     }
 
+    /**
+     * Push a message whose body is already serialized and shared with other sessions, only the frame header
+     * carrying this session's seq and client properties is encoded here.
+     */
+    public void push(final DownStreamMsgContext downStreamMsgContext, final SharedMsgBody sharedMsgBody) {
+        MessageStage pushStage = MessageStage.push();
+        Header header = new Header(Command.BROADCAST_MESSAGE_TO_CLIENT, OPStatus.SUCCESS.getCode(), null,
+            downStreamMsgContext.seq);
+
+        Objects.requireNonNull(session.getClientGroupWrapper().get())
+            .getEventMeshTcpMonitor()
+            .getTcpSummaryMetrics()
+            .getEventMesh2clientMsgNum()
+            .mark();
+
+        String protocolVersion = Objects.requireNonNull(downStreamMsgContext.event.getSpecVersion()).toString();
+        Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion, downStreamMsgContext.event),
+            EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
+        try {
+            session.getContext()
+                .writeAndFlush(sharedMsgBody.newFrame(session.getContext().alloc(), header, session.getClient()))
+                .addListener(newPushListener(downStreamMsgContext, pushStage));
+        } finally {
+            TraceUtils.finishSpan(span, downStreamMsgContext.event);
+        }
+    }
+
+    private ChannelFutureListener newPushListener(final DownStreamMsgContext downStreamMsgContext, final MessageStage pushStage) {
+        return future -> {
+            pushStage.record(EventMeshConstants.PROTOCOL_TCP, downStreamMsgContext.event, session.getClient().getGroup(),
+                future.isSuccess());
+            if (AuditUtils.isEnabled()) {
+                AuditUtils.record(EventMeshConstants.PROTOCOL_TCP, AuditUtils.DIRECTION_EVENTMESH_TO_CLIENT,
+                    downStreamMsgContext.event.getSubject(), session.getClient().getGroup(),
+                    EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event), downStreamMsgContext.event.getId(),
+                    session.getClient().getHost(), System.currentTimeMillis() - downStreamMsgContext.lastPushTime,
+                    future.isSuccess());
+            }
+            if (!future.isSuccess()) {
+                log.error("downstreamMsg fail,seq:{}, retryTimes:{}, event:{}", downStreamMsgContext.seq,
+                    downStreamMsgContext.retryTimes, downStreamMsgContext.event);
+                deliverFailMsgsCount.incrementAndGet();
+                session.getSessionAggregates().deliverFailed();
+
+                //how long to isolate client when push fail
+                long isolateTime = System.currentTimeMillis()
+                    + session.getEventMeshTCPConfiguration().getEventMeshTcpPushFailIsolateTimeInMills();
+                session.setIsolateTime(isolateTime);
+                log.warn("isolate client:{},isolateTime:{}", session.getClient(), isolateTime);
+
+                //retry
+                long delayTime = SubscriptionType.SYNC == downStreamMsgContext.subscriptionItem.getType()
+                    ? session.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetrySyncDelayInMills()
+                    : session.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryAsyncDelayInMills();
+                downStreamMsgContext.delay(delayTime);
+                Objects.requireNonNull(session.getClientGroupWrapper().get()).getEventMeshTcpRetryer().pushRetry(downStreamMsgContext);
+            } else {
+                deliveredMsgsCount.incrementAndGet();
+                session.getSessionAggregates().delivered();
+                if (log.isDebugEnabled()) {
+                    log.debug("downstreamMsg success,seq:{}, retryTimes:{}, bizSeq:{}", downStreamMsgContext.seq,
+                        downStreamMsgContext.retryTimes, EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event));
+                }
+
+                if (session.isIsolated()) {
+                    log.info("cancel isolated,client:{}", session.getClient());
+                    session.setIsolateTime(System.currentTimeMillis());
+                }
+            }
+        };
+    }
+
     public void unAckMsg(String seq, DownStreamMsgContext downStreamMsgContext) {
-        downStreamMap.put(seq, downStreamMsgContext);
-        log.info("put msg in unAckMsg,seq:{},unAckMsgSize:{}", seq, getTotalUnackMsgs());
+        if (downStreamMap.put(seq, downStreamMsgContext) == null) {
+            session.getSessionAggregates().addUnAckMsgs(session.getClient().getGroup(), 1);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("put msg in unAckMsg,seq:{},unAckMsgSize:{}", seq, getTotalUnackMsgs());
+        }
+    }
+
+    /**
+     * Remove an acked or expired msg, always go through here so that the group unack aggregate stays exact.
+     */
+    public DownStreamMsgContext removeUnAckMsg(String seq) {
+        DownStreamMsgContext downStreamMsgContext = downStreamMap.remove(seq);
+        if (downStreamMsgContext != null) {
+            session.getSessionAggregates().addUnAckMsgs(session.getClient().getGroup(), -1);
+        }
+        return downStreamMsgContext;
+    }
+
+    /**
+     * Drop every remaining unack msg of a closed session, after they have been re-pushed to other sessions.
+     * A msg that found no other session is done, it must not keep the next msgs of its partition key waiting.
+     */
+    public void clearUnAckMsg() {
+        for (String seq : downStreamMap.keySet()) {
+            DownStreamMsgContext downStreamMsgContext = removeUnAckMsg(seq);
+            if (downStreamMsgContext != null && downStreamMsgContext.session == session) {
+                downStreamMsgContext.releaseLane();
+            }
+        }
     }
 
     public int getTotalUnackMsgs() {
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.OPStatus;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.Objects;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Body of a message pushed to many sessions, e.g. broadcast. The event is converted by the protocol adaptor and
+ * serialized only once into a reference counted direct buffer, every session then writes a frame made of its own
+ * small header and a retained duplicate of the shared body.
+ *
+ * <p>The client related response properties ({@link EventMeshConstants#RSP_SYS}, {@link EventMeshConstants#RSP_IDC},
+ * {@link EventMeshConstants#RSP_IP}) differ per session, they are header properties of the frame and not part of the
+ * body. The SDKs add them to the received event.
+ */
+public class SharedMsgBody {
+
+    private final CloudEvent event;
+
+    private final String protocolType;
+
+    private final ByteBuf body;
+
+    private SharedMsgBody(CloudEvent event, String protocolType, ByteBuf body) {
+        this.event = event;
+        this.protocolType = protocolType;
+        this.body = body;
+    }
+
+    public static SharedMsgBody encode(CloudEvent event, String group) throws Exception {
+        String protocolType = Objects.requireNonNull(event.getExtension(Constants.PROTOCOL_TYPE)).toString();
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
+
+        CloudEvent sharedEvent = CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
+            .withExtension(EventMeshConstants.RSP_GROUP, group)
+            .build();
+
+        Package pkg = (Package) protocolAdaptor.fromCloudEvent(sharedEvent);
+        pkg.setHeader(new Header(Command.BROADCAST_MESSAGE_TO_CLIENT, OPStatus.SUCCESS.getCode(), null, null));
+        pkg.getHeader().putProperty(Constants.PROTOCOL_TYPE, protocolType);
+        byte[] bodyData = Codec.serializeBody(pkg);
+
+        ByteBuf body = PooledByteBufAllocator.DEFAULT.directBuffer(ArrayUtils.getLength(bodyData));
+        if (bodyData != null) {
+            body.writeBytes(bodyData);
+        }
+        return new SharedMsgBody(sharedEvent, protocolType, body);
+    }
+
+    /**
+     * Build the frame for one session, the returned buffer owns one reference of the shared body.
+     */
+    public ByteBuf newFrame(ByteBufAllocator allocator, Header header, UserAgent client) {
+        header.putProperty(Constants.PROTOCOL_TYPE, protocolType);
+        header.putProperty(EventMeshConstants.RSP_SYS, client.getSubsystem());
+        header.putProperty(EventMeshConstants.RSP_IDC, client.getIdc());
+        header.putProperty(EventMeshConstants.RSP_IP, client.getHost());
+        ByteBuf frameHeader = Codec.encodeFrameHeader(allocator, header, body.readableBytes());
+        CompositeByteBuf frame = allocator.compositeBuffer(2);
+        frame.addComponents(true, frameHeader, body.retainedDuplicate());
+        return frame;
+    }
+
+    public CloudEvent getEvent() {
+        return event;
+    }
+
+    public int getBodyLength() {
+        return body.readableBytes();
+    }
+
+    /**
+     * Release the reference taken by {@link #encode(CloudEvent, String)}, frames already built keep their own.
+     */
+    public void release() {
+        body.release();
+    }
+}
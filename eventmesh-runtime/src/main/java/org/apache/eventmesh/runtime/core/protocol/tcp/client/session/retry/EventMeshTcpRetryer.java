@@ -19,8 +19,12 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
 
 import org.apache.eventmesh.common.EventMeshThreadFactory;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.concurrent.ArrayBlockingQueue;
@@ -64,6 +68,7 @@ public class EventMeshTcpRetryer {
             log.error("pushRetry fail,retrys is too much,allow max retryQueueSize:{}, retryTimes:{}, seq:{}, bizSeq:{}",
                 eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshTcpMsgRetryQueueSize(), retryContext.retryTimes,
                 retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+            deadLetter(retryContext, "retry queue full");
             return;
         }
 
@@ -78,6 +83,7 @@ public class EventMeshTcpRetryer {
         if (retryContext.retryTimes >= maxRetryTimes) {
             log.warn("pushRetry fail,retry over maxRetryTimes:{}, retryTimes:{}, seq:{}, bizSeq:{}", maxRetryTimes,
                 retryContext.retryTimes, retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+            deadLetter(retryContext, "retry over max times " + maxRetryTimes);
             return;
         }
 
@@ -86,6 +92,32 @@ public class EventMeshTcpRetryer {
             EventMeshUtil.getMessageBizSeq(retryContext.event));
     }
 
+    /**
+     * Hand a msg given up on to the dead-letter store, a downstream msg is acked then, as it no longer waits for the client
+     */
+    private void deadLetter(RetryContext retryContext, String reason) {
+        DeadLetterManager deadLetterManager = EventMeshServer.getDeadLetterManager();
+        if (deadLetterManager == null) {
+            if (retryContext instanceof DownStreamMsgContext) {
+                // the peer eventMesh that forwarded the msg sends it back to the broker
+                ((DownStreamMsgContext) retryContext).completeForward(false);
+            }
+            return;
+        }
+        if (retryContext instanceof DownStreamMsgContext) {
+            DownStreamMsgContext downStreamMsgContext = (DownStreamMsgContext) retryContext;
+            deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, downStreamMsgContext.session.getClient().getGroup(),
+                downStreamMsgContext.event, reason, downStreamMsgContext.retryTimes + 1, downStreamMsgContext.getCreateTime());
+            downStreamMsgContext.ackMsg();
+            downStreamMsgContext.session.getPusher().removeUnAckMsg(downStreamMsgContext.seq);
+        } else if (retryContext instanceof UpStreamMsgContext) {
+            UpStreamMsgContext upStreamMsgContext = (UpStreamMsgContext) retryContext;
+            String group = upStreamMsgContext.getSession() == null ? null : upStreamMsgContext.getSession().getClient().getGroup();
+            deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, group, upStreamMsgContext.event, reason,
+                upStreamMsgContext.retryTimes + 1, upStreamMsgContext.getCreateTime());
+        }
+    }
+
     public void init() {
         dispatcher = new Thread(() -> {
             try {
@@ -28,6 +28,7 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
@@ -91,6 +92,14 @@ public class SessionSender {
 
     public EventMeshTcpSendResult send(Header header, CloudEvent event, SendCallback sendCallback, long startTime,
                                        long taskExecuteTime) {
+        return send(header, event, sendCallback, startTime, taskExecuteTime, null);
+    }
+
+    /**
+     * @param limiterToken concurrency limiter token of a request-reply, released when the reply or its failure arrives
+     */
+    public EventMeshTcpSendResult send(Header header, CloudEvent event, SendCallback sendCallback, long startTime,
+                                       long taskExecuteTime, ConcurrencyLimiter.Token limiterToken) {
         try {
             if (upstreamBuff.tryAcquire(TRY_PERMIT_TIME_OUT, TimeUnit.MILLISECONDS)) {
                 upMsgs.incrementAndGet();
@@ -105,6 +114,9 @@ public class SessionSender {
                         ttl = Long.parseLong((String) Objects.requireNonNull(
                                 event.getExtension(EventMeshConstants.PROPERTY_MESSAGE_TTL)));
                     }
+                    if (limiterToken != null) {
+                        limiterToken.extendDeadline(ttl);
+                    }
                     upStreamMsgContext = new UpStreamMsgContext(session, event, header, startTime, taskExecuteTime);
 
                     Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion,
@@ -113,7 +125,7 @@ public class SessionSender {
                     try {
                         Objects.requireNonNull(session.getClientGroupWrapper().get())
                                 .request(upStreamMsgContext, initSyncRRCallback(header,
-                                        startTime, taskExecuteTime, event), ttl);
+                                        startTime, taskExecuteTime, event, limiterToken), ttl);
                         upstreamBuff.release();
                     } finally {
                         TraceUtils.finishSpan(span, event);
@@ -147,7 +159,7 @@ public class SessionSender {
                         .getEventMeshTcpMonitor()
                         .getTcpSummaryMetrics()
                         .getEventMesh2mqMsgNum()
-                        .incrementAndGet();
+                        .mark();
             } else {
                 log.warn("send too fast,session flow control,session:{}", session.getClient());
                 return new EventMeshTcpSendResult(header.getSeq(), EventMeshTcpSendStatus.SEND_TOO_FAST,
@@ -167,10 +179,14 @@ public class SessionSender {
     }
 
     private RequestReplyCallback initSyncRRCallback(Header header, long startTime, long taskExecuteTime,
-                                                    CloudEvent cloudEvent) {
+                                                    CloudEvent cloudEvent, ConcurrencyLimiter.Token limiterToken) {
         return new RequestReplyCallback() {
             @Override
             public void onSuccess(CloudEvent event) {
+                if (limiterToken != null) {
+                    // the round trip includes the replier's handling, it is not a sample of the connector latency
+                    limiterToken.onIgnore();
+                }
                 String seq = header.getSeq();
                 // TODO: How to assign values here
                 event = CloudEventBuilder.from(event)
@@ -180,7 +196,7 @@ public class SessionSender {
                         .build();
                 Objects.requireNonNull(session.getClientGroupWrapper().get())
                         .getEventMeshTcpMonitor().getTcpSummaryMetrics().getMq2eventMeshMsgNum()
-                        .incrementAndGet();
+                        .mark();
 
                 Command cmd;
                 if (Command.REQUEST_TO_SERVER == header.getCmd()) {
@@ -213,6 +229,9 @@ public class SessionSender {
 
             @Override
             public void onException(Throwable e) {
+                if (limiterToken != null) {
+                    limiterToken.onDropped();
+                }
                 MESSAGE_LOGGER.error("exception occur while sending RR message|user={}", session.getClient(),
                         new Exception(e));
 
@@ -27,6 +27,7 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.RetryContext;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.Utils;
 
@@ -53,8 +54,11 @@ public class UpStreamMsgContext extends RetryContext {
 
     private long taskExecuteTime;
 
+    /**
+     * @param session null along with the header for a msg the eventMesh sends back to broker on its own
+     */
     public UpStreamMsgContext(Session session, CloudEvent event, Header header, long startTime, long taskExecuteTime) {
-        this.seq = header.getSeq();
+        this.seq = header == null ? null : header.getSeq();
         this.session = session;
         this.event = event;
         this.header = header;
@@ -89,6 +93,8 @@ public class UpStreamMsgContext extends RetryContext {
         log.info("retry upStream msg start,seq:{},retryTimes:{},bizSeq:{}", this.seq, this.retryTimes,
             EventMeshUtil.getMessageBizSeq(this.event));
 
+        MessageStage retryStage = MessageStage.retry();
+        boolean retried = false;
         try {
             Command replyCmd = getReplyCmd(header.getCmd());
             long sendTime = System.currentTimeMillis();
@@ -103,12 +109,16 @@ public class UpStreamMsgContext extends RetryContext {
                 if (StringUtils.equals(EventMeshTcpSendStatus.SUCCESS.name(), sendStatus.getSendStatus().name())) {
                     log.info("pkg|eventMesh2mq|cmd={}|event={}|user={}|wait={}ms|cost={}ms", header.getCmd(), event,
                         session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+                    retried = true;
                 } else {
                     throw new Exception(sendStatus.getDetail());
                 }
             }
         } catch (Exception e) {
             log.error("TCP UpstreamMsg Retry error", e);
+        } finally {
+            retryStage.setRetryTimes(retryTimes);
+            retryStage.record(EventMeshConstants.PROTOCOL_TCP, event, session.getClient().getGroup(), retried);
         }
     }
 
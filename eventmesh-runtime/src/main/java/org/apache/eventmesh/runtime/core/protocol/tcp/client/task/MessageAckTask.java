@@ -20,7 +20,9 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.task;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,8 +54,11 @@ public class MessageAckTask extends AbstractTask {
         DownStreamMsgContext downStreamMsgContext = session.getPusher().getUnAckMsg().get(seq);
         // ack non-broadcast msg
         if (downStreamMsgContext != null) {
+            MessageStage ackStage = MessageStage.ack();
             downStreamMsgContext.ackMsg();
-            session.getPusher().getUnAckMsg().remove(seq);
+            session.getPusher().removeUnAckMsg(seq);
+            ackStage.setAckLatency(taskExecuteTime - downStreamMsgContext.lastPushTime);
+            ackStage.record(EventMeshConstants.PROTOCOL_TCP, downStreamMsgContext.event, session.getClient().getGroup(), true);
         } else {
             if (cmd != Command.RESPONSE_TO_CLIENT_ACK) {
                 log.warn("MessageAckTask, seq:{}, downStreamMsgContext not in downStreamMap,client:{}",
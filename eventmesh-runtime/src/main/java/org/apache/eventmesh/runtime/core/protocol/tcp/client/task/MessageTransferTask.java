@@ -17,6 +17,9 @@
 
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.task;
 
+import static org.apache.eventmesh.common.protocol.tcp.Command.ASYNC_MESSAGE_TO_SERVER;
+import static org.apache.eventmesh.common.protocol.tcp.Command.BROADCAST_MESSAGE_TO_SERVER;
+import static org.apache.eventmesh.common.protocol.tcp.Command.REQUEST_TO_SERVER;
 import static org.apache.eventmesh.common.protocol.tcp.Command.RESPONSE_TO_SERVER;
 
 import org.apache.eventmesh.api.SendCallback;
@@ -31,14 +34,18 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
+import org.apache.eventmesh.runtime.audit.AuditUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.limiter.ConcurrencyLimiter;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendResult;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendStatus;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
+import org.apache.eventmesh.runtime.metrics.jfr.MessageStage;
 import org.apache.eventmesh.runtime.trace.AttributeKeys;
 import org.apache.eventmesh.runtime.trace.SpanKey;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.Utils;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -102,6 +109,7 @@ public class MessageTransferTask extends AbstractTask {
 
         EventMeshTcpSendResult sendStatus;
         CloudEvent event = null;
+        ConcurrencyLimiter.Token limiterToken = null;
 
         try {
             String protocolType = "eventmeshmessage";
@@ -111,7 +119,9 @@ public class MessageTransferTask extends AbstractTask {
             }
             ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor =
                 ProtocolPluginFactory.getProtocolAdaptor(protocolType);
+            MessageStage decodeStage = MessageStage.decode();
             event = protocolAdaptor.toCloudEvent(pkg);
+            decodeStage.record(EventMeshConstants.PROTOCOL_TCP, event, session.getClient().getGroup(), event != null);
 
             if (event == null) {
                 throw new Exception("event is null");
@@ -126,7 +136,14 @@ public class MessageTransferTask extends AbstractTask {
             //do acl check in sending msg
             if (eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshServerSecurityEnable()) {
                 String remoteAddr = RemotingHelper.parseChannelRemoteAddr(ctx.channel());
-                this.acl.doAclCheckInTcpSend(remoteAddr, session.getClient(), event.getSubject(), cmd.getValue());
+                MessageStage aclCheckStage = MessageStage.aclCheck();
+                boolean aclPassed = false;
+                try {
+                    this.acl.doAclCheckInTcpSend(remoteAddr, session.getClient(), event.getSubject(), cmd.getValue());
+                    aclPassed = true;
+                } finally {
+                    aclCheckStage.record(EventMeshConstants.PROTOCOL_TCP, event, session.getClient().getGroup(), aclPassed);
+                }
             }
 
             if (!eventMeshTCPServer.getRateLimiter()
@@ -149,25 +166,44 @@ public class MessageTransferTask extends AbstractTask {
                 return;
             }
 
+            // a request is released by its reply callback, a response to server has no completion to wait for
+            if ((cmd == ASYNC_MESSAGE_TO_SERVER || cmd == BROADCAST_MESSAGE_TO_SERVER || cmd == REQUEST_TO_SERVER)
+                && eventMeshTCPServer.getConcurrencyLimiterManager().isEnabled()) {
+                limiterToken = eventMeshTCPServer.getConcurrencyLimiterManager().tryAcquire(session.getClient().getGroup());
+                if (limiterToken == null) {
+                    msg.setHeader(new Header(replyCmd, OPStatus.FAIL.getCode(), "Concurrency overload, group flow control",
+                        pkg.getHeader().getSeq()));
+                    Utils.writeAndFlush(msg, startTime, taskExecuteTime, session.getContext(), session);
+
+                    TraceUtils.finishSpanWithException(ctx, event, "Concurrency overload, group flow control", null);
+                    return;
+                }
+            }
+
             synchronized (session) {
                 long sendTime = System.currentTimeMillis();
                 event = addTimestamp(event, cmd, sendTime);
 
                 sendStatus = session
                     .upstreamMsg(pkg.getHeader(), event,
-                        createSendCallback(replyCmd, taskExecuteTime, event),
-                        startTime, taskExecuteTime);
+                        createSendCallback(replyCmd, taskExecuteTime, event, limiterToken),
+                        startTime, taskExecuteTime, cmd == REQUEST_TO_SERVER ? limiterToken : null);
 
                 if (StringUtils.equals(EventMeshTcpSendStatus.SUCCESS.name(),
                     sendStatus.getSendStatus().name())) {
-                    MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
-                        cmd, event,
-                        session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+                    if (MESSAGE_LOGGER.isDebugEnabled()) {
+                        MESSAGE_LOGGER.debug("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
+                            cmd, event,
+                            session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+                    }
                 } else {
                     throw new Exception(sendStatus.getDetail());
                 }
             }
         } catch (Exception e) {
+            if (limiterToken != null) {
+                limiterToken.onIgnore();
+            }
             log.error("MessageTransferTask failed|cmd={}|event={}|user={}", cmd, event,
                     session.getClient(),
                     e);
@@ -222,18 +258,34 @@ public class MessageTransferTask extends AbstractTask {
         }
     }
 
+    private void auditUpstream(CloudEvent event, long createTime, boolean success) {
+        if (AuditUtils.isEnabled()) {
+            AuditUtils.record(EventMeshConstants.PROTOCOL_TCP, AuditUtils.DIRECTION_EVENTMESH_TO_MQ, event.getSubject(),
+                session.getClient().getGroup(), EventMeshUtil.getMessageBizSeq(event), event.getId(),
+                session.getClient().getHost(), System.currentTimeMillis() - createTime, success);
+        }
+    }
+
     protected SendCallback createSendCallback(Command replyCmd, long taskExecuteTime,
-        CloudEvent event) {
+        CloudEvent event, ConcurrencyLimiter.Token limiterToken) {
         final long createTime = System.currentTimeMillis();
+        final MessageStage publishStage = MessageStage.publish();
         Package msg = new Package();
 
         return new SendCallback() {
             @Override
             public void onSuccess(SendResult sendResult) {
                 session.getSender().getUpstreamBuff().release();
-                MESSAGE_LOGGER.info("upstreamMsg message success|user={}|callback cost={}",
-                    session.getClient(),
-                    System.currentTimeMillis() - createTime);
+                if (limiterToken != null) {
+                    limiterToken.onSuccess();
+                }
+                if (MESSAGE_LOGGER.isDebugEnabled()) {
+                    MESSAGE_LOGGER.debug("upstreamMsg message success|user={}|callback cost={}",
+                        session.getClient(),
+                        System.currentTimeMillis() - createTime);
+                }
+                auditUpstream(event, createTime, true);
+                publishStage.record(EventMeshConstants.PROTOCOL_TCP, event, session.getClient().getGroup(), true);
                 if (replyCmd == Command.BROADCAST_MESSAGE_TO_SERVER_ACK
                     || replyCmd == Command.ASYNC_MESSAGE_TO_SERVER_ACK) {
                     msg.setHeader(
@@ -251,6 +303,10 @@ public class MessageTransferTask extends AbstractTask {
             @Override
             public void onException(OnExceptionContext context) {
                 session.getSender().getUpstreamBuff().release();
+                publishStage.record(EventMeshConstants.PROTOCOL_TCP, event, session.getClient().getGroup(), false);
+                if (limiterToken != null) {
+                    limiterToken.onDropped();
+                }
 
                 // retry
                 UpStreamMsgContext upStreamMsgContext = new UpStreamMsgContext(
@@ -261,6 +317,7 @@ public class MessageTransferTask extends AbstractTask {
                     .pushRetry(upStreamMsgContext);
 
                 session.getSender().failMsgCount.incrementAndGet();
+                auditUpstream(event, createTime, false);
                 MESSAGE_LOGGER
                     .error("upstreamMsg mq message error|user={}|callback cost={}, errMsg={}",
                         session.getClient(),
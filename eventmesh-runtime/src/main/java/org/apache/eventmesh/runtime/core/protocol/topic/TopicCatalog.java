@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.topic;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.core.plugin.MQAdminWrapper;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The topics of the connector, refreshed periodically. Wildcard subscriptions cannot be handed to a connector as they
+ * are, the consumers subscribe the topics of the connector matching them instead, and are reconciled by the listeners
+ * whenever the topics change.
+ */
+@Slf4j
+public class TopicCatalog {
+
+    private final long refreshMills;
+
+    private final MQAdminWrapper admin;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Set<String> topics = Collections.emptySet();
+
+    public TopicCatalog(CommonConfiguration configuration) {
+        this(configuration.getEventMeshServerWildcardTopicRefreshInMills(),
+            new MQAdminWrapper(configuration.getEventMeshConnectorPluginType()));
+    }
+
+    TopicCatalog(long refreshMills, MQAdminWrapper admin) {
+        this.refreshMills = refreshMills;
+        this.admin = admin;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new EventMeshThreadFactory("EventMesh-TopicCatalog", true));
+    }
+
+    public void start() throws Exception {
+        admin.init(null);
+        admin.start();
+        refresh();
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshMills, refreshMills, TimeUnit.MILLISECONDS);
+        log.info("topic catalog started, topics:{}", topics.size());
+    }
+
+    public void shutdown() throws Exception {
+        scheduler.shutdown();
+        admin.shutdown();
+    }
+
+    /**
+     * @return the topics of the connector as of the last refresh
+     */
+    public Set<String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * The listener is told the topics every time they change.
+     */
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    void refresh() {
+        Set<String> latest = new HashSet<>();
+        try {
+            latest.addAll(admin.getTopicNames());
+        } catch (Exception e) {
+            log.warn("list topics of connector failed, keep the {} topics known", topics.size(), e);
+            return;
+        }
+        if (latest.equals(topics)) {
+            return;
+        }
+        topics = Collections.unmodifiableSet(latest);
+        for (Consumer<Set<String>> listener : listeners) {
+            try {
+                listener.accept(topics);
+            } catch (Exception e) {
+                log.error("notify topics change failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.topic;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subscribers of topic patterns, looked up by the topics they match. Topics are levels separated by {@value #SEPARATOR},
+ * as in MQTT a pattern level {@value #SINGLE_LEVEL} matches any one level and a last level {@value #MULTI_LEVEL}
+ * matches any number of levels, none included: {@code orders/+/created} matches {@code orders/eu/created},
+ * {@code orders/#} matches {@code orders} and {@code orders/eu/created}.
+ * <p>
+ * Matching walks the levels of the topic, following the wildcard branches along, so its cost is bound by the depth of
+ * the topic rather than the number of patterns. It takes no lock, changes are serialized.
+ */
+public class TopicTrie<T> {
+
+    public static final String SEPARATOR = "/";
+
+    public static final String SINGLE_LEVEL = "+";
+
+    public static final String MULTI_LEVEL = "#";
+
+    private final Node<T> root = new Node<>();
+
+    private int size;
+
+    public static boolean isWildcard(String pattern) {
+        for (String level : levels(pattern)) {
+            if (SINGLE_LEVEL.equals(level) || MULTI_LEVEL.equals(level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a wildcard is not a whole level or {@value #MULTI_LEVEL} is not the last one
+     */
+    public static void validate(String pattern) {
+        String[] levels = levels(pattern);
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (level.length() > 1 && (level.contains(SINGLE_LEVEL) || level.contains(MULTI_LEVEL))) {
+                throw new IllegalArgumentException("wildcard is not a whole level of topic: " + pattern);
+            }
+            if (MULTI_LEVEL.equals(level) && i != levels.length - 1) {
+                throw new IllegalArgumentException(MULTI_LEVEL + " is not the last level of topic: " + pattern);
+            }
+        }
+    }
+
+    public static boolean matches(String pattern, String topic) {
+        String[] patternLevels = levels(pattern);
+        String[] topicLevels = levels(topic);
+        for (int i = 0; i < patternLevels.length; i++) {
+            if (MULTI_LEVEL.equals(patternLevels[i])) {
+                return true;
+            }
+            if (i >= topicLevels.length
+                || !SINGLE_LEVEL.equals(patternLevels[i]) && !patternLevels[i].equals(topicLevels[i])) {
+                return false;
+            }
+        }
+        return patternLevels.length == topicLevels.length;
+    }
+
+    private static String[] levels(String topic) {
+        return topic.split(SEPARATOR, -1);
+    }
+
+    /**
+     * @return false if the subscriber was there already
+     */
+    public synchronized boolean add(String pattern, T subscriber) {
+        validate(pattern);
+        Node<T> node = root;
+        for (String level : levels(pattern)) {
+            node = node.children.computeIfAbsent(level, k -> new Node<>());
+        }
+        boolean added = node.subscribers.add(subscriber);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * @return false if the subscriber was not there
+     */
+    public synchronized boolean remove(String pattern, T subscriber) {
+        boolean removed = remove(root, levels(pattern), 0, subscriber);
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    private static <T> boolean remove(Node<T> node, String[] levels, int depth, T subscriber) {
+        if (depth == levels.length) {
+            return node.subscribers.remove(subscriber);
+        }
+        Node<T> child = node.children.get(levels[depth]);
+        if (child == null || !remove(child, levels, depth + 1, subscriber)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.children.remove(levels[depth], child);
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * @return the subscribers of the patterns matching the topic
+     */
+    public Set<T> match(String topic) {
+        if (root.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<T> matched = new HashSet<>();
+        match(root, levels(topic), 0, matched);
+        return matched;
+    }
+
+    private static <T> void match(Node<T> node, String[] levels, int depth, Set<T> matched) {
+        Node<T> multiLevel = node.children.get(MULTI_LEVEL);
+        if (multiLevel != null) {
+            matched.addAll(multiLevel.subscribers);
+        }
+        if (depth == levels.length) {
+            matched.addAll(node.subscribers);
+            return;
+        }
+        Node<T> exact = node.children.get(levels[depth]);
+        if (exact != null) {
+            match(exact, levels, depth + 1, matched);
+        }
+        Node<T> singleLevel = node.children.get(SINGLE_LEVEL);
+        if (singleLevel != null && singleLevel != exact) {
+            match(singleLevel, levels, depth + 1, matched);
+        }
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+
+        private final Set<T> subscribers = ConcurrentHashMap.newKeySet();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && subscribers.isEmpty();
+        }
+    }
+}
@@ -58,6 +58,7 @@ public class EventMeshGrpcMonitor {
     }
 
     public void start() throws Exception {
+        grpcSummaryMetrics.setConcurrencyLimits(eventMeshGrpcServer.getConcurrencyLimiterManager().getLimits());
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(grpcSummaryMetrics);
         });
@@ -64,6 +64,7 @@ public class HTTPMetricsServer {
     }
 
     public void start() {
+        summaryMetrics.setConcurrencyLimits(eventMeshHTTPServer.getConcurrencyLimiterManager().getLimits());
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(summaryMetrics);
             if (log.isInfoEnabled()) {
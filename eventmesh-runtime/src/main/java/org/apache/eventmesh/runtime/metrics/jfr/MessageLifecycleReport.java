@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Per stage latency breakdown of the {@link MessageStageEvent}s of a recording, optionally of one topic:
+ * <pre>
+ *     java -cp ... org.apache.eventmesh.runtime.metrics.jfr.MessageLifecycleReport eventmesh.jfr [topic]
+ * </pre>
+ * The latency of a stage is the duration of its events, except for acks which use the time from push to ack.
+ */
+public class MessageLifecycleReport {
+
+    public static final String EVENT_NAME_PREFIX = "org.apache.eventmesh.message.";
+
+    private static final String[] STAGES = {"Decode", "AclCheck", "Publish", "Consume", "Dispatch", "Push", "Ack", "Retry"};
+
+    private static final String ACK_LATENCY = "ackLatency";
+
+    private final String topic;
+
+    private final Map<String, StageStats> stages = new LinkedHashMap<>();
+
+    public MessageLifecycleReport(String topic) {
+        this.topic = topic;
+        for (String stage : STAGES) {
+            stages.put(stage, new StageStats(stage));
+        }
+    }
+
+    public static MessageLifecycleReport read(Path recording, String topic) throws IOException {
+        MessageLifecycleReport report = new MessageLifecycleReport(topic);
+        try (RecordingFile recordingFile = new RecordingFile(recording)) {
+            while (recordingFile.hasMoreEvents()) {
+                report.add(recordingFile.readEvent());
+            }
+        }
+        return report;
+    }
+
+    public void add(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        if (!name.startsWith(EVENT_NAME_PREFIX)) {
+            return;
+        }
+        if (topic != null && !topic.equals(event.getString("topic"))) {
+            return;
+        }
+        long latencyNanos = event.hasField(ACK_LATENCY) ? event.getDuration(ACK_LATENCY).toNanos() : event.getDuration().toNanos();
+        stages.computeIfAbsent(name.substring(EVENT_NAME_PREFIX.length()), StageStats::new)
+            .add(latencyNanos, event.getBoolean("success"));
+    }
+
+    public StageStats getStage(String stage) {
+        return stages.get(stage);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-10s %10s %8s %12s %12s %12s %12s %12s%n", "stage", "count", "failed", "avg(us)", "p50(us)", "p90(us)",
+            "p99(us)", "max(us)");
+        for (StageStats stats : stages.values()) {
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            out.printf("%-10s %10d %8d %12d %12d %12d %12d %12d%n", stats.getStage(), stats.getCount(), stats.getFailures(),
+                toMicros(stats.getAverage()), toMicros(stats.percentile(50)), toMicros(stats.percentile(90)),
+                toMicros(stats.percentile(99)), toMicros(stats.percentile(100)));
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: MessageLifecycleReport <recording.jfr> [topic]");
+            System.exit(1);
+        }
+        read(Paths.get(args[0]), args.length > 1 ? args[1] : null).print(System.out);
+    }
+
+    public static class StageStats {
+
+        private final String stage;
+
+        private long[] latencies = new long[64];
+
+        private int count;
+
+        private int failures;
+
+        private boolean sorted = true;
+
+        StageStats(String stage) {
+            this.stage = stage;
+        }
+
+        void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            sorted = false;
+            if (!success) {
+                failures++;
+            }
+        }
+
+        public String getStage() {
+            return stage;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public long getAverage() {
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += latencies[i];
+            }
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * @param percent 0 to 100, nearest rank
+         */
+        public long percentile(double percent) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(latencies, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(percent / 100 * count);
+            return latencies[Math.min(count, Math.max(rank, 1)) - 1];
+        }
+    }
+}
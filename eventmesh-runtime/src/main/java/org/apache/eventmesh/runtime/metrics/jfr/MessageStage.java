@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.jfr;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A started {@link MessageStageEvent}. The instrumented code holds a stage rather than the event so that it never loads a
+ * jdk.jfr class: a JDK 8 before 8u262 has no jdk.jfr, there every stage is a no-op.
+ */
+@Slf4j
+public final class MessageStage {
+
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+    private static final MessageStage NOOP = new MessageStage(null);
+
+    private final MessageStageEvent event;
+
+    private MessageStage(MessageStageEvent event) {
+        this.event = event;
+    }
+
+    public static MessageStage decode() {
+        return JFR_AVAILABLE ? Stages.decode() : NOOP;
+    }
+
+    public static MessageStage aclCheck() {
+        return JFR_AVAILABLE ? Stages.aclCheck() : NOOP;
+    }
+
+    public static MessageStage publish() {
+        return JFR_AVAILABLE ? Stages.publish() : NOOP;
+    }
+
+    public static MessageStage consume() {
+        return JFR_AVAILABLE ? Stages.consume() : NOOP;
+    }
+
+    public static MessageStage dispatch() {
+        return JFR_AVAILABLE ? Stages.dispatch() : NOOP;
+    }
+
+    public static MessageStage push() {
+        return JFR_AVAILABLE ? Stages.push() : NOOP;
+    }
+
+    public static MessageStage ack() {
+        return JFR_AVAILABLE ? Stages.ack() : NOOP;
+    }
+
+    public static MessageStage retry() {
+        return JFR_AVAILABLE ? Stages.retry() : NOOP;
+    }
+
+    /**
+     * @see MessageStageEvent#record(String, String, String, String, boolean)
+     */
+    public void record(String protocol, String topic, String group, String seq, boolean success) {
+        if (event != null) {
+            event.record(protocol, topic, group, seq, success);
+        }
+    }
+
+    /**
+     * @see MessageStageEvent#record(String, CloudEvent, String, boolean)
+     */
+    public void record(String protocol, CloudEvent cloudEvent, String group, boolean success) {
+        if (event != null) {
+            event.record(protocol, cloudEvent, group, success);
+        }
+    }
+
+    /**
+     * Only for a stage from {@link #ack()}
+     */
+    public void setAckLatency(long ackLatency) {
+        if (event != null) {
+            ((AckEvent) event).setAckLatency(ackLatency);
+        }
+    }
+
+    /**
+     * Only for a stage from {@link #retry()}
+     */
+    public void setRetryTimes(int retryTimes) {
+        if (event != null) {
+            ((RetryEvent) event).setRetryTimes(retryTimes);
+        }
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, MessageStage.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.info("jdk.jfr is not available, message lifecycle events are not recorded");
+            return false;
+        }
+    }
+
+    /**
+     * The only place the events are created, only loaded if jdk.jfr is available.
+     */
+    private static final class Stages {
+
+        static MessageStage decode() {
+            return begin(new DecodeEvent());
+        }
+
+        static MessageStage aclCheck() {
+            return begin(new AclCheckEvent());
+        }
+
+        static MessageStage publish() {
+            return begin(new PublishEvent());
+        }
+
+        static MessageStage consume() {
+            return begin(new ConsumeEvent());
+        }
+
+        static MessageStage dispatch() {
+            return begin(new DispatchEvent());
+        }
+
+        static MessageStage push() {
+            return begin(new PushEvent());
+        }
+
+        static MessageStage ack() {
+            return begin(new AckEvent());
+        }
+
+        static MessageStage retry() {
+            return begin(new RetryEvent());
+        }
+
+        private static MessageStage begin(MessageStageEvent event) {
+            event.begin();
+            return new MessageStage(event);
+        }
+    }
+}
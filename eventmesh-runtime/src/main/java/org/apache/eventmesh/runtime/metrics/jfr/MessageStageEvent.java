@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.jfr;
+
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
+
+import io.cloudevents.CloudEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * A stage of the lifecycle of a message, recorded as a Java Flight Recorder event.
+ *
+ * <p>Usage is {@code begin()} when the stage starts and {@link #record} when it ends, through {@link MessageStage} so that
+ * the instrumented code also runs on a JDK without jdk.jfr. Without a running recording {@code begin()} and {@code end()}
+ * are no-ops and no field is filled, so the cost is one small short lived allocation per stage and the stages can stay
+ * instrumented in production:
+ * <pre>
+ *     java -XX:StartFlightRecording=filename=eventmesh.jfr,settings=profile ...
+ *     java -cp ... org.apache.eventmesh.runtime.metrics.jfr.MessageLifecycleReport eventmesh.jfr
+ * </pre>
+ */
+@Category({"EventMesh", "Message"})
+@StackTrace(false)
+public abstract class MessageStageEvent extends Event {
+
+    @Label("Protocol")
+    String protocol;
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Group")
+    String group;
+
+    @Label("Seq")
+    String seq;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * End the stage and commit it if a recording wants it, the fields are only set in that case.
+     */
+    public void record(String protocol, String topic, String group, String seq, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.protocol = protocol;
+            this.topic = topic;
+            this.group = group;
+            this.seq = seq;
+            this.success = success;
+            commit();
+        }
+    }
+
+    /**
+     * Same as {@link #record(String, String, String, String, boolean)}, topic and bizSeqNo are only read from the event
+     * if a recording wants it.
+     */
+    public void record(String protocol, CloudEvent event, String group, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.protocol = protocol;
+            this.topic = event == null ? null : event.getSubject();
+            this.group = group;
+            this.seq = event == null ? null : EventMeshUtil.getMessageBizSeq(event);
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -22,18 +22,11 @@ import org.apache.eventmesh.metrics.api.model.TcpSummaryMetrics;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnectionHandler;
-import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.metrics.MonitorMetricConstants;
 
-import java.net.InetSocketAddress;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,6 +58,8 @@ public class EventMeshTcpMonitor {
 
     private final TcpSummaryMetrics tcpSummaryMetrics;
 
+    private final TcpSessionAggregates sessionAggregates = new TcpSessionAggregates();
+
     private final List<MetricsRegistry> metricsRegistries;
 
     public EventMeshTcpMonitor(EventMeshTCPServer eventMeshTCPServer, List<MetricsRegistry> metricsRegistries) {
@@ -79,6 +74,7 @@ public class EventMeshTcpMonitor {
     }
 
     public void start() throws Exception {
+        tcpSummaryMetrics.setConcurrencyLimits(eventMeshTCPServer.getConcurrencyLimiterManager().getLimits());
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(tcpSummaryMetrics);
             log.info("Register tcpMetrics to {}", metricsRegistry.getClass().getName());
@@ -86,46 +82,14 @@ public class EventMeshTcpMonitor {
 
         int delay = 60 * 1000;
         monitorTpsTask = eventMeshTCPServer.getScheduler().scheduleAtFixedRate((() -> {
-            int msgNum = tcpSummaryMetrics.client2eventMeshMsgNum();
-            tcpSummaryMetrics.resetClient2EventMeshMsgNum();
-            tcpSummaryMetrics.setClient2eventMeshTPS((int) 1000.0d * msgNum / period);
-
-            msgNum = tcpSummaryMetrics.eventMesh2clientMsgNum();
-            tcpSummaryMetrics.resetEventMesh2ClientMsgNum();
-            tcpSummaryMetrics.setEventMesh2clientTPS((int) 1000.0d * msgNum / period);
-
-            msgNum = tcpSummaryMetrics.eventMesh2mqMsgNum();
-            tcpSummaryMetrics.resetEventMesh2mqMsgNum();
-            tcpSummaryMetrics.setEventMesh2mqTPS((int) 1000.0d * msgNum / period);
-
-            msgNum = tcpSummaryMetrics.mq2eventMeshMsgNum();
-            tcpSummaryMetrics.resetMq2eventMeshMsgNum();
-            tcpSummaryMetrics.setMq2eventMeshTPS((int) 1000.0d * msgNum / period);
-
-            //count topics subscribed by client in this eventMesh
-            ConcurrentHashMap<InetSocketAddress, Session> sessionMap =
-                    eventMeshTCPServer.getClientSessionGroupMapping().getSessionMap();
-            Iterator<Session> sessionIterator = sessionMap.values().iterator();
-            Set<String> topicSet = new HashSet<>();
-            while (sessionIterator.hasNext()) {
-                Session session = sessionIterator.next();
-                AtomicLong deliveredMsgsCount = session.getPusher().getDeliveredMsgsCount();
-                AtomicLong deliveredFailCount = session.getPusher().getDeliverFailMsgsCount();
-                int unAckMsgsCount = session.getPusher().getTotalUnackMsgs();
-                int sendTopics = session.getSessionContext().sendTopics.size();
-                int subscribeTopics = session.getSessionContext().subscribeTopics.size();
-
-                tcpLogger.info("session|deliveredFailCount={}|deliveredMsgsCount={}|unAckMsgsCount={}|sendTopics={}|subscribeTopics={}|user={}",
-                        deliveredFailCount.longValue(), deliveredMsgsCount.longValue(),
-                        unAckMsgsCount, sendTopics, subscribeTopics, session.getClient());
-
-                topicSet.addAll(session.getSessionContext().subscribeTopics.keySet());
-            }
-            tcpSummaryMetrics.setSubTopicNum(topicSet.size());
+            tcpSummaryMetrics.refreshTpsMetrics();
+            tcpSummaryMetrics.setSubTopicNum(sessionAggregates.getSubTopicNum());
             tcpSummaryMetrics.setAllConnections(EventMeshTcpConnectionHandler.connections.get());
             printAppLogger(tcpSummaryMetrics);
 
-
+            tcpLogger.info("gateway|deliveredFailCount={}|deliveredMsgsCount={}|groupUnAckMsgsCount={}",
+                    sessionAggregates.getDeliverFailMsgs(), sessionAggregates.getDeliveredMsgs(),
+                    sessionAggregates.getGroupUnAckMsgs());
         }), delay, period, TimeUnit.MILLISECONDS);
 
         monitorThreadPoolTask = eventMeshTCPServer.getScheduler().scheduleAtFixedRate(() -> {
@@ -171,6 +135,10 @@ public class EventMeshTcpMonitor {
         return tcpSummaryMetrics;
     }
 
+    public TcpSessionAggregates getSessionAggregates() {
+        return sessionAggregates;
+    }
+
     public void shutdown() throws Exception {
         monitorTpsTask.cancel(true);
         monitorThreadPoolTask.cancel(true);
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.tcp;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gateway-wide TCP session aggregates maintained on every subscribe, unsubscribe, push and ack, so that reading
+ * them costs O(topics + groups) instead of a sweep over all sessions.
+ */
+public class TcpSessionAggregates {
+
+    /**
+     * topic -> number of sessions currently subscribing it
+     */
+    private final ConcurrentHashMap<String, Integer> subTopicRefCounts = new ConcurrentHashMap<>();
+
+    /**
+     * group -> number of pushed but not yet acked messages over all sessions of the group
+     */
+    private final ConcurrentHashMap<String, LongAdder> groupUnAckMsgs = new ConcurrentHashMap<>();
+
+    private final LongAdder deliveredMsgs = new LongAdder();
+
+    private final LongAdder deliverFailMsgs = new LongAdder();
+
+    public void subscribeTopic(String topic) {
+        subTopicRefCounts.merge(topic, 1, Integer::sum);
+    }
+
+    public void unsubscribeTopic(String topic) {
+        subTopicRefCounts.computeIfPresent(topic, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public int getSubTopicNum() {
+        return subTopicRefCounts.size();
+    }
+
+    public void addUnAckMsgs(String group, long delta) {
+        if (delta > 0) {
+            groupUnAckMsgs.computeIfAbsent(group, key -> new LongAdder()).add(delta);
+            return;
+        }
+        // a late ack of a removed group must not bring its entry back
+        LongAdder unAck = groupUnAckMsgs.get(group);
+        if (unAck != null) {
+            unAck.add(delta);
+        }
+    }
+
+    /**
+     * Drop the unack total of a group whose last consumer session has left.
+     */
+    public void removeGroup(String group) {
+        groupUnAckMsgs.remove(group);
+    }
+
+    /**
+     * @return snapshot of unack totals of each group that has a consumer session with pushed messages
+     */
+    public Map<String, Long> getGroupUnAckMsgs() {
+        if (groupUnAckMsgs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> snapshot = new HashMap<>(groupUnAckMsgs.size());
+        groupUnAckMsgs.forEach((group, unAck) -> snapshot.put(group, unAck.sum()));
+        return snapshot;
+    }
+
+    public void delivered() {
+        deliveredMsgs.increment();
+    }
+
+    public void deliverFailed() {
+        deliverFailMsgs.increment();
+    }
+
+    public long getDeliveredMsgs() {
+        return deliveredMsgs.sum();
+    }
+
+    public long getDeliverFailMsgs() {
+        return deliverFailMsgs.sum();
+    }
+}
@@ -72,7 +72,7 @@ public class Utils {
 
                         if (session != null) {
                             Objects.requireNonNull(session.getClientGroupWrapper().get())
-                                .getEventMeshTcpMonitor().getTcpSummaryMetrics().getEventMesh2clientMsgNum().incrementAndGet();
+                                .getEventMeshTcpMonitor().getTcpSummaryMetrics().getEventMesh2clientMsgNum().mark();
                         }
                     }
                 }
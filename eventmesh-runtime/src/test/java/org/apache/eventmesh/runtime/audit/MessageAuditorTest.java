@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.audit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+public class MessageAuditorTest {
+
+    @Test
+    public void testRecordWrittenAsJson() {
+        Logger sink = Mockito.mock(Logger.class);
+        MessageAuditor auditor = new MessageAuditor(16, 1, 0, sink);
+        Assert.assertFalse(auditor.record("tcp", "eventMesh2mq", "topic", "group", "biz", "id", "127.0.0.1", 1, true));
+
+        auditor.start();
+        try {
+            Assert.assertTrue(auditor.record("tcp", "eventMesh2mq", "t\"opic", "group", "biz", "id", null, 3, true));
+            ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+            Mockito.verify(sink, Mockito.timeout(3000)).info(captor.capture());
+            String line = captor.getValue();
+            Assert.assertTrue(line.contains("\"protocol\":\"tcp\""));
+            Assert.assertTrue(line.contains("\"topic\":\"t\\\"opic\""));
+            Assert.assertTrue(line.contains("\"cost\":3"));
+            Assert.assertTrue(line.contains("\"success\":true"));
+            Assert.assertFalse(line.contains("\"client\""));
+        } finally {
+            auditor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropWhenBufferFull() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Logger sink = Mockito.mock(Logger.class);
+        Mockito.doAnswer(invocation -> {
+            entered.countDown();
+            release.await(3, TimeUnit.SECONDS);
+            return null;
+        }).when(sink).info(anyString());
+
+        MessageAuditor auditor = new MessageAuditor(2, 1, 0, sink);
+        auditor.start();
+        try {
+            Assert.assertTrue(auditor.record("http", "eventMesh2mq", "topic", "group", "biz", "1", null, 0, true));
+            Assert.assertTrue(entered.await(3, TimeUnit.SECONDS));
+
+            // the dispatcher is blocked by the sink, the ring buffer holds two more records
+            Assert.assertTrue(auditor.record("http", "eventMesh2mq", "topic", "group", "biz", "2", null, 0, true));
+            Assert.assertTrue(auditor.record("http", "eventMesh2mq", "topic", "group", "biz", "3", null, 0, true));
+            Assert.assertFalse(auditor.record("http", "eventMesh2mq", "topic", "group", "biz", "4", null, 0, true));
+            Assert.assertEquals(1, auditor.getDropped());
+        } finally {
+            release.countDown();
+            auditor.shutdown();
+        }
+        Mockito.verify(sink, Mockito.times(3)).info(anyString());
+    }
+
+    @Test
+    public void testSampling() {
+        MessageAuditor auditor = new MessageAuditor(16, 2, 0, Mockito.mock(Logger.class));
+        auditor.start();
+        try {
+            int accepted = 0;
+            for (int i = 0; i < 6; i++) {
+                if (auditor.record("grpc", "eventMesh2client", "topic", "group", "biz", "id", null, 0, true)) {
+                    accepted++;
+                }
+            }
+            Assert.assertEquals(3, accepted);
+            Assert.assertTrue(auditor.record("grpc", "eventMesh2client", "other", "group", "biz", "id", null, 0, true));
+        } finally {
+            auditor.shutdown();
+        }
+    }
+}
@@ -68,7 +68,6 @@ public class EventMeshServerTest {
         Assert.assertEquals(config.getEventMeshTcpClientMaxNum(), 5816);
         Assert.assertEquals(config.getEventMeshTcpGlobalScheduler(), 6816);
         Assert.assertEquals(config.getEventMeshTcpTaskHandleExecutorPoolSize(), 7816);
-        Assert.assertEquals(config.getEventMeshTcpMsgDownStreamExecutorPoolSize(), 8816);
         Assert.assertEquals(config.getEventMeshTcpSessionExpiredInMills(), 1816);
         Assert.assertEquals(config.getEventMeshTcpSessionUpstreamBufferSize(), 11816);
         Assert.assertEquals(config.getEventMeshTcpMsgAsyncRetryTimes(), 12816);
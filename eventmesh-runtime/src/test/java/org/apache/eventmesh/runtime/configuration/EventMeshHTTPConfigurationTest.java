@@ -26,6 +26,8 @@ import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
+import io.netty.handler.ssl.SslProvider;
+
 import inet.ipaddr.AddressStringException;
 import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
@@ -66,6 +68,9 @@ public class EventMeshHTTPConfigurationTest {
         Assert.assertEquals(config.getEventMeshServerBusyCheckInterval(), 18816);
         Assert.assertEquals(config.isEventMeshServerConsumerEnabled(), Boolean.TRUE);
         Assert.assertEquals(config.isEventMeshServerUseTls(), Boolean.TRUE);
+        Assert.assertEquals(config.getEventMeshServerSSLProvider(), SslProvider.OPENSSL);
+        Assert.assertEquals(config.getEventMeshServerSSLSessionCacheSize(), 24816);
+        Assert.assertEquals(config.getEventMeshServerSSLSessionTimeout(), 25816);
         Assert.assertEquals(config.getEventMeshHttpMsgReqNumPerSecond(), 19816);
         Assert.assertEquals(config.getEventMeshBatchMsgRequestNumPerSecond(), 21816);
         Assert.assertEquals(config.getEventMeshEventSize(), 22816);
@@ -26,6 +26,8 @@ import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
+import io.netty.handler.ssl.SslProvider;
+
 public class EventMeshTCPConfigurationTest {
 
     @Test
@@ -49,7 +51,6 @@ public class EventMeshTCPConfigurationTest {
         Assert.assertEquals(config.getEventMeshTcpClientMaxNum(), 5816);
         Assert.assertEquals(config.getEventMeshTcpGlobalScheduler(), 6816);
         Assert.assertEquals(config.getEventMeshTcpTaskHandleExecutorPoolSize(), 7816);
-        Assert.assertEquals(config.getEventMeshTcpMsgDownStreamExecutorPoolSize(), 8816);
         Assert.assertEquals(config.getEventMeshTcpSessionExpiredInMills(), 1816);
         Assert.assertEquals(config.getEventMeshTcpSessionUpstreamBufferSize(), 11816);
         Assert.assertEquals(config.getEventMeshTcpMsgAsyncRetryTimes(), 12816);
@@ -66,6 +67,10 @@ public class EventMeshTCPConfigurationTest {
         Assert.assertEquals(config.getSleepIntervalInRebalanceRedirectMills(), 23816);
         Assert.assertEquals(config.getEventMeshEventSize(), 22816);
         Assert.assertEquals(config.getEventMeshEventBatchSize(), 23816);
+        Assert.assertEquals(config.isEventMeshTcpServerUseTls(), Boolean.TRUE);
+        Assert.assertEquals(config.getEventMeshServerSSLProvider(), SslProvider.OPENSSL);
+        Assert.assertEquals(config.getEventMeshServerSSLSessionCacheSize(), 24816);
+        Assert.assertEquals(config.getEventMeshServerSSLSessionTimeout(), 25816);
     }
 
     private void assertCommonConfig(CommonConfiguration config) {
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumergroup;
+
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConsumerGroupConfDiffTest {
+
+    @Test
+    public void testSnapshotIsDetached() {
+        ConsumerGroupConf live = new ConsumerGroupConf("group");
+        live.getConsumerGroupTopicConf().put("topic", topicConf("topic", SubscriptionMode.CLUSTERING, "http://a"));
+
+        ConsumerGroupConf snapshot = live.snapshot(null);
+        live.getConsumerGroupTopicConf().get("topic").getUrls().add("http://b");
+        live.getConsumerGroupTopicConf().get("topic").getIdcUrls().get("idc").add("http://b");
+
+        Assert.assertEquals(Collections.singleton("http://a"), snapshot.getConsumerGroupTopicConf().get("topic").getUrls());
+        Assert.assertEquals(1, snapshot.getConsumerGroupTopicConf().get("topic").getIdcUrls().get("idc").size());
+    }
+
+    @Test
+    public void testSnapshotSharesUnchangedTopics() {
+        ConsumerGroupConf live = new ConsumerGroupConf("group");
+        live.getConsumerGroupTopicConf().put("t1", topicConf("t1", SubscriptionMode.CLUSTERING, "http://a"));
+        live.getConsumerGroupTopicConf().put("t2", topicConf("t2", SubscriptionMode.CLUSTERING, "http://a"));
+        ConsumerGroupConf first = live.snapshot(null);
+
+        live.getConsumerGroupTopicConf().get("t2").getUrls().add("http://b");
+        live.getConsumerGroupTopicConf().get("t2").getIdcUrls().get("idc").add("http://b");
+        ConsumerGroupConf second = live.snapshot(first);
+
+        Assert.assertSame(first.getConsumerGroupTopicConf().get("t1"), second.getConsumerGroupTopicConf().get("t1"));
+        Assert.assertNotSame(first.getConsumerGroupTopicConf().get("t2"), second.getConsumerGroupTopicConf().get("t2"));
+    }
+
+    @Test
+    public void testDiff() {
+        ConsumerGroupConf oldConf = new ConsumerGroupConf("group");
+        oldConf.getConsumerGroupTopicConf().put("kept", topicConf("kept", SubscriptionMode.CLUSTERING, "http://a"));
+        oldConf.getConsumerGroupTopicConf().put("removed", topicConf("removed", SubscriptionMode.CLUSTERING, "http://a"));
+        oldConf.getConsumerGroupTopicConf().put("mode", topicConf("mode", SubscriptionMode.CLUSTERING, "http://a"));
+
+        ConsumerGroupConf newConf = new ConsumerGroupConf("group");
+        newConf.getConsumerGroupTopicConf().put("kept", topicConf("kept", SubscriptionMode.CLUSTERING, "http://b"));
+        newConf.getConsumerGroupTopicConf().put("added", topicConf("added", SubscriptionMode.CLUSTERING, "http://a"));
+        newConf.getConsumerGroupTopicConf().put("mode", topicConf("mode", SubscriptionMode.BROADCASTING, "http://a"));
+
+        ConsumerGroupConfDiff diff = ConsumerGroupConfDiff.between(oldConf, newConf);
+
+        Assert.assertEquals(Collections.singleton("added"), diff.getAddedTopics().keySet());
+        Assert.assertEquals(Collections.singleton("removed"), diff.getRemovedTopics().keySet());
+        Assert.assertEquals(Collections.singleton("mode"), diff.getResubscribedTopics().keySet());
+        Assert.assertEquals(SubscriptionMode.CLUSTERING,
+            diff.getResubscribedTopics().get("mode").getSubscriptionItem().getMode());
+        Assert.assertEquals(Collections.singleton("http://b"), diff.getAddedUrls().get("kept"));
+        Assert.assertEquals(Collections.singleton("http://a"), diff.getRemovedUrls().get("kept"));
+        Assert.assertFalse(diff.isUrlOnly());
+    }
+
+    @Test
+    public void testUrlOnlyDiff() {
+        ConsumerGroupConf live = new ConsumerGroupConf("group");
+        live.getConsumerGroupTopicConf().put("topic", topicConf("topic", SubscriptionMode.CLUSTERING, "http://a"));
+        ConsumerGroupConf first = live.snapshot(null);
+        live.getConsumerGroupTopicConf().get("topic").getUrls().add("http://b");
+        live.getConsumerGroupTopicConf().get("topic").getIdcUrls().get("idc").add("http://b");
+
+        ConsumerGroupConfDiff diff = ConsumerGroupConfDiff.between(first, live.snapshot(first));
+
+        Assert.assertTrue(diff.isUrlOnly());
+        Assert.assertEquals(Collections.singleton("http://b"), diff.getAddedUrls().get("topic"));
+        Assert.assertTrue(diff.getRemovedUrls().isEmpty());
+    }
+
+    private static ConsumerGroupTopicConf topicConf(String topic, SubscriptionMode mode, String url) {
+        ConsumerGroupTopicConf topicConf = new ConsumerGroupTopicConf();
+        topicConf.setConsumerGroup("group");
+        topicConf.setTopic(topic);
+        topicConf.setSubscriptionItem(new SubscriptionItem(topic, mode, SubscriptionType.ASYNC));
+        topicConf.setUrls(new HashSet<>(Collections.singletonList(url)));
+        topicConf.getIdcUrls().put("idc", new ArrayList<>(Collections.singletonList(url)));
+        return topicConf;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import static org.apache.eventmesh.runtime.util.TestFixtures.event;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.apache.eventmesh.api.AsyncConsumeContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQAdminWrapper;
+import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.util.TestFixtures;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+
+public class DeadLetterManagerTest {
+
+    private Path dir;
+
+    private CommonConfiguration configuration;
+
+    private MQProducerWrapper publisher;
+
+    private final List<CloudEvent> published = new ArrayList<>();
+
+    private DeadLetterManager deadLetterManager;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = TestFixtures.createTempDir("deadletter");
+        configuration = new CommonConfiguration();
+        publisher = mock(MQProducerWrapper.class);
+        doAnswer(invocation -> published.add(invocation.getArgument(0))).when(publisher).publish(any(CloudEvent.class), anyLong());
+        deadLetterManager = new DeadLetterManager(configuration, new FileDeadLetterStore(dir), publisher);
+        deadLetterManager.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        deadLetterManager.shutdown();
+        TestFixtures.deleteDir(dir);
+    }
+
+    @Test
+    public void testReplayToTheRecordedGroup() throws Exception {
+        deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, "group-a", event("1").build(), "reason", 4, 1L);
+        deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_HTTP, "group-b", event("2").build(), "reason", 4, 1L);
+        Assert.assertEquals(2, deadLetterManager.getDeadLetterCount());
+
+        List<DeadLetterEvent> replayed = deadLetterManager.replay("group-a", 0, 10);
+        Assert.assertEquals(1, replayed.size());
+        Assert.assertEquals(1, published.size());
+        CloudEvent event = published.get(0);
+        Assert.assertEquals("1", event.getId());
+        Assert.assertEquals("topic-1", event.getSubject());
+        Assert.assertEquals("group-a", event.getExtension(EventMeshConstants.PROPERTY_REPLAY_GROUP));
+        Assert.assertNotNull(event.getExtension(EventMeshConstants.PROPERTY_REDELIVERY));
+
+        // replayed events leave the store, the other group's stay
+        Assert.assertTrue(deadLetterManager.query("group-a", 0, 10).isEmpty());
+        Assert.assertEquals(1, deadLetterManager.query("group-b", 0, 10).size());
+    }
+
+    @Test
+    public void testReplayStopsAtPublishFailure() throws Exception {
+        deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, "group-a", event("1").build(), "reason", 4, 1L);
+        deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, "group-a", event("2").build(), "reason", 4, 1L);
+        doAnswer(invocation -> {
+            CloudEvent event = invocation.getArgument(0);
+            if ("2".equals(event.getId())) {
+                throw new IllegalStateException("broker down");
+            }
+            return published.add(event);
+        }).when(publisher).publish(any(CloudEvent.class), anyLong());
+
+        Assert.assertEquals(1, deadLetterManager.replay("group-a", 0, 10).size());
+        List<DeadLetterEvent> left = deadLetterManager.query("group-a", 0, 10);
+        Assert.assertEquals(1, left.size());
+        Assert.assertEquals("2", left.get(0).getEvent().getId());
+    }
+
+    @Test
+    public void testOtherGroupsCommitTheReplay() throws Exception {
+        deadLetterManager.deadLetter(EventMeshConstants.PROTOCOL_TCP, "group-a", event("1").build(), "reason", 4, 1L);
+        deadLetterManager.replay("group-a", 0, 10);
+        CloudEvent replay = published.get(0);
+
+        List<CloudEvent> consumed = new ArrayList<>();
+        EventListener listener = (event, context) -> consumed.add(event);
+        AsyncConsumeContext otherContext = mock(AsyncConsumeContext.class);
+        deadLetterManager.forGroup("group-b", listener).consume(replay, otherContext);
+        Assert.assertTrue(consumed.isEmpty());
+        verify(otherContext).commit(EventMeshAction.CommitMessage);
+
+        deadLetterManager.forGroup("group-a", listener).consume(replay, mock(AsyncConsumeContext.class));
+        deadLetterManager.forGroup("group-b", listener).consume(event("2").build(), mock(AsyncConsumeContext.class));
+        Assert.assertEquals(2, consumed.size());
+    }
+
+    @Test
+    public void testTopicStoreRejectsReplay() throws Exception {
+        MQAdminWrapper admin = mock(MQAdminWrapper.class);
+        DeadLetterManager topicDeadLetterManager = new DeadLetterManager(configuration,
+            new TopicDeadLetterStore("deadletter", admin, publisher), publisher);
+        try {
+            topicDeadLetterManager.replay("group-a", 0, 10);
+            Assert.fail("replay from the topic store");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertTrue(published.isEmpty());
+        verify(admin, never()).getEvent(anyString(), anyInt(), anyInt());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTopicStoreRejectedOnRocketmq() {
+        configuration.setEventMeshServerDeadLetterStore(DeadLetterManager.STORE_TOPIC);
+        configuration.setEventMeshConnectorPluginType("rocketmq");
+        DeadLetterManager.createStore(configuration, publisher);
+    }
+}
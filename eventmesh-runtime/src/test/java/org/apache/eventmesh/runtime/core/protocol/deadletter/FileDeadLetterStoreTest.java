@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.deadletter;
+
+import org.apache.eventmesh.runtime.util.TestFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+
+public class FileDeadLetterStoreTest {
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = TestFixtures.createTempDir("deadletter");
+    }
+
+    @After
+    public void tearDown() {
+        TestFixtures.deleteDir(dir);
+    }
+
+    @Test
+    public void testAppendQueryAndReplay() throws Exception {
+        FileDeadLetterStore store = new FileDeadLetterStore(dir);
+        store.start();
+        long first = store.append(new DeadLetterEvent("tcp", "group-a", event("1"), "retry over max times 3", 4, 100L));
+        long second = store.append(new DeadLetterEvent("http", "group-b", event("2"), "retry queue full", 1, 200L));
+        long third = store.append(new DeadLetterEvent("tcp", "group-a", event("3"), "retry over max times 3", 4, 300L));
+        Assert.assertTrue(first < second && second < third);
+
+        List<DeadLetterEvent> groupA = store.query("group-a", 0, 10);
+        Assert.assertEquals(2, groupA.size());
+        DeadLetterEvent deadLetterEvent = groupA.get(0);
+        Assert.assertEquals(first, deadLetterEvent.getId());
+        Assert.assertEquals("tcp", deadLetterEvent.getProtocol());
+        Assert.assertEquals("topic-1", deadLetterEvent.getTopic());
+        Assert.assertEquals("retry over max times 3", deadLetterEvent.getReason());
+        Assert.assertEquals(4, deadLetterEvent.getAttempts());
+        Assert.assertEquals(100L, deadLetterEvent.getFirstAttemptTime());
+        Assert.assertEquals("1", deadLetterEvent.getEvent().getId());
+        Assert.assertArrayEquals("data-1".getBytes(StandardCharsets.UTF_8),
+            deadLetterEvent.getEvent().getData().toBytes());
+
+        Assert.assertEquals(1, store.query(null, second, 1).size());
+        Assert.assertEquals(3, store.query(null, 0, 10).size());
+
+        store.markReplayed(first);
+        Assert.assertEquals(third, store.query("group-a", 0, 10).get(0).getId());
+        store.shutdown();
+    }
+
+    @Test
+    public void testRecoverAfterRestart() throws Exception {
+        FileDeadLetterStore store = new FileDeadLetterStore(dir);
+        store.start();
+        long first = store.append(new DeadLetterEvent("tcp", "group-a", event("1"), "reason", 1, 1L));
+        long second = store.append(new DeadLetterEvent("tcp", "group-a", event("2"), "reason", 1, 1L));
+        store.markReplayed(first);
+        store.shutdown();
+
+        // a record cut short by a crash
+        Files.write(dir.resolve(FileDeadLetterStore.FILE_NAME), new byte[] {0, 0, 1, 0, 1, 0}, StandardOpenOption.APPEND);
+
+        FileDeadLetterStore recovered = new FileDeadLetterStore(dir);
+        recovered.start();
+        Assert.assertEquals(1, recovered.size());
+        Assert.assertEquals(second, recovered.query(null, 0, 10).get(0).getId());
+
+        long third = recovered.append(new DeadLetterEvent("tcp", "group-a", event("3"), "reason", 1, 1L));
+        Assert.assertTrue(third > second);
+        Assert.assertEquals("3", recovered.query(null, third, 1).get(0).getEvent().getId());
+        recovered.shutdown();
+    }
+
+    private static CloudEvent event(String id) {
+        return TestFixtures.event(id).build();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.dedup;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DedupCacheTest {
+
+    private static final long WINDOW = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void testDuplicateWithinWindow() {
+        DedupCache cache = new DedupCache(1000, 4, WINDOW, 10_000, 0.001d, now::get);
+        Assert.assertFalse(cache.isDuplicate("a"));
+        Assert.assertTrue(cache.isDuplicate("a"));
+        Assert.assertFalse(cache.isDuplicate("b"));
+
+        now.addAndGet(WINDOW);
+        Assert.assertFalse(cache.isDuplicate("a"));
+        Assert.assertTrue(cache.isDuplicate("a"));
+    }
+
+    @Test
+    public void testContainsDoesNotRecord() {
+        DedupCache cache = new DedupCache(1000, 4, WINDOW, 10_000, 0.001d, now::get);
+        Assert.assertFalse(cache.contains("a"));
+        Assert.assertFalse(cache.contains("a"));
+
+        cache.record("a");
+        Assert.assertTrue(cache.contains("a"));
+
+        now.addAndGet(WINDOW);
+        Assert.assertFalse(cache.contains("a"));
+    }
+
+    @Test
+    public void testEvictedKeysRememberedByBloom() {
+        DedupCache cache = new DedupCache(100, 4, WINDOW, 10_000, 0.001d, now::get);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertFalse(cache.isDuplicate("key-" + i));
+        }
+        Assert.assertTrue(cache.size() <= 100);
+
+        // evicted from the LRU long ago, still within the window
+        Assert.assertTrue(cache.isDuplicate("key-0"));
+
+        // both Bloom generations rotated out
+        now.addAndGet(2 * WINDOW);
+        Assert.assertFalse(cache.isDuplicate("key-1"));
+    }
+
+    @Test
+    public void testNoBloomFalsePositiveWhileLruHoldsTheWindow() {
+        DedupCache cache = new DedupCache(10_000, 4, WINDOW, 100, 0.5d, now::get);
+        for (int i = 0; i < 5_000; i++) {
+            Assert.assertFalse(cache.isDuplicate("key-" + i));
+        }
+        Assert.assertEquals(0, cache.getBloomHits());
+    }
+
+    /**
+     * Every key is distinct, so every duplicate told is a false positive.
+     */
+    @Test
+    public void testFalsePositiveRateAndOverheadAtHighTps() {
+        int events = 2_000_000;
+        DedupCache cache = new DedupCache(100_000, 16, WINDOW, events, 0.001d);
+        long falsePositives = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            if (cache.isDuplicate("topic/" + i)) {
+                falsePositives++;
+            }
+        }
+        long costNanos = System.nanoTime() - start;
+        double falsePositiveRate = (double) falsePositives / events;
+        log.info("dedup of {} distinct events: {} ns/event, false positive rate {}", events, costNanos / events,
+            falsePositiveRate);
+        Assert.assertTrue(falsePositiveRate < 0.005d);
+        Assert.assertTrue(cache.size() <= 100_000);
+    }
+}
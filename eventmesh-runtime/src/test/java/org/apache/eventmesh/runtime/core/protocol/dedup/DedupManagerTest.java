@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.dedup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.apache.eventmesh.api.AsyncConsumeContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class DedupManagerTest {
+
+    private final List<CloudEvent> consumed = new ArrayList<>();
+
+    private DedupManager dedupManager;
+
+    private EventListener listener;
+
+    @Before
+    public void setUp() {
+        dedupManager = new DedupManager(new CommonConfiguration());
+        listener = dedupManager.wrap("group", (event, context) -> {
+            consumed.add(event);
+            context.commit(EventMeshAction.ManualAck);
+        });
+    }
+
+    @Test
+    public void testBrokerDuplicateSuppressed() {
+        AsyncConsumeContext context = mock(AsyncConsumeContext.class);
+        listener.consume(event("1"), context);
+        ack(event("1"));
+        listener.consume(event("1"), context);
+        Assert.assertEquals(1, consumed.size());
+        verify(context, times(1)).commit(EventMeshAction.CommitMessage);
+    }
+
+    @Test
+    public void testUnackedRedeliveryPushedAgain() {
+        AsyncConsumeContext context = mock(AsyncConsumeContext.class);
+        listener.consume(event("1"), context);
+        listener.consume(event("1"), context);
+        Assert.assertEquals(2, consumed.size());
+        verify(context, never()).commit(EventMeshAction.CommitMessage);
+
+        ack(event("1"));
+        listener.consume(event("1"), context);
+        Assert.assertEquals(2, consumed.size());
+    }
+
+    @Test
+    public void testCommittedByDownstream() {
+        EventListener committing = dedupManager.wrap("group", (event, context) -> {
+            consumed.add(event);
+            context.commit(EventMeshAction.CommitMessage);
+        });
+        AsyncConsumeContext context = mock(AsyncConsumeContext.class);
+        committing.consume(event("1"), context);
+        committing.consume(event("1"), context);
+        Assert.assertEquals(1, consumed.size());
+        verify(context, times(2)).commit(EventMeshAction.CommitMessage);
+    }
+
+    @Test
+    public void testSendBackDelivered() {
+        CloudEvent event = event("1");
+        listener.consume(event, mock(AsyncConsumeContext.class));
+        ack(event);
+
+        // no session took it, sent back to the broker with the same id and topic
+        CloudEvent sendBack = DedupManager.redelivery(CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES, "1").build());
+        listener.consume(sendBack, mock(AsyncConsumeContext.class));
+        ack(sendBack);
+        Assert.assertEquals(2, consumed.size());
+        Assert.assertEquals("1", consumed.get(1).getId());
+
+        // a broker duplicate of the sent back event is still suppressed
+        listener.consume(sendBack, mock(AsyncConsumeContext.class));
+        Assert.assertEquals(2, consumed.size());
+
+        // every later send back is a new delivery again
+        listener.consume(DedupManager.redelivery(event), mock(AsyncConsumeContext.class));
+        Assert.assertEquals(3, consumed.size());
+    }
+
+    private void ack(CloudEvent event) {
+        dedupManager.confirm("group", Collections.singletonList(event));
+    }
+
+    private static CloudEvent event(String id) {
+        return CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/test"))
+            .withType("test")
+            .withSubject("topic")
+            .build();
+    }
+}
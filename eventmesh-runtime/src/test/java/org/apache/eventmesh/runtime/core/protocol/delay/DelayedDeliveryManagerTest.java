@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.delay;
+
+import static org.apache.eventmesh.runtime.util.TestFixtures.event;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
+import org.apache.eventmesh.runtime.util.TestFixtures;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DelayedDeliveryManagerTest {
+
+    private Path dir;
+
+    private CommonConfiguration configuration;
+
+    private MQProducerWrapper publisher;
+
+    private final BlockingQueue<CloudEvent> published = new LinkedBlockingQueue<>();
+
+    private DelayedDeliveryManager delayedDeliveryManager;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = TestFixtures.createTempDir("delay");
+        configuration = new CommonConfiguration();
+        configuration.setEventMeshServerDelayPath(dir.toString());
+        configuration.setEventMeshServerDelayTickInMills(10);
+        configuration.setEventMeshServerDelaySegmentInMills(1000);
+        configuration.setEventMeshServerDelayMemoryHorizonInMills(2000);
+        configuration.setEventMeshServerDelayMaxDeliverAttempts(2);
+        publisher = mock(MQProducerWrapper.class);
+        doAnswer(invocation -> published.add(invocation.getArgument(0))).when(publisher).publish(any(CloudEvent.class), anyLong());
+        delayedDeliveryManager = new DelayedDeliveryManager(configuration, publisher);
+        delayedDeliveryManager.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delayedDeliveryManager.shutdown();
+        TestFixtures.deleteDir(dir);
+    }
+
+    @Test
+    public void testNotDelayed() throws Exception {
+        Assert.assertFalse(delayedDeliveryManager.schedule(event("1").build(), mock(SendCallback.class)));
+        Assert.assertFalse(delayedDeliveryManager.schedule(event("2")
+            .withExtension(EventMeshConstants.PROPERTY_DELIVER_AT, "1").build(), mock(SendCallback.class)));
+        Assert.assertEquals(0, delayedDeliveryManager.getPendingCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDelay() throws Exception {
+        delayedDeliveryManager.schedule(event("1").withExtension(EventMeshConstants.PROPERTY_DELAY_MS, "soon").build(),
+            mock(SendCallback.class));
+    }
+
+    @Test
+    public void testDeliverWhenDue() throws Exception {
+        long start = System.currentTimeMillis();
+        Assert.assertTrue(delayedDeliveryManager.schedule(event("1")
+            .withExtension(EventMeshConstants.PROPERTY_DELAY_MS, "300").build(), mock(SendCallback.class)));
+        Assert.assertEquals(1, delayedDeliveryManager.getPendingCount());
+
+        CloudEvent event = published.poll(3, TimeUnit.SECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertTrue(System.currentTimeMillis() - start >= 300);
+        Assert.assertEquals("1", event.getId());
+        Assert.assertNull(event.getExtension(EventMeshConstants.PROPERTY_DELAY_MS));
+        Assert.assertEquals(0, delayedDeliveryManager.getPendingCount());
+        Assert.assertEquals(1, delayedDeliveryManager.getDeliveredCount());
+    }
+
+    @Test
+    public void testSurviveRestart() throws Exception {
+        long deliverAt = System.currentTimeMillis() + 1500;
+        delayedDeliveryManager.schedule(event("1").withExtension(EventMeshConstants.PROPERTY_DELIVER_AT,
+            String.valueOf(deliverAt)).build(), mock(SendCallback.class));
+        delayedDeliveryManager.schedule(event("2").withExtension(EventMeshConstants.PROPERTY_DELAY_MS, "100").build(),
+            mock(SendCallback.class));
+        Assert.assertEquals("2", published.poll(3, TimeUnit.SECONDS).getId());
+        delayedDeliveryManager.shutdown();
+
+        // the delivered event is not delivered again
+        delayedDeliveryManager = new DelayedDeliveryManager(configuration, publisher);
+        delayedDeliveryManager.start();
+        Assert.assertEquals(1, delayedDeliveryManager.getPendingCount());
+        CloudEvent event = published.poll(3, TimeUnit.SECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertTrue(System.currentTimeMillis() >= deliverAt);
+        Assert.assertEquals("1", event.getId());
+        Assert.assertNull(published.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() throws Exception {
+        doThrow(new IllegalStateException("broker down")).when(publisher).publish(any(CloudEvent.class), anyLong());
+        delayedDeliveryManager.schedule(event("1").withExtension(EventMeshConstants.PROPERTY_DELAY_MS, "100").build(),
+            mock(SendCallback.class));
+
+        // one retry after the first backoff, then the event leaves the delay store
+        long deadline = System.currentTimeMillis() + 5000;
+        while (delayedDeliveryManager.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(0, delayedDeliveryManager.getPendingCount());
+        Assert.assertEquals(0, delayedDeliveryManager.getDeliveredCount());
+    }
+
+    @Test
+    public void testOpenSegmentsBounded() throws Exception {
+        delayedDeliveryManager.shutdown();
+        configuration.setEventMeshServerDelayMaxOpenSegments(2);
+        delayedDeliveryManager = new DelayedDeliveryManager(configuration, publisher);
+        delayedDeliveryManager.start();
+
+        int events = 20;
+        SendCallback sendCallback = mock(SendCallback.class);
+        for (int i = 0; i < events; i++) {
+            // one segment each, all beyond the memory horizon
+            delayedDeliveryManager.schedule(event(String.valueOf(i))
+                .withExtension(EventMeshConstants.PROPERTY_DELAY_MS, String.valueOf(3_600_000 + i * 1000)).build(),
+                sendCallback);
+            Assert.assertTrue(delayedDeliveryManager.getOpenSegmentCount() <= 2);
+        }
+        verify(sendCallback, timeout(3000).times(events)).onSuccess(any(SendResult.class));
+        delayedDeliveryManager.shutdown();
+
+        delayedDeliveryManager = new DelayedDeliveryManager(configuration, publisher);
+        delayedDeliveryManager.start();
+        Assert.assertEquals(events, delayedDeliveryManager.getPendingCount());
+        Assert.assertTrue(delayedDeliveryManager.getOpenSegmentCount() <= 2);
+    }
+
+    @Test
+    public void testAckWithoutFsync() throws Exception {
+        delayedDeliveryManager.shutdown();
+        configuration.setEventMeshServerDelayFsync(false);
+        delayedDeliveryManager = new DelayedDeliveryManager(configuration, publisher);
+        delayedDeliveryManager.start();
+
+        SendCallback sendCallback = mock(SendCallback.class);
+        delayedDeliveryManager.schedule(event("1").withExtension(EventMeshConstants.PROPERTY_DELAY_MS, "3600000").build(),
+            sendCallback);
+        // acked on the publish thread, the segment beyond the horizon is closed again
+        verify(sendCallback).onSuccess(any(SendResult.class));
+        Assert.assertEquals(0, delayedDeliveryManager.getOpenSegmentCount());
+    }
+
+    @Test
+    public void testLongDelaysStayOnDisk() throws Exception {
+        int events = 10_000;
+        SendCallback sendCallback = mock(SendCallback.class);
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            delayedDeliveryManager.schedule(event(String.valueOf(i))
+                .withExtension(EventMeshConstants.PROPERTY_DELAY_MS, String.valueOf(3_600_000 + i)).build(),
+                sendCallback);
+        }
+        log.info("scheduled {} delayed events, {} ns/event", events, (System.nanoTime() - start) / events);
+        Assert.assertEquals(events, delayedDeliveryManager.getPendingCount());
+        Assert.assertEquals(0, delayedDeliveryManager.getTimerCount());
+    }
+}
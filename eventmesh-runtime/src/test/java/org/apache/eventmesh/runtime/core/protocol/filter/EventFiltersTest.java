@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.filter;
+
+import java.net.URI;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class EventFiltersTest {
+
+    private final CloudEvent event = CloudEventBuilder.v1()
+        .withId("id-1")
+        .withSource(URI.create("/shop/orders"))
+        .withType("order.created")
+        .withSubject("orders/42.png")
+        .withExtension("region", "eu")
+        .withExtension("amount", "150")
+        .build();
+
+    private boolean matches(String expression) {
+        return EventFilters.compile(expression).matches(event);
+    }
+
+    @Test
+    public void testBlankMatchesAll() {
+        Assert.assertSame(EventFilter.MATCH_ALL, EventFilters.compile(null));
+        Assert.assertSame(EventFilter.MATCH_ALL, EventFilters.compile(" "));
+    }
+
+    @Test
+    public void testCompiledOnce() {
+        String expression = "{\"exact\": {\"type\": \"order.created\"}}";
+        Assert.assertSame(EventFilters.compile(expression), EventFilters.compile(expression));
+    }
+
+    @Test
+    public void testDialects() {
+        Assert.assertTrue(matches("{\"exact\": {\"type\": \"order.created\"}}"));
+        Assert.assertFalse(matches("{\"exact\": {\"type\": \"order.paid\"}}"));
+        Assert.assertTrue(matches("{\"exact\": {\"region\": \"eu\"}}"));
+        Assert.assertFalse(matches("{\"exact\": {\"missing\": \"eu\"}}"));
+        Assert.assertTrue(matches("{\"prefix\": {\"source\": \"/shop/\"}}"));
+        Assert.assertTrue(matches("{\"suffix\": {\"subject\": \".png\"}}"));
+        Assert.assertFalse(matches("{\"suffix\": {\"subject\": \".jpg\"}}"));
+        Assert.assertTrue(matches("{\"all\": [{\"exact\": {\"type\": \"order.created\"}}, {\"exact\": {\"region\": \"eu\"}}]}"));
+        Assert.assertFalse(matches("{\"all\": [{\"exact\": {\"type\": \"order.created\"}}, {\"exact\": {\"region\": \"us\"}}]}"));
+        Assert.assertTrue(matches("{\"any\": [{\"exact\": {\"region\": \"us\"}}, {\"exact\": {\"region\": \"eu\"}}]}"));
+        Assert.assertTrue(matches("{\"not\": {\"exact\": {\"region\": \"us\"}}}"));
+        Assert.assertTrue(matches("[{\"exact\": {\"id\": \"id-1\"}}, {\"prefix\": {\"type\": \"order.\"}}]"));
+    }
+
+    @Test
+    public void testSql() {
+        Assert.assertTrue(matches("{\"sql\": \"type = 'order.created' AND region = 'eu'\"}"));
+        Assert.assertFalse(matches("{\"sql\": \"type = 'order.created' AND region <> 'eu'\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"region = 'us' OR (amount > 100 AND amount <= 150)\"}"));
+        Assert.assertFalse(matches("{\"sql\": \"amount >= 151\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"amount = 150.0\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"subject LIKE 'orders/%.png' AND source NOT LIKE '/bank%'\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"region IN ('us', 'eu') AND region NOT IN ('cn')\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"EXISTS region AND NOT EXISTS missing\"}"));
+        Assert.assertFalse(matches("{\"sql\": \"missing != 'x'\"}"));
+        Assert.assertTrue(matches("{\"sql\": \"type = \\\"order.created\\\"\"}"));
+    }
+
+    @Test
+    public void testInvalid() {
+        String[] invalid = {
+            "not json",
+            "{\"unknown\": {}}",
+            "{\"exact\": \"type\"}",
+            "{\"all\": []}",
+            "{\"sql\": \"type = \"}",
+            "{\"sql\": \"type = 'a' AND\"}",
+            "{\"sql\": \"(type = 'a'\"}",
+            "{\"sql\": \"type NOT = 'a'\"}",
+            "{\"sql\": \"type = 'unterminated\"}",
+        };
+        for (String expression : invalid) {
+            try {
+                EventFilters.compile(expression);
+                Assert.fail("compiled " + expression);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.filter;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class FilterIndexTest {
+
+    private static CloudEvent event(String type, String region) {
+        return CloudEventBuilder.v1()
+            .withId("id")
+            .withSource(URI.create("/test"))
+            .withType(type)
+            .withExtension("region", region)
+            .build();
+    }
+
+    private static String exact(String attribute, String value) {
+        return "{\"exact\": {\"" + attribute + "\": \"" + value + "\"}}";
+    }
+
+    @Test
+    public void testMatches() {
+        FilterIndex<String> index = new FilterIndex<>();
+        index.add("all", EventFilters.compile(null));
+        Assert.assertFalse(index.hasFilters());
+        Assert.assertEquals(Collections.singleton("all"), index.matches(event("a", "eu")));
+
+        index.add("typeA", EventFilters.compile(exact("type", "a")));
+        index.add("typeAInUs", EventFilters.compile("{\"sql\": \"type = 'a' AND region = 'us'\"}"));
+        index.add("prefixB", EventFilters.compile("{\"prefix\": {\"type\": \"b\"}}"));
+        index.add("notEu", EventFilters.compile("{\"not\": " + exact("region", "eu") + "}"));
+        Assert.assertTrue(index.hasFilters());
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("all", "typeA")), index.matches(event("a", "eu")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("all", "typeA", "typeAInUs", "notEu")),
+            index.matches(event("a", "us")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("all", "prefixB")), index.matches(event("bb", "eu")));
+
+        index.remove("typeA");
+        index.remove("all");
+        Assert.assertEquals(Collections.emptySet(), index.matches(event("a", "eu")));
+        index.remove("typeAInUs");
+        index.remove("prefixB");
+        index.remove("notEu");
+        Assert.assertTrue(index.isEmpty());
+        Assert.assertFalse(index.hasFilters());
+    }
+
+    /**
+     * Many subscribers of one topic, each filtering on its own value of an attribute: the index evaluates the filters
+     * of the subscribers hashed on the value of the event only, instead of every filter.
+     */
+    @Test
+    public void testManySubscribersPerTopic() {
+        int subscribers = 10000;
+        FilterIndex<Integer> index = new FilterIndex<>();
+        List<EventFilter> filters = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            EventFilter filter = EventFilters.compile("{\"sql\": \"type = 'type-" + i + "' AND region IN ('eu', 'us')\"}");
+            filters.add(filter);
+            index.add(i, filter);
+        }
+        CloudEvent[] events = new CloudEvent[1000];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = event("type-" + (i * 7 % subscribers), "eu");
+        }
+
+        int rounds = 20;
+        long matched = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (CloudEvent event : events) {
+                matched += index.matches(event).size();
+            }
+        }
+        long indexed = System.nanoTime() - start;
+        Assert.assertEquals((long) rounds * events.length, matched);
+
+        matched = 0;
+        start = System.nanoTime();
+        for (CloudEvent event : events) {
+            for (EventFilter filter : filters) {
+                matched += filter.matches(event) ? 1 : 0;
+            }
+        }
+        long scanned = (System.nanoTime() - start) * rounds;
+        Assert.assertEquals(events.length, matched);
+        log.info("{} subscribers, indexed {}ns/event, scanned {}ns/event", subscribers,
+            indexed / rounds / events.length, scanned / rounds / events.length);
+        Assert.assertTrue(indexed < scanned);
+    }
+
+    @Test
+    public void testMatchingIsStableWhileChanging() throws Exception {
+        FilterIndex<Integer> index = new FilterIndex<>();
+        index.add(-1, EventFilters.compile(exact("type", "a")));
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                index.add(i, EventFilters.compile(exact("type", "b")));
+                index.remove(i);
+            }
+        });
+        writer.start();
+        CloudEvent event = event("a", "eu");
+        while (writer.isAlive()) {
+            Set<Integer> matched = index.matches(event);
+            Assert.assertEquals(Collections.singleton(-1), matched);
+        }
+        writer.join();
+    }
+}
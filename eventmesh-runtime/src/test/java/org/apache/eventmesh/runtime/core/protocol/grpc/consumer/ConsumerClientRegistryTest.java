@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.consumer;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConsumerClientRegistryTest {
+
+    private final ConsumerClientRegistry registry = new ConsumerClientRegistry();
+
+    @Test
+    public void testUpsertSameStreamClient() {
+        final ConsumerGroupClient first = streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date(0));
+        final ConsumerGroupClient again = streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date(1000));
+
+        Assert.assertSame(first, registry.upsert(first));
+        Assert.assertSame(first, registry.upsert(again));
+        Assert.assertEquals(1, registry.size());
+        Assert.assertEquals(1000, first.getLastUpTime().getTime());
+    }
+
+    @Test
+    public void testUpsertDistinctClients() {
+        registry.upsert(streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date()));
+        registry.upsert(streamClient("group", "topic", "2", SubscriptionMode.CLUSTERING, new Date()));
+        registry.upsert(streamClient("group", "topic", "1", SubscriptionMode.BROADCASTING, new Date()));
+        registry.upsert(webhookClient("group", "topic", "http://a"));
+        registry.upsert(webhookClient("group", "topic", "http://b"));
+        registry.upsert(streamClient("other", "topic2", "1", SubscriptionMode.CLUSTERING, new Date()));
+
+        Assert.assertEquals(6, registry.size());
+        Assert.assertEquals(5, registry.snapshot().get("group").size());
+        Assert.assertEquals(2, registry.topics().size());
+    }
+
+    @Test
+    public void testTouch() {
+        final ConsumerGroupClient client = streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date(0));
+        registry.upsert(client);
+
+        Assert.assertTrue(registry.touch(streamClient("group", "topic", "1", null, null)));
+        Assert.assertTrue(client.getLastUpTime().getTime() > 0);
+        Assert.assertFalse(registry.touch(streamClient("group", "topic", "2", null, null)));
+        Assert.assertFalse(registry.touch(streamClient("unknown", "topic", "1", null, null)));
+    }
+
+    @Test
+    public void testRemoveByTopic() {
+        registry.upsert(streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date()));
+        registry.upsert(streamClient("group", "topic", "2", SubscriptionMode.CLUSTERING, new Date()));
+        registry.upsert(streamClient("group", "topic", "3", SubscriptionMode.BROADCASTING, new Date()));
+
+        final List<ConsumerGroupClient> removed = registry.removeByTopic("group", "topic", SubscriptionMode.CLUSTERING);
+
+        Assert.assertEquals(2, removed.size());
+        Assert.assertEquals(1, registry.size());
+        Assert.assertEquals(Collections.singletonList("topic"), registry.topics());
+        registry.removeByTopic("group", "topic", SubscriptionMode.BROADCASTING);
+        Assert.assertTrue(registry.snapshot().isEmpty());
+        Assert.assertTrue(registry.topics().isEmpty());
+    }
+
+    @Test
+    public void testRemoveExactInstance() {
+        final ConsumerGroupClient client = streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date());
+        registry.upsert(client);
+
+        Assert.assertFalse(registry.remove(streamClient("group", "topic", "1", SubscriptionMode.CLUSTERING, new Date())));
+        Assert.assertTrue(registry.contains(client));
+        Assert.assertTrue(registry.remove(client));
+        Assert.assertFalse(registry.contains(client));
+        Assert.assertEquals(0, registry.size());
+    }
+
+    private static ConsumerGroupClient streamClient(final String group, final String topic, final String pid,
+                                                    final SubscriptionMode mode, final Date lastUpTime) {
+        return ConsumerGroupClient.builder()
+            .consumerGroup(group)
+            .topic(topic)
+            .grpcType(GrpcType.STREAM)
+            .ip("127.0.0.1")
+            .pid(pid)
+            .sys("sys")
+            .subscriptionMode(mode)
+            .lastUpTime(lastUpTime)
+            .build();
+    }
+
+    private static ConsumerGroupClient webhookClient(final String group, final String topic, final String url) {
+        return ConsumerGroupClient.builder()
+            .consumerGroup(group)
+            .topic(topic)
+            .grpcType(GrpcType.WEBHOOK)
+            .url(url)
+            .ip("127.0.0.1")
+            .pid("1")
+            .sys("sys")
+            .subscriptionMode(SubscriptionMode.CLUSTERING)
+            .lastUpTime(new Date())
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+public class EventEmitterTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSlowConsumer() {
+        ServerCallStreamObserver<String> observer = Mockito.mock(ServerCallStreamObserver.class);
+        AtomicBoolean ready = new AtomicBoolean(false);
+        Mockito.when(observer.isReady()).thenAnswer(invocation -> ready.get());
+        ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+
+        EventEmitter<String> emitter = new EventEmitter<>(observer, 2);
+        Mockito.verify(observer).setOnReadyHandler(onReadyHandler.capture());
+
+        Assert.assertTrue(emitter.tryOnNext("a"));
+        Assert.assertTrue(emitter.tryOnNext("b"));
+        Assert.assertFalse(emitter.tryOnNext("c"));
+        Assert.assertEquals(2, emitter.getPendingSize());
+        Mockito.verify(observer, Mockito.never()).onNext(any());
+
+        ready.set(true);
+        onReadyHandler.getValue().run();
+        Mockito.verify(observer).onNext("a");
+        Mockito.verify(observer).onNext("b");
+        Assert.assertEquals(0, emitter.getPendingSize());
+        Assert.assertTrue(emitter.tryOnNext("c"));
+        Mockito.verify(observer).onNext("c");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCompleteAfterPendingEvents() {
+        ServerCallStreamObserver<String> observer = Mockito.mock(ServerCallStreamObserver.class);
+        AtomicBoolean ready = new AtomicBoolean(false);
+        Mockito.when(observer.isReady()).thenAnswer(invocation -> ready.get());
+        ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+
+        EventEmitter<String> emitter = new EventEmitter<>(observer);
+        Mockito.verify(observer).setOnReadyHandler(onReadyHandler.capture());
+
+        emitter.onNext("a");
+        emitter.onCompleted();
+        Mockito.verify(observer, Mockito.never()).onCompleted();
+        Assert.assertFalse(emitter.tryOnNext("b"));
+
+        ready.set(true);
+        onReadyHandler.getValue().run();
+        Mockito.verify(observer).onNext("a");
+        Mockito.verify(observer).onCompleted();
+        Mockito.verify(observer, Mockito.never()).onNext("b");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSentOnlyOnceOnNextCalled() {
+        ServerCallStreamObserver<String> observer = Mockito.mock(ServerCallStreamObserver.class);
+        AtomicBoolean ready = new AtomicBoolean(false);
+        Mockito.when(observer.isReady()).thenAnswer(invocation -> ready.get());
+        ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+
+        EventEmitter<String> emitter = new EventEmitter<>(observer);
+        Mockito.verify(observer).setOnReadyHandler(onReadyHandler.capture());
+
+        List<Boolean> sent = new ArrayList<>();
+        Assert.assertTrue(emitter.tryOnNext("a", sent::add));
+        Assert.assertTrue(sent.isEmpty());
+
+        ready.set(true);
+        onReadyHandler.getValue().run();
+        Mockito.verify(observer).onNext("a");
+        Assert.assertEquals(Collections.singletonList(true), sent);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCancelGivesBackPendingEvents() {
+        ServerCallStreamObserver<String> observer = Mockito.mock(ServerCallStreamObserver.class);
+        Mockito.when(observer.isReady()).thenReturn(false);
+        ArgumentCaptor<Runnable> onCancelHandler = ArgumentCaptor.forClass(Runnable.class);
+
+        EventEmitter<String> emitter = new EventEmitter<>(observer);
+        Mockito.verify(observer).setOnCancelHandler(onCancelHandler.capture());
+
+        List<Boolean> sent = new ArrayList<>();
+        Assert.assertTrue(emitter.tryOnNext("a", sent::add));
+        Assert.assertTrue(emitter.tryOnNext("b", sent::add));
+
+        onCancelHandler.getValue().run();
+        Assert.assertEquals(Arrays.asList(false, false), sent);
+        Assert.assertEquals(0, emitter.getPendingSize());
+        Assert.assertFalse(emitter.tryOnNext("c", sent::add));
+        Mockito.verify(observer, Mockito.never()).onNext(any());
+        Mockito.verify(observer, Mockito.never()).onCompleted();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import static org.apache.eventmesh.runtime.util.TestFixtures.event;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+
+public class AbstractHTTPPushRequestTest {
+
+    private final EventMeshHTTPConfiguration httpConfiguration = new EventMeshHTTPConfiguration();
+
+    private final DeadLetterManager deadLetterManager = mock(DeadLetterManager.class);
+
+    private final CloudEvent event = event("1").build();
+
+    private EventMeshHTTPServer httpServer;
+
+    private HandleMsgContext handleMsgContext;
+
+    private MockedStatic<EventMeshServer> eventMeshServer;
+
+    @Before
+    public void setUp() {
+        httpServer = mock(EventMeshHTTPServer.class);
+        when(httpServer.getEventMeshHttpConfiguration()).thenReturn(httpConfiguration);
+        ConsumerGroupTopicConf topicConf = mock(ConsumerGroupTopicConf.class);
+        when(topicConf.getIdcUrls()).thenReturn(Collections.emptyMap());
+        when(topicConf.getUrls()).thenReturn(Collections.singleton("http://127.0.0.1:8080/push"));
+        handleMsgContext = mock(HandleMsgContext.class);
+        when(handleMsgContext.getEventMeshHTTPServer()).thenReturn(httpServer);
+        when(handleMsgContext.getConsumeTopicConfig()).thenReturn(topicConf);
+        when(handleMsgContext.getConsumerGroup()).thenReturn("group-a");
+        when(handleMsgContext.getEvent()).thenReturn(event);
+        when(handleMsgContext.getCreateTime()).thenReturn(100L);
+        eventMeshServer = Mockito.mockStatic(EventMeshServer.class);
+        eventMeshServer.when(EventMeshServer::getDeadLetterManager).thenReturn(deadLetterManager);
+    }
+
+    @After
+    public void tearDown() {
+        eventMeshServer.close();
+    }
+
+    @Test
+    public void testDeadLetterWhenRetriesGiveUp() {
+        AtomicInteger completed = new AtomicInteger();
+        AbstractHTTPPushRequest request = new TestPushRequest(handleMsgContext);
+        request.onComplete(completed::incrementAndGet);
+        request.retryTimes = EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES;
+        request.delayRetry();
+
+        int attempts = EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES + 1;
+        verify(deadLetterManager).deadLetter(EventMeshConstants.PROTOCOL_HTTP, "group-a", event,
+            "push gave up after " + attempts + " attempts", attempts, 100L);
+        Assert.assertTrue(request.isComplete());
+        Assert.assertEquals(1, completed.get());
+
+        // a push completes once, whichever path gives up on it
+        request.deadLetter("push queue full");
+        verify(deadLetterManager, times(1)).deadLetter(anyString(), anyString(), eq(event), anyString(), anyInt(), anyLong());
+        Assert.assertEquals(1, completed.get());
+    }
+
+    @Test
+    public void testDeadLetterWhenRetryQueueFull() {
+        httpConfiguration.setEventMeshServerRetryBlockQSize(0);
+        HttpRetryer retryer = new HttpRetryer(httpServer);
+        when(httpServer.getHttpRetryer()).thenReturn(retryer);
+        AbstractHTTPPushRequest request = new TestPushRequest(handleMsgContext);
+        request.delayRetry();
+
+        verify(deadLetterManager).deadLetter(EventMeshConstants.PROTOCOL_HTTP, "group-a", event, "retry queue full", 2, 100L);
+        Assert.assertTrue(request.isComplete());
+    }
+
+    private static class TestPushRequest extends AbstractHTTPPushRequest {
+
+        TestPushRequest(HandleMsgContext handleMsgContext) {
+            super(handleMsgContext);
+        }
+
+        @Override
+        public boolean retry() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void testRejectWhenLimitReached() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimit(2, 1, 10, 1000), limit -> { });
+        ConcurrencyLimiter.Token first = limiter.tryAcquire();
+        ConcurrencyLimiter.Token second = limiter.tryAcquire();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNull(limiter.tryAcquire());
+
+        first.onIgnore();
+        first.onIgnore();
+        Assert.assertEquals(1, limiter.getInflight());
+        Assert.assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testAimdLimit() {
+        AtomicInteger current = new AtomicInteger();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimit(10, 5, 20, 1000), current::set);
+        Assert.assertEquals(10, current.get());
+
+        limiter.tryAcquire().onDropped();
+        Assert.assertEquals(9, current.get());
+
+        ConcurrencyLimiter.Token[] tokens = new ConcurrencyLimiter.Token[5];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = limiter.tryAcquire();
+        }
+        tokens[4].onSuccess();
+        Assert.assertEquals(10, current.get());
+        Assert.assertEquals(4, limiter.getInflight());
+    }
+
+    @Test
+    public void testReleaseWithLastPart() {
+        AtomicInteger current = new AtomicInteger();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimit(10, 5, 20, 1000), current::set);
+        ConcurrencyLimiter.Token token = limiter.tryAcquire();
+        token.expectParts(3);
+        token.onPartDone(true);
+        token.onPartDone(false);
+        Assert.assertEquals(1, limiter.getInflight());
+        token.onPartDone(true);
+        Assert.assertEquals(0, limiter.getInflight());
+        Assert.assertEquals(9, current.get());
+
+        limiter.tryAcquire().expectParts(0);
+        Assert.assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    public void testReapExpired() throws Exception {
+        AtomicInteger current = new AtomicInteger();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimit(2, 1, 10, 1000), current::set, 1);
+        ConcurrencyLimiter.Token lost = limiter.tryAcquire();
+        ConcurrencyLimiter.Token waiting = limiter.tryAcquire();
+        waiting.extendDeadline(60_000);
+        Assert.assertNull(limiter.tryAcquire());
+
+        Thread.sleep(5);
+        Assert.assertEquals(1, limiter.reapExpired());
+        Assert.assertEquals(1, limiter.getInflight());
+        // reaped as a drop
+        Assert.assertEquals(1, current.get());
+        waiting.onIgnore();
+
+        // a late completion of a reaped token does not release twice
+        lost.onSuccess();
+        Assert.assertEquals(0, limiter.getInflight());
+        Assert.assertEquals(0, limiter.reapExpired());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.ordered;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KeyAffinityTest {
+
+    @Test
+    public void testOnlyKeysOfLeavingCandidateMove() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            urls.add("http://127.0.0.1:" + (8080 + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            String key = "key-" + i;
+            String url = KeyAffinity.select(key, urls, Function.identity());
+            Assert.assertEquals(url, KeyAffinity.select(key, urls, Function.identity()));
+            before.put(key, url);
+        }
+
+        String leaving = urls.remove(2);
+        int moved = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String url = KeyAffinity.select(entry.getKey(), urls, Function.identity());
+            if (!url.equals(entry.getValue())) {
+                Assert.assertEquals(leaving, entry.getValue());
+                moved++;
+            }
+        }
+        // about a fifth of the keys were on the leaving url
+        Assert.assertTrue(moved > 1_500 && moved < 2_500);
+    }
+
+    @Test
+    public void testNoCandidate() {
+        Assert.assertNull(KeyAffinity.select("key", new ArrayList<String>(), Function.identity()));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.ordered;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class KeyOrderedLanesTest {
+
+    private final ScheduledExecutorService acker = Executors.newScheduledThreadPool(8);
+
+    @After
+    public void tearDown() {
+        acker.shutdownNow();
+    }
+
+    @Test
+    public void testOrderPerKeyWithAsyncAcks() throws Exception {
+        KeyOrderedLanes lanes = new KeyOrderedLanes(Integer.MAX_VALUE);
+        int keys = 50;
+        int eventsPerKey = 200;
+        Map<String, List<Integer>> delivered = new ConcurrentHashMap<>();
+        AtomicInteger inFlightOfKey0 = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(keys * eventsPerKey);
+        for (int i = 0; i < eventsPerKey; i++) {
+            for (int k = 0; k < keys; k++) {
+                String key = "key-" + k;
+                int seq = i;
+                lanes.submit(key, done -> {
+                    if ("key-0".equals(key)) {
+                        Assert.assertEquals(1, inFlightOfKey0.incrementAndGet());
+                    }
+                    delivered.computeIfAbsent(key, x -> Collections.synchronizedList(new ArrayList<>())).add(seq);
+                    acker.schedule(() -> {
+                        if ("key-0".equals(key)) {
+                            inFlightOfKey0.decrementAndGet();
+                        }
+                        latch.countDown();
+                        done.run();
+                    }, seq % 3, TimeUnit.MILLISECONDS);
+                });
+            }
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        for (List<Integer> seqs : delivered.values()) {
+            Assert.assertEquals(eventsPerKey, seqs.size());
+            for (int i = 0; i < eventsPerKey; i++) {
+                Assert.assertEquals(i, seqs.get(i).intValue());
+            }
+        }
+        waitIdle(lanes);
+        Assert.assertEquals(0, lanes.getLaneCount());
+    }
+
+    @Test
+    public void testDoneInlineDoesNotRecurse() {
+        KeyOrderedLanes lanes = new KeyOrderedLanes(Integer.MAX_VALUE);
+        AtomicInteger delivered = new AtomicInteger();
+        List<Runnable> held = new ArrayList<>();
+        lanes.submit("key", held::add);
+        for (int i = 0; i < 100_000; i++) {
+            lanes.submit("key", done -> {
+                delivered.incrementAndGet();
+                done.run();
+                done.run();
+            });
+        }
+        Assert.assertEquals(0, delivered.get());
+        held.get(0).run();
+        Assert.assertEquals(100_000, delivered.get());
+        Assert.assertEquals(0, lanes.getLaneCount());
+    }
+
+    @Test
+    public void testFailedDispatchReleasesLane() {
+        KeyOrderedLanes lanes = new KeyOrderedLanes(Integer.MAX_VALUE);
+        AtomicInteger delivered = new AtomicInteger();
+        lanes.submit("key", done -> {
+            throw new IllegalStateException("no session");
+        });
+        lanes.submit("key", done -> delivered.incrementAndGet());
+        Assert.assertEquals(1, delivered.get());
+    }
+
+    @Test
+    public void testFullLaneRejects() {
+        KeyOrderedLanes lanes = new KeyOrderedLanes(2);
+        List<Runnable> held = new ArrayList<>();
+        AtomicInteger delivered = new AtomicInteger();
+        Assert.assertTrue(lanes.submit("key", held::add));
+        Assert.assertTrue(lanes.submit("key", done -> delivered.incrementAndGet()));
+        Assert.assertTrue(lanes.submit("key", done -> delivered.incrementAndGet()));
+        Assert.assertFalse(lanes.submit("key", done -> Assert.fail("rejected event dispatched")));
+
+        // other keys are not affected
+        Assert.assertTrue(lanes.submit("other", done -> delivered.incrementAndGet()));
+        Assert.assertEquals(1, delivered.get());
+
+        held.get(0).run();
+        Assert.assertEquals(2, delivered.get());
+        Assert.assertTrue(lanes.submit("key", done -> delivered.incrementAndGet()));
+    }
+
+    /**
+     * Throughput with every event acked 1ms after its push, unordered pushes all events at once while the lanes
+     * pipeline across keys only.
+     */
+    @Test
+    public void testThroughputAgainstUnordered() throws Exception {
+        int events = 20_000;
+        int keys = 1_000;
+        long unordered = run(events, (key, dispatch) -> dispatch.accept(() -> {
+        }), 1);
+        KeyOrderedLanes lanes = new KeyOrderedLanes(Integer.MAX_VALUE);
+        long ordered = run(events, (key, dispatch) -> lanes.submit("key-" + key % keys, dispatch), 1);
+        log.info("{} events on {} keys with 1ms acks, unordered {} events/s, ordered {} events/s", events, keys,
+            events * 1000L / Math.max(unordered, 1), events * 1000L / Math.max(ordered, 1));
+        // the last acks release their lanes right after counting down
+        waitIdle(lanes);
+        Assert.assertEquals(0, lanes.getLaneCount());
+    }
+
+    private long run(int events, Dispatcher dispatcher, long ackDelayMills) throws Exception {
+        CountDownLatch latch = new CountDownLatch(events);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < events; i++) {
+            dispatcher.dispatch(i, done -> acker.schedule(() -> {
+                latch.countDown();
+                done.run();
+            }, ackDelayMills, TimeUnit.MILLISECONDS));
+        }
+        Assert.assertTrue(latch.await(60, TimeUnit.SECONDS));
+        return System.currentTimeMillis() - start;
+    }
+
+    private static void waitIdle(KeyOrderedLanes lanes) throws InterruptedException {
+        for (int i = 0; i < 100 && lanes.getLaneCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private interface Dispatcher {
+
+        void dispatch(int key, Consumer<Runnable> dispatch);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.rr;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import org.apache.eventmesh.api.AsyncConsumeContext;
+import org.apache.eventmesh.api.RequestReplyCallback;
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class RequestReplyManagerTest {
+
+    private RequestReplyManager requestReplyManager;
+
+    private Producer producer;
+
+    @Before
+    public void setUp() throws Exception {
+        CommonConfiguration configuration = new CommonConfiguration();
+        configuration.setEventMeshCluster("LS");
+        configuration.setEventMeshServerIp("127.0.0.1");
+        requestReplyManager = new RequestReplyManager(configuration, mock(MQConsumerWrapper.class));
+        producer = mock(Producer.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        requestReplyManager.shutdown();
+    }
+
+    @Test
+    public void testRequestReply() throws Exception {
+        // the responder answers every request, the reply topic hands replies back to the manager
+        doAnswer(invocation -> {
+            CloudEvent event = invocation.getArgument(0);
+            if (requestReplyManager.getReplyTopic().equals(event.getSubject())) {
+                requestReplyManager.onReply(event, mock(AsyncConsumeContext.class));
+            } else {
+                CloudEvent reply = CloudEventBuilder.from(event).withData("pong".getBytes(StandardCharsets.UTF_8)).build();
+                Assert.assertTrue(requestReplyManager.reply(producer, reply, mock(SendCallback.class)));
+            }
+            return null;
+        }).when(producer).publish(any(CloudEvent.class), any(SendCallback.class));
+
+        FutureCallback callback = new FutureCallback();
+        requestReplyManager.request(producer, buildEvent(), callback, 3000);
+
+        CloudEvent reply = callback.future.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals("pong", new String(reply.getData().toBytes(), StandardCharsets.UTF_8));
+        Assert.assertEquals(0, requestReplyManager.getPendingRequests());
+    }
+
+    @Test
+    public void testRequestTimeout() throws Exception {
+        FutureCallback callback = new FutureCallback();
+        requestReplyManager.request(producer, buildEvent(), callback, 50);
+        Assert.assertEquals(1, requestReplyManager.getPendingRequests());
+        try {
+            callback.future.get(3, TimeUnit.SECONDS);
+            Assert.fail("request should time out");
+        } catch (Exception e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        Assert.assertEquals(0, requestReplyManager.getPendingRequests());
+    }
+
+    @Test
+    public void testReplyToOtherRequest() throws Exception {
+        Assert.assertFalse(requestReplyManager.reply(producer, buildEvent(), mock(SendCallback.class)));
+    }
+
+    private CloudEvent buildEvent() {
+        return CloudEventBuilder.v1()
+            .withId("1")
+            .withSource(URI.create("/"))
+            .withType("eventmesh")
+            .withSubject("TEST-TOPIC")
+            .withData("ping".getBytes(StandardCharsets.UTF_8))
+            .withExtension(EventMeshConstants.PROPERTY_MESSAGE_TTL, "3000")
+            .build();
+    }
+
+    private static class FutureCallback implements RequestReplyCallback {
+
+        private final CompletableFuture<CloudEvent> future = new CompletableFuture<>();
+
+        @Override
+        public void onSuccess(CloudEvent event) {
+            future.complete(event);
+        }
+
+        @Override
+        public void onException(Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.forward;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class TcpForwardClientTest {
+
+    private final List<TcpForwardServer> servers = new ArrayList<>();
+
+    private TcpForwardClient client;
+
+    @After
+    public void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        servers.forEach(TcpForwardServer::shutdown);
+    }
+
+    @Test
+    public void testForwardToPeers() throws Exception {
+        // two gateways on loopback, each only has sessions for its own group
+        Map<String, List<CloudEvent>> received = new ConcurrentHashMap<>();
+        InetSocketAddress peerA = startServer((group, event) -> accept("groupA", group, event, received));
+        InetSocketAddress peerB = startServer((group, event) -> accept("groupB", group, event, received));
+        Map<String, List<InetSocketAddress>> peers = new ConcurrentHashMap<>();
+        peers.put("groupA", Collections.singletonList(peerA));
+        peers.put("groupB", Collections.singletonList(peerB));
+        peers.put("groupC", Collections.singletonList(peerA));
+        client = new TcpForwardClient(peers::get, 2, 8, 1, 16, 3000);
+        client.start();
+
+        List<CompletableFuture<Boolean>> forwardedA = new ArrayList<>();
+        List<CompletableFuture<Boolean>> forwardedB = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            forwardedA.add(client.forward("groupA", event("topicA", i)));
+            forwardedB.add(client.forward("groupB", event("topicB", i)));
+        }
+        CompletableFuture<Boolean> notAccepted = client.forward("groupC", event("topicC", 0));
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(forwardedA.get(i).get(3, TimeUnit.SECONDS));
+            Assert.assertTrue(forwardedB.get(i).get(3, TimeUnit.SECONDS));
+        }
+        Assert.assertFalse(notAccepted.get(3, TimeUnit.SECONDS));
+        Assert.assertEquals(100, received.get("groupA").size());
+        Assert.assertEquals(100, received.get("groupB").size());
+        Assert.assertEquals("topicA", received.get("groupA").get(0).getSubject());
+        Assert.assertTrue(new String(received.get("groupA").get(0).getData().toBytes(), StandardCharsets.UTF_8).startsWith("msg-"));
+        Assert.assertEquals(0, client.getInFlightBatchCount());
+    }
+
+    @Test
+    public void testNoPeer() throws Exception {
+        client = new TcpForwardClient(group -> Collections.emptyList(), 1, 8, 1, 16, 3000);
+        client.start();
+        Assert.assertFalse(client.forward("group", event("topic", 0)).get(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPeerDown() throws Exception {
+        InetSocketAddress deadPeer;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            deadPeer = new InetSocketAddress("127.0.0.1", serverSocket.getLocalPort());
+        }
+        client = new TcpForwardClient(group -> Collections.singletonList(deadPeer), 1, 8, 1, 16, 3000);
+        client.start();
+        Assert.assertFalse(client.forward("group", event("topic", 0)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectWhenTooManyBatchesInFlight() throws Exception {
+        CompletableFuture<Boolean> clientAck = new CompletableFuture<>();
+        InetSocketAddress slowPeer = startServer((group, event) -> clientAck);
+        client = new TcpForwardClient(group -> Collections.singletonList(slowPeer), 1, 1, 0, 1, 10_000);
+        client.start();
+
+        CompletableFuture<Boolean> first = client.forward("group", event("topic", 0));
+        CompletableFuture<Boolean> second = client.forward("group", event("topic", 1));
+        Assert.assertFalse(second.get(3, TimeUnit.SECONDS));
+        clientAck.complete(true);
+        Assert.assertTrue(first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAckOnlyOnceClientAcked() throws Exception {
+        Map<String, CompletableFuture<Boolean>> clientAcks = new ConcurrentHashMap<>();
+        CountDownLatch dispatched = new CountDownLatch(2);
+        InetSocketAddress peer = startServer((group, event) -> {
+            CompletableFuture<Boolean> clientAck = new CompletableFuture<>();
+            clientAcks.put(event.getId(), clientAck);
+            dispatched.countDown();
+            return clientAck;
+        });
+        client = new TcpForwardClient(group -> Collections.singletonList(peer), 1, 2, 1, 16, 10_000);
+        client.start();
+
+        CompletableFuture<Boolean> acked = client.forward("group", event("topic", 0));
+        CompletableFuture<Boolean> givenUp = client.forward("group", event("topic", 1));
+        Assert.assertTrue(dispatched.await(3, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        Assert.assertFalse(acked.isDone());
+        Assert.assertFalse(givenUp.isDone());
+
+        clientAcks.get("0").complete(true);
+        clientAcks.get("1").complete(false);
+        Assert.assertTrue(acked.get(3, TimeUnit.SECONDS));
+        Assert.assertFalse(givenUp.get(3, TimeUnit.SECONDS));
+    }
+
+    private InetSocketAddress startServer(ForwardEventDispatcher dispatcher) throws Exception {
+        TcpForwardServer server = new TcpForwardServer(0, 1, dispatcher);
+        servers.add(server);
+        server.start();
+        return new InetSocketAddress("127.0.0.1", server.getPort());
+    }
+
+    private static CompletableFuture<Boolean> accept(String localGroup, String group, CloudEvent event,
+                                                     Map<String, List<CloudEvent>> received) {
+        if (!localGroup.equals(group)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        received.computeIfAbsent(group, k -> Collections.synchronizedList(new ArrayList<>())).add(event);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private static CloudEvent event(String topic, int index) {
+        return CloudEventBuilder.v1()
+                .withId(String.valueOf(index))
+                .withSource(URI.create("/"))
+                .withType("eventmesh")
+                .withSubject(topic)
+                .withData(("msg-" + index).getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
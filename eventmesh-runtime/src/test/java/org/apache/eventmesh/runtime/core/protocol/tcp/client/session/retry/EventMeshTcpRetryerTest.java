@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
+
+import static org.apache.eventmesh.runtime.util.TestFixtures.event;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.deadletter.DeadLetterManager;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+
+public class EventMeshTcpRetryerTest {
+
+    private final EventMeshTCPConfiguration tcpConfiguration = new EventMeshTCPConfiguration();
+
+    private final DeadLetterManager deadLetterManager = mock(DeadLetterManager.class);
+
+    private EventMeshTcpRetryer retryer;
+
+    @Before
+    public void setUp() {
+        EventMeshTCPServer tcpServer = mock(EventMeshTCPServer.class);
+        when(tcpServer.getEventMeshTCPConfiguration()).thenReturn(tcpConfiguration);
+        retryer = new EventMeshTcpRetryer(tcpServer);
+    }
+
+    @Test
+    public void testDeadLetterOverMaxRetryTimes() {
+        CloudEvent event = event("1").build();
+        UpStreamMsgContext context = upStreamMsgContext(event);
+        context.retryTimes = tcpConfiguration.getEventMeshTcpMsgAsyncRetryTimes();
+        pushRetry(context);
+        verify(deadLetterManager).deadLetter(eq(EventMeshConstants.PROTOCOL_TCP), isNull(), eq(event),
+            eq("retry over max times " + context.retryTimes), eq(context.retryTimes + 1), eq(context.getCreateTime()));
+    }
+
+    @Test
+    public void testDeadLetterWhenRetryQueueFull() {
+        tcpConfiguration.setEventMeshTcpMsgRetryQueueSize(0);
+        CloudEvent event = event("1").build();
+        UpStreamMsgContext context = upStreamMsgContext(event);
+        pushRetry(context);
+        verify(deadLetterManager).deadLetter(eq(EventMeshConstants.PROTOCOL_TCP), isNull(), eq(event), eq("retry queue full"),
+            eq(1), eq(context.getCreateTime()));
+    }
+
+    private void pushRetry(RetryContext context) {
+        try (MockedStatic<EventMeshServer> eventMeshServer = Mockito.mockStatic(EventMeshServer.class)) {
+            eventMeshServer.when(EventMeshServer::getDeadLetterManager).thenReturn(deadLetterManager);
+            retryer.pushRetry(context);
+        }
+    }
+
+    private static UpStreamMsgContext upStreamMsgContext(CloudEvent event) {
+        long now = System.currentTimeMillis();
+        return new UpStreamMsgContext(null, event, new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, "seq-1"), now, now);
+    }
+}
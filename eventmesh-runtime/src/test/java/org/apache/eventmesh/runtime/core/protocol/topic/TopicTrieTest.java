@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.topic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TopicTrieTest {
+
+    @Test
+    public void testMatch() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        for (String pattern : Arrays.asList("orders/eu/created", "orders/+/created", "orders/#", "+/+/created", "#", "payments/+")) {
+            trie.add(pattern, pattern);
+        }
+        Assert.assertEquals(new HashSet<>(Arrays.asList("orders/eu/created", "orders/+/created", "orders/#", "+/+/created", "#")),
+            trie.match("orders/eu/created"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("orders/#", "#")), trie.match("orders"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("payments/+", "#")), trie.match("payments/card"));
+        Assert.assertEquals(Collections.singleton("#"), trie.match("payments/card/refunded"));
+        Assert.assertEquals(6, trie.size());
+    }
+
+    @Test
+    public void testStaticMatches() {
+        Assert.assertTrue(TopicTrie.matches("orders/+/created", "orders/eu/created"));
+        Assert.assertFalse(TopicTrie.matches("orders/+/created", "orders/eu/paid"));
+        Assert.assertFalse(TopicTrie.matches("orders/+", "orders"));
+        Assert.assertTrue(TopicTrie.matches("orders/#", "orders"));
+        Assert.assertTrue(TopicTrie.matches("orders/#", "orders/eu/created"));
+        Assert.assertFalse(TopicTrie.matches("orders", "orders/eu"));
+        Assert.assertTrue(TopicTrie.isWildcard("orders/#"));
+        Assert.assertFalse(TopicTrie.isWildcard("orders/eu+"));
+    }
+
+    @Test
+    public void testValidate() {
+        for (String pattern : Arrays.asList("orders/#/created", "orders/eu+", "orders#")) {
+            try {
+                TopicTrie.validate(pattern);
+                Assert.fail("validated " + pattern);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        TopicTrie.validate("orders/+/created/#");
+    }
+
+    @Test
+    public void testRemovePrunes() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        Assert.assertTrue(trie.add("orders/+/created", "a"));
+        Assert.assertFalse(trie.add("orders/+/created", "a"));
+        Assert.assertTrue(trie.add("orders/+/created", "b"));
+        Assert.assertTrue(trie.remove("orders/+/created", "a"));
+        Assert.assertFalse(trie.remove("orders/+/created", "a"));
+        Assert.assertFalse(trie.remove("orders/+", "b"));
+        Assert.assertEquals(Collections.singleton("b"), trie.match("orders/eu/created"));
+        Assert.assertTrue(trie.remove("orders/+/created", "b"));
+        Assert.assertTrue(trie.isEmpty());
+        Assert.assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void testSameAsMatchingEveryPattern() {
+        Random random = new Random(7);
+        TopicTrie<String> trie = new TopicTrie<>();
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String pattern = randomTopic(random, true);
+            patterns.add(pattern);
+            trie.add(pattern, pattern);
+        }
+        for (int i = 0; i < 2000; i++) {
+            String topic = randomTopic(random, false);
+            Set<String> expected = new HashSet<>();
+            for (String pattern : patterns) {
+                if (TopicTrie.matches(pattern, topic)) {
+                    expected.add(pattern);
+                }
+            }
+            Assert.assertEquals(topic, expected, trie.match(topic));
+        }
+    }
+
+    /**
+     * A million patterns, most of them concrete topics and a share of wildcards: the trie follows the levels of the topic
+     * instead of testing every pattern.
+     */
+    @Test
+    public void testMatchThroughputWithLargeSubscriptionSet() {
+        int subscriptions = 1_000_000;
+        TopicTrie<Integer> trie = new TopicTrie<>();
+        for (int i = 0; i < subscriptions; i++) {
+            String region = "region" + i % 100;
+            String shop = "shop" + i / 100 % 1000;
+            String pattern;
+            switch (i % 10) {
+                case 0:
+                    pattern = "orders/" + region + "/+";
+                    break;
+                case 1:
+                    pattern = "orders/+/" + shop;
+                    break;
+                case 2:
+                    pattern = "orders/" + region + "/#";
+                    break;
+                default:
+                    pattern = "orders/" + region + "/" + shop + "/" + i;
+            }
+            trie.add(pattern, i);
+        }
+        Random random = new Random(7);
+        String[] topics = new String[10000];
+        for (int i = 0; i < topics.length; i++) {
+            topics[i] = "orders/region" + random.nextInt(100) + "/shop" + random.nextInt(1000);
+        }
+
+        long matched = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < 10; round++) {
+            for (String topic : topics) {
+                matched += trie.match(topic).size();
+            }
+        }
+        long nanosPerMatch = (System.nanoTime() - start) / 10 / topics.length;
+        log.info("{} subscriptions, {} ns per match, {} matched", subscriptions, nanosPerMatch, matched);
+        Assert.assertTrue(matched > 0);
+        Assert.assertTrue(nanosPerMatch < 1_000_000);
+    }
+
+    @Test
+    public void testMatchWhileChanging() throws Exception {
+        TopicTrie<Integer> trie = new TopicTrie<>();
+        trie.add("orders/#", -1);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                trie.add("orders/+/created", i);
+                trie.remove("orders/+/created", i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            Assert.assertTrue(trie.match("orders/eu/created").contains(-1));
+        }
+        writer.join();
+        Assert.assertEquals(Collections.singleton(-1), trie.match("orders/eu/created"));
+    }
+
+    private static String randomTopic(Random random, boolean wildcards) {
+        int depth = 1 + random.nextInt(4);
+        StringBuilder topic = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            if (i > 0) {
+                topic.append(TopicTrie.SEPARATOR);
+            }
+            int choice = random.nextInt(10);
+            if (wildcards && choice == 0) {
+                topic.append(TopicTrie.SINGLE_LEVEL);
+            } else if (wildcards && choice == 1) {
+                topic.append(TopicTrie.MULTI_LEVEL);
+                break;
+            } else {
+                topic.append("l").append(random.nextInt(3));
+            }
+        }
+        return topic.toString();
+    }
+}
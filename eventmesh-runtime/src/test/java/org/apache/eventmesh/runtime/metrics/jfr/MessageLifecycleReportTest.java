@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+
+public class MessageLifecycleReportTest {
+
+    @Test
+    public void testStageBreakdown() throws Exception {
+        Path file = Files.createTempFile("eventmesh", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PublishEvent.class);
+            recording.enable(AckEvent.class);
+            recording.enable(DispatchEvent.class);
+            recording.start();
+
+            for (int i = 0; i < 10; i++) {
+                MessageStage publishStage = MessageStage.publish();
+                Thread.sleep(1);
+                publishStage.record("tcp", i % 2 == 0 ? "topicA" : "topicB", "group", String.valueOf(i), i != 0);
+            }
+            MessageStage ackStage = MessageStage.ack();
+            ackStage.setAckLatency(20);
+            ackStage.record("tcp", "topicA", "group", "0", true);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            MessageLifecycleReport report = MessageLifecycleReport.read(file, null);
+            Assert.assertEquals(10, report.getStage("Publish").getCount());
+            Assert.assertEquals(1, report.getStage("Publish").getFailures());
+            Assert.assertTrue(report.getStage("Publish").percentile(50) >= 1_000_000L);
+            Assert.assertEquals(1, report.getStage("Ack").getCount());
+            Assert.assertEquals(20_000_000L, report.getStage("Ack").percentile(100));
+            Assert.assertEquals(0, report.getStage("Dispatch").getCount());
+
+            MessageLifecycleReport topicReport = MessageLifecycleReport.read(file, "topicB");
+            Assert.assertEquals(5, topicReport.getStage("Publish").getCount());
+            Assert.assertEquals(0, topicReport.getStage("Ack").getCount());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPercentile() {
+        MessageLifecycleReport.StageStats stats = new MessageLifecycleReport.StageStats("Push");
+        for (int i = 100; i >= 1; i--) {
+            stats.add(i, true);
+        }
+        Assert.assertEquals(50, stats.percentile(50));
+        Assert.assertEquals(99, stats.percentile(99));
+        Assert.assertEquals(100, stats.percentile(100));
+        Assert.assertEquals(1, stats.percentile(0));
+        Assert.assertEquals(50, stats.getAverage());
+    }
+}
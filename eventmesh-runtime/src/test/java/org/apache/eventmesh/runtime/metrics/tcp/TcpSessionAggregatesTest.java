@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.metrics.tcp;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TcpSessionAggregatesTest {
+
+    private static final int SESSIONS = 100_000;
+
+    private static final int TOPICS = 1_000;
+
+    private static final int GROUPS = 10;
+
+    @Test
+    public void testTopicRefCounts() {
+        TcpSessionAggregates aggregates = new TcpSessionAggregates();
+        aggregates.subscribeTopic("t1");
+        aggregates.subscribeTopic("t1");
+        aggregates.subscribeTopic("t2");
+        Assert.assertEquals(2, aggregates.getSubTopicNum());
+
+        aggregates.unsubscribeTopic("t1");
+        Assert.assertEquals(2, aggregates.getSubTopicNum());
+        aggregates.unsubscribeTopic("t1");
+        aggregates.unsubscribeTopic("t1");
+        Assert.assertEquals(1, aggregates.getSubTopicNum());
+    }
+
+    @Test
+    public void testSimulatedSessionsLifecycle() {
+        TcpSessionAggregates aggregates = new TcpSessionAggregates();
+        for (int session = 0; session < SESSIONS; session++) {
+            aggregates.subscribeTopic("topic-" + session % TOPICS);
+            aggregates.addUnAckMsgs("group-" + session % GROUPS, 2);
+            aggregates.delivered();
+        }
+
+        Assert.assertEquals(TOPICS, aggregates.getSubTopicNum());
+        Map<String, Long> unAck = aggregates.getGroupUnAckMsgs();
+        Assert.assertEquals(GROUPS, unAck.size());
+        Assert.assertEquals(Long.valueOf(2L * SESSIONS / GROUPS), unAck.get("group-0"));
+        Assert.assertEquals(SESSIONS, aggregates.getDeliveredMsgs());
+
+        for (int session = 0; session < SESSIONS; session++) {
+            aggregates.unsubscribeTopic("topic-" + session % TOPICS);
+            aggregates.addUnAckMsgs("group-" + session % GROUPS, -2);
+        }
+        Assert.assertEquals(0, aggregates.getSubTopicNum());
+        Assert.assertEquals(Long.valueOf(0L), aggregates.getGroupUnAckMsgs().get("group-0"));
+    }
+
+    @Test
+    public void testRemoveGroup() {
+        TcpSessionAggregates aggregates = new TcpSessionAggregates();
+        aggregates.addUnAckMsgs("g1", 3);
+        aggregates.addUnAckMsgs("g2", 1);
+
+        aggregates.removeGroup("g1");
+        Assert.assertNull(aggregates.getGroupUnAckMsgs().get("g1"));
+        Assert.assertEquals(Long.valueOf(1L), aggregates.getGroupUnAckMsgs().get("g2"));
+
+        // a late ack does not bring the removed group back
+        aggregates.addUnAckMsgs("g1", -1);
+        Assert.assertNull(aggregates.getGroupUnAckMsgs().get("g1"));
+
+        aggregates.addUnAckMsgs("g1", 1);
+        Assert.assertEquals(Long.valueOf(1L), aggregates.getGroupUnAckMsgs().get("g1"));
+    }
+}
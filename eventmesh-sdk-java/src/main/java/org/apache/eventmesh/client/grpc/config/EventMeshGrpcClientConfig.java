@@ -57,6 +57,63 @@ public class EventMeshGrpcClientConfig {
     @Builder.Default
     private boolean useTls;
 
+    /**
+     * Number of ordered lanes that run the stream consumer's handler, messages with the same partition key share a lane.
+     */
+    @Builder.Default
+    private int consumeThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Messages the server may push on the subscription stream before the handlers acknowledge them.
+     */
+    @Builder.Default
+    private int maxInFlightMessages = 256;
+
+    /**
+     * Handled messages after which pending replies and flow control credits are flushed to the server.
+     */
+    @Builder.Default
+    private int replyBatchSize = 32;
+
+    /**
+     * Messages of one topic sent together by {@code publishAsync}.
+     */
+    @Builder.Default
+    private int asyncBatchSize = 64;
+
+    /**
+     * How long {@code publishAsync} waits for a batch to fill up before sending it anyway.
+     */
+    @Builder.Default
+    private long asyncLingerMillis = 5;
+
+    /**
+     * Async batches that may wait for their response at the same time, publishing blocks beyond that.
+     */
+    @Builder.Default
+    private int maxOutstandingBatches = 64;
+
+    /**
+     * Channels the async publisher spreads its batches over.
+     */
+    @Builder.Default
+    private int publishChannels = 1;
+
+    /**
+     * Retries of an async batch failing with a transient status, each on the next channel.
+     */
+    @Builder.Default
+    private int publishRetryTimes = 2;
+
+    /**
+     * Wait before the first retry of an async batch, doubled for every further retry.
+     */
+    @Builder.Default
+    private long publishRetryBackoffMillis = 100;
+
+    @Builder.Default
+    private long publishTimeoutMillis = 3_000;
+
     @Override
     public String toString() {
         return "ClientConfig={ServerAddr="
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.consumer;
+
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.ThreadPoolFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs stream consumer handlers on a fixed set of single threaded lanes. Tasks with the same key always land on the same
+ * lane, so they are handled in arrival order while different keys are handled in parallel.
+ */
+@Slf4j
+class ConsumerDispatcher {
+
+    private final transient ThreadPoolExecutor[] lanes;
+
+    ConsumerDispatcher(final int laneCount, final String threadName) {
+        final ThreadFactory threadFactory = new EventMeshThreadFactory(threadName, true);
+        this.lanes = new ThreadPoolExecutor[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            // the lane queue is unbounded, the number of queued tasks is bounded by the stream flow control window
+            lanes[i] = ThreadPoolFactory.createThreadPoolExecutor(1, 1, new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    void dispatch(final String key, final Runnable task) {
+        lanes[laneOf(key)].execute(task);
+    }
+
+    int laneOf(final String key) {
+        if (key == null) {
+            return 0;
+        }
+        final int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Stop accepting tasks and wait for the queued ones to finish.
+     *
+     * @return true if every lane finished within the timeout
+     */
+    boolean shutdown(final long timeout, final TimeUnit unit) {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    log.warn("Consumer dispatcher lanes did not finish within {} {}", timeout, unit);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+}
@@ -19,36 +19,74 @@ package org.apache.eventmesh.client.grpc.consumer;
 
 import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
 import org.apache.eventmesh.client.grpc.util.EventMeshClientUtil;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.grpc.protos.ConsumerServiceGrpc.ConsumerServiceStub;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.Subscription;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Owns the bidirectional subscription stream. Pushed messages are handed to a {@link ConsumerDispatcher} so a slow
+ * handler does not block the transport thread, the server may push at most {@code maxInFlightMessages} unhandled
+ * messages, and replies are sent together with the flow control credits of the handled messages.
+ */
 @Slf4j
 public class SubStreamHandler<T> extends Thread {
 
+    private static final long CLOSE_TIMEOUT_MILLIS = 3_000L;
+
     private final transient CountDownLatch latch = new CountDownLatch(1);
 
     private final transient ConsumerServiceStub consumerAsyncClient;
 
     private final transient EventMeshGrpcClientConfig clientConfig;
 
-    private transient StreamObserver<Subscription> sender;
+    private transient volatile StreamObserver<Subscription> sender;
+
+    private transient volatile ClientCallStreamObserver<Subscription> requestStream;
 
     private final transient ReceiveMsgHook<T> listener;
 
+    private final transient ConsumerDispatcher dispatcher;
+
+    private final transient int maxInFlight;
+
+    private final transient int flushThreshold;
+
+    private final transient Queue<Subscription> pendingReplies = new ConcurrentLinkedQueue<>();
+
+    private final transient AtomicInteger inFlight = new AtomicInteger();
+
+    private final transient AtomicInteger handled = new AtomicInteger();
+
+    private final transient AtomicBoolean flushing = new AtomicBoolean();
+
     public SubStreamHandler(final ConsumerServiceStub consumerAsyncClient, final EventMeshGrpcClientConfig clientConfig,
                             final ReceiveMsgHook<T> listener) {
         this.consumerAsyncClient = consumerAsyncClient;
         this.clientConfig = clientConfig;
         this.listener = listener;
+        this.dispatcher = new ConsumerDispatcher(clientConfig.getConsumeThreads(), "GrpcStreamConsumer");
+        this.maxInFlight = Math.max(1, clientConfig.getMaxInFlightMessages());
+        // never wait for more handled messages than the server is allowed to push
+        this.flushThreshold = Math.max(1, Math.min(clientConfig.getReplyBatchSize(), maxInFlight / 2));
     }
 
     public void sendSubscription(final Subscription subscription) {
@@ -61,40 +99,33 @@ public class SubStreamHandler<T> extends Thread {
     }
 
     private StreamObserver<SimpleMessage> createReceiver() {
-        return new StreamObserver<SimpleMessage>() {
+        return new ClientResponseObserver<Subscription, SimpleMessage>() {
+            @Override
+            public void beforeStart(final ClientCallStreamObserver<Subscription> stream) {
+                requestStream = stream;
+                stream.disableAutoRequestWithInitial(maxInFlight);
+            }
+
             @Override
             public void onNext(final SimpleMessage message) {
+                inFlight.incrementAndGet();
                 T msg = EventMeshClientUtil.buildMessage(message, listener.getProtocolType());
 
                 if (msg instanceof Map) {
                     if (log.isInfoEnabled()) {
                         log.info("Received message from Server:{}", message);
                     }
-                } else {
-                    if (log.isInfoEnabled()) {
-                        log.info("Received message from Server.|seq={}|uniqueId={}|", message.getSeqNum(),
-                                message.getUniqueId());
-                    }
-                    Subscription streamReply = null;
-                    try {
-                        Optional<T> reply = listener.handle(msg);
-                        if (reply.isPresent()) {
-                            streamReply = buildReplyMessage(message, reply.get());
-                        }
-                    } catch (Exception e) {
-                        if (log.isErrorEnabled()) {
-                            log.error("Error in handling reply message.|seq={}|uniqueId={}|",
-                                    message.getSeqNum(), message.getUniqueId(), e);
-                        }
-                    }
-                    if (streamReply != null) {
-                        if (log.isInfoEnabled()) {
-                            log.info("Sending reply message to Server.|seq={}|uniqueId={}|",
-                                    streamReply.getReply().getSeqNum(),
-                                    streamReply.getReply().getUniqueId());
-                        }
-                        senderOnNext(streamReply);
-                    }
+                    onHandled(null);
+                    return;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Received message from Server.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId());
+                }
+                try {
+                    dispatcher.dispatch(orderingKey(message), () -> handle(message, msg));
+                } catch (RejectedExecutionException e) {
+                    log.warn("Consumer closed, drop message.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId());
+                    inFlight.decrementAndGet();
                 }
             }
 
@@ -116,6 +147,81 @@ public class SubStreamHandler<T> extends Thread {
         };
     }
 
+    /**
+     * Messages carrying a partition key are handled in order per key, the others are spread over all lanes.
+     */
+    static String orderingKey(final SimpleMessage message) {
+        final String partitionKey = message.getPropertiesMap().get(Constants.PROPERTY_MESSAGE_PARTITION_KEY);
+        if (StringUtils.isNotEmpty(partitionKey)) {
+            return partitionKey;
+        }
+        return StringUtils.isNotEmpty(message.getUniqueId()) ? message.getUniqueId() : message.getSeqNum();
+    }
+
+    private void handle(final SimpleMessage message, final T msg) {
+        Subscription streamReply = null;
+        try {
+            Optional<T> reply = listener.handle(msg);
+            if (reply.isPresent()) {
+                streamReply = buildReplyMessage(message, reply.get());
+            }
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                log.error("Error in handling reply message.|seq={}|uniqueId={}|",
+                        message.getSeqNum(), message.getUniqueId(), e);
+            }
+        }
+        onHandled(streamReply);
+    }
+
+    private void onHandled(final Subscription streamReply) {
+        if (streamReply != null) {
+            pendingReplies.offer(streamReply);
+        }
+        handled.incrementAndGet();
+        inFlight.decrementAndGet();
+        flushReplies();
+    }
+
+    /**
+     * Send the pending replies and request as many messages as were handled. Only one thread flushes at a time; the
+     * others leave their work to it, and it loops until nothing is left that should be flushed now.
+     */
+    private void flushReplies() {
+        while (shouldFlush() && flushing.compareAndSet(false, true)) {
+            try {
+                final int credits = handled.getAndSet(0);
+                final StreamObserver<Subscription> stream = this.sender;
+                if (stream == null) {
+                    return;
+                }
+                synchronized (stream) {
+                    Subscription streamReply;
+                    while ((streamReply = pendingReplies.poll()) != null) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Sending reply message to Server.|seq={}|uniqueId={}|",
+                                    streamReply.getReply().getSeqNum(),
+                                    streamReply.getReply().getUniqueId());
+                        }
+                        stream.onNext(streamReply);
+                    }
+                    if (credits > 0 && requestStream != null) {
+                        requestStream.request(credits);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("StreamObserver Error flushing replies", e);
+            } finally {
+                flushing.set(false);
+            }
+        }
+    }
+
+    private boolean shouldFlush() {
+        final int pending = handled.get();
+        return pending >= flushThreshold || (inFlight.get() == 0 && (pending > 0 || !pendingReplies.isEmpty()));
+    }
+
     private Subscription buildReplyMessage(final SimpleMessage reqMessage, final T replyMessage) {
         final SimpleMessage simpleMessage = EventMeshClientUtil.buildSimpleMessage(replyMessage,
                 clientConfig, listener.getProtocolType());
@@ -146,6 +252,10 @@ public class SubStreamHandler<T> extends Thread {
     }
 
     public void close() {
+        // let the handlers finish what was already pushed so their replies are not lost
+        dispatcher.shutdown(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        flushReplies();
+
         if (this.sender != null) {
             senderOnComplete();
         }
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
+import org.apache.eventmesh.client.grpc.util.EventMeshClientUtil;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
+import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceStub;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Non-blocking publisher behind {@code publishAsync}. Messages for the same topic and protocol are collected into one
+ * {@link BatchMessage} until {@code asyncBatchSize} messages are queued or {@code asyncLingerMillis} has passed, then sent
+ * with the async stub. At most {@code maxOutstandingBatches} batches are on the wire at a time, callers block when the
+ * limit is reached while lingering batches wait on the scheduler without blocking it. Batches failing with a transient
+ * status are retried on the next channel after an exponential backoff.
+ */
+@Slf4j
+class AsyncPublisher implements AutoCloseable {
+
+    private final transient EventMeshGrpcClientConfig clientConfig;
+
+    private final transient List<PublisherServiceStub> stubs;
+
+    private final transient AtomicInteger nextStub = new AtomicInteger();
+
+    private final transient Semaphore outstanding;
+
+    private final transient ScheduledExecutorService lingerScheduler;
+
+    private final transient Map<String, Batch> accumulating = new HashMap<>();
+
+    private final transient int batchSize;
+
+    private final transient long lingerMillis;
+
+    private final transient long retryBackoffMillis;
+
+    private volatile boolean closed;
+
+    AsyncPublisher(final EventMeshGrpcClientConfig clientConfig, final List<PublisherServiceStub> stubs) {
+        this.clientConfig = clientConfig;
+        this.stubs = stubs;
+        this.batchSize = Math.max(1, clientConfig.getAsyncBatchSize());
+        this.lingerMillis = Math.max(0, clientConfig.getAsyncLingerMillis());
+        this.retryBackoffMillis = Math.max(0, clientConfig.getPublishRetryBackoffMillis());
+        this.outstanding = new Semaphore(Math.max(1, clientConfig.getMaxOutstandingBatches()));
+        this.lingerScheduler = new ScheduledThreadPoolExecutor(1, new EventMeshThreadFactory("GrpcAsyncPublisher", true));
+    }
+
+    <T> CompletableFuture<Response> publish(final String topic, final String protocolType, final T message) {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new IllegalStateException("publisher closed"));
+            return future;
+        }
+
+        final String key = protocolType + "@" + topic;
+        Batch full = null;
+        synchronized (accumulating) {
+            Batch batch = accumulating.get(key);
+            if (batch == null) {
+                batch = new Batch(key, protocolType);
+                accumulating.put(key, batch);
+                if (batchSize > 1) {
+                    final Batch lingering = batch;
+                    lingerScheduler.schedule(() -> flush(lingering), lingerMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            batch.add(message, future);
+            if (batch.size() >= batchSize) {
+                accumulating.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    private void flush(final Batch batch) {
+        synchronized (accumulating) {
+            if (accumulating.get(batch.key) != batch) {
+                // already sent because it filled up
+                return;
+            }
+            accumulating.remove(batch.key);
+        }
+        final BatchMessage batchMessage = build(batch);
+        if (batchMessage != null) {
+            sendWhenPermitted(batch, batchMessage);
+        }
+    }
+
+    /**
+     * Runs on the linger scheduler, which must not block: without a free permit the send is tried again later.
+     */
+    private void sendWhenPermitted(final Batch batch, final BatchMessage batchMessage) {
+        if (outstanding.tryAcquire()) {
+            send(batch, batchMessage, 0);
+            return;
+        }
+        if (!schedule(() -> sendWhenPermitted(batch, batchMessage), Math.max(1, lingerMillis))) {
+            // the scheduler is shutting down, nothing else needs its thread any more
+            acquireAndSend(batch, batchMessage);
+        }
+    }
+
+    private void send(final Batch batch) {
+        final BatchMessage batchMessage = build(batch);
+        if (batchMessage != null) {
+            acquireAndSend(batch, batchMessage);
+        }
+    }
+
+    private BatchMessage build(final Batch batch) {
+        try {
+            return EventMeshClientUtil.buildBatchMessages(batch.messages, clientConfig, batch.protocolType);
+        } catch (Exception e) {
+            batch.fail(e);
+            return null;
+        }
+    }
+
+    private void acquireAndSend(final Batch batch, final BatchMessage batchMessage) {
+        try {
+            outstanding.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.fail(e);
+            return;
+        }
+        send(batch, batchMessage, 0);
+    }
+
+    private void send(final Batch batch, final BatchMessage batchMessage, final int attempt) {
+        final PublisherServiceStub stub = stubs.get(Math.floorMod(nextStub.getAndIncrement(), stubs.size()));
+        stub.withDeadlineAfter(clientConfig.getPublishTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .batchPublish(batchMessage, new StreamObserver<Response>() {
+                @Override
+                public void onNext(final Response response) {
+                    outstanding.release();
+                    batch.complete(response);
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    if (attempt < clientConfig.getPublishRetryTimes() && !closed && isRetryable(t)) {
+                        final long backoff = retryBackoff(attempt);
+                        if (log.isWarnEnabled()) {
+                            log.warn("Retry batch publish in {}ms, topic={}, size={}, attempt={}", backoff,
+                                batchMessage.getTopic(), batch.size(), attempt + 1, t);
+                        }
+                        if (schedule(() -> send(batch, batchMessage, attempt + 1), backoff)) {
+                            return;
+                        }
+                    }
+                    outstanding.release();
+                    if (log.isErrorEnabled()) {
+                        log.error("Error in async publish, topic={}, size={}", batchMessage.getTopic(), batch.size(), t);
+                    }
+                    batch.fail(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    // the response completes the batch
+                }
+            });
+    }
+
+    private long retryBackoff(final int attempt) {
+        return Math.min(retryBackoffMillis << Math.min(attempt, 16), clientConfig.getPublishTimeoutMillis());
+    }
+
+    private boolean schedule(final Runnable task, final long delayMillis) {
+        try {
+            lingerScheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static boolean isRetryable(final Throwable t) {
+        final Status.Code code = Status.fromThrowable(t).getCode();
+        return code == Status.Code.UNAVAILABLE || code == Status.Code.RESOURCE_EXHAUSTED;
+    }
+
+    /**
+     * Send everything that is still lingering, the futures of those messages complete as usual.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        final List<Batch> remaining;
+        synchronized (accumulating) {
+            remaining = new ArrayList<>(accumulating.values());
+            accumulating.clear();
+        }
+        remaining.forEach(this::send);
+        lingerScheduler.shutdown();
+    }
+
+    private static final class Batch {
+
+        private final transient String key;
+
+        private final transient String protocolType;
+
+        private final transient List<Object> messages = new ArrayList<>();
+
+        private final transient List<CompletableFuture<Response>> futures = new ArrayList<>();
+
+        Batch(final String key, final String protocolType) {
+            this.key = key;
+            this.protocolType = protocolType;
+        }
+
+        void add(final Object message, final CompletableFuture<Response> future) {
+            messages.add(message);
+            futures.add(future);
+        }
+
+        int size() {
+            return messages.size();
+        }
+
+        void complete(final Response response) {
+            futures.forEach(future -> future.complete(response));
+        }
+
+        void fail(final Throwable t) {
+            futures.forEach(future -> future.completeExceptionally(t));
+        }
+    }
+}
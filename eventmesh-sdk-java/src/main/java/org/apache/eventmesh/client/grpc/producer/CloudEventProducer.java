@@ -33,6 +33,7 @@ import org.apache.eventmesh.common.utils.ThreadUtils;
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import io.cloudevents.CloudEvent;
@@ -105,6 +106,11 @@ public class CloudEventProducer {
         return null;
     }
 
+    CompletableFuture<Response> publishAsync(final CloudEvent cloudEvent, final AsyncPublisher asyncPublisher) {
+        final CloudEvent enhanceEvent = enhanceCloudEvent(cloudEvent, null);
+        return asyncPublisher.publish(enhanceEvent.getSubject(), PROTOCOL_TYPE, enhanceEvent);
+    }
+
     public CloudEvent requestReply(final CloudEvent cloudEvent, final int timeout) {
         if (log.isInfoEnabled()) {
             log.info("RequestReply message " + cloudEvent.toString());
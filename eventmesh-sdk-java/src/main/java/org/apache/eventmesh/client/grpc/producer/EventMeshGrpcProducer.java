@@ -24,12 +24,15 @@ import org.apache.eventmesh.common.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc;
 import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceBlockingStub;
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceStub;
 import org.apache.eventmesh.common.protocol.grpc.protos.Response;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
@@ -53,10 +56,13 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     private transient CloudEventProducer cloudEventProducer;
 
+    private final transient List<ManagedChannel> publishChannels = new ArrayList<>();
+
+    private transient AsyncPublisher asyncPublisher;
+
     public EventMeshGrpcProducer(EventMeshGrpcClientConfig clientConfig) {
         this.clientConfig = clientConfig;
-        channel = ManagedChannelBuilder.forAddress(clientConfig.getServerAddr(), clientConfig.getServerPort())
-                .usePlaintext().build();
+        channel = buildChannel();
         publisherClient = PublisherServiceGrpc.newBlockingStub(channel);
 
         cloudEventProducer = new CloudEventProducer(clientConfig, publisherClient);
@@ -115,6 +121,36 @@ public class EventMeshGrpcProducer implements AutoCloseable {
         return cloudEventProducer.publish(cloudEvent);
     }
 
+    /**
+     * Publish without waiting for the server, the message is batched with others of the same topic.
+     */
+    public CompletableFuture<Response> publishAsync(final EventMeshMessage message) {
+        return getAsyncPublisher().publish(message.getTopic(), PROTOCOL_TYPE, message);
+    }
+
+    public CompletableFuture<Response> publishAsync(final CloudEvent cloudEvent) {
+        return cloudEventProducer.publishAsync(cloudEvent, getAsyncPublisher());
+    }
+
+    private synchronized AsyncPublisher getAsyncPublisher() {
+        if (asyncPublisher == null) {
+            final List<PublisherServiceStub> stubs = new ArrayList<>();
+            stubs.add(PublisherServiceGrpc.newStub(channel));
+            for (int i = 1; i < clientConfig.getPublishChannels(); i++) {
+                final ManagedChannel publishChannel = buildChannel();
+                publishChannels.add(publishChannel);
+                stubs.add(PublisherServiceGrpc.newStub(publishChannel));
+            }
+            asyncPublisher = new AsyncPublisher(clientConfig, stubs);
+        }
+        return asyncPublisher;
+    }
+
+    private ManagedChannel buildChannel() {
+        return ManagedChannelBuilder.forAddress(clientConfig.getServerAddr(), clientConfig.getServerPort())
+                .usePlaintext().build();
+    }
+
     public CloudEvent requestReply(final CloudEvent cloudEvent, final int timeout) {
         return cloudEventProducer.requestReply(cloudEvent, timeout);
     }
@@ -148,6 +184,12 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     @Override
     public void close() {
+        synchronized (this) {
+            if (asyncPublisher != null) {
+                asyncPublisher.close();
+            }
+        }
+        publishChannels.forEach(ManagedChannel::shutdown);
         channel.shutdown();
     }
 }
\ No newline at end of file
@@ -33,6 +33,7 @@ import org.apache.eventmesh.common.utils.ThreadUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -213,11 +214,11 @@ public class EventMeshClientUtil {
             eventMeshMessages.forEach(message -> {
                 BatchMessage.MessageItem item = BatchMessage.MessageItem.newBuilder()
                         .setContent(message.getContent())
-                        .setUniqueId(message.getUniqueId())
-                        .setSeqNum(message.getBizSeqNo())
+                        .setUniqueId(message.getUniqueId() == null ? RandomStringUtils.generateNum(30) : message.getUniqueId())
+                        .setSeqNum(message.getBizSeqNo() == null ? RandomStringUtils.generateNum(30) : message.getBizSeqNo())
                         .setTtl(Optional.ofNullable(message.getProp(Constants.EVENTMESH_MESSAGE_CONST_TTL))
                                 .orElseGet(() -> Constants.DEFAULT_EVENTMESH_MESSAGE_TTL))
-                        .putAllProperties(message.getProp())
+                        .putAllProperties(message.getProp() == null ? Collections.emptyMap() : message.getProp())
                         .build();
                 messageBuilder.addMessageItem(item);
             });
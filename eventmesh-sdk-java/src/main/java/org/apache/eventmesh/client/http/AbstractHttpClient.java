@@ -18,15 +18,16 @@
 package org.apache.eventmesh.client.http;
 
 import org.apache.eventmesh.client.http.conf.EventMeshHttpClientConfig;
+import org.apache.eventmesh.client.http.model.RequestParam;
 import org.apache.eventmesh.client.http.ssl.MyX509TrustManager;
 import org.apache.eventmesh.client.http.util.HttpLoadBalanceUtils;
+import org.apache.eventmesh.client.http.util.HttpUtils;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.exception.EventMeshException;
-import org.apache.eventmesh.common.loadbalance.LoadBalanceSelector;
+import org.apache.eventmesh.common.loadbalance.HealthAwareLoadBalanceSelector;
 
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
-import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
@@ -52,7 +53,7 @@ public abstract class AbstractHttpClient implements AutoCloseable {
 
     protected EventMeshHttpClientConfig eventMeshHttpClientConfig;
 
-    protected LoadBalanceSelector<String> eventMeshServerSelector;
+    protected HealthAwareLoadBalanceSelector<String> eventMeshServerSelector;
 
     protected final CloseableHttpClient httpClient;
 
@@ -61,8 +62,11 @@ public abstract class AbstractHttpClient implements AutoCloseable {
         Objects.requireNonNull(eventMeshHttpClientConfig.getLiteEventMeshAddr(), "liteServerAddr can't be null");
 
         this.eventMeshHttpClientConfig = eventMeshHttpClientConfig;
-        this.eventMeshServerSelector = HttpLoadBalanceUtils.createEventMeshServerLoadBalanceSelector(
-                eventMeshHttpClientConfig);
+        this.eventMeshServerSelector = new HealthAwareLoadBalanceSelector<>(
+                HttpLoadBalanceUtils.createEventMeshServerLoadBalanceSelector(eventMeshHttpClientConfig),
+                eventMeshHttpClientConfig.getOutlierFailureThreshold(),
+                eventMeshHttpClientConfig.getOutlierEjectionMillis(),
+                eventMeshHttpClientConfig.getMaxOutlierEjectionMillis());
         this.httpClient = setHttpClient();
     }
 
@@ -79,45 +83,71 @@ public abstract class AbstractHttpClient implements AutoCloseable {
     }
 
     private CloseableHttpClient setHttpClient() throws EventMeshException {
-        if (!eventMeshHttpClientConfig.isUseTls()) {
-            return HttpClients.createDefault();
-        }
-        SSLContext sslContext;
-        try {
-            final String protocol = eventMeshHttpClientConfig.getSslClientProtocol();
-            final TrustManager[] tm = new TrustManager[]{new MyX509TrustManager()};
-            sslContext = SSLContext.getInstance(protocol);
-            sslContext.init(null, tm, new SecureRandom());
-
-            return HttpClients.custom()
-                    .setConnectionManager(getHttpPoolManager(sslContext, eventMeshHttpClientConfig.getMaxConnectionPoolSize()))
-                    .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
-                    .evictIdleConnections(eventMeshHttpClientConfig.getConnectionIdleTimeSeconds(), TimeUnit.SECONDS)
-                    .setConnectionReuseStrategy(new DefaultConnectionReuseStrategy())
-                    .build();
-        } catch (Exception e) {
-            log.error("Error in creating HttpClient.", e);
-            throw new EventMeshException(e);
+        final RegistryBuilder<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory());
+        if (eventMeshHttpClientConfig.isUseTls()) {
+            try {
+                final String protocol = eventMeshHttpClientConfig.getSslClientProtocol();
+                final TrustManager[] tm = new TrustManager[]{new MyX509TrustManager()};
+                final SSLContext sslContext = SSLContext.getInstance(protocol);
+                sslContext.init(null, tm, new SecureRandom());
+                socketFactoryRegistry.register("https", new SSLConnectionSocketFactory(sslContext, new DefaultHostnameVerifier()));
+            } catch (Exception e) {
+                log.error("Error in creating HttpClient.", e);
+                throw new EventMeshException(e);
+            }
         }
-    }
 
-    private HttpClientConnectionManager getHttpPoolManager(final SSLContext sslContext, final int poolSize) {
-        final SSLConnectionSocketFactory sslFactory = new SSLConnectionSocketFactory(sslContext, new DefaultHostnameVerifier());
-        final Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
-                .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                .register("https", sslFactory)
+        return HttpClients.custom()
+                .setConnectionManager(getHttpPoolManager(socketFactoryRegistry.build()))
+                .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
+                .evictIdleConnections(eventMeshHttpClientConfig.getConnectionIdleTimeSeconds(), TimeUnit.SECONDS)
+                .setConnectionReuseStrategy(new DefaultConnectionReuseStrategy())
                 .build();
+    }
+
+    private PoolingHttpClientConnectionManager getHttpPoolManager(final Registry<ConnectionSocketFactory> socketFactoryRegistry) {
         final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-        connectionManager.setMaxTotal(poolSize);
+        connectionManager.setMaxTotal(eventMeshHttpClientConfig.getMaxConnectionPoolSize());
+        connectionManager.setDefaultMaxPerRoute(eventMeshHttpClientConfig.getMaxConnectionsPerRoute());
         return connectionManager;
     }
 
     protected String selectEventMesh() {
-        // todo: target endpoint maybe destroy, should remove the bad endpoint
         if (eventMeshHttpClientConfig.isUseTls()) {
             return Constants.HTTPS_PROTOCOL_PREFIX + eventMeshServerSelector.select();
         } else {
             return Constants.HTTP_PROTOCOL_PREFIX + eventMeshServerSelector.select();
         }
     }
+
+    /**
+     * Post to the target selected by {@link #selectEventMesh()} and report the outcome to the selector,
+     * so that failed servers get ejected and slow ones receive less traffic.
+     */
+    protected String post(final String target, final RequestParam requestParam) throws IOException {
+        final long startTime = System.currentTimeMillis();
+        final String response;
+        try {
+            response = HttpUtils.post(httpClient, target, requestParam);
+        } catch (IOException e) {
+            reportFailure(target);
+            throw e;
+        }
+        if (response == null) {
+            reportFailure(target);
+        } else {
+            eventMeshServerSelector.onSuccess(toEventMeshAddr(target), System.currentTimeMillis() - startTime);
+        }
+        return response;
+    }
+
+    protected void reportFailure(final String target) {
+        eventMeshServerSelector.onFailure(toEventMeshAddr(target));
+    }
+
+    private String toEventMeshAddr(final String target) {
+        return target.substring(eventMeshHttpClientConfig.isUseTls()
+                ? Constants.HTTPS_PROTOCOL_PREFIX.length() : Constants.HTTP_PROTOCOL_PREFIX.length());
+    }
 }
@@ -23,12 +23,18 @@ import org.apache.eventmesh.client.http.producer.EventMeshProtocolProducer;
 import org.apache.eventmesh.client.http.producer.RRCallback;
 import org.apache.eventmesh.client.http.producer.RRCallbackResponseHandlerAdapter;
 import org.apache.eventmesh.client.http.util.HttpUtils;
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.http.common.EventMeshRetCode;
 import org.apache.eventmesh.common.utils.JsonUtils;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AbstractProducerHttpClient
@@ -37,6 +43,10 @@ import java.util.Objects;
  */
 public abstract class AbstractProducerHttpClient<T> extends AbstractHttpClient implements EventMeshProtocolProducer<T> {
 
+    private static final int ASYNC_PUBLISH_SHUTDOWN_SECONDS = 3;
+
+    private volatile ThreadPoolExecutor asyncPublishExecutor;
+
     public AbstractProducerHttpClient(final EventMeshHttpClientConfig eventMeshHttpClientConfig)
             throws EventMeshException {
         super(eventMeshHttpClientConfig);
@@ -47,7 +57,7 @@ public abstract class AbstractProducerHttpClient<T> extends AbstractHttpClient i
         validateMessage(t);
         final String target = selectEventMesh();
         try {
-            final String response = HttpUtils.post(httpClient, target, builderPublishRequestParam(t));
+            final String response = post(target, builderPublishRequestParam(t));
             final EventMeshRetObj ret = JsonUtils.parseObject(response, EventMeshRetObj.class);
             if (Objects.requireNonNull(ret).getRetCode() != EventMeshRetCode.SUCCESS.getRetCode()) {
                 throw new EventMeshException(ret.getRetCode(), ret.getRetMsg());
@@ -57,12 +67,37 @@ public abstract class AbstractProducerHttpClient<T> extends AbstractHttpClient i
         }
     }
 
+    /**
+     * Hand the publish to a pool of {@code maxConnectionsPerRoute} threads. The caller does not wait, but the transport is
+     * still the blocking HttpClient: every publish in flight holds a pool thread and a connection until the response,
+     * so at most {@code maxConnectionsPerRoute} publishes are in flight, up to {@code asyncPublishQueueSize} wait for a
+     * thread and the rest fail fast.
+     */
+    @Override
+    public CompletableFuture<Void> publishAsync(final T t) {
+        validateMessage(t);
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            getAsyncPublishExecutor().execute(() -> {
+                try {
+                    publish(t);
+                    future.complete(null);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new EventMeshException("Publish message error, too many pending async publishes", e));
+        }
+        return future;
+    }
+
     @Override
     public T request(final T message, final long timeout) throws EventMeshException {
         validateMessage(message);
         final String target = selectEventMesh();
         try {
-            final String response = HttpUtils.post(httpClient, target, builderRequestParam(message, timeout));
+            final String response = post(target, builderRequestParam(message, timeout));
             final EventMeshRetObj ret = JsonUtils.parseObject(response, EventMeshRetObj.class);
             if (Objects.requireNonNull(ret).getRetCode() == EventMeshRetCode.SUCCESS.getRetCode()) {
                 return transformMessage(ret);
@@ -82,11 +117,47 @@ public abstract class AbstractProducerHttpClient<T> extends AbstractHttpClient i
         try {
             HttpUtils.post(httpClient, null, target, builderRequestParam(message, timeout), adapter);
         } catch (IOException e) {
+            reportFailure(target);
             throw new EventMeshException(String.format("Request message error, target:%s", target), e);
         }
 
     }
 
+    @Override
+    public void close() throws EventMeshException {
+        final ThreadPoolExecutor executor = asyncPublishExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(ASYNC_PUBLISH_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+    private ThreadPoolExecutor getAsyncPublishExecutor() {
+        ThreadPoolExecutor executor = asyncPublishExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncPublishExecutor;
+                if (executor == null) {
+                    final int threads = eventMeshHttpClientConfig.getMaxConnectionsPerRoute();
+                    executor = ThreadPoolFactory.createThreadPoolExecutor(threads, threads,
+                            new ArrayBlockingQueue<>(eventMeshHttpClientConfig.getAsyncPublishQueueSize()),
+                            "EventMesh-HttpAsyncPublish", true);
+                    executor.allowCoreThreadTimeOut(true);
+                    asyncPublishExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public abstract RequestParam builderPublishRequestParam(T t);
 
     public abstract RequestParam builderRequestParam(T t, long timeout);
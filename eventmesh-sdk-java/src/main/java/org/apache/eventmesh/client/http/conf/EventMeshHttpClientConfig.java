@@ -86,4 +86,32 @@ public class EventMeshHttpClientConfig {
     @Builder.Default
     private transient int connectionIdleTimeSeconds = 10;
 
+    /**
+     * Max pooled connections to one eventMesh server, also the number of threads running async publishes, each one
+     * blocked until its response.
+     */
+    @Builder.Default
+    private transient int maxConnectionsPerRoute = 10;
+
+    /**
+     * Async publishes waiting for a thread, further publishes fail fast.
+     */
+    @Builder.Default
+    private transient int asyncPublishQueueSize = 1024;
+
+    /**
+     * Consecutive failed calls before an eventMesh server is ejected from selection.
+     */
+    @Builder.Default
+    private transient int outlierFailureThreshold = 3;
+
+    /**
+     * First ejection time of a failed eventMesh server, doubled on each following ejection.
+     */
+    @Builder.Default
+    private transient long outlierEjectionMillis = 5_000;
+
+    @Builder.Default
+    private transient long maxOutlierEjectionMillis = 60_000;
+
 }
@@ -21,7 +21,6 @@ import org.apache.eventmesh.client.http.AbstractHttpClient;
 import org.apache.eventmesh.client.http.EventMeshRetObj;
 import org.apache.eventmesh.client.http.conf.EventMeshHttpClientConfig;
 import org.apache.eventmesh.client.http.model.RequestParam;
-import org.apache.eventmesh.client.http.util.HttpUtils;
 import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.EventMeshThreadFactory;
@@ -96,7 +95,7 @@ public class EventMeshHttpConsumer extends AbstractHttpClient implements AutoClo
 
         final String target = selectEventMesh();
         try {
-            final String subRes = HttpUtils.post(httpClient, target, subscribeParam);
+            final String subRes = post(target, subscribeParam);
             final EventMeshRetObj ret = JsonUtils.parseObject(subRes, EventMeshRetObj.class);
             if (ret.getRetCode() != EventMeshRetCode.SUCCESS.getRetCode()) {
                 throw new EventMeshException(ret.getRetCode(), ret.getRetMsg());
@@ -127,7 +126,7 @@ public class EventMeshHttpConsumer extends AbstractHttpClient implements AutoClo
                         .addBody(HeartbeatRequestBody.CLIENTTYPE, ClientType.SUB.name())
                         .addBody(HeartbeatRequestBody.HEARTBEATENTITIES, JsonUtils.toJSONString(heartbeatEntities));
                 final String target = selectEventMesh();
-                final String res = HttpUtils.post(httpClient, target, requestParam);
+                final String res = post(target, requestParam);
                 final EventMeshRetObj ret = JsonUtils.parseObject(res, EventMeshRetObj.class);
                 if (EventMeshRetCode.SUCCESS.getRetCode() != ret.getRetCode()) {
                     throw new EventMeshException(ret.getRetCode(), ret.getRetMsg());
@@ -154,7 +153,7 @@ public class EventMeshHttpConsumer extends AbstractHttpClient implements AutoClo
 
         final String target = selectEventMesh();
         try {
-            final String unSubRes = HttpUtils.post(httpClient, target, unSubscribeParam);
+            final String unSubRes = post(target, unSubscribeParam);
             final EventMeshRetObj ret = JsonUtils.parseObject(unSubRes, EventMeshRetObj.class);
 
             if (EventMeshRetCode.SUCCESS.getRetCode() != ret.getRetCode()) {
@@ -21,6 +21,8 @@ import org.apache.eventmesh.client.http.conf.EventMeshHttpClientConfig;
 import org.apache.eventmesh.common.EventMeshMessage;
 import org.apache.eventmesh.common.exception.EventMeshException;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.cloudevents.CloudEvent;
 import io.openmessaging.api.Message;
 
@@ -51,6 +53,18 @@ public class EventMeshHttpProducer implements AutoCloseable {
         openMessageProducer.publish(openMessage);
     }
 
+    public CompletableFuture<Void> publishAsync(final EventMeshMessage message) {
+        return eventMeshMessageProducer.publishAsync(message);
+    }
+
+    public CompletableFuture<Void> publishAsync(final CloudEvent cloudEvent) {
+        return cloudEventProducer.publishAsync(cloudEvent);
+    }
+
+    public CompletableFuture<Void> publishAsync(final Message openMessage) {
+        return openMessageProducer.publishAsync(openMessage);
+    }
+
     public EventMeshMessage request(final EventMeshMessage message, final long timeout) throws EventMeshException {
         return eventMeshMessageProducer.request(message, timeout);
     }
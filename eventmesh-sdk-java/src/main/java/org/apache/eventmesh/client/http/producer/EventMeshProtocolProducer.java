@@ -19,6 +19,8 @@ package org.apache.eventmesh.client.http.producer;
 
 import org.apache.eventmesh.common.exception.EventMeshException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * EventMeshProducer, SDK should implement this interface.
  * <ul>
@@ -31,6 +33,14 @@ public interface EventMeshProtocolProducer<ProtocolMessage> extends AutoCloseabl
 
     void publish(ProtocolMessage eventMeshMessage) throws EventMeshException;
 
+    /**
+     * Publish without making the caller wait. The http producers run the blocking publish on a bounded thread pool,
+     * see {@code AbstractProducerHttpClient#publishAsync}.
+     *
+     * @return completed once the eventMesh server accepted the message, or exceptionally with the publish error
+     */
+    CompletableFuture<Void> publishAsync(ProtocolMessage eventMeshMessage);
+
     ProtocolMessage request(ProtocolMessage message, long timeout) throws EventMeshException;
 
     void request(ProtocolMessage message, RRCallback<ProtocolMessage> rrCallback, long timeout)
@@ -21,6 +21,7 @@ import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.cloudevents.EventMeshBinaryFormat;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Header;
@@ -29,8 +30,11 @@ import org.apache.eventmesh.common.protocol.tcp.Subscription;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
@@ -38,12 +42,22 @@ import org.assertj.core.util.Preconditions;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
 import io.openmessaging.api.Message;
 
 public class MessageUtils {
     private static final int SEQ_LENGTH = 10;
 
+    private static final EventMeshBinaryFormat BINARY_FORMAT = new EventMeshBinaryFormat();
+
+    /**
+     * Client properties the runtime puts in the frame header of a broadcast, its body is shared by every receiver.
+     */
+    private static final String[] BROADCAST_HEADER_PROPERTIES = {"rsp0sys", "rsp0idc", "rsp0ip"};
+
     public static Package hello(UserAgent user) {
         final Package msg = new Package();
         msg.setHeader(new Header(Command.HELLO_REQUEST, 0, null, generateRandomString()));
@@ -91,6 +105,14 @@ public class MessageUtils {
     }
 
     public static Package buildPackage(Object message, Command command) {
+        return buildPackage(message, command, null);
+    }
+
+    /**
+     * Build a message package, CloudEvents are serialized with the given event format, or by their data content type when
+     * it is not set.
+     */
+    public static Package buildPackage(Object message, Command command, String contentType) {
         final Package msg = new Package();
         msg.setHeader(new Header(command, 0, null, generateRandomString()));
         if (message instanceof CloudEvent) {
@@ -100,9 +122,14 @@ public class MessageUtils {
             msg.getHeader().putProperty(Constants.PROTOCOL_VERSION, cloudEvent.getSpecVersion().toString());
             msg.getHeader().putProperty(Constants.PROTOCOL_DESC, "tcp");
 
-            final byte[] bodyByte = EventFormatProvider.getInstance().resolveFormat(cloudEvent.getDataContentType())
-                    .serialize((CloudEvent) message);
-            msg.setBody(bodyByte);
+            if (Constants.CONTENT_TYPE_CLOUDEVENTS_BINARY.equals(contentType)) {
+                msg.getHeader().putProperty(Constants.CONTENT_TYPE, contentType);
+                msg.setBody(BINARY_FORMAT.serialize(cloudEvent));
+            } else {
+                final byte[] bodyByte = EventFormatProvider.getInstance().resolveFormat(cloudEvent.getDataContentType())
+                        .serialize((CloudEvent) message);
+                msg.setBody(bodyByte);
+            }
         } else if (message instanceof EventMeshMessage) {
             msg.getHeader().putProperty(Constants.PROTOCOL_TYPE, EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME);
             msg.getHeader().putProperty(Constants.PROTOCOL_VERSION, SpecVersion.V1.toString());
@@ -120,6 +147,45 @@ public class MessageUtils {
         return msg;
     }
 
+    /**
+     * Decode the CloudEvent of a received package, binary bodies are kept as bytes by the codec.
+     */
+    public static CloudEvent buildCloudEvent(Package tcpPackage) {
+        final CloudEvent cloudEvent;
+        if (tcpPackage.getBody() instanceof byte[]) {
+            cloudEvent = BINARY_FORMAT.deserialize((byte[]) tcpPackage.getBody());
+        } else {
+            final EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+            Preconditions.checkNotNull(eventFormat,
+                    String.format("Cannot find the cloudevent format: %s", JsonFormat.CONTENT_TYPE));
+            cloudEvent = eventFormat.deserialize(tcpPackage.getBody().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        final Map<String, String> headerProperties = broadcastHeaderProperties(tcpPackage);
+        if (headerProperties.isEmpty()) {
+            return cloudEvent;
+        }
+        final CloudEventBuilder builder = CloudEventBuilder.from(cloudEvent);
+        headerProperties.forEach(builder::withExtension);
+        return builder.build();
+    }
+
+    /**
+     * @return the client properties found in the frame header, to be added to the received message
+     */
+    public static Map<String, String> broadcastHeaderProperties(Package tcpPackage) {
+        final Map<String, String> properties = new HashMap<>();
+        if (tcpPackage.getHeader() == null) {
+            return properties;
+        }
+        for (String name : BROADCAST_HEADER_PROPERTIES) {
+            final String value = tcpPackage.getHeader().getStringProperty(name);
+            if (value != null) {
+                properties.put(name, value);
+            }
+        }
+        return properties;
+    }
+
     public static Package broadcastMessageAck(Package in) {
         final Package msg = new Package();
         msg.setHeader(new Header(Command.BROADCAST_MESSAGE_TO_CLIENT_ACK, 0, null, in.getHeader().getSeq()));
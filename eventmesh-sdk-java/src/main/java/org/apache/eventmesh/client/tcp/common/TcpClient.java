@@ -24,8 +24,10 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
 
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.Closeable;
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +37,9 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
@@ -50,6 +55,9 @@ import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
 
 import com.google.common.base.Preconditions;
 
@@ -65,6 +73,11 @@ public abstract class TcpClient implements Closeable {
     protected final transient String host;
     protected final transient int port;
     protected final transient UserAgent userAgent;
+    protected final transient String contentType;
+
+    private final transient boolean useTls;
+    private final transient String sslClientProtocol;
+    private final transient String sslTrustCertFile;
 
     private final transient Bootstrap bootstrap = new Bootstrap();
 
@@ -84,6 +97,10 @@ public abstract class TcpClient implements Closeable {
         this.host = eventMeshTcpClientConfig.getHost();
         this.port = eventMeshTcpClientConfig.getPort();
         this.userAgent = eventMeshTcpClientConfig.getUserAgent();
+        this.contentType = eventMeshTcpClientConfig.getContentType();
+        this.useTls = eventMeshTcpClientConfig.isUseTls();
+        this.sslClientProtocol = eventMeshTcpClientConfig.getSslClientProtocol();
+        this.sslTrustCertFile = eventMeshTcpClientConfig.getSslTrustCertFile();
     }
 
     protected synchronized void open(SimpleChannelInboundHandler<Package> handler) throws Exception {
@@ -95,9 +112,13 @@ public abstract class TcpClient implements Closeable {
             .option(ChannelOption.SO_RCVBUF, 64 * 1024)
             .option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(1024, 8192, 65536))
             .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+        final SslContext sslContext = useTls ? newSslContext() : null;
         bootstrap.handler(new ChannelInitializer<SocketChannel>() {
             @Override
             public void initChannel(SocketChannel ch) {
+                if (sslContext != null) {
+                    ch.pipeline().addLast("ssl", newSslHandler(sslContext, ch));
+                }
                 ch.pipeline().addLast(new Codec.Encoder(), new Codec.Decoder())
                     .addLast(handler, newExceptionHandler());
             }
@@ -204,6 +225,28 @@ public abstract class TcpClient implements Closeable {
         this.io(msg, EventMeshCommon.DEFAULT_TIME_OUT_MILLS);
     }
 
+    private SslContext newSslContext() throws SSLException {
+        final SslContextBuilder builder = SslContextBuilder.forClient();
+        if (StringUtils.isNotBlank(sslTrustCertFile)) {
+            builder.trustManager(new File(sslTrustCertFile));
+        }
+        if (StringUtils.isNotBlank(sslClientProtocol)) {
+            builder.protocols(StringUtils.stripAll(StringUtils.split(sslClientProtocol, ',')));
+        }
+        return builder.build();
+    }
+
+    /**
+     * The server certificate has to match the host the client connects to.
+     */
+    private SslHandler newSslHandler(final SslContext sslContext, final SocketChannel ch) {
+        final SslHandler sslHandler = sslContext.newHandler(ch.alloc(), host, port);
+        final SSLParameters sslParameters = sslHandler.engine().getSSLParameters();
+        sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+        sslHandler.engine().setSSLParameters(sslParameters);
+        return sslHandler;
+    }
+
     private ChannelDuplexHandler newExceptionHandler() {
         return new ChannelDuplexHandler() {
             @Override
@@ -28,4 +28,26 @@ public class EventMeshTCPClientConfig {
     private String host;
     private int port;
     private UserAgent userAgent;
+
+    /**
+     * Event format of published CloudEvents, the JSON format when not set,
+     * {@link org.apache.eventmesh.common.Constants#CONTENT_TYPE_CLOUDEVENTS_BINARY} for the compact binary format.
+     */
+    private String contentType;
+
+    /**
+     * Connect over TLS, the runtime has to run with eventMesh.server.tcp.useTls.enabled.
+     */
+    private boolean useTls;
+
+    /**
+     * TLS versions to offer, separated by commas, e.g. TLSv1.3,TLSv1.2.
+     */
+    @Builder.Default
+    private String sslClientProtocol = "TLSv1.2";
+
+    /**
+     * PEM file of the certificates trusted to sign the server certificate, the JDK trust store when not set.
+     */
+    private String sslTrustCertFile;
 }
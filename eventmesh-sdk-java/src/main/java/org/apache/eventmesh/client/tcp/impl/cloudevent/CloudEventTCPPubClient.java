@@ -30,17 +30,11 @@ import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.format.EventFormat;
-import io.cloudevents.core.provider.EventFormatProvider;
-import io.cloudevents.jackson.JsonFormat;
 import io.netty.channel.ChannelHandlerContext;
 
-import com.google.common.base.Preconditions;
-
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -81,7 +75,7 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
     @Override
     public Package rr(CloudEvent event, long timeout) throws EventMeshException {
         try {
-            Package msg = MessageUtils.buildPackage(event, Command.REQUEST_TO_SERVER);
+            Package msg = MessageUtils.buildPackage(event, Command.REQUEST_TO_SERVER, contentType);
             log.info("{}|rr|send|type={}|msg={}", CLIENTNO, msg, msg);
             return io(msg, timeout);
         } catch (Exception ex) {
@@ -92,7 +86,7 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
     @Override
     public void asyncRR(CloudEvent event, AsyncRRCallback callback, long timeout) throws EventMeshException {
         try {
-            Package msg = MessageUtils.buildPackage(event, Command.REQUEST_TO_SERVER);
+            Package msg = MessageUtils.buildPackage(event, Command.REQUEST_TO_SERVER, contentType);
             super.send(msg);
             this.callbackConcurrentHashMap.put((String) RequestContext.key(msg), callback);
         } catch (Exception ex) {
@@ -103,7 +97,7 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
     @Override
     public Package publish(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         try {
-            Package msg = MessageUtils.buildPackage(cloudEvent, Command.ASYNC_MESSAGE_TO_SERVER);
+            Package msg = MessageUtils.buildPackage(cloudEvent, Command.ASYNC_MESSAGE_TO_SERVER, contentType);
             log.info("SimplePubClientImpl cloud event|{}|publish|send|type={}|protocol={}|msg={}",
                     CLIENTNO, msg.getHeader().getCmd(), msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), msg);
             return io(msg, timeout);
@@ -115,7 +109,7 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
     @Override
     public void broadcast(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         try {
-            Package msg = MessageUtils.buildPackage(cloudEvent, Command.BROADCAST_MESSAGE_TO_SERVER);
+            Package msg = MessageUtils.buildPackage(cloudEvent, Command.BROADCAST_MESSAGE_TO_SERVER, contentType);
             log.info("{}|publish|send|type={}|protocol={}|msg={}", CLIENTNO, msg.getHeader().getCmd(),
                     msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), msg);
             super.send(msg);
@@ -148,16 +142,14 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
         public void callback(CloudEvent cloudEvent, ChannelHandlerContext ctx) {
             if (callback != null) {
                 callback.handle(cloudEvent)
-                        .ifPresent(responseMessage -> ctx.writeAndFlush(MessageUtils.buildPackage(responseMessage, Command.RESPONSE_TO_SERVER)));
+                        .ifPresent(responseMessage ->
+                            ctx.writeAndFlush(MessageUtils.buildPackage(responseMessage, Command.RESPONSE_TO_SERVER, contentType)));
             }
         }
 
         @Override
         public CloudEvent getMessage(Package tcpPackage) {
-            EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
-            Preconditions.checkNotNull(eventFormat,
-                    String.format("Cannot find the cloudevent format: %s", JsonFormat.CONTENT_TYPE));
-            return eventFormat.deserialize(tcpPackage.getBody().toString().getBytes(StandardCharsets.UTF_8));
+            return MessageUtils.buildCloudEvent(tcpPackage);
         }
 
         @Override
@@ -34,20 +34,14 @@ import org.apache.eventmesh.common.protocol.tcp.Package;
 
 import org.apache.commons.collections4.CollectionUtils;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.format.EventFormat;
-import io.cloudevents.core.provider.EventFormatProvider;
-import io.cloudevents.jackson.JsonFormat;
 import io.netty.channel.ChannelHandlerContext;
 
-import com.google.common.base.Preconditions;
-
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -150,17 +144,14 @@ class CloudEventTCPSubClient extends TcpClient implements EventMeshTCPSubClient<
 
         @Override
         public CloudEvent getProtocolMessage(Package tcpPackage) {
-            EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
-            Preconditions.checkNotNull(eventFormat,
-                    String.format("Cannot find the cloudevent format: %s", JsonFormat.CONTENT_TYPE));
-            return eventFormat.deserialize(tcpPackage.getBody().toString().getBytes(StandardCharsets.UTF_8));
+            return MessageUtils.buildCloudEvent(tcpPackage);
         }
 
         @Override
         public void callback(CloudEvent cloudEvent, ChannelHandlerContext ctx) {
             if (callback != null) {
                 callback.handle(cloudEvent).ifPresent(
-                        responseMessage -> ctx.writeAndFlush(MessageUtils.buildPackage(responseMessage, Command.RESPONSE_TO_SERVER))
+                        responseMessage -> ctx.writeAndFlush(MessageUtils.buildPackage(responseMessage, Command.RESPONSE_TO_SERVER, contentType))
                 );
             }
         }
@@ -39,6 +39,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.netty.channel.ChannelHandlerContext;
@@ -139,7 +140,15 @@ class EventMeshMessageTCPSubClient extends TcpClient implements EventMeshTCPSubC
 
         @Override
         public EventMeshMessage getProtocolMessage(Package tcpPackage) {
-            return JsonUtils.parseObject(tcpPackage.getBody().toString(), EventMeshMessage.class);
+            EventMeshMessage eventMeshMessage = JsonUtils.parseObject(tcpPackage.getBody().toString(), EventMeshMessage.class);
+            Map<String, String> headerProperties = MessageUtils.broadcastHeaderProperties(tcpPackage);
+            if (eventMeshMessage != null && !headerProperties.isEmpty()) {
+                if (eventMeshMessage.getProperties() == null) {
+                    eventMeshMessage.setProperties(new ConcurrentHashMap<>());
+                }
+                eventMeshMessage.getProperties().putAll(headerProperties);
+            }
+            return eventMeshMessage;
         }
 
         @Override
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.consumer;
+
+import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
+import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.ConsumerServiceGrpc;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+public class SubStreamHandlerTest {
+
+    private final List<SimpleMessage> toPush = new ArrayList<>();
+
+    private final AtomicInteger replies = new AtomicInteger();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private SubStreamHandler<EventMeshMessage> handler;
+
+    @Before
+    public void setUp() throws Exception {
+        final String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(new ConsumerServiceGrpc.ConsumerServiceImplBase() {
+                @Override
+                public StreamObserver<Subscription> subscribeStream(final StreamObserver<SimpleMessage> responseObserver) {
+                    return new StreamObserver<Subscription>() {
+                        @Override
+                        public void onNext(final Subscription subscription) {
+                            if (subscription.hasReply()) {
+                                replies.incrementAndGet();
+                                return;
+                            }
+                            toPush.forEach(responseObserver::onNext);
+                        }
+
+                        @Override
+                        public void onError(final Throwable t) {
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            responseObserver.onCompleted();
+                        }
+                    };
+                }
+            }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @After
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedPerKeyAndReplied() throws Exception {
+        final int count = 200;
+        for (int i = 0; i < count; i++) {
+            toPush.add(buildMessage(i, "key-" + (i % 4)));
+        }
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch done = new CountDownLatch(count);
+        handler = start(4, 16, msg -> {
+            received.computeIfAbsent(msg.getProp(Constants.PROPERTY_MESSAGE_PARTITION_KEY),
+                k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.valueOf(msg.getBizSeqNo()));
+            done.countDown();
+            return Optional.of(msg);
+        });
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(4, received.size());
+        received.values().forEach(seqs -> {
+            List<Integer> sorted = new ArrayList<>(seqs);
+            Collections.sort(sorted);
+            Assert.assertEquals(sorted, seqs);
+        });
+        waitFor(() -> replies.get() == count);
+        Assert.assertEquals(count, replies.get());
+    }
+
+    @Test
+    public void testKeysHandledInParallel() throws Exception {
+        final ConsumerDispatcher lanes = new ConsumerDispatcher(4, "test");
+        final List<String> keys = new ArrayList<>();
+        for (int i = 0; keys.size() < 4; i++) {
+            final String key = "key-" + i;
+            if (keys.stream().noneMatch(k -> lanes.laneOf(k) == lanes.laneOf(key))) {
+                keys.add(key);
+            }
+        }
+        lanes.shutdown(1, TimeUnit.SECONDS);
+        for (int i = 0; i < keys.size(); i++) {
+            toPush.add(buildMessage(i, keys.get(i)));
+        }
+        final CountDownLatch allRunning = new CountDownLatch(keys.size());
+        final CountDownLatch release = new CountDownLatch(1);
+        handler = start(4, 16, msg -> {
+            allRunning.countDown();
+            await(release);
+            return Optional.empty();
+        });
+
+        Assert.assertTrue(allRunning.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void testInFlightBounded() throws Exception {
+        final int count = 20;
+        for (int i = 0; i < count; i++) {
+            toPush.add(buildMessage(i, "key-" + i));
+        }
+        final AtomicInteger started = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(count);
+        handler = start(8, 2, msg -> {
+            started.incrementAndGet();
+            await(release);
+            done.countDown();
+            return Optional.empty();
+        });
+
+        waitFor(() -> started.get() > 0);
+        Thread.sleep(200);
+        Assert.assertTrue(started.get() <= 2);
+
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    private SubStreamHandler<EventMeshMessage> start(final int threads, final int maxInFlight,
+                                                     final Function<EventMeshMessage, Optional<EventMeshMessage>> fn) {
+        final EventMeshGrpcClientConfig config = EventMeshGrpcClientConfig.builder()
+            .consumeThreads(threads)
+            .maxInFlightMessages(maxInFlight)
+            .replyBatchSize(8)
+            .build();
+        final SubStreamHandler<EventMeshMessage> subStreamHandler = new SubStreamHandler<>(ConsumerServiceGrpc.newStub(channel),
+            config, new ReceiveMsgHook<EventMeshMessage>() {
+                @Override
+                public Optional<EventMeshMessage> handle(final EventMeshMessage msg) {
+                    return fn.apply(msg);
+                }
+
+                @Override
+                public String getProtocolType() {
+                    return EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME;
+                }
+            });
+        subStreamHandler.start();
+        subStreamHandler.sendSubscription(Subscription.newBuilder().setConsumerGroup("group").build());
+        return subStreamHandler;
+    }
+
+    private static SimpleMessage buildMessage(final int seq, final String key) {
+        return SimpleMessage.newBuilder()
+            .setTopic("topic")
+            .setSeqNum(String.valueOf(seq))
+            .setUniqueId("id-" + seq)
+            .setContent("content")
+            .putProperties(Constants.PROPERTY_MESSAGE_PARTITION_KEY, key)
+            .build();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
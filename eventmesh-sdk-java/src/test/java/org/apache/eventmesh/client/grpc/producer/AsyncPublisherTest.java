@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
+import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
+import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+public class AsyncPublisherTest {
+
+    private static final Response OK = Response.newBuilder().setRespCode("0").build();
+
+    private final AtomicInteger batches = new AtomicInteger();
+
+    private final AtomicInteger items = new AtomicInteger();
+
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private AsyncPublisher publisher;
+
+    @Before
+    public void setUp() throws Exception {
+        final String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(new PublisherServiceGrpc.PublisherServiceImplBase() {
+                @Override
+                public void batchPublish(final BatchMessage request, final StreamObserver<Response> responseObserver) {
+                    if (failuresToInject.getAndDecrement() > 0) {
+                        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                        return;
+                    }
+                    batches.incrementAndGet();
+                    items.addAndGet(request.getMessageItemCount());
+                    responseObserver.onNext(OK);
+                    responseObserver.onCompleted();
+                }
+            }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @After
+    public void tearDown() {
+        if (publisher != null) {
+            publisher.close();
+        }
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testBatchBySize() throws Exception {
+        publisher = newPublisher(50, 10_000);
+        final List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(i)));
+        }
+
+        for (CompletableFuture<Response> future : futures) {
+            Assert.assertEquals(OK, future.get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(10, batches.get());
+        Assert.assertEquals(500, items.get());
+    }
+
+    @Test
+    public void testBatchByLinger() throws Exception {
+        publisher = newPublisher(1000, 20);
+        final CompletableFuture<Response> first = publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(1));
+        final CompletableFuture<Response> second = publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(2));
+
+        Assert.assertEquals(OK, first.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(OK, second.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, batches.get());
+        Assert.assertEquals(2, items.get());
+    }
+
+    @Test
+    public void testRetryTransientFailure() throws Exception {
+        publisher = newPublisher(1, 0);
+        failuresToInject.set(2);
+
+        Assert.assertEquals(OK, publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(1))
+            .get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, batches.get());
+    }
+
+    @Test
+    public void testRetryBackoff() throws Exception {
+        publisher = new AsyncPublisher(EventMeshGrpcClientConfig.builder()
+            .asyncBatchSize(1)
+            .publishRetryTimes(2)
+            .publishRetryBackoffMillis(100)
+            .build(), Collections.singletonList(PublisherServiceGrpc.newStub(channel)));
+        failuresToInject.set(2);
+
+        final long start = System.nanoTime();
+        Assert.assertEquals(OK, publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(1))
+            .get(5, TimeUnit.SECONDS));
+        // 100ms before the first retry and 200ms before the second
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 300);
+        Assert.assertEquals(1, batches.get());
+    }
+
+    @Test
+    public void testFailAfterRetries() throws Exception {
+        publisher = newPublisher(1, 0);
+        failuresToInject.set(10);
+
+        try {
+            publisher.publish("topic", EventMeshCommon.EM_MESSAGE_PROTOCOL_NAME, message(1)).get(5, TimeUnit.SECONDS);
+            Assert.fail("publish should fail");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(Status.Code.UNAVAILABLE, Status.fromThrowable(e.getCause()).getCode());
+        }
+        Assert.assertEquals(0, batches.get());
+    }
+
+    private AsyncPublisher newPublisher(final int batchSize, final long lingerMillis) {
+        final EventMeshGrpcClientConfig config = EventMeshGrpcClientConfig.builder()
+            .asyncBatchSize(batchSize)
+            .asyncLingerMillis(lingerMillis)
+            .maxOutstandingBatches(4)
+            .publishRetryTimes(2)
+            .build();
+        return new AsyncPublisher(config, Collections.singletonList(PublisherServiceGrpc.newStub(channel)));
+    }
+
+    private static EventMeshMessage message(final int seq) {
+        return EventMeshMessage.builder()
+            .topic("topic")
+            .content("content-" + seq)
+            .bizSeqNo(String.valueOf(seq))
+            .uniqueId("id-" + seq)
+            .build();
+    }
+}
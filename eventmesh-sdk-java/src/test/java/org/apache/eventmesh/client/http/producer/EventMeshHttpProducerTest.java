@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.http.producer;
+
+import org.apache.eventmesh.client.http.conf.EventMeshHttpClientConfig;
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.exception.EventMeshException;
+import org.apache.eventmesh.common.loadbalance.LoadBalanceType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class EventMeshHttpProducerTest {
+
+    private static final byte[] SUCCESS = "{\"retCode\":0,\"retMsg\":\"success\",\"resTime\":0}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger received = new AtomicInteger();
+
+    private HttpServer server;
+
+    private int deadPort;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            received.incrementAndGet();
+            exchange.sendResponseHeaders(200, SUCCESS.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(SUCCESS);
+            }
+        });
+        server.start();
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            deadPort = serverSocket.getLocalPort();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testEjectFailedEventMesh() throws Exception {
+        int failures = 0;
+        try (EventMeshHttpProducer producer = new EventMeshHttpProducer(buildConfig())) {
+            for (int i = 0; i < 20; i++) {
+                try {
+                    producer.publish(buildMessage());
+                } catch (EventMeshException e) {
+                    failures++;
+                }
+            }
+        }
+        Assert.assertTrue(failures <= 1);
+        Assert.assertEquals(20 - failures, received.get());
+    }
+
+    @Test
+    public void testPublishAsync() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try (EventMeshHttpProducer producer = new EventMeshHttpProducer(buildConfig())) {
+            for (int i = 0; i < 50; i++) {
+                futures.add(producer.publishAsync(buildMessage()));
+            }
+            int failures = 0;
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    failures++;
+                }
+            }
+            Assert.assertTrue(failures <= 4);
+            Assert.assertEquals(50 - failures, received.get());
+        }
+    }
+
+    private EventMeshHttpClientConfig buildConfig() {
+        return EventMeshHttpClientConfig.builder()
+            .liteEventMeshAddr("127.0.0.1:" + server.getAddress().getPort() + ";127.0.0.1:" + deadPort)
+            .loadBalanceType(LoadBalanceType.RANDOM)
+            .maxConnectionsPerRoute(4)
+            .outlierFailureThreshold(1)
+            .outlierEjectionMillis(60_000)
+            .build();
+    }
+
+    private EventMeshMessage buildMessage() {
+        return EventMeshMessage.builder()
+            .bizSeqNo("bizSeqNo")
+            .uniqueId("uniqueId")
+            .topic("TEST-TOPIC-HTTP-ASYNC")
+            .content("testPublishMessage")
+            .build()
+            .addProp(Constants.EVENTMESH_MESSAGE_CONST_TTL, String.valueOf(4 * 1000));
+    }
+}
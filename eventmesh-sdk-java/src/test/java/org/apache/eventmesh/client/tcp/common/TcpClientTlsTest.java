@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.tcp.common;
+
+import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+
+public class TcpClientTlsTest {
+
+    private SelfSignedCertificate certificate;
+
+    private EventLoopGroup group;
+
+    private Channel server;
+
+    private int port;
+
+    @Before
+    public void setUp() throws Exception {
+        certificate = new SelfSignedCertificate("localhost");
+        SslContext sslContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+            .protocols("TLSv1.2")
+            .build();
+        group = new NioEventLoopGroup(1);
+        server = new ServerBootstrap()
+            .group(group)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(sslContext.newHandler(ch.alloc()), new Codec.Encoder(), new Codec.Decoder(),
+                        new HelloHandler());
+                }
+            })
+            .bind(0).sync().channel();
+        port = ((InetSocketAddress) server.localAddress()).getPort();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close().sync();
+        group.shutdownGracefully().sync();
+        certificate.delete();
+    }
+
+    @Test
+    public void testRoundTripOverTls() throws Exception {
+        TestClient client = new TestClient(config().sslTrustCertFile(certificate.certificate().getPath()).build());
+        try {
+            client.connect();
+            Package response = client.io(MessageUtils.hello(new UserAgent()), 5_000);
+            Assert.assertEquals(Command.HELLO_RESPONSE, response.getHeader().getCmd());
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testUntrustedServerRejected() throws Exception {
+        // the self signed certificate is not in the JDK trust store, the handshake fails and nothing is answered
+        TestClient client = new TestClient(config().build());
+        try {
+            client.connect();
+            client.io(MessageUtils.hello(new UserAgent()), 1_000);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    private EventMeshTCPClientConfig.EventMeshTCPClientConfigBuilder config() {
+        return EventMeshTCPClientConfig.builder()
+            .host("localhost")
+            .port(port)
+            .useTls(true);
+    }
+
+    private static class HelloHandler extends SimpleChannelInboundHandler<Package> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Package msg) {
+            if (msg.getHeader().getCmd() == Command.HELLO_REQUEST) {
+                Package response = new Package();
+                response.setHeader(new Header(Command.HELLO_RESPONSE, 0, null, msg.getHeader().getSeq()));
+                ctx.writeAndFlush(response);
+            }
+        }
+    }
+
+    private static class TestClient extends TcpClient {
+
+        TestClient(EventMeshTCPClientConfig config) {
+            super(config);
+        }
+
+        void connect() throws Exception {
+            open(new SimpleChannelInboundHandler<Package>() {
+                @Override
+                protected void channelRead0(ChannelHandlerContext ctx, Package msg) {
+                    RequestContext context = contexts.remove(RequestContext.key(msg));
+                    if (context != null) {
+                        context.finish(msg);
+                    }
+                }
+            });
+        }
+
+        void disconnect() {
+            close();
+            // close() sends a goodbye after the channel is gone and flags the thread on that failure
+            Thread.interrupted();
+        }
+    }
+}
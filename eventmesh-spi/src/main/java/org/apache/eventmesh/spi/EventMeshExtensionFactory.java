@@ -28,7 +28,6 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 
@@ -126,8 +125,7 @@ public class EventMeshExtensionFactory {
     @SuppressWarnings("unchecked")
     private static <T> Class<T> getExtensionInstanceClass(Class<T> extensionType, String extensionInstanceName) {
         for (ExtensionClassLoader extensionClassLoader : EXTENSION_CLASS_LOADERS) {
-            Map<String, Class<?>> extensionInstanceClassMap = extensionClassLoader.loadExtensionClass(extensionType, extensionInstanceName);
-            Class<?> instanceClass = extensionInstanceClassMap.get(extensionInstanceName);
+            Class<?> instanceClass = extensionClassLoader.getExtensionClass(extensionType, extensionInstanceName);
             if (instanceClass != null) {
                 return (Class<T>) instanceClass;
             }
@@ -23,4 +23,10 @@ public class EventMeshExtensionConstant {
      */
     public static final String EVENTMESH_EXTENSION_META_DIR = "META-INF/eventmesh/";
 
+    /**
+     * index of the extensions declared under {@link #EVENTMESH_EXTENSION_META_DIR}, generated at build time,
+     * each line is {@code <extension type>/<extension name>=<extension class>}
+     */
+    public static final String EVENTMESH_EXTENSION_INDEX = "META-INF/eventmesh-extension.index";
+
 }
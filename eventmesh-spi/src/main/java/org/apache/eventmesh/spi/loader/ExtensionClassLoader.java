@@ -37,4 +37,16 @@ public interface ExtensionClassLoader {
      * @return extension instance name to extension instance class
      */
     <T> Map<String, Class<?>> loadExtensionClass(Class<T> extensionType, String extensionInstanceName);
+
+    /**
+     * get a single extension class, loaders that can resolve one extension without loading all of its type override this
+     *
+     * @param extensionType         extension type class
+     * @param extensionInstanceName extension instance name
+     * @param <T>                   extension type
+     * @return extension instance class, or null if not found
+     */
+    default <T> Class<?> getExtensionClass(Class<T> extensionType, String extensionInstanceName) {
+        return loadExtensionClass(extensionType, extensionInstanceName).get(extensionInstanceName);
+    }
 }
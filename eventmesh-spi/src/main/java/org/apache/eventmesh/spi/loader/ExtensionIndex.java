@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.spi.loader;
+
+import org.apache.eventmesh.spi.ExtensionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Extension names and class names of every indexed module on the classpath, read once from
+ * {@link EventMeshExtensionConstant#EVENTMESH_EXTENSION_INDEX} so that looking up an extension does not have to
+ * scan one resource per extension type. Classes are not loaded here.
+ */
+@Slf4j
+class ExtensionIndex {
+
+    private static final char TYPE_SEPARATOR = '/';
+
+    private final Map<String, Map<String, String>> extensionClassNames;
+
+    private ExtensionIndex(Map<String, Map<String, String>> extensionClassNames) {
+        this.extensionClassNames = extensionClassNames;
+    }
+
+    static ExtensionIndex load(ClassLoader classLoader) {
+        Map<String, Map<String, String>> extensionClassNames = new HashMap<>();
+        try {
+            Enumeration<URL> indexUrls = classLoader.getResources(EventMeshExtensionConstant.EVENTMESH_EXTENSION_INDEX);
+            while (indexUrls.hasMoreElements()) {
+                URL url = indexUrls.nextElement();
+                try (InputStream inputStream = url.openStream()) {
+                    Properties properties = new Properties();
+                    properties.load(inputStream);
+                    for (String key : properties.stringPropertyNames()) {
+                        int separator = key.lastIndexOf(TYPE_SEPARATOR);
+                        if (separator <= 0 || separator == key.length() - 1) {
+                            log.warn("skip malformed extension index entry: {} in {}", key, url);
+                            continue;
+                        }
+                        extensionClassNames.computeIfAbsent(key.substring(0, separator), k -> new HashMap<>())
+                            .put(key.substring(separator + 1), properties.getProperty(key).trim());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ExtensionException("load extension index error", e);
+        }
+        log.info("load extension index success, extensionTypes: {}", extensionClassNames.size());
+        return new ExtensionIndex(extensionClassNames);
+    }
+
+    /**
+     * @return extension class name, or null if the extension is not indexed
+     */
+    String getExtensionClassName(String extensionType, String extensionName) {
+        return extensionClassNames.getOrDefault(extensionType, Collections.emptyMap()).get(extensionName);
+    }
+
+    Map<String, String> getExtensionClassNames(String extensionType) {
+        return extensionClassNames.getOrDefault(extensionType, Collections.emptyMap());
+    }
+}
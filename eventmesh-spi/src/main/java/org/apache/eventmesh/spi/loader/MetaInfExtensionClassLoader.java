@@ -40,7 +40,13 @@ public class MetaInfExtensionClassLoader implements ExtensionClassLoader {
 
     private static final MetaInfExtensionClassLoader INSTANCE = new MetaInfExtensionClassLoader();
 
-    private final ConcurrentHashMap<Class<?>, Map<String, Class<?>>> extensionClassCache = new ConcurrentHashMap<>(16);
+    private static final ConcurrentHashMap<String, Class<?>> EMPTY_CLASSES = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Class<?>, Map<String, String>> extensionClassNameCache = new ConcurrentHashMap<>(16);
+
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, Class<?>>> extensionClassCache = new ConcurrentHashMap<>(16);
+
+    private volatile ExtensionIndex extensionIndex;
 
     private MetaInfExtensionClassLoader() {
 
@@ -48,15 +54,71 @@ public class MetaInfExtensionClassLoader implements ExtensionClassLoader {
 
     @Override
     public <T> Map<String, Class<?>> loadExtensionClass(Class<T> extensionType, String extensionInstanceName) {
-        return extensionClassCache.computeIfAbsent(extensionType, this::doLoadExtensionClass);
+        Map<String, String> extensionClassNames = new HashMap<>(getExtensionIndex().getExtensionClassNames(extensionType.getName()));
+        extensionClassNames.putAll(extensionClassNameCache.computeIfAbsent(extensionType, this::doLoadExtensionClassNames));
+        Map<String, Class<?>> extensionMap = new HashMap<>();
+        extensionClassNames.forEach((extensionName, extensionClass) ->
+            extensionMap.put(extensionName, resolveExtensionClass(extensionType, extensionName, extensionClass)));
+        return extensionMap;
+    }
+
+    /**
+     * Looks the extension up in the build time index first and only scans the per type resources when it is not indexed,
+     * e.g. a plugin jar built outside of this project. The class itself is loaded on first use.
+     */
+    @Override
+    public <T> Class<?> getExtensionClass(Class<T> extensionType, String extensionInstanceName) {
+        Class<?> extensionClass = extensionClassCache.getOrDefault(extensionType, EMPTY_CLASSES).get(extensionInstanceName);
+        if (extensionClass != null) {
+            return extensionClass;
+        }
+        String extensionClassName = getExtensionIndex().getExtensionClassName(extensionType.getName(), extensionInstanceName);
+        if (extensionClassName == null) {
+            extensionClassName = extensionClassNameCache.computeIfAbsent(extensionType, this::doLoadExtensionClassNames)
+                .get(extensionInstanceName);
+        }
+        if (extensionClassName == null) {
+            return null;
+        }
+        return resolveExtensionClass(extensionType, extensionInstanceName, extensionClassName);
     }
 
     public static MetaInfExtensionClassLoader getInstance() {
         return INSTANCE;
     }
 
-    private <T> Map<String, Class<?>> doLoadExtensionClass(Class<T> extensionType) {
-        Map<String, Class<?>> extensionMap = new HashMap<>();
+    private ExtensionIndex getExtensionIndex() {
+        ExtensionIndex index = extensionIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = extensionIndex;
+                if (index == null) {
+                    index = ExtensionIndex.load(Thread.currentThread().getContextClassLoader());
+                    extensionIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private <T> Class<?> resolveExtensionClass(Class<T> extensionType, String extensionName, String extensionClass) {
+        return extensionClassCache.computeIfAbsent(extensionType, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(extensionName, k -> {
+                try {
+                    Class<?> targetClass = Class.forName(extensionClass);
+                    log.info("load extension class success, extensionType: {}, extensionClass: {}", extensionType, targetClass);
+                    if (!extensionType.isAssignableFrom(targetClass)) {
+                        throw new ExtensionException(String.format("class: %s is not subClass of %s", targetClass, extensionType));
+                    }
+                    return targetClass;
+                } catch (ClassNotFoundException e) {
+                    throw new ExtensionException("load extension class error", e);
+                }
+            });
+    }
+
+    private <T> Map<String, String> doLoadExtensionClassNames(Class<T> extensionType) {
+        Map<String, String> extensionMap = new HashMap<>();
         String extensionFileName = EventMeshExtensionConstant.EVENTMESH_EXTENSION_META_DIR + extensionType.getName();
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
@@ -64,7 +126,7 @@ public class MetaInfExtensionClassLoader implements ExtensionClassLoader {
             if (extensionUrls != null) {
                 while (extensionUrls.hasMoreElements()) {
                     URL url = extensionUrls.nextElement();
-                    extensionMap.putAll(loadResources(url, extensionType));
+                    extensionMap.putAll(loadResources(url));
                 }
             }
         } catch (IOException e) {
@@ -73,25 +135,13 @@ public class MetaInfExtensionClassLoader implements ExtensionClassLoader {
         return extensionMap;
     }
 
-    private <T> Map<String, Class<?>> loadResources(URL url, Class<T> extensionType) throws IOException {
-        Map<String, Class<?>> extensionMap = new HashMap<>();
+    private Map<String, String> loadResources(URL url) throws IOException {
+        Map<String, String> extensionMap = new HashMap<>();
         try (InputStream inputStream = url.openStream()) {
             Properties properties = new Properties();
             properties.load(inputStream);
-            properties.forEach((extensionName, extensionClass) -> {
-                String extensionNameStr = (String) extensionName;
-                String extensionClassStr = (String) extensionClass;
-                try {
-                    Class<?> targetClass = Class.forName(extensionClassStr);
-                    log.info("load extension class success, extensionType: {}, extensionClass: {}", extensionType, targetClass);
-                    if (!extensionType.isAssignableFrom(targetClass)) {
-                        throw new ExtensionException(String.format("class: %s is not subClass of %s", targetClass, extensionType));
-                    }
-                    extensionMap.put(extensionNameStr, targetClass);
-                } catch (ClassNotFoundException e) {
-                    throw new ExtensionException("load extension class error", e);
-                }
-            });
+            properties.forEach((extensionName, extensionClass) ->
+                extensionMap.put((String) extensionName, ((String) extensionClass).trim()));
         }
         return extensionMap;
     }
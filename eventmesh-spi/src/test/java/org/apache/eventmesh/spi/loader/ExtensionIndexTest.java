@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.spi.loader;
+
+import org.apache.eventmesh.spi.example.PrototypeExtension;
+import org.apache.eventmesh.spi.example.SingletonExtension;
+import org.apache.eventmesh.spi.example.TestPrototypeExtension;
+import org.apache.eventmesh.spi.example.TestSingletonExtension;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExtensionIndexTest {
+
+    @Test
+    public void testLoadExtensionIndex() {
+        ExtensionIndex extensionIndex = ExtensionIndex.load(Thread.currentThread().getContextClassLoader());
+        Assert.assertEquals(SingletonExtension.class.getName(),
+            extensionIndex.getExtensionClassName(TestSingletonExtension.class.getName(), "singletonExtension"));
+        Assert.assertEquals(1, extensionIndex.getExtensionClassNames(TestPrototypeExtension.class.getName()).size());
+        Assert.assertNull(extensionIndex.getExtensionClassName(TestSingletonExtension.class.getName(), "prototypeExtension"));
+        Assert.assertTrue(extensionIndex.getExtensionClassNames(String.class.getName()).isEmpty());
+    }
+
+    @Test
+    public void testGetExtensionClass() {
+        MetaInfExtensionClassLoader classLoader = MetaInfExtensionClassLoader.getInstance();
+        Assert.assertEquals(PrototypeExtension.class, classLoader.getExtensionClass(TestPrototypeExtension.class, "prototypeExtension"));
+        Assert.assertSame(classLoader.getExtensionClass(TestPrototypeExtension.class, "prototypeExtension"),
+            classLoader.loadExtensionClass(TestPrototypeExtension.class, "prototypeExtension").get("prototypeExtension"));
+        Assert.assertNull(classLoader.getExtensionClass(TestPrototypeExtension.class, "notExistExtension"));
+    }
+}
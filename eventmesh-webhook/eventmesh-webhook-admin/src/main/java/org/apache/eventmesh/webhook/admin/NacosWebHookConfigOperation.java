@@ -17,6 +17,7 @@ package org.apache.eventmesh.webhook.admin;
  * limitations under the License.
  */
 
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.CONSTANTS_WEBHOOK;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.DATA_ID_EXTENSION;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.GROUP_PREFIX;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.MANUFACTURERS_DATA_ID;
@@ -47,8 +48,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class NacosWebHookConfigOperation implements WebHookConfigOperation {
 
-    private static final String CONSTANTS_WEBHOOK = "webhook";
-
     private final ConfigService configService;
 
 
@@ -23,6 +23,8 @@ import java.io.File;
 
 public class WebHookOperationConstant {
 
+    public static final String CONSTANTS_WEBHOOK = "webhook";
+
     public static final String FILE_SEPARATOR = File.separator;
 
     public static final String FILE_EXTENSION = ".json";
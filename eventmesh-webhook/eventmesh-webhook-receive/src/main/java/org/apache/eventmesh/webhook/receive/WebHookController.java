@@ -17,6 +17,8 @@
 
 package org.apache.eventmesh.webhook.receive;
 
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.CONSTANTS_WEBHOOK;
+
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
@@ -40,14 +42,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebHookController {
 
-    private static final String PROTOCOL_ADAPTOR = "webhook";
-
     private static final String CONTENT_TYPE = "content-type";
 
     private static final String UUID_GENERATE_MODE = "uuid";
 
     private static final String DOT = ".";
 
+    private static final SendCallback SEND_CALLBACK = new SendCallback() {
+        @Override
+        public void onSuccess(SendResult sendResult) {
+            if (log.isDebugEnabled()) {
+                log.debug(sendResult.toString());
+            }
+        }
+
+        @Override
+        public void onException(OnExceptionContext context) {
+            if (log.isWarnEnabled()) {
+                log.warn("", context.getException());
+            }
+        }
+    };
+
     /**
      * protocol pool
      */
@@ -68,9 +84,16 @@ public class WebHookController {
         receiveConfiguration = ConfigService.getInstance().buildConfigInstance(ReceiveConfiguration.class);
         Properties rootConfig = ConfigService.getInstance().getRootConfig();
 
-        this.webHookMQProducer = new WebHookMQProducer(rootConfig, receiveConfiguration.getConnectorPluginType());
+        this.webHookMQProducer = new WebHookMQProducer(rootConfig, receiveConfiguration.getConnectorPluginType(),
+                receiveConfiguration.getProducerQueueSize(), receiveConfiguration.getProducerBatchSize());
         this.hookConfigOperationManager = new HookConfigOperationManager(receiveConfiguration);
-        this.protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(PROTOCOL_ADAPTOR);
+        this.protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(CONSTANTS_WEBHOOK);
+    }
+
+    public void shutdown() {
+        if (webHookMQProducer != null) {
+            webHookMQProducer.shutdown();
+        }
     }
 
     /**
@@ -84,9 +107,7 @@ public class WebHookController {
     public void execute(String path, Map<String, String> header, byte[] body) throws Exception {
 
         // 1. get webhookConfig from path
-        WebHookConfig webHookConfig = new WebHookConfig();
-        webHookConfig.setCallbackPath(path);
-        webHookConfig = hookConfigOperationManager.queryWebHookConfigById(webHookConfig);
+        WebHookConfig webHookConfig = hookConfigOperationManager.queryWebHookConfigByCallbackPath(path);
         if (webHookConfig == null) {
             throw new Exception("No matching webhookConfig.");
         }
@@ -117,23 +138,12 @@ public class WebHookController {
                 .cloudEventSource("www." + webHookConfig.getManufacturerName() + ".com")
                 .dataContentType(webHookConfig.getDataContentType()).body(body).build();
 
-        // 4. send cloudEvent
-        webHookMQProducer.send(this.protocolAdaptor.toCloudEvent(webhookProtocolTransportObject), new SendCallback() {
-            @Override
-            public void onSuccess(SendResult sendResult) {
-                if (log.isDebugEnabled()) {
-                    log.debug(sendResult.toString());
-                }
-            }
-
-            @Override
-            public void onException(OnExceptionContext context) {
-                if (log.isWarnEnabled()) {
-                    log.warn("", context.getException());
-                }
-            }
-
-        });
+        // 4. send cloudEvent, the connector publish is done by the producer dispatcher thread
+        boolean accepted = webHookMQProducer.sendAsync(this.protocolAdaptor.toCloudEvent(webhookProtocolTransportObject),
+                SEND_CALLBACK);
+        if (!accepted) {
+            throw new Exception("Webhook producer is busy, pending size " + webHookMQProducer.getPendingSize());
+        }
     }
 
 }
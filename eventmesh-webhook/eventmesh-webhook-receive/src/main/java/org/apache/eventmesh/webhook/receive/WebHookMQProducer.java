@@ -19,23 +19,58 @@ package org.apache.eventmesh.webhook.receive;
 
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
 import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.EventMeshThreadFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import io.cloudevents.CloudEvent;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class WebHookMQProducer {
 
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
     private transient Producer hookMQProducer;
 
+    /**
+     * events waiting to be published by the dispatcher thread
+     */
+    private final transient BlockingQueue<PendingEvent> pendingEvents;
+
+    private final transient int batchSize;
+
+    private final transient Thread dispatcher;
+
+    private volatile boolean running = true;
+
     public WebHookMQProducer(final Properties properties, String connectorPluginType) throws Exception {
+        this(properties, connectorPluginType, DEFAULT_QUEUE_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    public WebHookMQProducer(final Properties properties, String connectorPluginType, int queueSize, int batchSize)
+            throws Exception {
         this.hookMQProducer = ConnectorPluginFactory.getMeshMQProducer(connectorPluginType);
         Objects.requireNonNull(hookMQProducer, "doesn't load the hookMQProducer plugin, please check.");
 
         this.hookMQProducer.init(properties);
+
+        this.pendingEvents = new ArrayBlockingQueue<>(queueSize > 0 ? queueSize : DEFAULT_QUEUE_SIZE);
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.dispatcher = new EventMeshThreadFactory("eventMesh-webhook-producer", true).newThread(this::dispatch);
+        this.dispatcher.start();
     }
 
     public void send(final CloudEvent cloudEvent, final SendCallback sendCallback) throws Exception {
@@ -44,6 +79,60 @@ public class WebHookMQProducer {
         hookMQProducer.publish(cloudEvent, sendCallback);
     }
 
+    /**
+     * Hand the event over to the dispatcher thread without blocking the caller.
+     *
+     * @return false if the pending queue is full
+     */
+    public boolean sendAsync(final CloudEvent cloudEvent, final SendCallback sendCallback) {
+        Objects.requireNonNull(cloudEvent, "cloudEvent can not be null");
+
+        return running && pendingEvents.offer(new PendingEvent(cloudEvent, sendCallback));
+    }
+
+    public int getPendingSize() {
+        return pendingEvents.size();
+    }
+
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private void dispatch() {
+        final List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !pendingEvents.isEmpty()) {
+            try {
+                batch.add(pendingEvents.take());
+                pendingEvents.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+                pendingEvents.drainTo(batch);
+            }
+            for (PendingEvent pendingEvent : batch) {
+                publish(pendingEvent);
+            }
+            batch.clear();
+        }
+    }
+
+    private void publish(final PendingEvent pendingEvent) {
+        try {
+            hookMQProducer.publish(pendingEvent.cloudEvent, pendingEvent.sendCallback);
+        } catch (Exception e) {
+            log.warn("webhook event publish failed, id={}", pendingEvent.cloudEvent.getId(), e);
+            if (pendingEvent.sendCallback != null) {
+                OnExceptionContext context = new OnExceptionContext();
+                context.setMessageId(pendingEvent.cloudEvent.getId());
+                context.setTopic(pendingEvent.cloudEvent.getSubject());
+                context.setException(new ConnectorRuntimeException(e));
+                pendingEvent.sendCallback.onException(context);
+            }
+        }
+    }
+
     public void request(final CloudEvent cloudEvent, final RequestReplyCallback rrCallback, final long timeout)
             throws Exception {
         Objects.requireNonNull(cloudEvent, "cloudEvent can not be null");
@@ -61,4 +150,15 @@ public class WebHookMQProducer {
         return hookMQProducer;
     }
 
-}
\ No newline at end of file
+    private static class PendingEvent {
+
+        private final CloudEvent cloudEvent;
+
+        private final SendCallback sendCallback;
+
+        PendingEvent(final CloudEvent cloudEvent, final SendCallback sendCallback) {
+            this.cloudEvent = cloudEvent;
+            this.sendCallback = sendCallback;
+        }
+    }
+}
@@ -30,6 +30,18 @@ public class ReceiveConfiguration {
     @ConfigFiled(field = "producer.connector")
     private String connectorPluginType;
 
+    /**
+     * Capacity of the queue buffering webhook events before they are handed to the connector
+     */
+    @ConfigFiled(field = "producer.queueSize")
+    private int producerQueueSize = 10000;
+
+    /**
+     * Maximum number of events drained from the queue and published in one round
+     */
+    @ConfigFiled(field = "producer.batchSize")
+    private int producerBatchSize = 64;
+
     @ConfigFiled(field = "operationMode")
     private String operationMode;
 
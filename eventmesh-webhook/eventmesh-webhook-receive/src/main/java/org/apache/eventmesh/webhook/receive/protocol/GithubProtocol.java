@@ -23,8 +23,11 @@ import org.apache.eventmesh.webhook.api.WebHookConfig;
 import org.apache.eventmesh.webhook.receive.ManufacturerProtocol;
 import org.apache.eventmesh.webhook.receive.WebHookRequest;
 
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.IntStream;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -44,7 +47,23 @@ public class GithubProtocol implements ManufacturerProtocol {
 
     private static final String H_MAC_SHA = "HmacSHA256";
 
-    private static final char ZERO_CHAR = '0';
+    private static final int HEX_RADIX = 16;
+
+    private static final int MAX_CACHED_SECRETS = 1024;
+
+    /**
+     * Mac is not thread safe, every thread keeps its own instance initialized with the secret.
+     * The least recently used secret is evicted so rotated secrets do not pile up.
+     */
+    private final Map<String, ThreadLocal<Mac>> macCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, ThreadLocal<Mac>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, ThreadLocal<Mac>> eldest) {
+                    return size() > MAX_CACHED_SECRETS;
+                }
+            });
 
     @Override
     public String getManufacturerName() {
@@ -70,48 +89,62 @@ public class GithubProtocol implements ManufacturerProtocol {
     }
 
     /**
-     * Authentication
+     * Authentication, the digest is compared in constant time
      *
      * @param fromSignature Signature received
      * @param data          data
      * @param secret        secret key
      * @return Authentication result
      */
-    private Boolean isValid(String fromSignature, byte[] data, String secret) {
-        String hash = HASH;
+    private boolean isValid(String fromSignature, byte[] data, String secret) {
+        if (fromSignature == null || secret == null || !fromSignature.startsWith(HASH)) {
+            return false;
+        }
+        byte[] signature = hexStringToByteArray(fromSignature.substring(HASH.length()));
+        if (signature == null) {
+            return false;
+        }
+        byte[] digest;
         try {
-            Mac sha = Mac.getInstance(H_MAC_SHA);
-            SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(Constants.DEFAULT_CHARSET), H_MAC_SHA);
-            sha.init(secretKey);
-            byte[] bytes = sha.doFinal(data);
-            hash += byteArrayToHexString(bytes);
+            digest = getMac(secret).doFinal(data);
         } catch (Exception e) {
             log.error("Error HmacSHA256", e);
+            return false;
         }
-        return hash.equals(fromSignature);
+        return MessageDigest.isEqual(digest, signature);
+    }
+
+    private Mac getMac(String secret) {
+        return macCache.computeIfAbsent(secret, key -> ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(H_MAC_SHA);
+                mac.init(new SecretKeySpec(key.getBytes(Constants.DEFAULT_CHARSET), H_MAC_SHA));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("init HmacSHA256 failed", e);
+            }
+        })).get();
     }
 
     /**
-     * byte array ->  hexadecimal character string
+     * hexadecimal character string -> byte array
      *
-     * @param b byte array
-     * @return hexadecimal character string
+     * @param hex hexadecimal character string
+     * @return byte array, null if the string is not hexadecimal
      */
-    private String byteArrayToHexString(byte[] b) {
-        if (b == null) {
-            return "";
+    private byte[] hexStringToByteArray(String hex) {
+        if (hex.length() % 2 != 0) {
+            return null;
         }
-
-        final StringBuilder hs = new StringBuilder();
-
-        IntStream.range(0, b.length).forEach(i -> {
-            String stmp = Integer.toHexString(b[i] & 0XFF);
-            if (stmp.length() == 1) {
-                hs.append(ZERO_CHAR);
+        final byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), HEX_RADIX);
+            int low = Character.digit(hex.charAt(2 * i + 1), HEX_RADIX);
+            if (high < 0 || low < 0) {
+                return null;
             }
-            hs.append(stmp);
-        });
-
-        return hs.toString().toLowerCase();
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
     }
 }
@@ -17,18 +17,22 @@
 
 package org.apache.eventmesh.webhook.receive.storage;
 
-import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.DATA_ID_EXTENSION;
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.CONSTANTS_WEBHOOK;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.GROUP_PREFIX;
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.MANUFACTURERS_DATA_ID;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.OPERATION_MODE_FILE;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.OPERATION_MODE_NACOS;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.TIMEOUT_MS;
 
 import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.webhook.api.Manufacturer;
 import org.apache.eventmesh.webhook.api.WebHookConfig;
 import org.apache.eventmesh.webhook.api.WebHookConfigOperation;
 import org.apache.eventmesh.webhook.api.utils.ClassUtils;
 import org.apache.eventmesh.webhook.receive.config.ReceiveConfiguration;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,16 +42,24 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.alibaba.nacos.api.config.ConfigFactory;
 import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.exception.NacosException;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class HookConfigOperationManager implements WebHookConfigOperation {
+
     /**
-     * webhook config pool -> key is CallbackPath
+     * webhook config pool -> key is CallbackPath converted by {@link ClassUtils#convertResourcePathToClassName}
      */
     private final transient Map<String, WebHookConfig> cacheWebHookConfig = new ConcurrentHashMap<>();
+
+    /**
+     * nacos dataId -> cache key of the webhook config, every dataId is listened only once
+     */
+    private final transient Map<String, String> listenedDataIds = new ConcurrentHashMap<>();
+
     private transient String operationMode;
     private transient ConfigService nacosConfigService;
 
@@ -71,27 +83,89 @@ public class HookConfigOperationManager implements WebHookConfigOperation {
         }
     }
 
+    /**
+     * Load all webhook configs into the local cache and keep it refreshed by nacos listeners,
+     * so that the receive path never calls nacos.
+     */
     private void nacosModeInit(final Properties config) throws NacosException {
         nacosConfigService = ConfigFactory.createConfigService(config);
+
+        final String manufacturers = nacosConfigService.getConfigAndSignListener(MANUFACTURERS_DATA_ID, CONSTANTS_WEBHOOK,
+                TIMEOUT_MS, new AbstractListener() {
+                    @Override
+                    public void receiveConfigInfo(final String configInfo) {
+                        listenManufacturers(configInfo);
+                    }
+                });
+        listenManufacturers(manufacturers);
+    }
+
+    private void listenManufacturers(final String manufacturersContent) {
+        if (StringUtils.isBlank(manufacturersContent)) {
+            return;
+        }
+        final Manufacturer manufacturer = JsonUtils.parseObject(manufacturersContent, Manufacturer.class);
+        if (manufacturer == null) {
+            return;
+        }
+        for (final Map.Entry<String, List<String>> entry : manufacturer.getManufacturerEventMap().entrySet()) {
+            final String group = GROUP_PREFIX + entry.getKey();
+            for (final String dataId : entry.getValue()) {
+                if (listenedDataIds.putIfAbsent(dataId, "") != null) {
+                    continue;
+                }
+                try {
+                    final String content = nacosConfigService.getConfigAndSignListener(dataId, group, TIMEOUT_MS,
+                            new AbstractListener() {
+                                @Override
+                                public void receiveConfigInfo(final String configInfo) {
+                                    refreshWebHookConfig(dataId, configInfo);
+                                }
+                            });
+                    refreshWebHookConfig(dataId, content);
+                } catch (NacosException e) {
+                    listenedDataIds.remove(dataId);
+                    log.error("listen webhookConfig {} failed", dataId, e);
+                }
+            }
+        }
+    }
+
+    private void refreshWebHookConfig(final String dataId, final String content) {
+        final String oldKey = listenedDataIds.get(dataId);
+        if (StringUtils.isNotEmpty(oldKey)) {
+            cacheWebHookConfig.remove(oldKey);
+        }
+        if (StringUtils.isBlank(content)) {
+            listenedDataIds.computeIfPresent(dataId, (k, v) -> "");
+            return;
+        }
+        final WebHookConfig webHookConfig = JsonUtils.parseObject(content, WebHookConfig.class);
+        if (webHookConfig == null || webHookConfig.getCallbackPath() == null) {
+            return;
+        }
+        final String key = ClassUtils.convertResourcePathToClassName(webHookConfig.getCallbackPath());
+        cacheWebHookConfig.put(key, webHookConfig);
+        listenedDataIds.put(dataId, key);
     }
 
     @Override
     public WebHookConfig queryWebHookConfigById(final WebHookConfig webHookConfig) {
-        if (OPERATION_MODE_FILE.equals(operationMode)) {
-            return cacheWebHookConfig.get(ClassUtils.convertResourcePathToClassName(webHookConfig.getCallbackPath()));
-        } else if (OPERATION_MODE_NACOS.equals(operationMode)) {
-            try {
-                final String content = nacosConfigService.getConfig(webHookConfig.getManufacturerEventName()
-                                + DATA_ID_EXTENSION,
-                        GROUP_PREFIX + webHookConfig.getManufacturerName(), TIMEOUT_MS);
-                return JsonUtils.parseObject(content, WebHookConfig.class);
-            } catch (NacosException e) {
-                log.error("queryWebHookConfigById failed", e);
-            }
+        return queryWebHookConfigByCallbackPath(webHookConfig.getCallbackPath());
+    }
+
+    /**
+     * Query the local cache, both file mode and nacos mode keep it refreshed by their listeners
+     *
+     * @param callbackPath callbackPath
+     * @return webhook config, null if not exists
+     */
+    public WebHookConfig queryWebHookConfigByCallbackPath(final String callbackPath) {
+        if (OPERATION_MODE_FILE.equals(operationMode) || OPERATION_MODE_NACOS.equals(operationMode)) {
+            return cacheWebHookConfig.get(ClassUtils.convertResourcePathToClassName(callbackPath));
         }
         return null;
     }
-
     @Override
     public List<WebHookConfig> queryWebHookConfigByManufacturer(final WebHookConfig webHookConfig,
                                                                 final Integer pageNum,
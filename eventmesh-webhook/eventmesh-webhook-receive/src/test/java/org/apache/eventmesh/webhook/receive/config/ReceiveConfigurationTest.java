@@ -47,5 +47,7 @@ public class ReceiveConfigurationTest {
         Assert.assertEquals(properties, config.getOperationProperties());
         Assert.assertEquals("standalone", config.getConnectorPluginType());
         Assert.assertEquals(".", config.getFilePath());
+        Assert.assertEquals(2048, config.getProducerQueueSize());
+        Assert.assertEquals(32, config.getProducerBatchSize());
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.webhook.receive.protocol;
+
+import org.apache.eventmesh.webhook.api.WebHookConfig;
+import org.apache.eventmesh.webhook.receive.WebHookRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GithubProtocolTest {
+
+    private static final String SECRET = "eventmesh";
+
+    private static final byte[] DATA = "{\"action\":\"opened\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testExecute() throws Exception {
+        GithubProtocol protocol = new GithubProtocol();
+        Map<String, String> header = new HashMap<>();
+        header.put("x-hub-signature-256", "sha256=" + sign(SECRET, DATA));
+        header.put("x-github-delivery", "delivery-id");
+
+        WebHookRequest webHookRequest = new WebHookRequest();
+        webHookRequest.setData(DATA);
+        protocol.execute(webHookRequest, newConfig(), header);
+        Assert.assertEquals("delivery-id", webHookRequest.getManufacturerEventId());
+
+        // the cached Mac must be reusable for the next request
+        webHookRequest = new WebHookRequest();
+        webHookRequest.setData(DATA);
+        protocol.execute(webHookRequest, newConfig(), header);
+        Assert.assertEquals("github", webHookRequest.getManufacturerSource());
+    }
+
+    @Test
+    public void testExecuteWithInvalidSignature() throws Exception {
+        GithubProtocol protocol = new GithubProtocol();
+        WebHookRequest webHookRequest = new WebHookRequest();
+        webHookRequest.setData(DATA);
+
+        for (String signature : new String[] {null, "sha256=zz", "sha256=" + sign("other", DATA), sign(SECRET, DATA)}) {
+            Map<String, String> header = new HashMap<>();
+            header.put("x-hub-signature-256", signature);
+            try {
+                protocol.execute(webHookRequest, newConfig(), header);
+                Assert.fail("signature " + signature + " should be rejected");
+            } catch (Exception e) {
+                Assert.assertEquals("webhook-GithubProtocol authenticate failed", e.getMessage());
+            }
+        }
+    }
+
+    private WebHookConfig newConfig() {
+        WebHookConfig webHookConfig = new WebHookConfig();
+        webHookConfig.setSecret(SECRET);
+        webHookConfig.setManufacturerEventName("pull_request");
+        return webHookConfig;
+    }
+
+    private String sign(String secret, byte[] data) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : mac.doFinal(data)) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}